@@ -35,11 +35,21 @@ package edu.nps.util;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.Vector;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -51,6 +61,15 @@ import org.apache.logging.log4j.Logger;
  * @since Sep 22, 2005
  * @since 10:04:25 AM
  * A class to observe a directory (tree) for changes and report them to listeners
+ * <p>
+ * Each watched directory is registered with the file system's WatchService,
+ * so that only the directories an event names are looked at again. Events
+ * arriving in quick succession are coalesced until the directory has been
+ * quiet for the debounce time, at most for the loop sleep time, and compared
+ * against the last known files, so that listeners hear about a file once per
+ * burst of edits. Where there is no WatchService, the whole tree is rescanned
+ * every loop sleep time instead.
+ * </p>
  */
 public class DirectoryWatch
 {
@@ -58,11 +77,20 @@ public class DirectoryWatch
 
     private static int sequenceNumber = 0;
     private final static int DEFAULT_SLEEP_TIME_MS = 3 * 1_000; // 3 seconds
-    private long sleepTimeMs = DEFAULT_SLEEP_TIME_MS;
-    private Map<File, Long> lastFiles;
+    private final static int DEFAULT_DEBOUNCE_TIME_MS = 250;
+    private volatile long sleepTimeMs = DEFAULT_SLEEP_TIME_MS;
+    private volatile long debounceTimeMs = DEFAULT_DEBOUNCE_TIME_MS;
+
+    // the last known files of each watched directory, with their last modified times
+    private final Map<File, Map<File, Long>> lastFiles = new HashMap<>();
+    private final Map<WatchKey, File> watchedDirectories = new HashMap<>();
+    private final Map<File, WatchKey> watchKeys = new HashMap<>();
+    private volatile WatchService watchService;
     private Thread thread;
-    private File root;
-    private boolean isRunning;
+    private final File root;
+    private final File rootFile; // when watching a single file rather than a directory
+    private final boolean recurse;
+    private volatile boolean isRunning;
 
     public DirectoryWatch(File root) throws FileNotFoundException {
         this(root, false);
@@ -73,14 +101,33 @@ public class DirectoryWatch
     }
 
     public DirectoryWatch(File root, boolean recurse, DirectoryChangeListener lis) throws FileNotFoundException {
-        buildInitialList(root, recurse);
+        if (!root.exists()) {
+            throw new FileNotFoundException("File or directory passed to DirectoryWatch constructor does not exist");
+        }
+        if (root.isDirectory()) {
+            this.root = root;
+            rootFile = null;
+        } else {
+            this.root = root.getAbsoluteFile().getParentFile();
+            rootFile = root.getAbsoluteFile();
+        }
+        this.recurse = recurse && rootFile == null;
+        addTree(this.root, null);
         if (lis != null) {
             addListener(lis);
         }
-        this.root = root;
     }
 
     public void startWatcher() {
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            for (File directory : lastFiles.keySet()) {
+                register(directory);
+            }
+        } catch (IOException | UnsupportedOperationException e) {
+            LOG.warn("startWatcher() no file system events for {}, polling instead: {}", root, e);
+            closeWatchService();
+        }
         thread = new Thread(new Runner(), "DirectoryWatch-" + sequenceNumber++);
         thread.setPriority(Thread.NORM_PRIORITY);
         thread.setDaemon(true);
@@ -91,55 +138,150 @@ public class DirectoryWatch
     public void stopWatcher() {
         if (thread != null) {
             isRunning = false;
+            closeWatchService(); // wakes a waiting Runner
+            thread.interrupt();
             thread = null;
         }
     }
 
+    /** @param ms the time between scans when polling, and the longest that events are coalesced */
     public void setLoopSleepTime(long ms) {
         sleepTimeMs = ms;
     }
 
-    private void buildInitialList(File root, boolean recurse) throws FileNotFoundException {
-        if (!root.exists()) {
-            throw new FileNotFoundException("File or directory passed to DirectoryWatch constructor does not exist");
-        }
-        lastFiles = new HashMap<>();
+    /** @param ms how long a directory must be quiet before its events are reported */
+    public void setDebounceTime(long ms) {
+        debounceTimeMs = ms;
+    }
 
-        FileAdder fileAdder = new FileAdder();
-        if (recurse) {
-            recurseTree(root, new FileAdder());
-        } else {
-            fileAdder.foundFile(root);
+    private void closeWatchService() {
+        WatchService closing = watchService;
+        watchService = null;
+        if (closing != null) {
+            try {
+                closing.close();
+            } catch (IOException e) {
+                LOG.error("closeWatchService() exception: " + e);
+            }
         }
     }
 
-    class FileAdder implements RecurseListener {
+    private void register(File directory) throws IOException {
+        WatchKey key = directory.toPath().register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_DELETE,
+                StandardWatchEventKinds.ENTRY_MODIFY);
+        watchedDirectories.put(key, directory);
+        watchKeys.put(directory, key);
+    }
+
+    private boolean accept(File f) {
+        return !f.isHidden() && (rootFile == null || f.equals(rootFile));
+    }
 
-        @Override
-        public void foundFile(File file) {
-            lastFiles.put(file, file.lastModified());
+    /** Records a directory's files, and those of its subdirectories if recursing
+     *
+     * @param directory a directory not yet watched
+     * @param added receives the files found, or null when building the initial list
+     */
+    private void addTree(File directory, List<File> added) {
+        Map<File, Long> files = new HashMap<>();
+        lastFiles.put(directory, files);
+        if (watchService != null) {
+            try {
+                register(directory);
+            } catch (IOException e) {
+                LOG.error("addTree() exception: " + e);
+            }
+        }
+        File[] fa = directory.listFiles();
+        if (fa == null) {
+            return;
+        }
+        for (File f : fa) {
+            if (!accept(f)) {
+                continue;
+            }
+            if (f.isFile()) {
+                files.put(f, f.lastModified());
+                if (added != null) {
+                    added.add(f);
+                }
+            } else if (recurse && f.isDirectory()) {
+                addTree(f, added);
+            }
         }
     }
 
-    private void recurseTree(File f, RecurseListener lis) {
-        if (f == null) {
-            return;
+    /** Forgets a directory and any subdirectories, their files having been removed */
+    private void removeTree(File directory, List<File> removed) {
+        List<File> gone = new ArrayList<>();
+        for (File d : lastFiles.keySet()) {
+            if (d.equals(directory) || d.toPath().startsWith(directory.toPath())) {
+                gone.add(d);
+            }
         }
-        if (f.isHidden()) {
+        for (File d : gone) {
+            removed.addAll(lastFiles.remove(d).keySet());
+            WatchKey key = watchKeys.remove(d);
+            if (key != null) {
+                key.cancel();
+                watchedDirectories.remove(key);
+            }
+        }
+    }
+
+    /** Compares a directory with its last known files
+     *
+     * @param directory a watched directory
+     * @param modified files named by modify events, changed even if their time is not
+     */
+    private void scanDirectory(File directory, Set<File> modified, List<File> removed, List<File> changed, List<File> added) {
+        Map<File, Long> before = lastFiles.get(directory);
+        if (before == null) {
+            return; // removed along with a parent meanwhile
+        }
+        if (!directory.isDirectory()) {
+            removeTree(directory, removed);
             return;
         }
-        if (f.isFile()) {
-            lis.foundFile(f);
-        } else {
-            File[] fa = f.listFiles();
-            if (fa != null) {
-                for (File fa1 : fa) {
-                    recurseTree(fa1, lis);
+        Map<File, Long> after = new HashMap<>();
+        File[] fa = directory.listFiles();
+        if (fa != null) {
+            for (File f : fa) {
+                if (!accept(f)) {
+                    continue;
+                }
+                if (f.isFile()) {
+                    long moddate = f.lastModified();
+                    Long lastdate = before.remove(f);
+                    if (lastdate == null) {
+                        added.add(f);
+                    } else if (lastdate != moddate || modified.contains(f)) {
+                        changed.add(f);
+                    }
+                    after.put(f, moddate);
+                } else if (recurse && f.isDirectory() && !lastFiles.containsKey(f)) {
+                    addTree(f, added);
                 }
             }
         }
+        removed.addAll(before.keySet());
+        lastFiles.put(directory, after);
+
+        // subdirectories deleted since
+        List<File> goneDirectories = new ArrayList<>();
+        for (File d : lastFiles.keySet()) {
+            if (directory.equals(d.getParentFile()) && !d.isDirectory()) {
+                goneDirectories.add(d);
+            }
+        }
+        for (File d : goneDirectories) {
+            removeTree(d, removed);
+        }
     }
-    private final Set<DirectoryChangeListener> listeners = new HashSet<>();
+
+    private final Set<DirectoryChangeListener> listeners = new CopyOnWriteArraySet<>();
 
     /**
      * @param listener listener for this directory
@@ -163,67 +305,74 @@ public class DirectoryWatch
         }
     }
 
-    class Runner implements Runnable, RecurseListener {
-
-        Map<File, Long> workingHM = new HashMap<>(50);
-        Map<File, Long> temp;
+    class Runner implements Runnable {
 
         @Override
         public void run() {
-            while (isRunning) {
-                workingHM.clear();
-                added.clear();
-                changed.clear();
-
-                // Want to send out updates in this order: removed,changed,added
-                recurseTree(root, this);    // this removes from lastFiles
-
-                // Now see if any were removed...they will be the ones left
-                for (File cPath : lastFiles.keySet()) {
-                    fireAction(cPath, DirectoryChangeListener.FILE_REMOVED);
+            // catch up with whatever changed since the constructor's scan
+            Set<File> dirty = new HashSet<>(lastFiles.keySet());
+            Set<File> modified = new HashSet<>();
+            try {
+                while (isRunning) {
+                    report(dirty, modified);
+                    dirty.clear();
+                    modified.clear();
+                    WatchService events = watchService;
+                    if (events == null) {
+                        Thread.sleep(sleepTimeMs);
+                        dirty.addAll(lastFiles.keySet());
+                    } else {
+                        take(events, dirty, modified);
+                    }
                 }
-                temp = lastFiles;
-                lastFiles = workingHM;
-                workingHM = temp; // gets zeroed above
-                for (File f : changed) {
-                    fireAction(f, DirectoryChangeListener.FILE_CHANGED);
-                }
-                for (File f : added) {
-                    fireAction(f, DirectoryChangeListener.FILE_ADDED);
-                }
-
-                try {
-                    Thread.sleep(sleepTimeMs);
-                } catch (InterruptedException e) {
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                if (isRunning) {
                     LOG.error("DirWatcher killed");
                     isRunning = false;
                 }
             }
         }
-        Vector<File> added = new Vector<>();
-        Vector<File> changed = new Vector<>();
-
-        @Override
-        public void foundFile(File f) {
-
-            long moddate = f.lastModified();
-
-            Long lastdate = lastFiles.get(f);
 
-            if (lastdate == null) {
-                added.add(f);
-            } else {
-                lastFiles.remove(f);
-                if (lastdate != moddate) {
-                    changed.add(f);
+        // waits for a first event, then for the directories to quiet down
+        private void take(WatchService events, Set<File> dirty, Set<File> modified) throws InterruptedException {
+            WatchKey key = events.take();
+            long deadline = System.currentTimeMillis() + sleepTimeMs;
+            while (key != null) {
+                File directory = watchedDirectories.get(key);
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        dirty.addAll(lastFiles.keySet());
+                    } else if (directory != null) { // else cancelled, its directory removed
+                        dirty.add(directory);
+                        if (event.kind() == StandardWatchEventKinds.ENTRY_MODIFY) {
+                            modified.add(new File(directory, event.context().toString()));
+                        }
+                    }
                 }
+                key.reset();
+                long wait = Math.min(debounceTimeMs, deadline - System.currentTimeMillis());
+                key = (wait > 0) ? events.poll(wait, TimeUnit.MILLISECONDS) : null;
             }
-            workingHM.put(f, moddate);
         }
-    }
 
-    interface RecurseListener {
-        void foundFile(File f);
+        // Want to send out updates in this order: removed,changed,added
+        private void report(Set<File> dirty, Set<File> modified) {
+            List<File> removed = new ArrayList<>();
+            List<File> changed = new ArrayList<>();
+            List<File> added = new ArrayList<>();
+            for (File directory : dirty) {
+                scanDirectory(directory, modified, removed, changed, added);
+            }
+            for (File f : removed) {
+                fireAction(f, DirectoryChangeListener.FILE_REMOVED);
+            }
+            for (File f : changed) {
+                fireAction(f, DirectoryChangeListener.FILE_CHANGED);
+            }
+            for (File f : added) {
+                fireAction(f, DirectoryChangeListener.FILE_ADDED);
+            }
+        }
     }
 
     public interface DirectoryChangeListener {
@@ -121,6 +121,23 @@ public class TempFileManager {
         }
     }
 
+    /**
+     *  Deletes a temp directory and all of its contents now, instead of at
+     *  JVM exit, once whatever was using it is done with it
+     *
+     * @param  tempDir  a directory, e.g. from createTempDir()
+     */
+    public static void deleteTempDir(File tempDir) {
+        if (tempDir == null || !tempDir.isDirectory()) {
+            return;
+        }
+        try {
+            recursiveDelete(tempDir);
+        } catch (IOException ex) {
+            LOG.error(ex);
+        }
+    }
+
     /**
      *  Deletes all of the files in the given directory, recursing into any sub
      *  directories found. Also deletes the root directory.
@@ -1103,7 +1103,7 @@ public class ViskitGlobals
      * @see BasicAssembly.getRunSimulationClassLoader()
      * @return Viskit's working ClassLoader
      */
-    public ClassLoader getViskitApplicationClassLoader()
+    public synchronized ClassLoader getViskitApplicationClassLoader()
     {
             if (viskitApplicationClassLoader == null) // workingClassLoader should only get created once
             {
@@ -1128,9 +1128,10 @@ public class ViskitGlobals
         return viskitApplicationClassLoader;
     }
 
-    public void resetWorkingClassLoader() {
+    public synchronized void resetWorkingClassLoader() {
         viskitApplicationClassLoader = null;
-        LOG.debug("resetWorkingClassLoader() complete"); // TODO threading issue?
+        ViskitStatics.clearClassForNameCache();
+        LOG.debug("resetWorkingClassLoader() complete");
     }
 
 
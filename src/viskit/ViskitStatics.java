@@ -53,10 +53,12 @@ import java.nio.file.Paths;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.swing.JComponent;
 import javax.swing.JEditorPane;
 import javax.swing.JLabel;
@@ -70,6 +72,8 @@ import static viskit.ViskitUserConfiguration.SYSTEM_USER_HOME;
 
 import viskit.control.FileBasedClassManager;
 import viskit.doe.LocalBootLoader;
+import viskit.util.ClassIndex;
+import viskit.util.ClassResolutionCache;
 import viskit.xsd.bindings.eventgraph.Parameter;
 
 /** 
@@ -112,6 +116,9 @@ public class ViskitStatics
         // private static int ViskitUserConfigurationCreationCount = 0; // singleton safety check
 
     static final Logger LOG = LogManager.getLogger();
+
+    // classForName() results, bound to the application ClassLoader they came from
+    private static final ClassResolutionCache CLASS_FOR_NAME_CACHE = new ClassResolutionCache();
     
     /* Commonly used class names */
     public static final String RANDOM_NUMBER_CLASS                   = "simkit.random.RandomNumber";
@@ -273,7 +280,28 @@ public class ViskitStatics
      * @return an instantiated class given by s if available from the loader
      */
     public static Class<?> classForName(String s) {
-        Class<?> c = cForName(s, ViskitGlobals.instance().getViskitApplicationClassLoader());
+        ClassLoader clsLoader = ViskitGlobals.instance().getViskitApplicationClassLoader();
+        return CLASS_FOR_NAME_CACHE.resolve(s, clsLoader, name -> resolveClass(name, clsLoader));
+    }
+
+    /**
+     * Forgets what classForName() resolved, and what it could not, e.g.
+     * after the classpath changed or classes were compiled or unloaded,
+     * and the classes ClassIndex has seen
+     */
+    public static void clearClassForNameCache() {
+        LOG.debug("clearClassForNameCache() " + CLASS_FOR_NAME_CACHE);
+        CLASS_FOR_NAME_CACHE.clear();
+        ClassIndex.clear();
+    }
+
+    /** @return the lookups classForName() answered without resolving, and those it resolved */
+    public static ClassResolutionCache getClassForNameCache() {
+        return CLASS_FOR_NAME_CACHE;
+    }
+
+    private static Class<?> resolveClass(String s, ClassLoader clsLoader) {
+        Class<?> c = cForName(s, clsLoader);
 
         if (c == null) {
             c = tryUnqualifiedName(s);
@@ -529,19 +557,26 @@ public class ViskitStatics
         return System.getProperty("file.separator");
     }
 
-    static Map<String, List<Object>[]> parameterMap = new HashMap<>();
+    // resolved parameter lists by ClassLoader, then by class name; loaders
+    // are weakly held, so a discarded LocalBootLoader's entries go with it
+    // and a class reloaded by a new one is resolved anew
+    private static final Map<ClassLoader, Map<String, List<Object>[]>> PARAMETER_MAPS =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private static Map<String, List<Object>[]> parameterMapsOf(ClassLoader loader) {
+        return PARAMETER_MAPS.computeIfAbsent(loader, l -> new ConcurrentHashMap<>());
+    }
 
     /**
      * For the given class type Event Graph, record its specific ParameterMap
-     * @param type the Event Graph class name
+     * @param type the Event Graph class
      * @param p a List of parameter map object arrays
      */
-    public static void putParameterList(String type, List<Object>[] p) {
+    public static void putParameterList(Class<?> type, List<Object>[] p) {
         if (debug) {
-            LOG.info("ViskitStatics putting " + type + " " + Arrays.toString(p));
+            LOG.info("ViskitStatics putting " + type.getName() + " " + Arrays.toString(p));
         }
-        parameterMap.remove(type);
-        parameterMap.put(type, p);
+        parameterMapsOf(type.getClassLoader()).put(type.getName(), p);
     }
 
     /** Checks for and return a varargs type as an array, or the orig type
@@ -561,179 +596,184 @@ public class ViskitStatics
 
     /**
      * For the given Event Graph class type, return its specific ParameterMap contents.
-     * A LOG error will report if something is missing on the classpath
+     * A LOG error will report if something is missing on the classpath.
+     * Each class is reflected upon once, the result is shared by all threads
+     * and must not be modified.
      *
      * @param type the Event Graph class type to resolve
      * @return a List of parameter map object arrays
      */
-    @SuppressWarnings("unchecked")
     public static List<Object>[] resolveParameters(Class<?> type)
     {
-        viskit.xsd.bindings.eventgraph.ObjectFactory jaxbEventGraphObjectFactory = new viskit.xsd.bindings.eventgraph.ObjectFactory();
-
         // nulls can occur when staring Viskit pointing to an assembly in another
         // project space. In this case we can be silent
         if (type == null)
             return null;
 
-        // Ben Cheng NPE fix
-        Object testResult = parameterMap.get(type.getName());
-        List<Object>[] resolvedParametersList = null;
-        if (testResult != null) 
+        Map<String, List<Object>[]> parameterMaps = parameterMapsOf(type.getClassLoader());
+        List<Object>[] resolvedParametersList = parameterMaps.get(type.getName());
+        if (resolvedParametersList != null)
         {
-            resolvedParametersList = (List<Object>[]) testResult;
             LOG.debug("parameter {} already resolved", type);
+            return resolvedParametersList;
         }
-        if (resolvedParametersList == null) 
-        {
-            Constructor<?>[] constructor;
-            try {
-                constructor = type.getConstructors();
-            } 
-            catch (NoClassDefFoundError error) {
-                LOG.error("resolveParameters({}) error: {}", type.getName(), error);
-                return null;
-            }
-            List<Object>[] parameterList = GenericConversion.newListObjectTypeArray(List.class, constructor.length);
-            Field field = null;
 
-            try {
-                field = type.getField("parameterMap");
-            }
-            catch (SecurityException ex)
-            {
-                LOG.error(ex);
+        // concurrent callers for the same class wait for this one's result,
+        // a null result is not kept
+        return parameterMaps.computeIfAbsent(type.getName(), name -> reflectParameters(type));
+    }
+
+    private static List<Object>[] reflectParameters(Class<?> type)
+    {
+        viskit.xsd.bindings.eventgraph.ObjectFactory jaxbEventGraphObjectFactory = new viskit.xsd.bindings.eventgraph.ObjectFactory();
+        Constructor<?>[] constructor;
+        try {
+            constructor = type.getConstructors();
+        } 
+        catch (NoClassDefFoundError error) {
+            LOG.error("resolveParameters({}) error: {}", type.getName(), error);
+            return null;
+        }
+        List<Object>[] parameterList = GenericConversion.newListObjectTypeArray(List.class, constructor.length);
+        Field field = null;
+
+        try {
+            field = type.getField("parameterMap");
+        }
+        catch (SecurityException ex)
+        {
+            LOG.error(ex);
 //                ex.printStackTrace();
-            } 
-            catch (NoSuchFieldException ex)
-            {
-                // avoid java.lang.NoSuchFieldException: parameterMap
-            }
+        } 
+        catch (NoSuchFieldException ex)
+        {
+            // avoid java.lang.NoSuchFieldException: parameterMap
+        }
 
-            if (viskit.ViskitStatics.debug) {
-                LOG.info("adding " + type.getName());
-                LOG.info("\t # constructors: " + constructor.length);
-            }
+        if (viskit.ViskitStatics.debug) {
+            LOG.info("adding " + type.getName());
+            LOG.info("\t # constructors: " + constructor.length);
+        }
 
-            Class<?>[] paramterTypesArray;
-            ParameterMap nextParameterMap;
-            String[] nameArray, typeArray;
-            Parameter pt, p;
-            String[] parameterArray;
-            String[][] pMap;
-            int numberConstructors;
-            Annotation[] paramameterAnnotationsArray;
-            String ptype, pname, ptType;
-            for (int i = 0; i < constructor.length; i++) 
+        Class<?>[] paramterTypesArray;
+        ParameterMap nextParameterMap;
+        String[] nameArray, typeArray;
+        Parameter pt, p;
+        String[] parameterArray;
+        String[][] pMap;
+        int numberConstructors;
+        Annotation[] paramameterAnnotationsArray;
+        String ptype, pname, ptType;
+        for (int i = 0; i < constructor.length; i++) 
+        {
+            paramterTypesArray = constructor[i].getParameterTypes();
+            paramameterAnnotationsArray = constructor[i].getDeclaredAnnotations();
+            parameterList[i] = new ArrayList<>();
+            if (viskit.ViskitStatics.debug)
+                LOG.debug("\t # params {} in constructor {}", paramterTypesArray.length, i);
+
+            // possible that a class inherited a parameterMap, check if annotated first
+            if (paramameterAnnotationsArray != null && paramameterAnnotationsArray.length > 0) 
             {
-                paramterTypesArray = constructor[i].getParameterTypes();
-                paramameterAnnotationsArray = constructor[i].getDeclaredAnnotations();
-                parameterList[i] = new ArrayList<>();
-                if (viskit.ViskitStatics.debug)
-                    LOG.debug("\t # params {} in constructor {}", paramterTypesArray.length, i);
-
-                // possible that a class inherited a parameterMap, check if annotated first
-                if (paramameterAnnotationsArray != null && paramameterAnnotationsArray.length > 0) 
+                if (paramameterAnnotationsArray.length > 1)
+                    throw new RuntimeException("Only one Annotation per constructor"); // TODO: harsh
+
+                nextParameterMap = constructor[i].getAnnotation(viskit.ParameterMap.class);
+                if (nextParameterMap != null) 
                 {
-                    if (paramameterAnnotationsArray.length > 1)
-                        throw new RuntimeException("Only one Annotation per constructor"); // TODO: harsh
+                    nameArray = nextParameterMap.names();
+                    typeArray = nextParameterMap.types();
+                    if (nameArray.length != typeArray.length)
+                        throw new RuntimeException("ParameterMap names and types length mismatch"); // TODO: harsh
 
-                    nextParameterMap = constructor[i].getAnnotation(viskit.ParameterMap.class);
-                    if (nextParameterMap != null) 
+                    for (int k = 0; k < nameArray.length; k++) 
                     {
-                        nameArray = nextParameterMap.names();
-                        typeArray = nextParameterMap.types();
-                        if (nameArray.length != typeArray.length)
-                            throw new RuntimeException("ParameterMap names and types length mismatch"); // TODO: harsh
-
-                        for (int k = 0; k < nameArray.length; k++) 
-                        {
-                            pt = jaxbEventGraphObjectFactory.createParameter();
-                            pt.setName(nameArray[k]);
-                            pt.setType(typeArray[k]);
+                        pt = jaxbEventGraphObjectFactory.createParameter();
+                        pt.setName(nameArray[k]);
+                        pt.setType(typeArray[k]);
 
-                            parameterList[i].add(pt);
-                        }
+                        parameterList[i].add(pt);
                     }
+                }
 
-                } 
-                else if (field != null) 
-                {
-                    if (ViskitStatics.debug)
-                        LOG.debug("{} is a parameterMap", field);
-
-                    try {
-                        // parameters are in the following order
-                        // {
-                        //  { "type0","name0","type1","name1",... },
-                        //  { "type0","name0", ... },
-                        //  ...
-                        // }
-                        pMap = (String[][]) (field.get(new String[0][0]));
-                        numberConstructors = pMap.length;
-
-                        for (int n = 0; n < numberConstructors; n++)  // tbd: check that numConstrs == constr.length
-                        { 
-                            // tbd: check that numConstrs == constr.length
-                            parameterArray = pMap[n];
-                            if (parameterArray != null) 
+            } 
+            else if (field != null) 
+            {
+                if (ViskitStatics.debug)
+                    LOG.debug("{} is a parameterMap", field);
+
+                try {
+                    // parameters are in the following order
+                    // {
+                    //  { "type0","name0","type1","name1",... },
+                    //  { "type0","name0", ... },
+                    //  ...
+                    // }
+                    pMap = (String[][]) (field.get(new String[0][0]));
+                    numberConstructors = pMap.length;
+
+                    for (int n = 0; n < numberConstructors; n++)  // tbd: check that numConstrs == constr.length
+                    { 
+                        // tbd: check that numConstrs == constr.length
+                        parameterArray = pMap[n];
+                        if (parameterArray != null) 
+                        {
+                            parameterList[n] = new ArrayList<>();
+                            for (int k = 0; k < parameterArray.length; k += 2) 
                             {
-                                parameterList[n] = new ArrayList<>();
-                                for (int k = 0; k < parameterArray.length; k += 2) 
-                                {
-                                    try {
-                                        p = jaxbEventGraphObjectFactory.createParameter();
-                                        ptype = parameterArray[k];
-                                        pname = parameterArray[k + 1];
-
-                                        p.setName(pname);
-                                        p.setType(ptype);
-
-                                        parameterList[n].add(p);
-                                        if (viskit.ViskitStatics.debug)
-                                            LOG.debug("\tfrom compiled parameterMap {}", p.getName() + p.getType());
-                                    }
-                                    catch (Exception ex) {
-                                        LOG.error("resolveParameters(" + type + ") initial-loop exception: " + ex.getMessage());
-                                    }
+                                try {
+                                    p = jaxbEventGraphObjectFactory.createParameter();
+                                    ptype = parameterArray[k];
+                                    pname = parameterArray[k + 1];
+
+                                    p.setName(pname);
+                                    p.setType(ptype);
+
+                                    parameterList[n].add(p);
+                                    if (viskit.ViskitStatics.debug)
+                                        LOG.debug("\tfrom compiled parameterMap {}", p.getName() + p.getType());
+                                }
+                                catch (Exception ex) {
+                                    LOG.error("resolveParameters(" + type + ") initial-loop exception: " + ex.getMessage());
                                 }
                             }
                         }
+                    }
 //                        break; // fix this up, should index along with i not n
-                    } 
-                    catch (IllegalArgumentException | IllegalAccessException ex) {
-                        LOG.error(ex);
+                } 
+                catch (IllegalArgumentException | IllegalAccessException ex) {
+                    LOG.error(ex);
 //                        ex.printStackTrace();
-                    }
                 }
-                else { // unknown
-                    int k = 0;
-                    for (Class<?> ptyp : paramterTypesArray) 
-                    {
-                        try {
-                            p = jaxbEventGraphObjectFactory.createParameter();
-                            ptType = ViskitStatics.convertClassName(ptyp.getName());
-                            if (ptType.indexOf(".class") > 0) { //??
-                                ptType = ptType.split("\\.")[0];
-                            }
-
-                            // Not sure what use a name like this is for PCLs
-                            p.setName("p[" + k++ + "] : ");
-                            p.setType(ptType);
-                            parameterList[i].add(p);
-                            if (viskit.ViskitStatics.debug)
-                                LOG.info("\t {}{}", p.getName(), p.getType());
-                        }
-                        catch (Exception ex) {
-                            LOG.error("resolveParameters(" + type + ") secondary-loop exception: " + ex.getMessage());
+            }
+            else { // unknown
+                int k = 0;
+                for (Class<?> ptyp : paramterTypesArray) 
+                {
+                    try {
+                        p = jaxbEventGraphObjectFactory.createParameter();
+                        ptType = ViskitStatics.convertClassName(ptyp.getName());
+                        if (ptType.indexOf(".class") > 0) { //??
+                            ptType = ptType.split("\\.")[0];
                         }
+
+                        // Not sure what use a name like this is for PCLs
+                        p.setName("p[" + k++ + "] : ");
+                        p.setType(ptType);
+                        parameterList[i].add(p);
+                        if (viskit.ViskitStatics.debug)
+                            LOG.info("\t {}{}", p.getName(), p.getType());
+                    }
+                    catch (Exception ex) {
+                        LOG.error("resolveParameters(" + type + ") secondary-loop exception: " + ex.getMessage());
                     }
                 }
             }
-            putParameterList(type.getName(), parameterList);
-            resolvedParametersList = parameterList;
         }
-        return resolvedParametersList;
+        if (debug) {
+            LOG.info("ViskitStatics putting " + type.getName() + " " + Arrays.toString(parameterList));
+        }
+        return parameterList;
     }
 
     /**
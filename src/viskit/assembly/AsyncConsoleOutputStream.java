@@ -0,0 +1,266 @@
+/*
+Copyright (c) 1995-2025 held by the author(s).  All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions
+are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer
+      in the documentation and/or other materials provided with the
+      distribution.
+    * Neither the names of the Naval Postgraduate School (NPS)
+      Modeling, Virtual Environments and Simulation (MOVES) Institute
+      (http://www.nps.edu and https://my.nps.edu/web/moves)
+      nor the names of its contributors may be used to endorse or
+      promote products derived from this software without specific
+      prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+"AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+POSSIBILITY OF SUCH DAMAGE.
+*/
+package viskit.assembly;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * A bounded, asynchronous console sink.
+ * <p>
+ * Writes are copied into a fixed pool of chunks that a daemon thread drains to
+ * the wrapped stream, so that a slow console (e.g. a JTextArea behind a Swing
+ * timer) never stalls the simulation thread. When every chunk is waiting to be
+ * drained, newly written output is dropped and counted, and a single notice
+ * of the dropped byte count is written once the console catches up. Callers
+ * that can skip work entirely while congested check isCongested().
+ * </p>
+ * Partially filled chunks are drained on flush() and, at the latest, after
+ * DRAIN_INTERVAL_MS. Closing drains pending output but leaves the wrapped
+ * stream open, since it is owned by the caller.
+ */
+public final class AsyncConsoleOutputStream extends OutputStream
+{
+    static final Logger LOG = LogManager.getLogger();
+
+    public static final int DEFAULT_CHUNK_SIZE  = 1024 * 8; // 8Kb
+    public static final int DEFAULT_CHUNK_COUNT = 64;       // 512Kb in flight at most
+    public static final long DRAIN_INTERVAL_MS  = 100;
+
+    private static final class Chunk
+    {
+        final byte[] bytes;
+        int length;
+
+        Chunk(int size) {
+            bytes = new byte[size];
+        }
+    }
+
+    private final OutputStream outputStream;
+    private final BlockingQueue<Chunk> freeChunks;
+    private final BlockingQueue<Chunk> filledChunks;
+    private final int chunkCount;
+    private final AtomicLong droppedBytes = new AtomicLong();
+    private final Thread drainThread;
+
+    /** guarded by this */
+    private Chunk currentChunk;
+    private long totalDroppedBytes;
+    private boolean closed;
+
+    /** guarded by drainLock, chunks handed off but not yet written */
+    private final Object drainLock = new Object();
+    private int pendingChunks;
+
+    /** @param outputStream the console stream to drain to */
+    public AsyncConsoleOutputStream(OutputStream outputStream) {
+        this(outputStream, DEFAULT_CHUNK_SIZE, DEFAULT_CHUNK_COUNT);
+    }
+
+    /**
+     * @param outputStream the console stream to drain to
+     * @param chunkSize bytes per chunk
+     * @param chunkCount chunks available, bounding the output held in memory
+     */
+    public AsyncConsoleOutputStream(OutputStream outputStream, int chunkSize, int chunkCount)
+    {
+        this.outputStream = outputStream;
+        this.chunkCount   = Math.max(2, chunkCount);
+        freeChunks   = new ArrayBlockingQueue<>(this.chunkCount);
+        filledChunks = new ArrayBlockingQueue<>(this.chunkCount);
+        for (int i = 1; i < this.chunkCount; i++)
+            freeChunks.add(new Chunk(chunkSize));
+        currentChunk = new Chunk(chunkSize);
+
+        drainThread = new Thread(this::drain, "AsyncConsoleOutputStream");
+        drainThread.setDaemon(true);
+        drainThread.start();
+    }
+
+    @Override
+    public synchronized void write(int b)
+    {
+        if (closed)
+            return;
+        if (currentChunk.length == currentChunk.bytes.length)
+            handOff();
+        currentChunk.bytes[currentChunk.length++] = (byte) b;
+    }
+
+    @Override
+    public synchronized void write(byte[] b, int off, int len)
+    {
+        if (closed)
+            return;
+        int count;
+        while (len > 0)
+        {
+            if (currentChunk.length == currentChunk.bytes.length)
+                handOff();
+            count = Math.min(len, currentChunk.bytes.length - currentChunk.length);
+            System.arraycopy(b, off, currentChunk.bytes, currentChunk.length, count);
+            currentChunk.length += count;
+            off += count;
+            len -= count;
+        }
+    }
+
+    /** Hands off buffered output without waiting for it to be written */
+    @Override
+    public synchronized void flush()
+    {
+        if (!closed && (currentChunk.length > 0))
+            handOff();
+    }
+
+    /**
+     * @return true when at least half of the chunks are waiting to be drained,
+     * i.e. the console is falling behind and output may soon be dropped
+     */
+    public boolean isCongested() {
+        return filledChunks.size() * 2 >= chunkCount;
+    }
+
+    /** @return total bytes dropped so far because the console fell behind */
+    public synchronized long getDroppedBytes() {
+        return totalDroppedBytes;
+    }
+
+    /**
+     * Hands off buffered output and waits until it has been written to the
+     * wrapped stream
+     *
+     * @param timeoutMillis maximum time to wait
+     * @return true if all output was written in time
+     */
+    public boolean awaitDrained(long timeoutMillis)
+    {
+        flush();
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        long remaining;
+        synchronized (drainLock)
+        {
+            while (pendingChunks > 0)
+            {
+                remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0)
+                    return false;
+                try {
+                    drainLock.wait(remaining);
+                }
+                catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /** Drains pending output, then stops the drain thread; the wrapped stream remains open */
+    @Override
+    public void close()
+    {
+        awaitDrained(DRAIN_INTERVAL_MS * 50);
+        synchronized (this) {
+            closed = true;
+        }
+        drainThread.interrupt();
+    }
+
+    /** Queues the current chunk, or drops its contents if no free chunk remains */
+    private void handOff()
+    {
+        Chunk nextChunk = freeChunks.poll();
+        if (nextChunk == null)
+        {
+            droppedBytes.addAndGet(currentChunk.length);
+            totalDroppedBytes += currentChunk.length;
+            currentChunk.length = 0;
+            return;
+        }
+        synchronized (drainLock) {
+            pendingChunks++;
+        }
+        filledChunks.add(currentChunk); // capacity matches the pool, never full
+        currentChunk = nextChunk;
+    }
+
+    private void drain()
+    {
+        Chunk chunk;
+        long dropped;
+        while (!Thread.currentThread().isInterrupted())
+        {
+            try {
+                chunk = filledChunks.poll(DRAIN_INTERVAL_MS, TimeUnit.MILLISECONDS);
+            }
+            catch (InterruptedException ie) {
+                break;
+            }
+            if (chunk == null)
+            {
+                flush(); // pick up output that never filled a chunk
+                continue;
+            }
+            try {
+                dropped = droppedBytes.getAndSet(0);
+                if (dropped > 0)
+                    outputStream.write(("\n[Console output congested, " + dropped + " bytes dropped.]\n").getBytes(StandardCharsets.UTF_8));
+                outputStream.write(chunk.bytes, 0, chunk.length);
+                if (filledChunks.isEmpty())
+                    outputStream.flush();
+            }
+            catch (IOException ex) {
+                LOG.error("drain() exception: " + ex);
+            }
+            chunk.length = 0;
+            freeChunks.add(chunk);
+            synchronized (drainLock)
+            {
+                pendingChunks--;
+                drainLock.notifyAll();
+            }
+        }
+    }
+}
@@ -47,7 +47,6 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 
-import java.text.DecimalFormat;
 import java.util.*;
 import javax.swing.JOptionPane;
 import org.apache.logging.log4j.LogManager;
@@ -97,6 +96,18 @@ public abstract class BasicAssembly extends BasicSimEntity implements Runnable
     protected Map<Integer, List<SavedStats>> replicationDataSavedStatisticsList;
     protected PropertyChangeListener[]       replicationStatisticsPropertyChangeListenerArray;
     protected SampleStatistics[]             designPointSimpleStatisticsTallyArray;
+    
+    /** Statistic type of each PropertyChangeListenerNode, resolved once per run so that
+     * replications need no reflection: entry i is true if replication statistic i reports
+     * its count, false if its mean */
+    private boolean[] replicationStatisticIsCount;
+    /** Indexed property names fired after each replication, parallel to replicationStatisticIsCount */
+    private String[]  replicationStatisticNames, replicationStatisticTypeNames;
+    /** Headless replacement for the pclNodeCache statistic types: names of statistics that report a count */
+    private Set<String> countStatisticNames = Collections.emptySet();
+    /** Values of the assembly's design parameters in declaration order, injected by a
+     * DOE run so that one compiled assembly class serves every design point */
+    private String[] designParameterValues = new String[0];
     protected SimEntity[]                    simEntityArray;
     protected PropertyChangeListener[]       propertyChangeListenerArray;
     
@@ -136,9 +147,11 @@ public abstract class BasicAssembly extends BasicSimEntity implements Runnable
     private boolean debugThread = true; /* default */
 
     private int designPointID;
-    private final DecimalFormat decimalFormat1, decimalFormat4;
+    private final ReplicationReportFormatter replicationReportFormatter;
+    private int skippedReplicationReports;
     private List<String> entitiesWithStatisticsList;
     private PrintWriter printWriter;
+    private AsyncConsoleOutputStream asyncConsoleOutputStream;
     
     // private /*static*/ ClassLoader localWorkingClassLoader;       // TODO moved this out of ViskitGlobals due to thread-clobbering issues
     /** save local copies of these objects during setup, in order to avoid 
@@ -157,6 +170,16 @@ public abstract class BasicAssembly extends BasicSimEntity implements Runnable
     private SimulationState simulationState;
     private int  pausedReplicationNumber = 0;
     private int initialReplicationNumber = 1;
+
+    /** number of worker threads for replications, 1 runs all replications serially in this thread */
+    private int numberReplicationThreads = 1;
+    /** active only while replications are running in parallel */
+    private volatile ParallelReplicationRunner parallelReplicationRunner;
+
+    /** base seeds to replay, or null to capture the default RandomNumber state when each run begins */
+    private long[] replicationBaseSeeds;
+    /** positions the default RandomNumber for each replication of the current run, kept across pause and resume */
+    private ReplicationSubstreams replicationSubstreams;
         
             // Because there is no instantiated report builder in the current
             // thread context, we reflect here
@@ -191,8 +214,7 @@ public abstract class BasicAssembly extends BasicSimEntity implements Runnable
      */
     public BasicAssembly() 
     {
-        decimalFormat1 = new DecimalFormat("0.0; -0.0");
-        decimalFormat4 = new DecimalFormat(" 0.0000;-0.0000");
+        replicationReportFormatter = new ReplicationReportFormatter();
         
         // names also used by SimkitAssemblyXML2Java when generating source
         setPrintReplicationReportsToConsole(true); // TODO false
@@ -342,52 +364,93 @@ public abstract class BasicAssembly extends BasicSimEntity implements Runnable
         {
             return;
         }
+        createReplicationStatisticTypes();
         designPointSimpleStatisticsTallyArray = new SampleStatistics[BasicAssembly.this.getReplicationStatisticsPropertyChangeListenerArray().length];
+        for (int index = 0; index < replicationStatisticIsCount.length; index++)
+        {
+            designPointSimpleStatisticsTallyArray[index] = new SimpleStatsTally(replicationStatisticTypeNames[index]);
+            LOG.debug("createDesignPointStatistics(): Design point statistic: {}", designPointSimpleStatisticsTallyArray[index]);
+        }
+    }
+
+    /**
+     * Walks the pclNodeCache once to find which replication statistics report
+     * a count and which a mean, filling the tables that processReplicationResults()
+     * indexes after every replication.  Without a pclNodeCache (headless) the
+     * countStatisticNames decide instead.
+     */
+    private void createReplicationStatisticTypes()
+    {
+        int statisticsCount = getReplicationStatisticsPropertyChangeListenerArray().length;
+        boolean[] isCountArray  = new boolean[statisticsCount];
+        String[]  nameArray     = new String[statisticsCount];
+        String[]  typeNameArray = new String[statisticsCount];
         String statisticType, nodeType;
         int index = 0;
         boolean isCount;
         SampleStatistics sampleStatistics;
         Object obj;
-        for (Map.Entry<String, AssemblyNode> entry : pclNodeCache.entrySet()) 
+        if (pclNodeCache != null)
         {
-            LOG.debug("createDesignPointStatistics(): map entry is: {}", entry);
-            obj = pclNodeCache.get(entry.getKey());
-            if (obj.getClass().toString().contains("PropertyChangeListenerNode")) 
+            for (Map.Entry<String, AssemblyNode> entry : pclNodeCache.entrySet()) 
             {
-                LOG.debug("createDesignPointStatistics(): AssemblyNode is: {}", obj);
+                LOG.debug("createReplicationStatisticTypes(): map entry is: {}", entry);
+                obj = entry.getValue();
+                if (obj.getClass().toString().contains("PropertyChangeListenerNode") && (index < statisticsCount)) 
+                {
+                    LOG.debug("createReplicationStatisticTypes(): AssemblyNode is: {}", obj);
+
+                    try {
+                        // Since the pclNodeCache was created under a previous ClassLoader
+                        // we must use reflection to invoke the methods on the AssemblyNodes
+                        // that it contains, otherwise we will throw ClassCastExceptions
+                        nodeType = obj.getClass().getMethod(METHOD_getType).invoke(obj).toString();
+
+                        // This is not a designPoint, so skip
+                        if (nodeType.equals(ViskitStatics.SIMPLE_PROPERTY_DUMPER)) {
+                            LOG.debug("createReplicationStatisticTypes(): SimplePropertyDumper encountered");
+                            continue;
+                        }
 
-                try {
-                    // Since the pclNodeCache was created under a previous ClassLoader
-                    // we must use reflection to invoke the methods on the AssemblyNodes
-                    // that it contains, otherwise we will throw ClassCastExceptions
-                    nodeType = obj.getClass().getMethod(METHOD_getType).invoke(obj).toString();
-
-                    // This is not a designPoint, so skip
-                    if (nodeType.equals(ViskitStatics.SIMPLE_PROPERTY_DUMPER)) {
-                        LOG.debug("createDesignPointStatistics(): createDesignPointStatistics():SimplePropertyDumper encountered");
-                        continue;
-                    }
+                        isCount = Boolean.parseBoolean(obj.getClass().getMethod(METHOD_isStatisticTypeCount).invoke(obj).toString());
+                        LOG.debug("createReplicationStatisticTypes(): isGetCount: " + isCount);
 
-                    isCount = Boolean.parseBoolean(obj.getClass().getMethod(METHOD_isStatisticTypeCount).invoke(obj).toString());
-                    LOG.debug("createDesignPointStatistics(): isGetCount: " + isCount);
+                        statisticType = isCount ? ".count" : ".mean";
+                        LOG.debug("createReplicationStatisticTypes(): statisticType is: " + statisticType);
 
-                    statisticType = isCount ? ".count" : ".mean";
-                    LOG.debug("createDesignPointStatistics(): statisticType is: " + statisticType);
+                        sampleStatistics = (SampleStatistics) getReplicationStatisticsPropertyChangeListenerArray()[index];
 
-                    sampleStatistics = (SampleStatistics) BasicAssembly.this.getReplicationStatisticsPropertyChangeListenerArray()[index];
-                    
-                    if (sampleStatistics.getName().equals("%unnamed%"))
-                        sampleStatistics.setName(obj.getClass().getMethod(METHOD_getName).invoke(obj).toString());
-                    
-                    designPointSimpleStatisticsTallyArray[index] = new SimpleStatsTally(sampleStatistics.getName() + statisticType);
+                        if (sampleStatistics.getName().equals("%unnamed%"))
+                            sampleStatistics.setName(obj.getClass().getMethod(METHOD_getName).invoke(obj).toString());
 
-                    LOG.debug("createDesignPointStatistics(): Design point statistic: {}", designPointSimpleStatisticsTallyArray[index]);
-                    index++;
-                } catch (NoSuchMethodException | SecurityException | IllegalAccessException | IllegalArgumentException | InvocationTargetException | ClassCastException ex) {
-                    LOG.error("createDesignPointStatistics() exception: " + ex);
+                        isCountArray [index] = isCount;
+                        nameArray    [index] = sampleStatistics.getName();
+                        typeNameArray[index] = sampleStatistics.getName() + statisticType;
+                        index++;
+                    } 
+                    catch (NoSuchMethodException | SecurityException | IllegalAccessException | IllegalArgumentException | InvocationTargetException | ClassCastException ex) {
+                        LOG.error("createReplicationStatisticTypes() exception: " + ex);
+                    }
                 }
             }
         }
+        else // headless, no assembly model: statistics are taken in order, named as the assembly named them
+        {
+            for (PropertyChangeListener replicationStatistic : getReplicationStatisticsPropertyChangeListenerArray())
+            {
+                if (!(replicationStatistic instanceof SampleStatistics))
+                    break; // keep the tables aligned with the statistics array
+                sampleStatistics = (SampleStatistics) replicationStatistic;
+                isCount = countStatisticNames.contains(sampleStatistics.getName());
+                isCountArray [index] = isCount;
+                nameArray    [index] = sampleStatistics.getName();
+                typeNameArray[index] = sampleStatistics.getName() + (isCount ? ".count" : ".mean");
+                index++;
+            }
+        }
+        replicationStatisticIsCount   = Arrays.copyOf(isCountArray,  index);
+        replicationStatisticNames     = Arrays.copyOf(nameArray,     index);
+        replicationStatisticTypeNames = Arrays.copyOf(typeNameArray, index);
     }
 
     protected abstract void createPropertyChangeListeners();
@@ -477,6 +540,10 @@ public abstract class BasicAssembly extends BasicSimEntity implements Runnable
                  pauseSimulationRun = false;
             singleStepSimulationRun = false; // in case we were in single-step mode
             Schedule.stopSimulation(); // simkit
+
+            ParallelReplicationRunner runner = parallelReplicationRunner;
+            if (runner != null)
+                runner.stop(); // workers each have their own simkit Schedule
         }
         
         if (isDebugThread()) logThreadStatus(METHOD_setStopSimulationRun + "... complete");
@@ -572,6 +639,72 @@ public abstract class BasicAssembly extends BasicSimEntity implements Runnable
         return numberReplicationsPlanned;
     }
     
+    /** method name for reflection use */
+    public static final String METHOD_setNumberReplicationThreads = "setNumberReplicationThreads";
+
+    /** Opt-in parallel replications: when greater than one, replications are
+     * distributed across this many worker threads, each with its own isolated
+     * simkit context.  Pause and single-step are only available when serial.
+     * @param newNumberReplicationThreads number of worker threads, 1 for serial replications
+     */
+    public void setNumberReplicationThreads(int newNumberReplicationThreads)
+    {
+        if (newNumberReplicationThreads < 1) {
+            throw new IllegalArgumentException("setNumberReplicationThreads(): number of replication threads must be > 0: " + newNumberReplicationThreads);
+        }
+        numberReplicationThreads = newNumberReplicationThreads;
+    }
+    
+    /** method name for reflection use */
+    public static final String METHOD_getNumberReplicationThreads = "getNumberReplicationThreads";
+
+    /** @return number of worker threads used for replications */
+    public int getNumberReplicationThreads()
+    {
+        return numberReplicationThreads;
+    }
+    
+    /** method name for reflection use */
+    public static final String METHOD_setReplicationBaseSeeds = "setReplicationBaseSeeds";
+
+    /** Replay a previous run: every replication's random number stream is derived
+     * from these base seeds rather than from the default RandomNumber's current state.
+     * @param newReplicationBaseSeeds base seeds logged by a previous run, null to capture them anew each run
+     */
+    public void setReplicationBaseSeeds(long[] newReplicationBaseSeeds)
+    {
+        if ((newReplicationBaseSeeds != null) && (newReplicationBaseSeeds.length == 0)) {
+            throw new IllegalArgumentException("setReplicationBaseSeeds(): base seeds must not be empty");
+        }
+        replicationBaseSeeds = (newReplicationBaseSeeds == null) ? null : newReplicationBaseSeeds.clone();
+    }
+    
+    /** method name for reflection use */
+    public static final String METHOD_getReplicationBaseSeeds = "getReplicationBaseSeeds";
+
+    /** @return base seeds of the current or most recent run, null if none has started */
+    public long[] getReplicationBaseSeeds()
+    {
+        if (replicationSubstreams != null)
+            return replicationSubstreams.getBaseSeeds();
+        return (replicationBaseSeeds == null) ? null : replicationBaseSeeds.clone();
+    }
+    
+    /** method name for reflection use */
+    public static final String METHOD_setInitialReplicationNumber = "setInitialReplicationNumber";
+
+    /** Replications are independent of each other, so replication k can be rerun alone
+     * by setting the initial replication number and number of replications planned to k.
+     * @param newInitialReplicationNumber the first replication number to run (one off)
+     */
+    public void setInitialReplicationNumber(int newInitialReplicationNumber)
+    {
+        if (newInitialReplicationNumber < 1) {
+            throw new IllegalArgumentException("setInitialReplicationNumber(): initial replication number must be > 0: " + newInitialReplicationNumber);
+        }
+        initialReplicationNumber = newInitialReplicationNumber;
+    }
+    
     /** method name for reflection use */
     public static final String METHOD_setPrintReplicationReportsToConsole = "setPrintReplicationReportsToConsole";
 
@@ -744,66 +877,55 @@ public abstract class BasicAssembly extends BasicSimEntity implements Runnable
      */
     protected String getReplicationReport(int replicationNumber) {
 
-        PropertyChangeListener[] clonedReplicationStatistics = BasicAssembly.this.getReplicationStatisticsPropertyChangeListenerArray();
-        int i = 0;
+        String replicationReport = getReplicationReport(replicationNumber, BasicAssembly.this.getReplicationStatisticsPropertyChangeListenerArray());
 
+        for (PropertyChangeListener sampleStatisticsPropertyChangeListener : replicationStatisticsPropertyChangeListenerArray) {
+            ((SampleStatistics) sampleStatisticsPropertyChangeListener).reset();
+        }
+        return replicationReport;
+    }
+
+    /**
+     * Report for the given replication statistics, which are left unchanged.
+     *
+     * @param replicationNumber The replication number (one off) for this report
+     * @param clonedReplicationStatistics the statistics gathered during that replication
+     * @return a replication report section for the analyst report
+     */
+    protected String getReplicationReport(int replicationNumber, PropertyChangeListener[] clonedReplicationStatistics) {
+
+        formatReplicationReport(replicationNumber, clonedReplicationStatistics);
+        return replicationReportFormatter.toString();
+    }
+
+    /**
+     * Saves replication data if enabled, then formats the replication report
+     * into the reusable replicationReportFormatter buffer.
+     *
+     * @param replicationNumber The replication number (one off) for this report
+     * @param replicationStatistics the statistics gathered during that replication
+     */
+    private void formatReplicationReport(int replicationNumber, PropertyChangeListener[] replicationStatistics)
+    {
         // Outputs raw replication statistics to XML report
         if (isSaveReplicationData())
-            reportStatisticsConfiguration.processReplicationStatistics((replicationNumber), clonedReplicationStatistics);
-        
-        // Borrowed from https://howtodoinjava.com/java/string/align-text-in-columns/#:~:text=One%20of%20the%20most%20straightforward,column%20within%20the%20format%20string.
-        // Define column widths (CW). These may have to be slightly adjusted for
-        // long property names and large counts/means
-        int nameCW   = 26;
-        int countCW  =  6;
-        int minCW    =  7;
-        int maxCW    =  9;
-        int meanCW   = 12;
-        int stdDevCW = 12;
-        int varCW    = 16;
-
-        // Report header
-        StringBuilder outputReportStringBuilder = new StringBuilder();
-        
+            reportStatisticsConfiguration.processReplicationStatistics((replicationNumber), replicationStatistics);
+
+        int incompleteReplicationsPlanned = 0;
         if ((simulationState != null) && (simulationState != SimulationState.RUN) && 
             (replicationNumber != getNumberReplicationsPlanned()))
         {
-            // likely the STOP button was pressed
-            outputReportStringBuilder.append(System.getProperty("line.separator"));
-            outputReportStringBuilder.append("(Simulation did not complete ")
-                                     .append(getNumberReplicationsPlanned()).append(" replications as originally planned)");
-            outputReportStringBuilder.append(System.getProperty("line.separator"));
+            incompleteReplicationsPlanned = getNumberReplicationsPlanned();
         }
-        outputReportStringBuilder.append("\nOutput Report following Replication #");
-        outputReportStringBuilder.append(replicationNumber);
-        outputReportStringBuilder.append(System.getProperty("line.separator"));
-        outputReportStringBuilder.append(System.getProperty("line.separator"));
-        outputReportStringBuilder.append(String.format("%-" + nameCW + "s%" + countCW + "s%" 
-                + minCW + "s%" + maxCW + "s%" + meanCW + "s%" + stdDevCW 
-                + "s%" + varCW + "s", 
-                "Name", "Count", "Minimum", 
-                "Maximum", "Mean", "Standard Deviation", "Variance"));
-        outputReportStringBuilder.append(System.getProperty("line.separator"));
-        outputReportStringBuilder.append("-".repeat(nameCW+countCW+minCW+maxCW+meanCW+stdDevCW+varCW));
-
-        SampleStatistics sampleStatistics;
-
-        // Report data (statistics) in aligned columns
-        for (PropertyChangeListener pcl : clonedReplicationStatistics) {
-            sampleStatistics = (SampleStatistics) pcl;
-            outputReportStringBuilder.append(System.getProperty("line.separator"));
-            outputReportStringBuilder.append(String.format("%-" + nameCW   + "s",sampleStatistics.getName()));
-            outputReportStringBuilder.append(String.format("%"  + countCW  + "d",sampleStatistics.getCount()));
-            outputReportStringBuilder.append(String.format("%"  + minCW    + "s",decimalFormat1.format(sampleStatistics.getMinObs())));
-            outputReportStringBuilder.append(String.format("%"  + maxCW    + "s",decimalFormat1.format(sampleStatistics.getMaxObs())));
-            outputReportStringBuilder.append(String.format("%"  + meanCW   + "s",decimalFormat4.format(sampleStatistics.getMean())));
-            outputReportStringBuilder.append(String.format("%"  + stdDevCW + "s",decimalFormat4.format(sampleStatistics.getStandardDeviation())));
-            outputReportStringBuilder.append(String.format("%"  + varCW    + "s",decimalFormat4.format(sampleStatistics.getVariance())));
-
-            ((SampleStatistics) replicationStatisticsPropertyChangeListenerArray[i++]).reset();
+        replicationReportFormatter.reset();
+        if (skippedReplicationReports > 0)
+        {
+            replicationReportFormatter.appendLineSeparator()
+                    .append("(Console congested, skipped reports for " + skippedReplicationReports + " replications)")
+                    .appendLineSeparator();
+            skippedReplicationReports = 0;
         }
-        outputReportStringBuilder.append(System.getProperty("line.separator"));
-        return outputReportStringBuilder.toString();
+        replicationReportFormatter.appendReplicationReport(replicationNumber, replicationStatistics, incompleteReplicationsPlanned);
     }
 
     /**
@@ -844,8 +966,14 @@ public abstract class BasicAssembly extends BasicSimEntity implements Runnable
     public static final String METHOD_setOutputStream = "setOutputStream";
 
     public void setOutputStream(OutputStream outputStream) {
-        PrintStream outputPrintStream = new PrintStream(outputStream);
-        this.printWriter = new PrintWriter(outputStream);
+        if (asyncConsoleOutputStream != null)
+            asyncConsoleOutputStream.close();
+        
+        // console output is drained on its own thread so a slow console
+        // never stalls the simulation thread
+        asyncConsoleOutputStream = new AsyncConsoleOutputStream(outputStream);
+        PrintStream outputPrintStream = new PrintStream(asyncConsoleOutputStream);
+        this.printWriter = new PrintWriter(asyncConsoleOutputStream);
 
         // This OutputStream gets ported to the JScrollPane of the Assembly Runner
         Schedule.setOutputStream(outputPrintStream); // simkit
@@ -1038,14 +1166,14 @@ public abstract class BasicAssembly extends BasicSimEntity implements Runnable
 
         if (reportStatisticsConfiguration == null) // time to initialize, using localViskitProject handed into thread
         {
-            if (viskitProject == null)
+            if ((viskitProject == null) && isEnableAnalystReports()) // headless runs need no project
                 LOG.error("Incorrect initialization of BasicAssembly in thread context, localViskitProject is null");
             // Creates a ReportStatisticsConfiguration instance and names it based on the name of this Assembly.
             reportStatisticsConfiguration = new ReportStatisticsConfiguration(assemblyName, viskitProject);
         }
         // reset the document with existing parameters since it might have run before
         reportStatisticsConfiguration.reset();
-        reportStatisticsConfiguration.setEntityIndex(entitiesWithStatisticsList);
+        reportStatisticsConfiguration.setEntityIndex(entitiesWithStatisticsList, isEnableAnalystReports() && isSaveReplicationData());
         if (!hookupsCalled)
         {
             LOG.error("run() RuntimeException: performHookups() hasn't been called!");
@@ -1107,8 +1235,26 @@ public abstract class BasicAssembly extends BasicSimEntity implements Runnable
             LOG.info("Begin running " + getName() + " simulation for {} planned replications total", getNumberReplicationsPlanned());
         }
         
+        // each replication gets its own stream derived from base seeds captured once per run,
+        // so that replications may be replayed individually or run in any order
+        if ((pausedReplicationNumber == 0) || (replicationSubstreams == null))
+        {
+            if (replicationBaseSeeds == null)
+                 replicationSubstreams = new ReplicationSubstreams(RandomVariateFactory.getDefaultRandomNumber());
+            else replicationSubstreams = new ReplicationSubstreams(RandomVariateFactory.getDefaultRandomNumber(), replicationBaseSeeds);
+        }
+        LOG.info("Simulation RNG " + RandomVariateFactory.getDefaultRandomNumber().getClass().getSimpleName() +
+                 " replication base seeds = " + Arrays.toString(replicationSubstreams.getBaseSeeds()));
+        
+        if (replicationStatisticIsCount == null) // createDesignPointStatistics() was overridden or had no statistics
+            createReplicationStatisticTypes();
+        
+        boolean parallelReplications = (getNumberReplicationThreads() > 1) && !isSingleStep();
+        if (parallelReplications)
+            runParallelReplications();
+        
         // here is the primary loop for each replication within the current simulation
-        for (int replicationNumber = initialReplicationNumber; replicationNumber <= getNumberReplicationsPlanned(); replicationNumber++)
+        for (int replicationNumber = initialReplicationNumber; !parallelReplications && (replicationNumber <= getNumberReplicationsPlanned()); replicationNumber++)
         {
             firePropertyChange("replicationNumber", (replicationNumber));
             // look ahead at next replication
@@ -1178,9 +1324,9 @@ public abstract class BasicAssembly extends BasicSimEntity implements Runnable
                     LOG.error("run() replication #{} discrepancy: simkit.Schedule.isSingleStep() already, continuing anyway...",
                             replicationNumber);
                 
-                // use pseudorandom number generator (RNG) to get next seed
+                // position pseudorandom number generator (RNG) at this replication's own stream
                 // https://en.wikipedia.org/Pseudorandom_number_generator
-                seed = RandomVariateFactory.getDefaultRandomNumber().getSeed();
+                seed = replicationSubstreams.selectReplication(replicationNumber);
                 String seedString = String.valueOf(seed);
                 String indexSpacing = new String();
                 if (replicationNumber <= 9)
@@ -1221,55 +1367,10 @@ public abstract class BasicAssembly extends BasicSimEntity implements Runnable
                 // now tell simkit to run the replication
                 Schedule.startSimulation(); // simkit
 
-                String typeStatistics, nodeType;
-                int propertyIndex = 0;
-                boolean isCountStatistic; // statistics property type, "count" or "mean"
-                SampleStatistics sampleStatistics;
-                Object pclObject;
-                
-                // Outer statistics output
-                // # of PropertyChangeListenerNodes is == to replicationStatisticsPropertyChangeListenerArray.length
-                if (pclNodeCache == null) // <- Headless mode
-                    return;
+                processReplicationResults(replicationNumber, replicationStatisticsPropertyChangeListenerArray);
                 
-                for (Map.Entry<String, AssemblyNode> entry : pclNodeCache.entrySet()) 
-                {
-                    LOG.debug("entry is: {}", entry);
-
-                    pclObject = pclNodeCache.get(entry.getKey());
-                    if (pclObject.getClass().toString().contains("PropertyChangeListenerNode")) {
-
-                        try {
-                            // Since the pclNodeCache was created under a previous ClassLoader
-                            // we must use reflection to invoke the methods on the AssemblyNodes
-                            // that it contains, otherwise we will throw ClassCastExceptions
-                            nodeType = pclObject.getClass().getMethod(METHOD_getType).invoke(pclObject).toString();
-
-                            // This is not a designPoint, so skip
-                            if (nodeType.equals(ViskitStatics.SIMPLE_PROPERTY_DUMPER)) {
-                                LOG.debug("SimplePropertyDumper encountered");
-                                continue;
-                            }
-                            isCountStatistic = Boolean.parseBoolean(pclObject.getClass().getMethod(METHOD_isStatisticTypeCount).invoke(pclObject).toString());
-                            typeStatistics = isCountStatistic ? ".count" : ".mean";
-                            sampleStatistics = (SampleStatistics) BasicAssembly.this.getReplicationStatisticsPropertyChangeListenerArray()[propertyIndex];
-                            fireIndexedPropertyChange(propertyIndex, sampleStatistics.getName(), sampleStatistics);
-
-                            if (isCountStatistic)
-                                fireIndexedPropertyChange(propertyIndex, sampleStatistics.getName() + typeStatistics, sampleStatistics.getCount());
-                            else
-                                fireIndexedPropertyChange(propertyIndex, sampleStatistics.getName() + typeStatistics, sampleStatistics.getMean());
-
-                            propertyIndex++;
-                        } 
-                        catch (NoSuchMethodException | SecurityException | IllegalAccessException | IllegalArgumentException | InvocationTargetException | ClassCastException ex) {
-                            LOG.error("run() error during PropertyChangeListenerNode checks: " + ex);
-                        }
-                    }
-                } // end for
-                if (isPrintReplicationReportsToConsole()) {
-                    printWriter.println(getReplicationReport(replicationNumber));
-                    printWriter.flush();
+                for (PropertyChangeListener sampleStatisticsPropertyChangeListener : replicationStatisticsPropertyChangeListenerArray) {
+                    ((SampleStatistics) sampleStatisticsPropertyChangeListener).reset();
                 }
             } // continue running replications
         } // end of replication loop
@@ -1283,6 +1384,8 @@ public abstract class BasicAssembly extends BasicSimEntity implements Runnable
             printWriter.println(getSummaryReport());
             printWriter.flush();
         }
+        if (asyncConsoleOutputStream != null)
+            asyncConsoleOutputStream.awaitDrained(AsyncConsoleOutputStream.DRAIN_INTERVAL_MS * 50);
         
         if (isEnableAnalystReports()) 
         {
@@ -1348,6 +1451,151 @@ public abstract class BasicAssembly extends BasicSimEntity implements Runnable
         }
     }
 
+    /**
+     * Runs the remaining replications on numberReplicationThreads workers, each
+     * in its own isolated simkit context, then processes their statistics in
+     * replication order exactly as the serial replication loop does.
+     */
+    private void runParallelReplications()
+    {
+        long[] baseSeeds = replicationSubstreams.getBaseSeeds();
+        LOG.info("Simulation starting Replications #{} through #{} on {} threads",
+                initialReplicationNumber, getNumberReplicationsPlanned(), getNumberReplicationThreads());
+
+        double[][][] replicationResults;
+        parallelReplicationRunner = new ParallelReplicationRunner(this, getNumberReplicationThreads());
+        try {
+            if (stopSimulationRun) // arrived before the runner existed
+                parallelReplicationRunner.stop();
+            replicationResults = parallelReplicationRunner.runReplications(initialReplicationNumber, getNumberReplicationsPlanned(), baseSeeds);
+        }
+        finally {
+            parallelReplicationRunner = null;
+        }
+
+        String[] replicationStatisticsNames = new String[replicationStatisticsPropertyChangeListenerArray.length];
+        for (int i = 0; i < replicationStatisticsNames.length; i++) {
+            replicationStatisticsNames[i] = ((Named) replicationStatisticsPropertyChangeListenerArray[i]).getName();
+        }
+        PropertyChangeListener[] replicationStatistics;
+        int replicationNumber;
+        for (int index = 0; index < replicationResults.length; index++)
+        {
+            replicationNumber = initialReplicationNumber + index;
+            if (replicationResults[index] == null)
+            {
+                LOG.info("Threaded assembly simulation run() stopped after Replication # " + (replicationNumber - 1));
+                break;
+            }
+            firePropertyChange("replicationNumber", (replicationNumber));
+
+            replicationStatistics = new PropertyChangeListener[replicationResults[index].length];
+            for (int i = 0; i < replicationStatistics.length; i++) {
+                replicationStatistics[i] = new SampleStatisticsSnapshot(replicationStatisticsNames[i], replicationResults[index][i]);
+            }
+            processReplicationResults(replicationNumber, replicationStatistics);
+        }
+    }
+    
+    /** method name for reflection use */
+    public static final String METHOD_prepareIsolatedReplications = "prepareIsolatedReplications";
+
+    /**
+     * Creates and hooks up this assembly's objects so that it can serve as a
+     * replication worker.  Invoked reflectively by ParallelReplicationRunner on
+     * a private copy of the assembly living in the worker's own ClassLoader.
+     */
+    public void prepareIsolatedReplications()
+    {
+        setPrintReplicationReportsToConsole(false);
+        setPrintSummaryReportToConsole(false);
+        setEnableAnalystReports(false);
+        
+        createObjects();
+        performHookups();
+        
+        Schedule.stopAtTime(getStopTime()); // simkit
+        Schedule.setVerbose(false);         // simkit
+        Schedule.setReallyVerbose(false);   // simkit
+    }
+    
+    /** method name for reflection use */
+    public static final String METHOD_runIsolatedReplication = "runIsolatedReplication";
+
+    /**
+     * Runs a single replication within this worker's simkit context.  The random
+     * number stream is derived from the base seeds and replication number alone,
+     * so the outcome does not depend on which worker runs it or what ran before.
+     *
+     * @param replicationNumber The replication number (one off)
+     * @param baseSeeds base seeds shared by all replications of this run
+     * @return values of each replication statistic, laid out as in SampleStatisticsSnapshot
+     */
+    public double[][] runIsolatedReplication(int replicationNumber, long[] baseSeeds)
+    {
+        if (replicationSubstreams == null)
+            replicationSubstreams = new ReplicationSubstreams(RandomVariateFactory.getDefaultRandomNumber(), baseSeeds);
+        replicationSubstreams.selectReplication(replicationNumber);
+        Schedule.reset();           // simkit
+        Schedule.startSimulation(); // simkit
+
+        double[][] replicationResult = new double[replicationStatisticsPropertyChangeListenerArray.length][];
+        SampleStatistics sampleStatistics;
+        for (int i = 0; i < replicationResult.length; i++)
+        {
+            sampleStatistics = (SampleStatistics) replicationStatisticsPropertyChangeListenerArray[i];
+            replicationResult[i] = SampleStatisticsSnapshot.toArray(sampleStatistics);
+            sampleStatistics.reset();
+        }
+        return replicationResult;
+    }
+
+    /**
+     * Feeds one completed replication's statistics to the design point statistics
+     * and any listeners, then prints its replication report if enabled.
+     *
+     * @param replicationNumber The replication number (one off)
+     * @param replicationStatistics the statistics gathered during that replication
+     */
+    private void processReplicationResults(int replicationNumber, PropertyChangeListener[] replicationStatistics)
+    {
+        SampleStatistics sampleStatistics;
+        
+        // Outer statistics output
+        // statistic types were resolved from the pclNodeCache, or headless from
+        // countStatisticNames, before the replication loop
+        for (int propertyIndex = 0; propertyIndex < replicationStatisticIsCount.length; propertyIndex++) 
+        {
+            sampleStatistics = (SampleStatistics) replicationStatistics[propertyIndex];
+            fireIndexedPropertyChange(propertyIndex, replicationStatisticNames[propertyIndex], sampleStatistics);
+
+            if (replicationStatisticIsCount[propertyIndex])
+                fireIndexedPropertyChange(propertyIndex, replicationStatisticTypeNames[propertyIndex], sampleStatistics.getCount());
+            else
+                fireIndexedPropertyChange(propertyIndex, replicationStatisticTypeNames[propertyIndex], sampleStatistics.getMean());
+        }
+        if (isPrintReplicationReportsToConsole()) 
+        {
+            if ((asyncConsoleOutputStream != null) && asyncConsoleOutputStream.isCongested())
+            {
+                // decimate rather than stall: skip formatting while the console catches up
+                if (isSaveReplicationData())
+                    reportStatisticsConfiguration.processReplicationStatistics((replicationNumber), replicationStatistics);
+                skippedReplicationReports++;
+                return;
+            }
+            formatReplicationReport(replicationNumber, replicationStatistics);
+            try {
+                replicationReportFormatter.writeTo(printWriter);
+            }
+            catch (IOException ex) {
+                LOG.error("processReplicationResults() exception: " + ex);
+            }
+            printWriter.println();
+            printWriter.flush();
+        }
+    }
+
     /**
      * This method gets called at the beginning of every simulation run,
      * building a tempFile that is saved on the path. That path is what
@@ -1392,6 +1640,100 @@ public abstract class BasicAssembly extends BasicSimEntity implements Runnable
         this.pclNodeCache = pclNodeCache;
     }
 
+    /** method name for reflection use */
+    public static final String METHOD_setCountStatisticNames = "setCountStatisticNames";
+
+    /**
+     * Running headless there is no assembly model, thus no pclNodeCache, to tell
+     * whether a replication statistic reports its count or its mean.  The
+     * PropertyChangeListener countStatistics attributes of the assembly XML can
+     * be passed in here instead; all other statistics report their mean.
+     * @param newCountStatisticNames names of the replication statistics reporting a count
+     */
+    public void setCountStatisticNames(Set<String> newCountStatisticNames) 
+    {
+        countStatisticNames = (newCountStatisticNames == null) ? Collections.<String>emptySet() : new HashSet<>(newCountStatisticNames);
+    }
+
+    /** method name for reflection use */
+    public static final String METHOD_setDesignParameterValues = "setDesignParameterValues";
+
+    /**
+     * Design point values for the design parameters, in the order the assembly XML
+     * declares them.  Generated source reads these through getDesignParameter() when
+     * its SimEntities are created, falling back to the values compiled in.
+     * @param newDesignParameterValues values as written in the experiment, null entries keep the compiled in value
+     */
+    public void setDesignParameterValues(String[] newDesignParameterValues) 
+    {
+        designParameterValues = (newDesignParameterValues == null) ? new String[0] : newDesignParameterValues.clone();
+    }
+
+    /** @return design parameter values injected by setDesignParameterValues() */
+    public String[] getDesignParameterValues()
+    {
+        return designParameterValues.clone();
+    }
+
+    private String getDesignParameterValue(int index)
+    {
+        return (index < designParameterValues.length) ? designParameterValues[index] : null;
+    }
+
+    protected double getDesignParameter(int index, double defaultValue)
+    {
+        String value = getDesignParameterValue(index);
+        return (value == null) ? defaultValue : Double.parseDouble(value.trim());
+    }
+
+    protected float getDesignParameter(int index, float defaultValue)
+    {
+        String value = getDesignParameterValue(index);
+        return (value == null) ? defaultValue : Float.parseFloat(value.trim());
+    }
+
+    protected long getDesignParameter(int index, long defaultValue)
+    {
+        String value = getDesignParameterValue(index);
+        return (value == null) ? defaultValue : Long.parseLong(value.trim());
+    }
+
+    protected int getDesignParameter(int index, int defaultValue)
+    {
+        String value = getDesignParameterValue(index);
+        return (value == null) ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    protected short getDesignParameter(int index, short defaultValue)
+    {
+        String value = getDesignParameterValue(index);
+        return (value == null) ? defaultValue : Short.parseShort(value.trim());
+    }
+
+    protected byte getDesignParameter(int index, byte defaultValue)
+    {
+        String value = getDesignParameterValue(index);
+        return (value == null) ? defaultValue : Byte.parseByte(value.trim());
+    }
+
+    protected boolean getDesignParameter(int index, boolean defaultValue)
+    {
+        String value = getDesignParameterValue(index);
+        return (value == null) ? defaultValue : Boolean.parseBoolean(value.trim());
+    }
+
+    protected String getDesignParameter(int index, String defaultValue)
+    {
+        String value = getDesignParameterValue(index);
+        return (value == null) ? defaultValue : value;
+    }
+
+    /** @return the pclNodeCache, shared with replication workers */
+    Map<String, AssemblyNode> getPclNodeCache()
+    {
+        return pclNodeCache;
+    }
+
     /**
      * Method which may be overridden by subclasses (e.g., ViskitAssembly) which will be called after
      * createObject() at run time.
@@ -1456,6 +1798,9 @@ public abstract class BasicAssembly extends BasicSimEntity implements Runnable
         return debugThread;
     }
 
+    /** method name for reflection use */
+    public static final String METHOD_setDebugThread = "setDebugThread";
+
     /**
      * @param debugThread the debugThread to set
      */
@@ -0,0 +1,432 @@
+/*
+Copyright (c) 1995-2025 held by the author(s).  All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions
+are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer
+      in the documentation and/or other materials provided with the
+      distribution.
+    * Neither the names of the Naval Postgraduate School (NPS)
+      Modeling, Virtual Environments and Simulation (MOVES) Institute
+      (http://www.nps.edu and https://my.nps.edu/web/moves)
+      nor the names of its contributors may be used to endorse or
+      promote products derived from this software without specific
+      prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+"AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+POSSIBILITY OF SUCH DAMAGE.
+*/
+package viskit.assembly;
+
+import edu.nps.util.TempFileManager;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.lang.reflect.InvocationTargetException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import simkit.random.RandomVariateFactory;
+
+import viskit.ViskitProject;
+import viskit.xsd.bindings.assembly.PropertyChangeListener;
+import viskit.xsd.bindings.assembly.SimkitAssembly;
+import viskit.xsd.translator.assembly.SimkitAssemblyXML2Java;
+import viskit.xsd.translator.eventgraph.SimkitEventGraphXML2Java;
+
+/**
+ * Runs an assembly from the command line without the Viskit user interface,
+ * streaming each replication's statistics as CSV or JSON lines as they complete.
+ * <p>
+ * The assembly XML and every event graph XML of its project are translated to
+ * Java and compiled together into a temporary directory, much as a Gridlet does
+ * for a design point; the assembly then runs in this thread's JVM.  Replication
+ * and summary reports go to standard error when requested, keeping the
+ * statistics stream on standard output (or the -output file) clean.
+ * </p>
+ * <pre>
+ * java viskit.assembly.BatchAssemblyRunner -assembly Assemblies/examples/ServerAssembly3.xml
+ *      [-project dir] [-replications n] [-stopTime t] [-seed s] [-threads k]
+ *      [-format csv|json] [-output file] [-reports]
+ * </pre>
+ * Exit status is 0 on success, 1 on bad arguments, 2 on translation or compilation failure,
+ * 3 if the simulation run itself failed.
+ */
+public class BatchAssemblyRunner
+{
+    static final Logger LOG = LogManager.getLogger();
+
+    public static final String USAGE =
+            "usage: BatchAssemblyRunner -assembly assembly.xml [-project projectDirectory]\n" +
+            "         [-replications n] [-stopTime t] [-seed s] [-threads k]\n" +
+            "         [-format csv|json] [-output file] [-reports]";
+
+    private File    assemblyFile;
+    private File    projectDirectory;
+    private Integer numberReplications;
+    private Double  stopTime;
+    private Long    seed;
+    private Integer numberReplicationThreads;
+    private ReplicationStatisticsLineWriter.Format format = ReplicationStatisticsLineWriter.Format.CSV;
+    private File    outputFile;
+    private boolean printReports;
+
+    public static void main(String[] args)
+    {
+        BatchAssemblyRunner batchAssemblyRunner = new BatchAssemblyRunner();
+        try {
+            batchAssemblyRunner.parseArguments(args);
+        } 
+        catch (IllegalArgumentException iae) {
+            System.err.println(iae.getMessage());
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+        System.exit(batchAssemblyRunner.run());
+    }
+
+    /**
+     * @param args command line arguments, see USAGE
+     * @throws IllegalArgumentException on an unknown, incomplete or malformed argument
+     */
+    public void parseArguments(String[] args)
+    {
+        String value;
+        for (int a = 0; a < args.length; a++) 
+        {
+            if (args[a].equals("-reports"))
+            {
+                printReports = true;
+                continue;
+            }
+            if (a == args.length - 1)
+                throw new IllegalArgumentException(args[a] + " requires a value");
+            value = args[++a];
+            try {
+                switch (args[a - 1]) 
+                {
+                    case "-assembly":
+                        assemblyFile = new File(value);
+                        break;
+                    case "-project":
+                        projectDirectory = new File(value);
+                        break;
+                    case "-replications":
+                        numberReplications = Integer.valueOf(value);
+                        break;
+                    case "-stopTime":
+                        stopTime = Double.valueOf(value);
+                        break;
+                    case "-seed":
+                        seed = Long.valueOf(value);
+                        break;
+                    case "-threads":
+                        numberReplicationThreads = Integer.valueOf(value);
+                        break;
+                    case "-format":
+                        if (!value.equalsIgnoreCase("csv") && !value.equalsIgnoreCase("json"))
+                            throw new IllegalArgumentException("-format must be csv or json: " + value);
+                        format = ReplicationStatisticsLineWriter.Format.valueOf(value.toUpperCase(Locale.ROOT));
+                        break;
+                    case "-output":
+                        outputFile = new File(value);
+                        break;
+                    default:
+                        throw new IllegalArgumentException(args[a - 1] + " not a valid arg");
+                }
+            } 
+            catch (NumberFormatException nfe) {
+                throw new IllegalArgumentException("bad number for " + args[a - 1] + ": " + value);
+            }
+        }
+        if (assemblyFile == null)
+            throw new IllegalArgumentException("Must supply an -assembly XML file");
+        if ((numberReplications != null) && (numberReplications < 1))
+            throw new IllegalArgumentException("-replications must be > 0: " + numberReplications);
+        if ((numberReplicationThreads != null) && (numberReplicationThreads < 1))
+            throw new IllegalArgumentException("-threads must be > 0: " + numberReplicationThreads);
+        if ((stopTime != null) && !(stopTime >= 0.0))
+            throw new IllegalArgumentException("-stopTime must be >= 0.0: " + stopTime);
+        if (!assemblyFile.isFile())
+            throw new IllegalArgumentException("Assembly file not found: " + assemblyFile.getAbsolutePath());
+        if (projectDirectory == null)
+            projectDirectory = findProjectDirectory(assemblyFile);
+    }
+
+    /**
+     * Translates, compiles and runs the assembly, streaming its statistics.
+     * @return process exit status
+     */
+    public int run()
+    {
+        SimkitAssemblyXML2Java simkitAssemblyXML2Java;
+        SimkitAssembly simkitAssembly;
+        try {
+            simkitAssemblyXML2Java = new SimkitAssemblyXML2Java(assemblyFile);
+            simkitAssemblyXML2Java.unmarshal();
+            simkitAssembly = simkitAssemblyXML2Java.getAssemblyRoot();
+        } 
+        catch (IOException | RuntimeException ex) {
+            LOG.error("run() unable to read assembly " + assemblyFile + ": " + ex);
+            return 2;
+        }
+        URLClassLoader assemblyClassLoader = compile(simkitAssemblyXML2Java);
+        if (assemblyClassLoader == null)
+            return 2;
+
+        String assemblyClassName = simkitAssembly.getPackage() + "." + simkitAssembly.getName();
+        // assemblies and simkit print to System.out as they please, keep that out of the statistics stream
+        PrintStream standardOut = System.out;
+        System.setOut(System.err);
+        try (Writer writer = (outputFile == null) ? 
+                new OutputStreamWriter(standardOut, StandardCharsets.UTF_8) : 
+                new FileWriter(outputFile, StandardCharsets.UTF_8))
+        {
+            ClassLoader previousContextClassLoader = Thread.currentThread().getContextClassLoader();
+            Thread.currentThread().setContextClassLoader(assemblyClassLoader);
+            BasicAssembly basicAssembly;
+            try {
+                basicAssembly = (BasicAssembly) assemblyClassLoader.loadClass(assemblyClassName).getDeclaredConstructor().newInstance();
+            }
+            finally {
+                Thread.currentThread().setContextClassLoader(previousContextClassLoader);
+            }
+            configure(basicAssembly, simkitAssembly, assemblyClassLoader);
+
+            ReplicationStatisticsLineWriter replicationStatisticsLineWriter = new ReplicationStatisticsLineWriter(writer, format);
+            replicationStatisticsLineWriter.writeHeader();
+            basicAssembly.addPropertyChangeListener(replicationStatisticsLineWriter);
+
+            // BasicAssembly expects to be a thread of its own, see InternalAssemblyRunner
+            AtomicReference<Throwable> simulationRunFailure = new AtomicReference<>();
+            Thread simulationRunThread = new Thread(basicAssembly, assemblyClassName);
+            simulationRunThread.setContextClassLoader(assemblyClassLoader);
+            simulationRunThread.setUncaughtExceptionHandler((thread, throwable) -> simulationRunFailure.set(throwable));
+            simulationRunThread.start();
+            simulationRunThread.join();
+
+            LOG.info("run() {} wrote {} replication statistics lines", assemblyClassName, replicationStatisticsLineWriter.getLineCount());
+            if (simulationRunFailure.get() != null) {
+                LOG.error("run() " + assemblyClassName + " failed: " + simulationRunFailure.get());
+                simulationRunFailure.get().printStackTrace(System.err);
+                return 3;
+            }
+            return 0;
+        } 
+        catch (IOException | ClassNotFoundException | NoSuchMethodException | InstantiationException | IllegalAccessException | InvocationTargetException | ClassCastException ex) {
+            LOG.error("run() unable to run " + assemblyClassName + ": " + ex);
+            return 2;
+        } 
+        catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            return 2;
+        }
+        finally {
+            System.setOut(standardOut);
+            try {
+                assemblyClassLoader.close();
+            } 
+            catch (IOException ioe) {
+                LOG.error("run() unable to close assembly ClassLoader: " + ioe);
+            }
+        }
+    }
+
+    /** Applies command line overrides on top of the settings compiled from the assembly XML */
+    private void configure(BasicAssembly basicAssembly, SimkitAssembly simkitAssembly, ClassLoader assemblyClassLoader)
+    {
+        basicAssembly.setDebugThread(false);
+        if (numberReplications != null)
+            basicAssembly.setNumberReplicationsPlanned(numberReplications);
+        if (stopTime != null)
+            basicAssembly.setStopTime(stopTime);
+        if (numberReplicationThreads != null)
+            basicAssembly.setNumberReplicationThreads(numberReplicationThreads);
+        if (seed != null)
+            RandomVariateFactory.getDefaultRandomNumber().setSeed(seed);
+
+        basicAssembly.setEnableAnalystReports(false);
+        basicAssembly.setPrintReplicationReportsToConsole(printReports);
+        basicAssembly.setPrintSummaryReportToConsole(printReports);
+        basicAssembly.setOutputStream(System.err);
+        basicAssembly.setWorkingClassLoader(assemblyClassLoader);
+        if (projectDirectory != null)
+            basicAssembly.setWorkingDirectory(projectDirectory);
+
+        // no assembly model to consult headless, so take count statistics from the XML
+        Set<String> countStatisticNames = new HashSet<>();
+        for (PropertyChangeListener propertyChangeListener : simkitAssembly.getPropertyChangeListener())
+        {
+            if (Boolean.parseBoolean(propertyChangeListener.getCountStatistics()))
+                countStatisticNames.add(propertyChangeListener.getName());
+        }
+        basicAssembly.setCountStatisticNames(countStatisticNames);
+    }
+
+    /**
+     * Translates the project event graphs and the assembly, then compiles them
+     * in a single javac task so that interdependent event graphs resolve.
+     * @return a ClassLoader for the compiled classes, or null on failure
+     */
+    private URLClassLoader compile(SimkitAssemblyXML2Java simkitAssemblyXML2Java)
+    {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null)
+        {
+            LOG.error("compile() no system Java compiler, a JDK rather than a JRE is required");
+            return null;
+        }
+        try {
+            File tempDirectory = TempFileManager.createTempDir(TempFileManager.createTempFile("viskit", "batch"));
+            File sourceDirectory  = new File(tempDirectory, "src");
+            File classesDirectory = new File(tempDirectory, "classes");
+            classesDirectory.mkdirs();
+
+            List<File> javaFiles = new ArrayList<>();
+            List<URL> classPathURLs = new ArrayList<>();
+            classPathURLs.add(classesDirectory.toURI().toURL());
+            StringBuilder classPath = new StringBuilder(System.getProperty("java.class.path"));
+
+            if (projectDirectory != null)
+            {
+                // ViskitProject itself is tied to the user interface configuration, go by its layout instead
+                List<File> eventGraphFiles = new ArrayList<>();
+                findXmlFiles(new File(projectDirectory, ViskitProject.EVENT_GRAPHS_DIRECTORY_NAME), eventGraphFiles);
+                for (File eventGraphFile : eventGraphFiles)
+                {
+                    try {
+                        SimkitEventGraphXML2Java simkitEventGraphXML2Java = new SimkitEventGraphXML2Java(eventGraphFile);
+                        simkitEventGraphXML2Java.unmarshal();
+                        javaFiles.add(writeSource(sourceDirectory, simkitEventGraphXML2Java.getRoot().getPackage(), 
+                                simkitEventGraphXML2Java.getRoot().getName(), simkitEventGraphXML2Java.translate()));
+                    } 
+                    catch (IOException | RuntimeException ex) {
+                        LOG.error("compile() skipping event graph " + eventGraphFile + ": " + ex);
+                    }
+                }
+                File[] libraryFiles = new File(projectDirectory, ViskitProject.LIB_DIRECTORY_NAME).listFiles();
+                if (libraryFiles != null)
+                {
+                    for (File libraryFile : libraryFiles)
+                    {
+                        if (libraryFile.getName().toLowerCase(Locale.ROOT).endsWith(".jar") ||
+                            libraryFile.getName().toLowerCase(Locale.ROOT).endsWith(".zip"))
+                        {
+                            classPathURLs.add(libraryFile.toURI().toURL());
+                            classPath.append(File.pathSeparator).append(libraryFile.getCanonicalPath());
+                        }
+                    }
+                }
+            }
+            SimkitAssembly simkitAssembly = simkitAssemblyXML2Java.getAssemblyRoot();
+            javaFiles.add(writeSource(sourceDirectory, simkitAssembly.getPackage(), simkitAssembly.getName(), 
+                    simkitAssemblyXML2Java.translateIntoJavaSource()));
+
+            List<String> options = List.of(
+                "-proc:none",
+                "-nowarn",
+                "-cp",
+                 classPath.toString(),
+                "-d",
+                 classesDirectory.getCanonicalPath()
+            );
+            DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+            boolean success;
+            try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+                success = compiler.getTask(null, fileManager, diagnostics, options, null, 
+                        fileManager.getJavaFileObjectsFromFiles(javaFiles)).call();
+            }
+            for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics())
+            {
+                if (diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                    LOG.error("compile() {}:{}: {}", (diagnostic.getSource() == null) ? "" : diagnostic.getSource().getName(), 
+                            diagnostic.getLineNumber(), diagnostic.getMessage(Locale.getDefault()));
+            }
+            if (!success)
+                return null;
+            LOG.info("compile() compiled {} sources into\n      {}", javaFiles.size(), classesDirectory.getAbsolutePath());
+            return new URLClassLoader(classPathURLs.toArray(URL[]::new), BatchAssemblyRunner.class.getClassLoader());
+        } 
+        catch (MalformedURLException ex) {
+            LOG.error("compile() exception: " + ex);
+        } 
+        catch (IOException ex) {
+            LOG.error("compile() exception: " + ex);
+        }
+        return null;
+    }
+
+    private static File writeSource(File sourceDirectory, String packageName, String className, String source) throws IOException
+    {
+        File packageDirectory = ((packageName == null) || packageName.isEmpty()) ? 
+                sourceDirectory : new File(sourceDirectory, packageName.replace('.', File.separatorChar));
+        packageDirectory.mkdirs();
+        File javaFile = new File(packageDirectory, className + ".java");
+        Files.writeString(javaFile.toPath(), source, StandardCharsets.UTF_8);
+        return javaFile;
+    }
+
+    private static void findXmlFiles(File directory, List<File> xmlFiles)
+    {
+        File[] files = (directory == null) ? null : directory.listFiles();
+        if (files == null)
+            return;
+        for (File file : files)
+        {
+            if (file.isDirectory())
+                findXmlFiles(file, xmlFiles);
+            else if (file.getName().toLowerCase(Locale.ROOT).endsWith(".xml"))
+                xmlFiles.add(file);
+        }
+    }
+
+    /** @return the nearest enclosing Viskit project directory of the assembly file, or null */
+    private static File findProjectDirectory(File assemblyFile)
+    {
+        for (File directory = assemblyFile.getAbsoluteFile().getParentFile(); directory != null; directory = directory.getParentFile())
+        {
+            if (ViskitProject.isProject(directory))
+                return directory;
+        }
+        LOG.warn("findProjectDirectory() no Viskit project encloses {}, compiling the assembly alone", assemblyFile);
+        return null;
+    }
+}
@@ -0,0 +1,202 @@
+/*
+Copyright (c) 1995-2025 held by the author(s).  All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions
+are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer
+      in the documentation and/or other materials provided with the
+      distribution.
+    * Neither the names of the Naval Postgraduate School (NPS)
+      Modeling, Virtual Environments and Simulation (MOVES) Institute
+      (http://www.nps.edu and https://my.nps.edu/web/moves)
+      nor the names of its contributors may be used to endorse or
+      promote products derived from this software without specific
+      prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+"AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+POSSIBILITY OF SUCH DAMAGE.
+*/
+package viskit.assembly;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Fixed capacity, lock-free ring buffer of console bytes.
+ * <p>
+ * Any number of writers claim space with a compare-and-set on the claimed
+ * position, copy their bytes, and then publish them in claim order. A single
+ * consumer (the console spool) drains everything published to disk; writers
+ * wait for it only when the whole ring is unspooled, so no output is lost.
+ * Viewers may read any recently published range without locking: bytes that
+ * were overwritten while being copied are detected afterwards and reported
+ * back so the viewer can skip them.
+ * </p>
+ * Positions are absolute byte counts since creation.
+ */
+public class ConsoleRingBuffer
+{
+    public static final int DEFAULT_CAPACITY = 1 << 22; // 4Mb
+
+    private final byte[] ring;
+    private final int    mask;
+
+    /** end of the space claimed by writers */
+    private final AtomicLong claimed   = new AtomicLong();
+    /** end of the bytes fully copied in, in claim order */
+    private final AtomicLong published = new AtomicLong();
+    /** end of the bytes drained by the consumer */
+    private volatile long consumed;
+
+    public ConsoleRingBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /** @param capacity ring size in bytes, rounded up to a power of two */
+    public ConsoleRingBuffer(int capacity)
+    {
+        int size = Integer.highestOneBit(Math.max(1024, capacity - 1)) << 1;
+        ring = new byte[size];
+        mask = size - 1;
+    }
+
+    /** @return ring size in bytes */
+    public int getCapacity() {
+        return ring.length;
+    }
+
+    /** @return position following the last published byte */
+    public long getPublishedPosition() {
+        return published.get();
+    }
+
+    /** @return position following the last byte drained by the consumer */
+    public long getConsumedPosition() {
+        return consumed;
+    }
+
+    /**
+     * Copies bytes into the ring, waiting only while the consumer is a full
+     * ring behind.
+     *
+     * @param b source bytes
+     * @param off offset into b
+     * @param len number of bytes
+     */
+    public void write(byte[] b, int off, int len)
+    {
+        int  count;
+        long start;
+        int  quarter = ring.length >> 2;
+        while (len > 0)
+        {
+            count = Math.min(len, quarter); // large writes are interleaved with others
+            start = claim(count);
+            copyIn(start, b, off, count);
+
+            // publish in claim order, earlier writers are mid-copy
+            int spins = 0;
+            while (published.get() != start)
+            {
+                if (++spins < 100)
+                    Thread.onSpinWait();
+                else
+                    Thread.yield();
+            }
+            published.set(start + count);
+            off += count;
+            len -= count;
+        }
+    }
+
+    private long claim(int count)
+    {
+        long start;
+        while (true)
+        {
+            start = claimed.get();
+            if (start + count - consumed > ring.length)
+                LockSupport.parkNanos(50_000L); // consumer is behind by a whole ring
+            else if (claimed.compareAndSet(start, start + count))
+                return start;
+        }
+    }
+
+    private void copyIn(long position, byte[] b, int off, int len)
+    {
+        int index = (int) (position & mask);
+        int first = Math.min(len, ring.length - index);
+        System.arraycopy(b, off, ring, index, first);
+        if (first < len)
+            System.arraycopy(b, off + first, ring, 0, len - first);
+    }
+
+    private void copyOut(long position, byte[] destination, int off, int len)
+    {
+        int index = (int) (position & mask);
+        int first = Math.min(len, ring.length - index);
+        System.arraycopy(ring, index, destination, off, first);
+        if (first < len)
+            System.arraycopy(ring, 0, destination, off + first, len - first);
+    }
+
+    /**
+     * Drains all published bytes to the consumer stream. Only one thread may
+     * act as consumer.
+     *
+     * @param outputStream where bytes are drained to
+     * @return number of bytes drained
+     * @throws IOException if the stream fails, the bytes then remain unconsumed
+     */
+    public int drainTo(OutputStream outputStream) throws IOException
+    {
+        long from = consumed;
+        long to   = published.get();
+        if (to == from)
+            return 0;
+        int index = (int) (from & mask);
+        int len   = (int) (to - from);
+        int first = Math.min(len, ring.length - index);
+        outputStream.write(ring, index, first);
+        if (first < len)
+            outputStream.write(ring, 0, len - first);
+        consumed = to;
+        return len;
+    }
+
+    /**
+     * Copies the published range [from, to) without locking. Bytes already
+     * spooled may be overwritten by writers during the copy, so the range
+     * is validated afterwards.
+     *
+     * @param from first position, no earlier than to minus the capacity
+     * @param to position following the last byte, no later than the published position
+     * @param destination receives the range starting at index 0
+     * @return first position whose bytes were copied intact, from if all were
+     */
+    public long read(long from, long to, byte[] destination)
+    {
+        copyOut(from, destination, 0, (int) (to - from));
+
+        // anything written beyond a ring after position p has replaced p
+        long overwrittenBefore = claimed.get() - ring.length;
+        return Math.min(to, Math.max(from, overwrittenBefore));
+    }
+}
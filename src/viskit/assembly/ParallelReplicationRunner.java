@@ -0,0 +1,226 @@
+/*
+Copyright (c) 1995-2025 held by the author(s).  All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions
+are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer
+      in the documentation and/or other materials provided with the
+      distribution.
+    * Neither the names of the Naval Postgraduate School (NPS)
+      Modeling, Virtual Environments and Simulation (MOVES) Institute
+      (http://www.nps.edu and https://my.nps.edu/web/moves)
+      nor the names of its contributors may be used to endorse or
+      promote products derived from this software without specific
+      prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+"AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+POSSIBILITY OF SUCH DAMAGE.
+*/
+package viskit.assembly;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import viskit.doe.LocalBootLoader;
+
+import static viskit.assembly.BasicAssembly.METHOD_prepareIsolatedReplications;
+import static viskit.assembly.BasicAssembly.METHOD_runIsolatedReplication;
+import static viskit.assembly.BasicAssembly.METHOD_setDebugThread;
+import static viskit.assembly.BasicAssembly.METHOD_setDesignParameterValues;
+import static viskit.assembly.BasicAssembly.METHOD_setPclNodeCache;
+import static viskit.assembly.BasicAssembly.METHOD_setStopSimulationRun;
+import static viskit.assembly.BasicAssembly.METHOD_setStopTime;
+
+/**
+ * Runs the replications of a BasicAssembly on a pool of worker threads.
+ * <p>
+ * simkit keeps its event list, clock and default RandomNumber in static
+ * state, so replications cannot simply share one Schedule. Each worker
+ * therefore boots its own LocalBootLoader, exactly as LocalTaskQueue does
+ * for Gridlets, and instantiates a private copy of the assembly class inside
+ * it. Workers claim replication numbers from a shared counter and return
+ * each replication's statistics as plain double[] values (see
+ * SampleStatisticsSnapshot), which the owning assembly then merges in
+ * replication order. Design point tallies are thus independent of how many
+ * workers ran or in which order replications finished.
+ * </p>
+ */
+public class ParallelReplicationRunner
+{
+    static final Logger LOG = LogManager.getLogger();
+
+    private final BasicAssembly basicAssembly;
+    private final int numberOfThreads;
+    private final AtomicInteger nextReplicationNumber = new AtomicInteger();
+    private final List<Object> workerAssemblies = new ArrayList<>();
+    private volatile boolean stopped;
+
+    /**
+     * @param basicAssembly the assembly that owns the run and merges results
+     * @param numberOfThreads the number of worker threads, each with its own ClassLoader
+     */
+    public ParallelReplicationRunner(BasicAssembly basicAssembly, int numberOfThreads)
+    {
+        this.basicAssembly   = basicAssembly;
+        this.numberOfThreads = numberOfThreads;
+    }
+
+    /**
+     * Runs replications firstReplicationNumber..lastReplicationNumber and blocks until
+     * all workers are done or the run was stopped.
+     *
+     * @param firstReplicationNumber the first replication to run (one off)
+     * @param lastReplicationNumber the last replication to run, inclusive
+     * @param baseSeeds the base seeds every replication's random number stream is derived from
+     * @return per-replication statistics indexed by (replicationNumber - firstReplicationNumber),
+     * with null entries for replications that did not complete
+     */
+    public double[][][] runReplications(int firstReplicationNumber, int lastReplicationNumber, long[] baseSeeds)
+    {
+        int totalReplications = lastReplicationNumber - firstReplicationNumber + 1;
+        double[][][] results = new double[Math.max(totalReplications, 0)][][];
+        if (totalReplications <= 0)
+            return results;
+
+        nextReplicationNumber.set(firstReplicationNumber);
+        int workerCount = Math.min(numberOfThreads, totalReplications);
+        Thread[] workerThreads = new Thread[workerCount];
+        LOG.info("runReplications() running {} replications on {} worker threads", totalReplications, workerCount);
+
+        for (int workerIndex = 0; workerIndex < workerCount; workerIndex++)
+        {
+            URLClassLoader workerClassLoader = createWorkerClassLoader(workerIndex);
+            workerThreads[workerIndex] = new Thread(() -> 
+                    runWorker(workerClassLoader, firstReplicationNumber, lastReplicationNumber, baseSeeds, results),
+                    basicAssembly.getName() + "ReplicationWorker" + workerIndex);
+            // this line is not kidding around either, see LocalTaskQueue.activate()
+            workerThreads[workerIndex].setContextClassLoader(workerClassLoader);
+            workerThreads[workerIndex].start();
+        }
+        for (Thread workerThread : workerThreads)
+        {
+            try {
+                workerThread.join();
+            } 
+            catch (InterruptedException ie) {
+                stop();
+                Thread.currentThread().interrupt();
+            }
+        }
+        return results;
+    }
+
+    /** Signal all workers to finish their current replication and claim no more */
+    public void stop()
+    {
+        stopped = true;
+        synchronized (workerAssemblies) {
+            for (Object workerAssembly : workerAssemblies)
+            {
+                try {
+                    workerAssembly.getClass().getMethod(METHOD_setStopSimulationRun, boolean.class).invoke(workerAssembly, true);
+                } 
+                catch (NoSuchMethodException | SecurityException | IllegalAccessException | IllegalArgumentException | InvocationTargetException ex) {
+                    LOG.error("stop() exception: " + ex);
+                }
+            }
+        }
+    }
+
+    /** @return true if stop() was called or a worker failed */
+    public boolean isStopped() {
+        return stopped;
+    }
+
+    private void runWorker(URLClassLoader workerClassLoader, int firstReplicationNumber, int lastReplicationNumber,
+                           long[] baseSeeds, double[][][] results)
+    {
+        try {
+            // Since the worker assembly lives in its own ClassLoader, it is not
+            // a BasicAssembly from our point of view; use reflection throughout
+            Class<?> workerAssemblyClass = workerClassLoader.loadClass(basicAssembly.getClass().getName());
+            Object workerAssembly = workerAssemblyClass.getDeclaredConstructor().newInstance();
+
+            workerAssemblyClass.getMethod(METHOD_setDebugThread, boolean.class).invoke(workerAssembly, false);
+            workerAssemblyClass.getMethod(METHOD_setStopTime, double.class).invoke(workerAssembly, basicAssembly.getStopTime());
+            workerAssemblyClass.getMethod(METHOD_setPclNodeCache, Map.class).invoke(workerAssembly, basicAssembly.getPclNodeCache());
+            workerAssemblyClass.getMethod(METHOD_setDesignParameterValues, String[].class).invoke(workerAssembly, (Object) basicAssembly.getDesignParameterValues());
+            workerAssemblyClass.getMethod(METHOD_prepareIsolatedReplications).invoke(workerAssembly);
+            Method runIsolatedReplicationMethod = workerAssemblyClass.getMethod(METHOD_runIsolatedReplication, int.class, long[].class);
+
+            synchronized (workerAssemblies) {
+                workerAssemblies.add(workerAssembly);
+            }
+            int replicationNumber;
+            while (!stopped && ((replicationNumber = nextReplicationNumber.getAndIncrement()) <= lastReplicationNumber))
+            {
+                double[][] replicationResult = (double[][]) runIsolatedReplicationMethod.invoke(workerAssembly, replicationNumber, baseSeeds);
+                if (!stopped) // a stopped replication ended early, do not report it
+                    results[replicationNumber - firstReplicationNumber] = replicationResult;
+            }
+            synchronized (workerAssemblies) {
+                workerAssemblies.remove(workerAssembly);
+            }
+        } 
+        catch (ClassNotFoundException | NoSuchMethodException | SecurityException | InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException ex) {
+            LOG.error("runWorker() " + Thread.currentThread().getName() + " exception, stopping run: " + ex);
+            stop();
+        }
+        finally {
+            try {
+                workerClassLoader.close();
+            } 
+            catch (IOException ioe) {
+                LOG.error("runWorker() unable to close worker ClassLoader: " + ioe);
+            }
+        }
+    }
+
+    /**
+     * Boot an isolated context holding simkit, viskit and the project classes,
+     * following InternalAssemblyRunner.getRunSimulationClassLoader()
+     */
+    private URLClassLoader createWorkerClassLoader(int workerIndex)
+    {
+        URL[] classPathUrlArray = new URL[0];
+        ClassLoader assemblyClassLoader = basicAssembly.getClass().getClassLoader();
+        if (assemblyClassLoader instanceof URLClassLoader)
+            classPathUrlArray = ((URLClassLoader) assemblyClassLoader).getURLs();
+
+        File classesDirectory = null;
+        if (basicAssembly.getViskitProject() != null)
+            classesDirectory = basicAssembly.getViskitProject().getClassesDirectory();
+
+        LocalBootLoader localBootLoader = new LocalBootLoader(classPathUrlArray, 
+                ClassLoader.getPlatformClassLoader(), classesDirectory, "ReplicationWorkerClassLoader" + workerIndex);
+        // Allow Assembly files in the ClassLoader
+        return localBootLoader.initialize(true);
+    }
+
+} // end class ParallelReplicationRunner
@@ -0,0 +1,319 @@
+/*
+Copyright (c) 1995-2025 held by the author(s).  All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions
+are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer
+      in the documentation and/or other materials provided with the
+      distribution.
+    * Neither the names of the Naval Postgraduate School (NPS)
+      Modeling, Virtual Environments and Simulation (MOVES) Institute
+      (http://www.nps.edu and https://my.nps.edu/web/moves)
+      nor the names of its contributors may be used to endorse or
+      promote products derived from this software without specific
+      prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+"AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+POSSIBILITY OF SUCH DAMAGE.
+*/
+package viskit.assembly;
+
+import java.beans.PropertyChangeListener;
+import java.io.IOException;
+import java.io.Writer;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Arrays;
+
+import simkit.stat.SampleStatistics;
+
+/**
+ * Formats the console replication report into a reusable char buffer.
+ * <p>
+ * Column header, rule and line separator are computed once, and numbers are
+ * written digit by digit into the buffer rather than through String.format()
+ * and DecimalFormat, so that reporting each replication allocates nothing once
+ * the buffer has grown to the size of a report. Output matches the prior
+ * String.format() layout: NaN, infinite or very large values, and those too
+ * close to a rounding tie to round exactly in double arithmetic, fall back to
+ * DecimalFormat.
+ * </p>
+ * Not thread safe, each BasicAssembly owns one.
+ */
+public class ReplicationReportFormatter
+{
+    // Define column widths (CW). These may have to be slightly adjusted for
+    // long property names and large counts/means
+    public static final int NAME_CW   = 26;
+    public static final int COUNT_CW  =  6;
+    public static final int MIN_CW    =  7;
+    public static final int MAX_CW    =  9;
+    public static final int MEAN_CW   = 12;
+    public static final int STDDEV_CW = 12;
+    public static final int VAR_CW    = 16;
+
+    private static final long[] POWERS_OF_TEN = {1L, 10L, 100L, 1000L, 10000L};
+
+    /** above this magnitude the scaled value may no longer be exact in a double */
+    private static final double FIXED_POINT_LIMIT = 1.0e11;
+
+    /** relative error of the scaling multiply, within which a tie is ambiguous */
+    private static final double TIE_TOLERANCE = 1.0e-15;
+
+    private final char[] lineSeparator;
+    private final char[] columnHeader;
+    private final char[] columnRule;
+    private final char   decimalSeparator;
+    private final char   minusSign;
+
+    /** fallbacks, matching the patterns previously used by BasicAssembly */
+    private final DecimalFormat decimalFormat1, decimalFormat4;
+
+    /** digits are written right to left here before padding */
+    private final char[] scratch = new char[32];
+
+    private char[] buffer = new char[2048];
+    private int    length;
+
+    public ReplicationReportFormatter()
+    {
+        lineSeparator = System.lineSeparator().toCharArray();
+        columnHeader  = String.format("%-" + NAME_CW + "s%" + COUNT_CW + "s%"
+                + MIN_CW + "s%" + MAX_CW + "s%" + MEAN_CW + "s%" + STDDEV_CW
+                + "s%" + VAR_CW + "s",
+                "Name", "Count", "Minimum",
+                "Maximum", "Mean", "Standard Deviation", "Variance").toCharArray();
+        columnRule    = "-".repeat(NAME_CW+COUNT_CW+MIN_CW+MAX_CW+MEAN_CW+STDDEV_CW+VAR_CW).toCharArray();
+
+        DecimalFormatSymbols decimalFormatSymbols = DecimalFormatSymbols.getInstance();
+        decimalSeparator = decimalFormatSymbols.getDecimalSeparator();
+        minusSign        = decimalFormatSymbols.getMinusSign();
+
+        decimalFormat1 = new DecimalFormat("0.0; -0.0");
+        decimalFormat4 = new DecimalFormat(" 0.0000;-0.0000");
+    }
+
+    /** Empties the buffer, retaining its capacity */
+    public void reset() {
+        length = 0;
+    }
+
+    /** @return number of chars currently formatted */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Appends a complete replication report
+     *
+     * @param replicationNumber The replication number (one off) for this report
+     * @param replicationStatistics the statistics gathered during that replication
+     * @param incompleteReplicationsPlanned if greater than zero, notes that the
+     *        simulation stopped before completing this many planned replications
+     * @return this formatter
+     */
+    public ReplicationReportFormatter appendReplicationReport(int replicationNumber, PropertyChangeListener[] replicationStatistics, int incompleteReplicationsPlanned)
+    {
+        if (incompleteReplicationsPlanned > 0)
+        {
+            // likely the STOP button was pressed
+            appendLineSeparator();
+            append("(Simulation did not complete ");
+            appendLong(incompleteReplicationsPlanned);
+            append(" replications as originally planned)");
+            appendLineSeparator();
+        }
+        append("\nOutput Report following Replication #");
+        appendLong(replicationNumber);
+        appendLineSeparator();
+        appendLineSeparator();
+        append(columnHeader);
+        appendLineSeparator();
+        append(columnRule);
+
+        // Report data (statistics) in aligned columns
+        for (PropertyChangeListener pcl : replicationStatistics)
+        {
+            appendLineSeparator();
+            appendStatistic((SampleStatistics) pcl);
+        }
+        appendLineSeparator();
+        return this;
+    }
+
+    /**
+     * Appends one aligned row of name, count, minimum, maximum, mean,
+     * standard deviation and variance
+     *
+     * @param sampleStatistics the statistic to report
+     * @return this formatter
+     */
+    public ReplicationReportFormatter appendStatistic(SampleStatistics sampleStatistics)
+    {
+        String name = sampleStatistics.getName();
+        if (name == null)
+            name = "null";
+        append(name);
+        appendPadding(NAME_CW - name.length());
+
+        appendPadded(sampleStatistics.getCount(), COUNT_CW);
+        appendFixed(sampleStatistics.getMinObs(),             1, MIN_CW,    false, decimalFormat1);
+        appendFixed(sampleStatistics.getMaxObs(),             1, MAX_CW,    false, decimalFormat1);
+        appendFixed(sampleStatistics.getMean(),               4, MEAN_CW,   true,  decimalFormat4);
+        appendFixed(sampleStatistics.getStandardDeviation(),  4, STDDEV_CW, true,  decimalFormat4);
+        appendFixed(sampleStatistics.getVariance(),           4, VAR_CW,    true,  decimalFormat4);
+        return this;
+    }
+
+    /** @return this formatter */
+    public ReplicationReportFormatter appendLineSeparator() {
+        return append(lineSeparator);
+    }
+
+    /**
+     * @param s text to append
+     * @return this formatter
+     */
+    public ReplicationReportFormatter append(String s)
+    {
+        int n = s.length();
+        ensureCapacity(n);
+        s.getChars(0, n, buffer, length);
+        length += n;
+        return this;
+    }
+
+    private ReplicationReportFormatter append(char[] chars)
+    {
+        ensureCapacity(chars.length);
+        System.arraycopy(chars, 0, buffer, length, chars.length);
+        length += chars.length;
+        return this;
+    }
+
+    /**
+     * Writes the formatted chars without first copying them to a String
+     *
+     * @param writer destination
+     * @throws IOException if the writer fails
+     */
+    public void writeTo(Writer writer) throws IOException {
+        writer.write(buffer, 0, length);
+    }
+
+    @Override
+    public String toString() {
+        return new String(buffer, 0, length);
+    }
+
+    private void ensureCapacity(int additional)
+    {
+        if (length + additional > buffer.length)
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + additional));
+    }
+
+    private void appendPadding(int count)
+    {
+        if (count <= 0)
+            return;
+        ensureCapacity(count);
+        Arrays.fill(buffer, length, length + count, ' ');
+        length += count;
+    }
+
+    private void appendLong(long value)
+    {
+        int start = writeDigits(Math.abs(value), scratch.length);
+        if (value < 0)
+            scratch[--start] = minusSign;
+        appendScratch(start, 0);
+    }
+
+    private void appendPadded(long value, int width)
+    {
+        int start = writeDigits(Math.abs(value), scratch.length);
+        if (value < 0)
+            scratch[--start] = minusSign;
+        appendScratch(start, width);
+    }
+
+    /**
+     * Right aligns value with the given number of fraction digits, using the
+     * prefixes of the DecimalFormat patterns: a space ahead of positive
+     * values for four digit columns, and ahead of negative ones otherwise.
+     */
+    private void appendFixed(double value, int fractionDigits, int width, boolean spaceIfPositive, DecimalFormat fallback)
+    {
+        double magnitude = Math.abs(value);
+        double product  = magnitude * POWERS_OF_TEN[fractionDigits];
+        double fraction = product - Math.floor(product);
+        if (Double.isNaN(value) || (magnitude >= FIXED_POINT_LIMIT) ||
+            (Math.abs(fraction - 0.5) <= (product * TIE_TOLERANCE)))
+        {
+            // DecimalFormat rounds the exact binary value, which matters near ties
+            String formatted = fallback.format(value);
+            appendPadding(width - formatted.length());
+            append(formatted);
+            return;
+        }
+        long scaled = (long) Math.rint(product);
+        long whole  = scaled / POWERS_OF_TEN[fractionDigits];
+        long part   = scaled % POWERS_OF_TEN[fractionDigits];
+
+        int start = scratch.length;
+        for (int i = 0; i < fractionDigits; i++)
+        {
+            scratch[--start] = (char) ('0' + (part % 10));
+            part /= 10;
+        }
+        scratch[--start] = decimalSeparator;
+        start = writeDigits(whole, start);
+
+        // DecimalFormat keeps the sign of negative values that round to zero
+        boolean negative = (value < 0) || ((value == 0.0) && (1.0 / value < 0));
+        if (negative)
+        {
+            scratch[--start] = minusSign;
+            if (!spaceIfPositive)
+                scratch[--start] = ' ';
+        }
+        else if (spaceIfPositive)
+            scratch[--start] = ' ';
+        appendScratch(start, width);
+    }
+
+    /** @return index of the leading digit, written right to left ending before end */
+    private int writeDigits(long value, int end)
+    {
+        int start = end;
+        do {
+            scratch[--start] = (char) ('0' + (value % 10));
+            value /= 10;
+        } while (value != 0);
+        return start;
+    }
+
+    private void appendScratch(int start, int width)
+    {
+        int n = scratch.length - start;
+        appendPadding(width - n);
+        ensureCapacity(n);
+        System.arraycopy(scratch, start, buffer, length, n);
+        length += n;
+    }
+}
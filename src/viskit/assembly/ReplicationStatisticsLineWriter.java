@@ -0,0 +1,187 @@
+/*
+Copyright (c) 1995-2025 held by the author(s).  All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions
+are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer
+      in the documentation and/or other materials provided with the
+      distribution.
+    * Neither the names of the Naval Postgraduate School (NPS)
+      Modeling, Virtual Environments and Simulation (MOVES) Institute
+      (http://www.nps.edu and https://my.nps.edu/web/moves)
+      nor the names of its contributors may be used to endorse or
+      promote products derived from this software without specific
+      prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+"AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+POSSIBILITY OF SUCH DAMAGE.
+*/
+package viskit.assembly;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.io.PrintWriter;
+import java.io.Writer;
+
+import simkit.stat.SampleStatistics;
+
+/**
+ * Streams replication statistics as they complete, one line per statistic per
+ * replication, in either CSV or JSON lines form.
+ * <p>
+ * Register with BasicAssembly.addPropertyChangeListener(): the assembly fires
+ * "replicationNumber" as each replication is started (or merged, when running
+ * in parallel), followed by each of its SampleStatistics once complete.
+ * </p>
+ */
+public class ReplicationStatisticsLineWriter implements PropertyChangeListener
+{
+    public enum Format { CSV, JSON }
+
+    public static final String CSV_HEADER = "replication,statistic,count,minObs,maxObs,mean,variance,standardDeviation";
+
+    private final PrintWriter printWriter;
+    private final Format format;
+    private final StringBuilder line = new StringBuilder(160);
+    private int replicationNumber;
+    private int lineCount;
+
+    /**
+     * @param writer where the lines go, flushed after each line
+     * @param format CSV or JSON lines
+     */
+    public ReplicationStatisticsLineWriter(Writer writer, Format format)
+    {
+        this.printWriter = (writer instanceof PrintWriter) ? (PrintWriter) writer : new PrintWriter(writer);
+        this.format = format;
+    }
+
+    /** Writes the CSV header line, if any, ahead of the first replication */
+    public void writeHeader()
+    {
+        if (format == Format.CSV)
+        {
+            printWriter.println(CSV_HEADER);
+            printWriter.flush();
+        }
+    }
+
+    @Override
+    public void propertyChange(PropertyChangeEvent evt)
+    {
+        if ("replicationNumber".equals(evt.getPropertyName()))
+        {
+            replicationNumber = (Integer) evt.getNewValue();
+        }
+        else if (evt.getNewValue() instanceof SampleStatistics)
+        {
+            writeLine(replicationNumber, (SampleStatistics) evt.getNewValue());
+        }
+    }
+
+    /**
+     * @param replicationNumber The replication number (one off)
+     * @param sampleStatistics the statistic as gathered during that replication
+     */
+    public void writeLine(int replicationNumber, SampleStatistics sampleStatistics)
+    {
+        line.setLength(0);
+        if (format == Format.CSV)
+        {
+            line.append(replicationNumber).append(',');
+            appendCsv(sampleStatistics.getName());
+            line.append(',').append(sampleStatistics.getCount())
+                .append(',').append(sampleStatistics.getMinObs())
+                .append(',').append(sampleStatistics.getMaxObs())
+                .append(',').append(sampleStatistics.getMean())
+                .append(',').append(sampleStatistics.getVariance())
+                .append(',').append(sampleStatistics.getStandardDeviation());
+        }
+        else
+        {
+            line.append("{\"replication\":").append(replicationNumber).append(",\"statistic\":");
+            appendJson(sampleStatistics.getName());
+            line.append(",\"count\":").append(sampleStatistics.getCount());
+            appendJson(",\"minObs\":",            sampleStatistics.getMinObs());
+            appendJson(",\"maxObs\":",            sampleStatistics.getMaxObs());
+            appendJson(",\"mean\":",              sampleStatistics.getMean());
+            appendJson(",\"variance\":",          sampleStatistics.getVariance());
+            appendJson(",\"standardDeviation\":", sampleStatistics.getStandardDeviation());
+            line.append('}');
+        }
+        printWriter.println(line);
+        printWriter.flush();
+        lineCount++;
+    }
+
+    /** @return number of statistic lines written so far */
+    public int getLineCount() {
+        return lineCount;
+    }
+
+    private void appendCsv(String value)
+    {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0)
+        {
+            line.append(value);
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < value.length(); i++)
+        {
+            if (value.charAt(i) == '"')
+                line.append('"');
+            line.append(value.charAt(i));
+        }
+        line.append('"');
+    }
+
+    private void appendJson(String value)
+    {
+        line.append('"');
+        char c;
+        for (int i = 0; i < value.length(); i++)
+        {
+            c = value.charAt(i);
+            switch (c)
+            {
+                case '"':  line.append("\\\""); break;
+                case '\\': line.append("\\\\"); break;
+                case '\n': line.append("\\n");  break;
+                case '\r': line.append("\\r");  break;
+                case '\t': line.append("\\t");  break;
+                default:
+                    if (c < 0x20)
+                        line.append(String.format("\\u%04x", (int) c));
+                    else
+                        line.append(c);
+            }
+        }
+        line.append('"');
+    }
+
+    /** JSON has no NaN or Infinity, e.g. the variance of a single observation */
+    private void appendJson(String key, double value)
+    {
+        line.append(key);
+        if (Double.isNaN(value) || Double.isInfinite(value))
+            line.append("null");
+        else
+            line.append(value);
+    }
+}
@@ -0,0 +1,163 @@
+/*
+Copyright (c) 1995-2025 held by the author(s).  All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions
+are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer
+      in the documentation and/or other materials provided with the
+      distribution.
+    * Neither the names of the Naval Postgraduate School (NPS)
+      Modeling, Virtual Environments and Simulation (MOVES) Institute
+      (http://www.nps.edu and https://my.nps.edu/web/moves)
+      nor the names of its contributors may be used to endorse or
+      promote products derived from this software without specific
+      prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+"AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+POSSIBILITY OF SUCH DAMAGE.
+*/
+package viskit.assembly;
+
+import simkit.random.RandomNumber;
+import simkit.random.RandomNumberStream;
+
+import viskit.gridlet.PartitionedRandomNumber;
+
+/**
+ * Positions a RandomNumber at the start of the stream belonging to a given
+ * replication, independent of any replication that ran before it.
+ * <p>
+ * The RandomNumber is repositioned in place because every RandomVariate the
+ * assembly created already holds a reference to it. The streams are derived
+ * from base seeds captured once per run:
+ * </p>
+ * <ul>
+ * <li>a RandomNumberStream (e.g. RngStream) gets substream k of its stream,
+ * the independent, non-overlapping substreams defined by L'Ecuyer et al.;</li>
+ * <li>any other RandomNumber (e.g. MersenneTwister) is seeded with a hash of
+ * the base seed and the replication number.</li>
+ * </ul>
+ * <p>
+ * Replaying replication k with the same base seeds therefore reproduces it
+ * exactly, whether it runs alone, serially after replication k - 1, or on a
+ * parallel replication worker.
+ * </p>
+ */
+public class ReplicationSubstreams
+{
+    private final RandomNumber randomNumber;
+    private final long[] baseSeeds;
+
+    /** substream start state of the last replication selected, saves walking from substream 0 each time */
+    private long[] lastSubstreamSeeds;
+    private int lastReplicationNumber = -1;
+
+    /**
+     * Captures the current state of the RandomNumber as the base seeds of this run
+     * @param randomNumber the RandomNumber shared by the assembly's RandomVariates
+     */
+    public ReplicationSubstreams(RandomNumber randomNumber)
+    {
+        this(randomNumber, getBaseSeeds(randomNumber));
+    }
+
+    /**
+     * @param randomNumber the RandomNumber shared by the assembly's RandomVariates
+     * @param baseSeeds base seeds of the run to replay, as returned by getBaseSeeds()
+     */
+    public ReplicationSubstreams(RandomNumber randomNumber, long[] baseSeeds)
+    {
+        if (baseSeeds == null || baseSeeds.length == 0)
+            throw new IllegalArgumentException("ReplicationSubstreams() baseSeeds must not be empty");
+        this.randomNumber = randomNumber;
+        this.baseSeeds    = baseSeeds.clone();
+    }
+
+    /**
+     * @param randomNumber the RandomNumber whose state to capture
+     * @return the full seed state of a RandomNumberStream, otherwise its single seed
+     */
+    public static long[] getBaseSeeds(RandomNumber randomNumber)
+    {
+        RandomNumber base = unwrap(randomNumber);
+        if (base instanceof RandomNumberStream)
+            return base.getSeeds();
+        return new long[] {base.getSeed()};
+    }
+
+    /** @return a copy of the base seeds all replication streams of this run derive from */
+    public long[] getBaseSeeds() {
+        return baseSeeds.clone();
+    }
+
+    /**
+     * Repositions the RandomNumber at the start of the given replication's stream
+     * @param replicationNumber The replication number (one off)
+     * @return the seed the replication starts with, for logging
+     */
+    public long selectReplication(int replicationNumber)
+    {
+        if (replicationNumber < 0)
+            throw new IllegalArgumentException("selectReplication() replicationNumber must be >= 0: " + replicationNumber);
+
+        RandomNumber base = unwrap(randomNumber);
+        if (base instanceof RandomNumberStream)
+        {
+            RandomNumberStream randomNumberStream = (RandomNumberStream) base;
+            // setStreamAndSubstream() advances relative to the current substream start,
+            // so restart from the closest known substream at or before this one
+            if (lastSubstreamSeeds != null && replicationNumber >= lastReplicationNumber)
+            {
+                randomNumberStream.setSeeds(lastSubstreamSeeds);
+                randomNumberStream.setStreamAndSubstream(0, replicationNumber - lastReplicationNumber);
+            }
+            else
+            {
+                randomNumberStream.setSeeds(baseSeeds);
+                randomNumberStream.setStreamAndSubstream(0, replicationNumber);
+            }
+            lastSubstreamSeeds    = randomNumberStream.getSeeds();
+            lastReplicationNumber = replicationNumber;
+            return lastSubstreamSeeds[0];
+        }
+        long replicationSeed = getReplicationSeed(baseSeeds[0], replicationNumber);
+        base.setSeed(replicationSeed);
+        return replicationSeed;
+    }
+
+    /** SplitMix64 finalizer, separates the seeds of neighboring replications
+     * @param baseSeed seed shared by all replications of this run
+     * @param replicationNumber The replication number (one off)
+     * @return seed for this replication
+     */
+    static long getReplicationSeed(long baseSeed, int replicationNumber)
+    {
+        long z = baseSeed + replicationNumber * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /** A PartitionedRandomNumber keeps its partition, its underlying RandomNumber supplies the stream */
+    private static RandomNumber unwrap(RandomNumber randomNumber)
+    {
+        while (randomNumber instanceof PartitionedRandomNumber)
+            randomNumber = ((PartitionedRandomNumber) randomNumber).getBase();
+        return randomNumber;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+Copyright (c) 1995-2025 held by the author(s).  All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions
+are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer
+      in the documentation and/or other materials provided with the
+      distribution.
+    * Neither the names of the Naval Postgraduate School (NPS)
+      Modeling, Virtual Environments and Simulation (MOVES) Institute
+      (http://www.nps.edu and https://my.nps.edu/web/moves)
+      nor the names of its contributors may be used to endorse or
+      promote products derived from this software without specific
+      prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+"AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+POSSIBILITY OF SUCH DAMAGE.
+*/
+package viskit.assembly;
+
+import simkit.stat.AbstractSimpleStats;
+import simkit.stat.SampleStatistics;
+import simkit.stat.SamplingType;
+
+/**
+ * Read-only copy of a replication statistic at the end of one replication.
+ * Replication workers running in another ClassLoader cannot share simkit
+ * objects with the owning assembly, so statistics cross that boundary as
+ * plain double[] values and are rebuilt here for reporting.
+ */
+class SampleStatisticsSnapshot extends AbstractSimpleStats
+{
+    /** array offsets used by {@link #toArray(SampleStatistics)} */
+    static final int COUNT         = 0;
+    static final int MIN_OBS       = 1;
+    static final int MAX_OBS       = 2;
+    static final int MEAN          = 3;
+    static final int VARIANCE      = 4;
+    static final int SAMPLING_TYPE = 5;
+    static final int LENGTH        = 6;
+
+    private final double mean;
+    private final double variance;
+    private final SamplingType samplingType;
+
+    SampleStatisticsSnapshot(String name, double[] values)
+    {
+        super(name);
+        count        = (int) values[COUNT];
+        minObs       = values[MIN_OBS];
+        maxObs       = values[MAX_OBS];
+        mean         = values[MEAN];
+        variance     = values[VARIANCE];
+        samplingType = SamplingType.values()[(int) values[SAMPLING_TYPE]];
+    }
+
+    /**
+     * @param sampleStatistics the statistic to copy
+     * @return the statistic's current values, indexed by the offsets above
+     */
+    static double[] toArray(SampleStatistics sampleStatistics)
+    {
+        double[] values = new double[LENGTH];
+        values[COUNT]         = sampleStatistics.getCount();
+        values[MIN_OBS]       = sampleStatistics.getMinObs();
+        values[MAX_OBS]       = sampleStatistics.getMaxObs();
+        values[MEAN]          = sampleStatistics.getMean();
+        values[VARIANCE]      = sampleStatistics.getVariance();
+        values[SAMPLING_TYPE] = sampleStatistics.getSamplingType().ordinal();
+        return values;
+    }
+
+    @Override
+    public double getMean() {
+        return mean;
+    }
+
+    @Override
+    public double getVariance() {
+        return variance;
+    }
+
+    @Override
+    public double getStandardDeviation() {
+        return Math.sqrt(variance);
+    }
+
+    @Override
+    public SamplingType getSamplingType() {
+        return samplingType;
+    }
+
+    /** Snapshots are immutable */
+    @Override
+    public void newObservation(double value) {}
+
+    /** Snapshots are immutable */
+    @Override
+    public void reset() {}
+
+} // end class SampleStatisticsSnapshot
@@ -33,12 +33,22 @@ POSSIBILITY OF SUCH DAMAGE.
 */
 package viskit.assembly;
 
+import edu.nps.util.TempFileManager;
+
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
-import java.io.ByteArrayOutputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
 import javax.swing.JTextArea;
 import javax.swing.Timer;
+import javax.swing.text.BadLocationException;
 import org.apache.logging.log4j.LogManager;
 
 import org.apache.logging.log4j.Logger;
@@ -49,6 +59,13 @@ import org.apache.logging.log4j.Logger;
 
  A class to stream text to a jTextArea
 
+ Writers copy into a lock-free ConsoleRingBuffer and never wait on the Swing
+ thread. A spool thread drains the whole stream to rotating files on disk so
+ that nothing is lost, while the Swing timer shows only the most recent
+ CONSOLE_OUTPUT_LIMIT chars, so that verbose runs cannot grow the JTextArea
+ document without bound. JTextArea only paints visible lines, so rendering
+ cost follows that limit.
+
  MOVES Institute
  Naval Postgraduate School, Monterey, CA, USA
  www.nps.edu
@@ -56,10 +73,14 @@ import org.apache.logging.log4j.Logger;
  * @author mike
  * @version $Id$
  */
-public class TextAreaOutputStream extends ByteArrayOutputStream implements ActionListener
+public class TextAreaOutputStream extends OutputStream implements ActionListener
 {
-  public static final int CONSOLE_OUTPUT_LIMIT = 1024 * 1024 * 8; // 8Mb
-  public static final int CONSOLE_BACKOFF_SIZE = 1024 * 16;       // 16Kb, must be less than CONSOLE_OUTPUT_LIMIT
+  public static final int CONSOLE_OUTPUT_LIMIT = 1024 * 1024;      // 1M chars kept in the JTextArea
+  public static final int CONSOLE_BACKOFF_SIZE = 1024 * 256;       // 256K, must be less than CONSOLE_OUTPUT_LIMIT
+  public static final long SPOOL_SEGMENT_SIZE  = 1024L * 1024 * 64; // 64Mb per spool file
+  
+  /** longest partial line held back from display while waiting for its line end */
+  private static final int PARTIAL_LINE_LIMIT = 1024 * 8;
   
     static final Logger LOG = LogManager.getLogger();
   
@@ -68,52 +89,240 @@ public class TextAreaOutputStream extends ByteArrayOutputStream implements Actio
   private final int    delay = 125; //250;   // Performance adjuster for slow machines
   private final String CONSOLE_warningMessage = "[Console output limit exceeded, prior text deleted.]\n" +
                                                 "----------------------------------------------------\n";
-  public TextAreaOutputStream(JTextArea textArea, int bufferSize)
+  private final ConsoleRingBuffer ringBuffer = new ConsoleRingBuffer();
+  private final ConsoleSpool      consoleSpool = new ConsoleSpool();
+  private final Thread            spoolThread;
+  private final byte[]            viewBytes = new byte[CONSOLE_OUTPUT_LIMIT];
+  private final Charset           charset = Charset.defaultCharset(); // as used by PrintStream
+  
+  /** guarded by the Swing thread */
+  private long viewedPosition;
+  private volatile boolean stopped;
+
+  public TextAreaOutputStream(JTextArea textArea)
   {
-    super(bufferSize);
     jTextArea = textArea;
+    spoolThread = new Thread(this::spool, "TextAreaOutputStream spool");
+    spoolThread.setDaemon(true);
+    spoolThread.start();
     swingTimer = new Timer(delay, this);
     swingTimer.start();
   }
 
+  @Override
+  public void write(int b)
+  {
+    write(new byte[] {(byte) b}, 0, 1);
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len)
+  {
+    if (!stopped)
+        ringBuffer.write(b, off, len);
+  }
+
   @Override
   public void actionPerformed(ActionEvent e)
   {
-    int inputSize = size();
-    if (inputSize > 0)
+    long to   = ringBuffer.getPublishedPosition();
+    long from = viewedPosition;
+    if (to == from)
+        return;
+    
+    boolean skipped = false;
+    if (to - from > viewBytes.length)
     {
-      String inputString = this.toString();  // "this" = this output stream
-      reset();
+        from = to - viewBytes.length;
+        skipped = true;
+    }
+    long valid = ringBuffer.read(from, to, viewBytes);
+    int  offset = (int) (valid - from);
+    int  length = (int) (to - valid);
+    skipped |= (valid > from);
 
-      if (inputString.length() > CONSOLE_OUTPUT_LIMIT) 
-      {
-        int backoff = Math.max(CONSOLE_BACKOFF_SIZE, inputSize);
-        if (backoff > 1)
+    // show complete lines only, so multibyte chars are never split
+    int lineLength = length;
+    while ((lineLength > 0) && (viewBytes[offset + lineLength - 1] != '\n'))
+        lineLength--;
+    if ((lineLength == 0) && (length < PARTIAL_LINE_LIMIT) && !stopped && !skipped)
+        return;
+    if (lineLength == 0)
+        lineLength = length;
+    String inputString = new String(viewBytes, offset, lineLength, charset);
+    viewedPosition = valid + lineLength;
+
+    if (skipped)
+    {
+        // more arrived since the last tick than can be shown, replace it all
+        String skippedMessage = "[Console output exceeded display, full text is in " + consoleSpool.getDirectory() + "]\n";
+        jTextArea.setText(skippedMessage + inputString);
+        LOG.info("Warning: " + skippedMessage.trim());
+    }
+    else
+    {
+        jTextArea.append(inputString);
+        int excess = jTextArea.getDocument().getLength() - CONSOLE_OUTPUT_LIMIT;
+        if (excess > 0)
         {
-            int beginIndex = 0;
-            if      (inputString.contains(CONSOLE_warningMessage))
-                     beginIndex = inputString.lastIndexOf(CONSOLE_warningMessage) + 4;
-            else if (inputString.contains("---+"))
-                     beginIndex = inputString.lastIndexOf("---+") + 4;
-            jTextArea.replaceRange("\n\n" + CONSOLE_warningMessage, beginIndex, backoff - 1);
-            LOG.info("Warning: " + CONSOLE_warningMessage.substring(beginIndex, CONSOLE_warningMessage.indexOf("\n")));
+            try {
+                // back off to a line end, so trimming happens only every CONSOLE_BACKOFF_SIZE chars
+                int line = jTextArea.getLineOfOffset(Math.min(excess + CONSOLE_BACKOFF_SIZE, jTextArea.getDocument().getLength()));
+                jTextArea.replaceRange(CONSOLE_warningMessage, 0, jTextArea.getLineEndOffset(line));
+            }
+            catch (BadLocationException ex) {
+                LOG.error("actionPerformed() exception: " + ex);
+            }
         }
-      }
-      jTextArea.append(inputString);
-      jTextArea.setCaretPosition(jTextArea.getDocument().getLength()-1);
-     }
-    try {
-        close();
-    } 
-    catch (IOException ex) {
-        LOG.error(ex);
     }
+    jTextArea.setCaretPosition(jTextArea.getDocument().getLength());
   }
 
-  /** swingTimer.stop() */
+  /** Drains the ring buffer to the spool files until stopped and empty */
+  private void spool()
+  {
+    int count;
+    while (!stopped || (ringBuffer.getConsumedPosition() != ringBuffer.getPublishedPosition()))
+    {
+        count = consoleSpool.drain(ringBuffer);
+        if (count == 0)
+        {
+            consoleSpool.flush();
+            LockSupport.parkNanos(10_000_000L); // 10 msec
+        }
+    }
+    consoleSpool.close();
+  }
+
+  /** @return spool files holding the complete output, oldest first */
+  public List<File> getSpoolFiles() {
+    return consoleSpool.getFiles();
+  }
+
+  /** swingTimer.stop(), then spools and shows the last bit of text */
   public void stop()
   {
     swingTimer.stop();
+    stopped = true;
+    try {
+        spoolThread.join(5000);
+    }
+    catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+    }
     actionPerformed(null);  // flush last bit of text
+    LOG.info("Console output spooled to " + consoleSpool.getDirectory());
+  }
+
+  @Override
+  public void close()
+  {
+    if (!stopped)
+        stop();
+  }
+
+  /** Rotating spool files of whole lines, console.log then console.1.log, console.2.log... */
+  private static class ConsoleSpool extends OutputStream
+  {
+    private final List<File> files = new ArrayList<>();
+    private volatile File directory;
+    private OutputStream outputStream;
+    private long segmentLength;
+    private boolean failed;
+
+    File getDirectory() {
+        return directory;
+    }
+
+    synchronized List<File> getFiles() {
+        return new ArrayList<>(files);
+    }
+
+    /** @return bytes drained, output is discarded once the spool has failed */
+    int drain(ConsoleRingBuffer ringBuffer)
+    {
+        try {
+            return ringBuffer.drainTo(failed ? OutputStream.nullOutputStream() : this);
+        }
+        catch (IOException ex) {
+            LOG.error("drain() exception: " + ex);
+            failed = true;
+            return 1;
+        }
+    }
+
+    @Override
+    public void write(int b) throws IOException
+    {
+        write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException
+    {
+        int count;
+        while (len > 0)
+        {
+            if (outputStream == null)
+                rotate();
+            count = len;
+            if (segmentLength + len > SPOOL_SEGMENT_SIZE)
+            {
+                // rotate at a line end, so that each file holds whole lines
+                int lineEnd = off;
+                while ((lineEnd < off + len) && (b[lineEnd] != '\n'))
+                    lineEnd++;
+                if (lineEnd < off + len)
+                    count = lineEnd - off + 1;
+            }
+            outputStream.write(b, off, count);
+            segmentLength += count;
+            off += count;
+            len -= count;
+            if ((segmentLength >= SPOOL_SEGMENT_SIZE) && (b[off - 1] == '\n'))
+                rotate();
+        }
+    }
+
+    private void rotate() throws IOException
+    {
+        if (outputStream != null)
+            outputStream.close();
+        if (directory == null)
+            directory = TempFileManager.createTempDir(TempFileManager.createTempFile("viskitConsole", ""));
+        File file;
+        synchronized (this)
+        {
+            file = new File(directory, files.isEmpty() ? "console.log" : "console." + files.size() + ".log");
+            files.add(file);
+        }
+        outputStream = new BufferedOutputStream(new FileOutputStream(file), 1024 * 64);
+        segmentLength = 0;
+    }
+
+    @Override
+    public void flush()
+    {
+        try {
+            if (outputStream != null)
+                outputStream.flush();
+        }
+        catch (IOException ex) {
+            LOG.error("flush() exception: " + ex);
+            failed = true;
+        }
+    }
+
+    @Override
+    public void close()
+    {
+        try {
+            if (outputStream != null)
+                outputStream.close();
+        }
+        catch (IOException ex) {
+            LOG.error("close() exception: " + ex);
+        }
+    }
   }
 }
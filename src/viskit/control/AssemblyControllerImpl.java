@@ -30,6 +30,7 @@ import java.text.SimpleDateFormat;
 import java.util.*;
 import java.util.concurrent.ExecutionException;
 import java.util.regex.Matcher;
+import java.util.stream.Collectors;
 import java.util.regex.Pattern;
 import javax.imageio.ImageIO;
 import javax.swing.*;
@@ -44,6 +45,7 @@ import org.apache.logging.log4j.Logger;
 
 import org.jgraph.graph.DefaultGraphCell;
 
+import viskit.util.ClassIndex;
 import viskit.util.EventGraphCache;
 import viskit.util.FileBasedAssemblyNode;
 import viskit.util.OpenAssembly;
@@ -1218,6 +1220,9 @@ public class AssemblyControllerImpl extends MvcAbstractController implements Ass
             if (o instanceof Class<?>) {
                 newEventGraphNode(((Class<?>) o).getName(), getNextPoint());
                 return;
+            } else if (o instanceof ClassIndex.Entry) {
+                newEventGraphNode(((ClassIndex.Entry) o).getName(), getNextPoint());
+                return;
             } else if (o instanceof FileBasedAssemblyNode) {
                 newFileBasedEventGraphNode((FileBasedAssemblyNode) o, getNextPoint());
                 return;
@@ -1249,6 +1254,9 @@ public class AssemblyControllerImpl extends MvcAbstractController implements Ass
             if (o instanceof Class<?>) {
                 newPropertyChangeListenerNode(((Class<?>) o).getName(), getNextPoint());
                 return;
+            } else if (o instanceof ClassIndex.Entry) {
+                newPropertyChangeListenerNode(((ClassIndex.Entry) o).getName(), getNextPoint());
+                return;
             } else if (o instanceof FileBasedAssemblyNode) {
                 newFileBasedPropertyChangeListenerNode((FileBasedAssemblyNode) o, getNextPoint());
                 return;
@@ -1987,23 +1995,23 @@ public class AssemblyControllerImpl extends MvcAbstractController implements Ass
      */
     public String buildJavaEventGraphSource(SimkitEventGraphXML2Java simkitXML2Java)
     {
-        String eventGraphSource = null;
-
         // Must validate XML first and handle any errors before compiling
-        XMLValidationTool xmlValidationTool = new XMLValidationTool(simkitXML2Java.getEventGraphFile().getPath(),
-                XMLValidationTool.LOCAL_EVENT_GRAPH_SCHEMA);
+        if (!isValidEventGraphXML(simkitXML2Java))
+            return null;
 
-        if (!xmlValidationTool.isValidXML())
-        {
-            // TODO: implement a Dialog pointing to the validationErrors.LOG
-            LOG.error("{} is not valid XML!\n", simkitXML2Java.getEventGraphFile().getAbsolutePath());
-            return eventGraphSource;
-        } 
-        else 
-        {
-            LOG.info("buildJavaEventGraphSource() found valid XML:\n      " + simkitXML2Java.getEventGraphFile().getAbsolutePath());
-        }
+        LOG.info("buildJavaEventGraphSource() found valid XML:\n      " + simkitXML2Java.getEventGraphFile().getAbsolutePath());
+        return translateJavaEventGraphSource(simkitXML2Java);
+    }
 
+    /**
+     * Build the actual source code from already validated Event Graph XML
+     *
+     * @param simkitXML2Java the Event Graph initialized translator to produce source with
+     * @return a string of Event Graph source code
+     */
+    private String translateJavaEventGraphSource(SimkitEventGraphXML2Java simkitXML2Java)
+    {
+        String eventGraphSource = null;
         try {
             eventGraphSource = simkitXML2Java.translate();
         } 
@@ -2022,101 +2030,125 @@ public class AssemblyControllerImpl extends MvcAbstractController implements Ass
      */
     public static File compileJavaClassFromString(String sourceCode) 
     {
-        String baseName;
+        return compileJavaClassesFromStrings(Collections.singletonList(sourceCode)).get(0);
+    }
 
-        // Find the package subdirectory
-        Pattern patttern = Pattern.compile("package.+;");
-        Matcher matcher  = patttern.matcher(sourceCode);
-        boolean found    = matcher.find();
+    /** Create and test compile a batch of EventGraphs in a single compiler
+     * task, e.g. all stale Event Graphs found when opening a project
+     *
+     * @param sourceCodes translated sources from SimkitEventGraphXML2Java, or SimkitAssemblyXML2Java
+     * @return for each source, in order, a reference to its successfully
+     * compiled *.class file or null if a compile failure occurred
+     */
+    public static List<File> compileJavaClassesFromStrings(List<String> sourceCodes) 
+    {
+        List<File> compiledClassFiles = new ArrayList<>(sourceCodes.size());
+        List<String> qualifiedNames = new ArrayList<>(sourceCodes.size());
+        Map<String, String> classSources = new LinkedHashMap<>();
+        Map<String, File> javaSourceFiles = new HashMap<>();
+        String baseName;
 
-        String packagePath = "";
-        String packageName = "";
-        if (found) 
+        for (String sourceCode : sourceCodes)
         {
-            int startIndex = matcher.start();
-            int   endIndex = matcher.end();
-            String s = sourceCode.substring(startIndex, endIndex);
-            packageName = sourceCode.substring(startIndex, endIndex - 1);
-            packageName = packageName.substring("package".length(), packageName.length()).trim();
-            s = s.replace(';', File.separatorChar);
-            String[] sa = s.split("\\s");
-            sa[1] = sa[1].replace('.', File.separatorChar);
-            packagePath = sa[1].trim();
-        }
+            // Find the package subdirectory
+            Pattern patttern = Pattern.compile("package.+;");
+            Matcher matcher  = patttern.matcher(sourceCode);
+            boolean found    = matcher.find();
+
+            String packagePath = "";
+            String packageName = "";
+            if (found) 
+            {
+                int startIndex = matcher.start();
+                int   endIndex = matcher.end();
+                String s = sourceCode.substring(startIndex, endIndex);
+                packageName = sourceCode.substring(startIndex, endIndex - 1);
+                packageName = packageName.substring("package".length(), packageName.length()).trim();
+                s = s.replace(';', File.separatorChar);
+                String[] sa = s.split("\\s");
+                sa[1] = sa[1].replace('.', File.separatorChar);
+                packagePath = sa[1].trim();
+            }
 
-        patttern = Pattern.compile("public\\s+class\\s+");
-        matcher = patttern.matcher(sourceCode);
-        matcher.find();
+            patttern = Pattern.compile("public\\s+class\\s+");
+            matcher = patttern.matcher(sourceCode);
+            matcher.find();
 
-        int end = matcher.end();
-        String s = sourceCode.substring(end, sourceCode.length()).trim();
-        String[] sa = s.split("\\s+");
+            int end = matcher.end();
+            String s = sourceCode.substring(end, sourceCode.length()).trim();
+            String[] sa = s.split("\\s+");
 
-        baseName = sa[0];
+            baseName = sa[0];
+            String qualifiedName = packageName.isEmpty() ? baseName : packageName + "." + baseName;
 
-        FileWriter sourceCodeFileWriter = null;
-        boolean compileSuccess;
-        try {
-            // expecting to always have a active ViskitProject
-            if (viskitProject == null)
-                viskitProject = ViskitGlobals.instance().getViskitProject(); // TODO breaks singleton pattern?
-
-            // Create, or find the project's java source and package
-            File sourcePackageDirectory = new File(viskitProject.getSrcDirectory(), packagePath);
-            if (!sourcePackageDirectory.isDirectory())
-                 sourcePackageDirectory.mkdirs(); // include intermediate subdirectories
-            File javaSourceFile = new File(sourcePackageDirectory, baseName + ".java");
-            javaSourceFile.createNewFile();
-
-            sourceCodeFileWriter = new FileWriter(javaSourceFile);
-            sourceCodeFileWriter.write(sourceCode);
-
-            // An error stream to write additional error info out to
-            OutputStream errorsByteArrayOutputStream = new ByteArrayOutputStream();
-            Compiler.setOutPutStream(errorsByteArrayOutputStream);
-
-            File classesDirectory = viskitProject.getClassesDirectory();
-            if (!classesDirectory.isDirectory())
-                 classesDirectory.mkdirs(); // include intermediate subdirectories
-            
-            String relativePathToCompiledClass = packagePath + baseName + ".class";
-            File compiledClassFile = new File(classesDirectory.getAbsolutePath() + "/" + relativePathToCompiledClass);
-            if (!compiledClassFile.getParentFile().isDirectory())
-                 compiledClassFile.getParentFile().mkdirs(); // include intermediate subdirectories
-            
+            // The same class twice in one batch can't compile, leave it out
+            if (classSources.containsKey(qualifiedName))
+            {
+                LOG.warn("compileJavaClassesFromStrings() skipping duplicate class {}", qualifiedName);
+                qualifiedNames.add(null);
+                compiledClassFiles.add(null);
+                continue;
+            }
 
-            // This will create a class/package to place the .class file
-            String diagnostic = Compiler.invoke(packageName, baseName, sourceCode); // diagnostics only
-            compileSuccess = diagnostic.equals(Compiler.COMPILE_SUCCESS_MESSAGE);
-            
-            // https://docs.oracle.com/javase/tutorial/essential/io/move.html
-            // https://docs.oracle.com/javase/8/docs/api/java/nio/file/Files.html#move-java.nio.file.Path-java.nio.file.Path-java.nio.file.CopyOption...-
-            // move compiler results
-            File compiledResultFile = new File(ViskitGlobals.instance().getProjectWorkingDirectory() + "/" + packageName, baseName + ".class");
-//          compiledResultFile.getAbsolutePath(); // debug
-            if  (compiledResultFile.exists())
+            try (FileWriter sourceCodeFileWriter = createSourceCodeFileWriter(packagePath, baseName, javaSourceFiles, qualifiedName))
             {
-                // TODO moving files eludes the class loader later
-//                Files.move(compiledResultFile.toPath(), 
-//                        compiledClassFile.getParentFile().toPath().resolve(compiledResultFile.toPath().getFileName()), 
-//                        REPLACE_EXISTING);
-//                Files.delete(compiledResultFile.getParentFile().toPath()); // remove package directory
+                sourceCodeFileWriter.write(sourceCode);
+
+                File classesDirectory = viskitProject.getClassesDirectory();
+                if (!classesDirectory.isDirectory())
+                     classesDirectory.mkdirs(); // include intermediate subdirectories
+
+                String relativePathToCompiledClass = packagePath + baseName + ".class";
+                File compiledClassFile = new File(classesDirectory.getAbsolutePath() + "/" + relativePathToCompiledClass);
+                if (!compiledClassFile.getParentFile().isDirectory())
+                     compiledClassFile.getParentFile().mkdirs(); // include intermediate subdirectories
+
+                classSources.put(qualifiedName, sourceCode);
+                qualifiedNames.add(qualifiedName);
+                compiledClassFiles.add(compiledClassFile);
             }
-            
-            LOG.info("compileJavaClassFromString() compiling file:\n      " + javaSourceFile.getAbsolutePath() + " to\n      " +
+            catch (IOException ioe) 
+            {
+                LOG.error("compileJavaClassesFromStrings() exception" + ioe);
+                ioe.printStackTrace();
+                qualifiedNames.add(null);
+                compiledClassFiles.add(null);
+            }
+        }
+        if (classSources.isEmpty())
+            return compiledClassFiles;
+
+        // An error stream to write additional error info out to
+        OutputStream errorsByteArrayOutputStream = new ByteArrayOutputStream();
+        Compiler.setOutPutStream(errorsByteArrayOutputStream);
+
+        // Compiles in memory, the .class files reach the disk in the background
+        Map<String, String> diagnostics = Compiler.invoke(classSources); // diagnostics only
+        // names classForName() could not resolve before may be these classes now
+        ViskitStatics.clearClassForNameCache();
+
+        for (int i = 0; i < qualifiedNames.size(); i++)
+        {
+            String qualifiedName = qualifiedNames.get(i);
+            if (qualifiedName == null)
+                continue;
+
+            String diagnostic = diagnostics.get(qualifiedName);
+            File compiledClassFile = compiledClassFiles.get(i);
+            File compiledResultFile = new File(ViskitGlobals.instance().getProjectWorkingDirectory(), qualifiedName.replace('.', '/') + ".class");
+
+            LOG.info("compileJavaClassFromString() compiling file:\n      " + javaSourceFiles.get(qualifiedName).getAbsolutePath() + " to\n      " +
                          compiledResultFile.getAbsolutePath());
-//                       compiledClassFile.getAbsolutePath());
 
             LOG.debug("compileJavaClassFromString() compiledClassFile=\n      " + compiledClassFile.getAbsolutePath() +
                       "  exists=" + compiledClassFile.exists() + " length=" + compiledClassFile.length());
-            if (compileSuccess) 
+            if (Compiler.COMPILE_SUCCESS_MESSAGE.equals(diagnostic)) 
             {
                 LOG.debug("compileJavaClassFromString(): " + 
                          "autogenerated Java compilation result\n" +
                          "=====================================\n" + 
                          diagnostic + "\n" +
                          "=====================================\n");
-                return compiledClassFile;
             } 
             else
             {
@@ -2130,28 +2162,46 @@ public class AssemblyControllerImpl extends MvcAbstractController implements Ass
                          errorsByteArrayOutputStream.toString() +
                          "====================================\n";
                 LOG.error("compileJavaClassFromString(): "  + errorResults);
-                // send error to simulation console for easiest user viewing
-                ViskitGlobals.instance().selectSimulationRunTab();
-                ViskitGlobals.instance().getSimulationRunPanel().outputStreamTA.append("\n\n" + errorResults);
-                return null;
-            }
-        } 
-        catch (IOException ioe) 
-        {
-            LOG.error("compileJavaClassFromString() exception" + ioe);
-            ioe.printStackTrace();
-        } 
-        finally 
-        {
-            try {
-                if (sourceCodeFileWriter != null)
-                    sourceCodeFileWriter.close();
-            } 
-            catch (IOException ioe) {
-                LOG.error("compileJavaClassFromString() sourceCodeFileWriter.close() exception: {}", ioe);
+                // send error to simulation console for easiest user viewing,
+                // batches may be compiled in the background
+                final String consoleResults = errorResults;
+                Runnable showErrors = () -> {
+                    ViskitGlobals.instance().selectSimulationRunTab();
+                    ViskitGlobals.instance().getSimulationRunPanel().outputStreamTA.append("\n\n" + consoleResults);
+                };
+                if (SwingUtilities.isEventDispatchThread())
+                    showErrors.run();
+                else
+                    SwingUtilities.invokeLater(showErrors);
+                compiledClassFiles.set(i, null);
             }
         }
-        return null;
+        return compiledClassFiles;
+    }
+
+    /** Create, or find the project's java source file for a generated class
+     *
+     * @param packagePath the package subdirectory
+     * @param baseName the simple class name
+     * @param javaSourceFiles receives the source file under the qualified name
+     * @param qualifiedName the fully qualified class name
+     * @return a writer for the source file
+     * @throws IOException if the source file can't be created
+     */
+    private static FileWriter createSourceCodeFileWriter(String packagePath, String baseName,
+            Map<String, File> javaSourceFiles, String qualifiedName) throws IOException
+    {
+        // expecting to always have a active ViskitProject
+        if (viskitProject == null)
+            viskitProject = ViskitGlobals.instance().getViskitProject(); // TODO breaks singleton pattern?
+
+        File sourcePackageDirectory = new File(viskitProject.getSrcDirectory(), packagePath);
+        if (!sourcePackageDirectory.isDirectory())
+             sourcePackageDirectory.mkdirs(); // include intermediate subdirectories
+        File javaSourceFile = new File(sourcePackageDirectory, baseName + ".java");
+        javaSourceFile.createNewFile();
+        javaSourceFiles.put(qualifiedName, javaSourceFile);
+        return new FileWriter(javaSourceFile);
     }
 
     /**
@@ -2200,6 +2250,91 @@ public class AssemblyControllerImpl extends MvcAbstractController implements Ass
         return packageAndFile;
     }
 
+    /**
+     * Batch counterpart of {@link #createTemporaryEventGraphClass(File)} for
+     * opening a project: translates the given Event Graphs and compiles them
+     * all in a single compiler task. Files which fail to translate or compile
+     * are left out, so that compiling them individually reports the problem.
+     *
+     * @param xmlFiles the EventGraphs to package up
+     * @return package and file pairs of the successfully compiled EventGraphs
+     */
+    public Map<File, PackageAndFile> createTemporaryEventGraphClasses(List<File> xmlFiles) 
+    {
+        Map<File, PackageAndFile> packageAndFiles = new LinkedHashMap<>();
+        List<File> translatedFiles = new ArrayList<>(xmlFiles.size());
+        List<String> sourceStrings = new ArrayList<>(xmlFiles.size());
+
+        // Each graph unmarshals and translates on its own, in parallel, the
+        // compiler then takes them all at once.  Validation runs one graph
+        // at a time in between, XMLValidationTool rewriting a single shared
+        // validationErrors.log on every call
+        List<SimkitEventGraphXML2Java> translators = xmlFiles.parallelStream()
+                .map(this::unmarshalEventGraph)
+                .collect(Collectors.toList());
+        for (int i = 0; i < translators.size(); i++)
+        {
+            if (translators.get(i) != null && !isValidEventGraphXML(translators.get(i)))
+                translators.set(i, null);
+        }
+        List<String> translations = translators.parallelStream()
+                .map(translator -> translator == null ? null : translateJavaEventGraphSource(translator))
+                .collect(Collectors.toList());
+        for (int i = 0; i < xmlFiles.size(); i++)
+        {
+            if (translations.get(i) != null)
+            {
+                translatedFiles.add(xmlFiles.get(i));
+                sourceStrings.add(translations.get(i));
+            }
+        }
+        List<File> compiledClassFiles = compileJavaClassesFromStrings(sourceStrings);
+        for (int i = 0; i < compiledClassFiles.size(); i++)
+        {
+            if (compiledClassFiles.get(i) != null)
+                packageAndFiles.put(translatedFiles.get(i), new PackageAndFile(getPackageName(sourceStrings.get(i)), compiledClassFiles.get(i)));
+        }
+        return packageAndFiles;
+    }
+
+    /**
+     * @param xmlFile an Event Graph file
+     * @return its initialized translator, or null if it is no Event Graph
+     */
+    private SimkitEventGraphXML2Java unmarshalEventGraph(File xmlFile)
+    {
+        try {
+            SimkitEventGraphXML2Java simkitEventGraphXML2Java = new SimkitEventGraphXML2Java(xmlFile);
+            simkitEventGraphXML2Java.unmarshal();
+            if (!(simkitEventGraphXML2Java.getUnMarshalledObject() instanceof viskit.xsd.bindings.eventgraph.SimEntity))
+                return null;
+
+            return simkitEventGraphXML2Java;
+        }
+        catch (FileNotFoundException e)
+        {
+            LOG.error("unmarshalEventGraph() exception: " + e);
+            return null;
+        }
+    }
+
+    /**
+     * @param simkitXML2Java the Event Graph initialized translator
+     * @return true if its Event Graph file is valid XML
+     */
+    private boolean isValidEventGraphXML(SimkitEventGraphXML2Java simkitXML2Java)
+    {
+        XMLValidationTool xmlValidationTool = new XMLValidationTool(simkitXML2Java.getEventGraphFile().getPath(),
+                XMLValidationTool.LOCAL_EVENT_GRAPH_SCHEMA);
+        if (!xmlValidationTool.isValidXML())
+        {
+            // TODO: implement a Dialog pointing to the validationErrors.LOG
+            LOG.error("{} is not valid XML!\n", simkitXML2Java.getEventGraphFile().getAbsolutePath());
+            return false;
+        }
+        return true;
+    }
+
     /** Path for Event Graph and Assembly compilation
      *
      * @param source the raw source to write to file
@@ -2207,28 +2342,37 @@ public class AssemblyControllerImpl extends MvcAbstractController implements Ass
      */
     private PackageAndFile compileJavaClassAndSetPackage(String source) 
     {
-        String newPackage = null;
         if (source != null && !source.isEmpty()) 
         {
-            Pattern pattern = Pattern.compile("package.*;");
-            Matcher matcher = pattern.matcher(source);
-            if (matcher.find()) 
-            {
-                String matchedString = matcher.group();
-                if (matchedString.endsWith(";"))
-                    matchedString = matchedString.substring(0, matchedString.length() - 1);
-
-                String[] stringArray = matchedString.split("\\s");
-                newPackage = stringArray[1];
-            }
             File newFile = compileJavaClassFromString(source);
             // TODO check downstream, ensure file goes into correct subdirectory
             if (newFile != null)
-                return new PackageAndFile(newPackage, newFile);
+                return new PackageAndFile(getPackageName(source), newFile);
         }
         return null;
     }
 
+    /**
+     * @param source the raw source of a class
+     * @return the package the class declares, or null if none
+     */
+    private static String getPackageName(String source) 
+    {
+        String newPackage = null;
+        Pattern pattern = Pattern.compile("package.*;");
+        Matcher matcher = pattern.matcher(source);
+        if (matcher.find()) 
+        {
+            String matchedString = matcher.group();
+            if (matchedString.endsWith(";"))
+                matchedString = matchedString.substring(0, matchedString.length() - 1);
+
+            String[] stringArray = matchedString.split("\\s");
+            newPackage = stringArray[1];
+        }
+        return newPackage;
+    }
+
     // From menu
     @Override
     public void export2grid() 
@@ -2611,23 +2755,18 @@ public class AssemblyControllerImpl extends MvcAbstractController implements Ass
      */
     private void openEventGraphs(File f) 
     {
-        File tempFile = f;
         try {
             List<File> eventGraphFiles = EventGraphCache.instance().getEventGraphFilesList();
-            for (File file : eventGraphFiles) 
-            {
-                tempFile = file;
 
-                // _doOpenEventGraph checks if a tab is already opened
-                ((EventGraphControllerImpl) ViskitGlobals.instance().getEventGraphController())._doOpenEventGraph(file);
-            }
+            // In the background, skipping those with a tab opened already
+            ((EventGraphControllerImpl) ViskitGlobals.instance().getEventGraphController()).openEventGraphs(eventGraphFiles);
         } 
         catch (Exception ex) 
         {
-            LOG.error("Opening EventGraph file: {} caused error: {}", tempFile, ex);
+            LOG.error("Opening EventGraph files of: {} caused error: {}", f, ex);
             ViskitGlobals.instance().messageUser(JOptionPane.WARNING_MESSAGE,
                     "EventGraph Opening Error",
-                    "EventGraph file: " + tempFile + "\nencountered error: " + ex + " while loading."
+                    "EventGraph files of: " + f + "\nencountered error: " + ex + " while loading."
                     );
             ex.printStackTrace(); // debug usually needed
             closeAll();
@@ -21,12 +21,17 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import javax.imageio.ImageIO;
 import javax.swing.*;
 import javax.swing.Timer;
 import javax.swing.tree.DefaultMutableTreeNode;
 import javax.swing.undo.CannotRedoException;
 import javax.swing.undo.CannotUndoException;
+import javax.xml.bind.JAXBException;
 
 import org.apache.commons.configuration2.XMLConfiguration;
 import org.apache.logging.log4j.LogManager;
@@ -41,10 +46,12 @@ import static viskit.ViskitStatics.DESCRIPTION_HINT;
 import viskit.jgraph.ViskitGraphUndoManager;
 import viskit.model.*;
 import viskit.mvc.MvcAbstractController;
+import viskit.util.JAXBContextRegistry;
 import viskit.view.dialog.EventGraphMetadataDialog;
 import viskit.view.AssemblyView;
 import viskit.view.EventGraphViewFrame;
 import viskit.view.EventGraphView;
+import viskit.xsd.bindings.eventgraph.SimEntity;
 import viskit.xsd.translator.eventgraph.SimkitEventGraphXML2Java;
 import viskit.mvc.MvcModel;
 import viskit.mvc.MvcRecentFileListener;
@@ -83,15 +90,13 @@ public class EventGraphControllerImpl extends MvcAbstractController implements E
 
         if (!files.isEmpty())
         {
-            File file;
-
-            // Open whatever Event Graphs were marked open on last closing
+            // Open whatever Event Graphs were marked open on last closing,
+            // openEventGraphs() prevents a project mismatch
+            List<File> eventGraphFiles = new ArrayList<>(files.size());
             for (String f : files) {
-                file = new File(f);
-                // Prevent project mismatch
-                if (file.exists())
-                    _doOpenEventGraph(file);
+                eventGraphFiles.add(new File(f));
             }
+            openEventGraphs(eventGraphFiles);
         } 
         else
         {
@@ -251,31 +256,23 @@ public class EventGraphControllerImpl extends MvcAbstractController implements E
 
     // Package protected for the AssemblyControllerImpl's access to open EventGraphs
     void _doOpenEventGraph(File file)
+    {
+        _doOpenEventGraph(file, null);
+    }
+
+    /**
+     * @param file the Event Graph file to open
+     * @param simEntity the file already unmarshalled, or null
+     */
+    private void _doOpenEventGraph(File file, SimEntity simEntity)
     {
         EventGraphView eventGraphView = (EventGraphView) getView();
         EventGraphModelImpl eventGraphModelImplementation = new EventGraphModelImpl(this);
         eventGraphModelImplementation.initialize();
         eventGraphView.addTab(eventGraphModelImplementation);
 
-        Model[] openAlreadyModelArray = eventGraphView.getOpenEventGraphModels();
-        boolean isOpenAlready = false;
-        String path;
-        if (openAlreadyModelArray != null) 
-        {
-            for (Model model : openAlreadyModelArray) 
-            {
-                if (model.getLastFile() != null) 
-                {
-                    path = model.getLastFile().getAbsolutePath();
-                    if (path.equals(file.getAbsolutePath())) 
-                    {
-                        isOpenAlready = true;
-                        break;
-                    }
-                }
-            }
-        }
-        if (eventGraphModelImplementation.newModel(file) && !isOpenAlready) {
+        boolean isOpenAlready = isOpenAlready(file);
+        if (eventGraphModelImplementation.newModel(file, simEntity) && !isOpenAlready) {
 
             // We may find one or more simkit.Priority(s) with numeric values vice
             // eneumerations in the Event Graph XML. Modify and save the Event Graph XML silently
@@ -302,6 +299,126 @@ public class EventGraphControllerImpl extends MvcAbstractController implements E
         ViskitGlobals.instance().getEventGraphEditorViewFrame().enableEventGraphMenuItems();
     }
 
+    /**
+     * @param file an Event Graph file
+     * @return true if an editor tab has the file open
+     */
+    private boolean isOpenAlready(File file)
+    {
+        Model[] openAlreadyModelArray = ((EventGraphView) getView()).getOpenEventGraphModels();
+        if (openAlreadyModelArray != null) 
+        {
+            for (Model model : openAlreadyModelArray) 
+            {
+                if (model.getLastFile() != null && model.getLastFile().getAbsolutePath().equals(file.getAbsolutePath()))
+                    return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Opens a number of Event Graphs, e.g. those of a project or an Assembly,
+     * without holding up the user interface. Their XML is unmarshalled
+     * concurrently in the background and each editor tab is populated, in the
+     * given order, as soon as its graph has been read. New or changed graphs
+     * are then translated and compiled together, still in the background, so
+     * that the LEGO tree and the Assemblies find their classes up to date.
+     *
+     * @param eventGraphFiles the Event Graph files to open, those missing or
+     * open already are skipped
+     */
+    public void openEventGraphs(List<File> eventGraphFiles)
+    {
+        List<File> openFiles = new ArrayList<>(eventGraphFiles.size());
+        for (File file : eventGraphFiles) 
+        {
+            if (file.exists() && !isOpenAlready(file) && !openFiles.contains(file))
+                openFiles.add(file);
+        }
+        if (!openFiles.isEmpty())
+            new OpenEventGraphsTask(openFiles).execute();
+    }
+
+    /** Unmarshals Event Graphs concurrently, then compiles them in a batch */
+    private class OpenEventGraphsTask extends SwingWorker<Void, Map.Entry<File, SimEntity>>
+    {
+        private final List<File> eventGraphFiles;
+        private final long startTime = System.currentTimeMillis();
+
+        OpenEventGraphsTask(List<File> eventGraphFiles) {
+            this.eventGraphFiles = eventGraphFiles;
+        }
+
+        @Override
+        protected Void doInBackground() // OpenEventGraphsTask
+        {
+            int threads = Math.min(eventGraphFiles.size(), Runtime.getRuntime().availableProcessors());
+            ExecutorService executorService = Executors.newFixedThreadPool(threads);
+            try {
+                List<Future<SimEntity>> simEntities = new ArrayList<>(eventGraphFiles.size());
+                for (File file : eventGraphFiles)
+                    simEntities.add(executorService.submit(() -> unmarshalEventGraph(file)));
+
+                SimEntity simEntity;
+                for (int i = 0; i < eventGraphFiles.size(); i++)
+                {
+                    try {
+                        simEntity = simEntities.get(i).get();
+                    } 
+                    catch (ExecutionException ex) {
+                        simEntity = null; // the editor reports it
+                    }
+                    publish(new AbstractMap.SimpleImmutableEntry<>(eventGraphFiles.get(i), simEntity));
+                }
+            } 
+            catch (InterruptedException ex) {
+                LOG.error("OpenEventGraphsTask.doInBackground() exception: " + ex);
+                return null;
+            } 
+            finally {
+                executorService.shutdown();
+            }
+
+            // The editors are usable by now, the compilation can take its time
+            if (ViskitGlobals.instance().getActiveAssemblyController() != null)
+                FileBasedClassManager.instance().compileStaleEventGraphs(eventGraphFiles);
+            return null;
+        }
+
+        // null if the file is no Event Graph, newModel() then tells the user
+        private SimEntity unmarshalEventGraph(File file)
+        {
+            try {
+                Object unmarshalled = JAXBContextRegistry.withUnmarshaller(JAXBContextRegistry.EVENT_GRAPH,
+                        unmarshaller -> unmarshaller.unmarshal(file));
+                return (unmarshalled instanceof SimEntity) ? (SimEntity) unmarshalled : null;
+            } 
+            catch (JAXBException ex) {
+                return null;
+            }
+        }
+
+        @Override
+        protected void process(List<Map.Entry<File, SimEntity>> unmarshalledEventGraphs) // OpenEventGraphsTask
+        {
+            for (Map.Entry<File, SimEntity> unmarshalledEventGraph : unmarshalledEventGraphs)
+                _doOpenEventGraph(unmarshalledEventGraph.getKey(), unmarshalledEventGraph.getValue());
+        }
+
+        @Override
+        protected void done() // OpenEventGraphsTask
+        {
+            try {
+                get();
+                LOG.info("OpenEventGraphsTask opened {} Event Graphs in {} ms", eventGraphFiles.size(), System.currentTimeMillis() - startTime);
+            } 
+            catch (InterruptedException | ExecutionException ex) {
+                LOG.error("OpenEventGraphsTask.done() exception: " + ex);
+            }
+        }
+    }
+
     /** Start w/ undo/redo disabled in the Edit Menu after opening a file */
     private void resetRedoUndoStatus() {
         EventGraphViewFrame view = (EventGraphViewFrame) getView();
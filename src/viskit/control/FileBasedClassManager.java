@@ -8,23 +8,26 @@ import java.io.IOException;
 import java.io.InputStream;
 
 import java.math.BigInteger;
+import java.nio.file.Files;
 
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 
 import java.util.*;
+import java.util.zip.CRC32C;
 
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Unmarshaller;
 
 import org.apache.commons.configuration2.XMLConfiguration;
+import org.apache.commons.configuration2.tree.ImmutableNode;
 import org.apache.logging.log4j.LogManager;
 
 import org.apache.logging.log4j.Logger;
 
 import viskit.util.FileBasedAssemblyNode;
 import viskit.util.FindClassesForInterface;
+import viskit.util.InMemoryFileManager;
+import viskit.util.JAXBContextRegistry;
 
 import viskit.ViskitGlobals;
 
@@ -33,7 +36,6 @@ import viskit.ViskitUserConfiguration;
 import viskit.ViskitStatics;
 
 import viskit.xsd.bindings.eventgraph.SimEntity;
-import viskit.xsd.translator.eventgraph.SimkitEventGraphXML2Java;
 
 /** A custom class manager to support finding Event Graphs and PCLs in *.class form vice
  * XML.  Used to populate the LEGOs tree on the Assembly Editor.
@@ -58,6 +60,24 @@ public class FileBasedClassManager {
     private static XMLConfiguration projectXMLConfiguration;
     private final Map<String, Class<?>> classMap;
 
+    /** Index of the project's Cached.EventGraphs entries, in configuration order */
+    private final List<CacheEntry> cacheEntries = new ArrayList<>();
+
+    /** Cache entries by canonical Event Graph path */
+    private final Map<String, CacheEntry> cacheIndex = new HashMap<>();
+
+    /** Cache entries by canonical class file path */
+    private final Map<String, CacheEntry> cacheClassIndex = new HashMap<>();
+
+    /** Cache entries by Event Graph class name, for dependency checks */
+    private final Map<String, CacheEntry> cacheClassNameIndex = new HashMap<>();
+
+    /** Serializes batch compilations, apart from the cache's own lock */
+    private final Object compileLock = new Object();
+
+    /** The project configuration the index was built from */
+    private XMLConfiguration indexedConfiguration;
+
     public static synchronized FileBasedClassManager instance() {
         if (me == null) {
             me = new FileBasedClassManager();
@@ -74,6 +94,7 @@ public class FileBasedClassManager {
 
     public void addFileClass(Class<?> c) {
         classMap.put(c.getName(), c);
+        ViskitStatics.clearClassForNameCache();
     }
 
     public void removeFileClass(Class<?> c) {
@@ -82,6 +103,7 @@ public class FileBasedClassManager {
 
     private void removeFileClass(String nm) {
         classMap.remove(nm);
+        ViskitStatics.clearClassForNameCache();
     }
 
     public Class<?> getFileClass(String s) {
@@ -93,8 +115,6 @@ public class FileBasedClassManager {
     }
     FileBasedAssemblyNode fileBasedAssemblyNode = null;
     Class<?> fileClass = null;
-    JAXBContext   jaxbContext = null;
-    Unmarshaller unmarshaller = null;
     PackageAndFile packageAndFile = null;
     File xmlFile = null;
     SimEntity simEntity = null;
@@ -111,10 +131,6 @@ public class FileBasedClassManager {
         // if it is cached, cacheXML directory exists and will be loaded on start
         if (file.getName().toLowerCase().endsWith(".xml"))
         {
-            if (jaxbContext == null) // avoid JAXBException (perhaps due to concurrency)
-                jaxbContext = JAXBContext.newInstance(SimkitEventGraphXML2Java.EVENT_GRAPH_BINDINGS);
-            unmarshaller = jaxbContext.createUnmarshaller();
-
             // Did we cacheXML the EventGraph XML and Class?
             if (!isCached(file)) 
             {
@@ -159,9 +175,7 @@ public class FileBasedClassManager {
                 // If we have an annotated ParameterMap, then cacheXML it. If not,
                 // then treat the fileClass as something that belongs on the
                 // extra classpath
-                List<Object>[] parameterMapListArray = ViskitStatics.resolveParameters(fileClass);
-                if (parameterMapListArray != null && parameterMapListArray.length > 0)
-                    ViskitStatics.putParameterList(fileClass.getName(), parameterMapListArray);
+                ViskitStatics.resolveParameters(fileClass);
             }
         // TODO: Check if this is really necessary and should be dealt with upstream
         } 
@@ -180,13 +194,48 @@ public class FileBasedClassManager {
         return fileBasedAssemblyNode;
     }
 
+    /** Known path for batch EventGraph Compilation, e.g. on opening a
+     * project. Compiles those of the given XML files which are neither cached,
+     * nor known misses, in a single compiler task and caches the results, so
+     * that {@link #loadFile(File, Class)} finds them already compiled.
+     *
+     * @param xmlFiles candidate Event Graph files
+     */
+    public void compileStaleEventGraphs(List<File> xmlFiles) {
+
+        // Opening a project compiles in the background while the LEGO tree
+        // may get here too, whoever comes second finds the classes cached
+        synchronized (compileLock) {
+
+            // isCached drops stale entries, so these are new or changed graphs
+            List<File> staleFiles = new ArrayList<>();
+            for (File file : xmlFiles) {
+                if (!isCached(file) && !isCacheMiss(file)) {
+                    staleFiles.add(file);
+                }
+            }
+
+            // A single graph gains nothing over the usual path
+            if (staleFiles.size() < 2) {
+                return;
+            }
+            Map<File, PackageAndFile> packageAndFiles = ViskitGlobals.instance().getActiveAssemblyController().createTemporaryEventGraphClasses(staleFiles);
+            LOG.info("compileStaleEventGraphs() compiled {} of {} Event Graphs in one batch", packageAndFiles.size(), staleFiles.size());
+            for (Map.Entry<File, PackageAndFile> entry : packageAndFiles.entrySet()) {
+                addCache(entry.getKey(), entry.getValue().file);
+            }
+        }
+    }
+
     private void setFileBasedAssemblyNode(File file) 
     {
         ClassLoader loader = ViskitGlobals.instance().getViskitApplicationClassLoader();
 
         // since we're here, cacheXML the parameter names
         try {
-            simEntity = (xmlFile == null) ? (SimEntity) unmarshaller.unmarshal(file) : (SimEntity) unmarshaller.unmarshal(xmlFile);
+            final File eventGraphFile = (xmlFile == null) ? file : xmlFile;
+            simEntity = JAXBContextRegistry.withUnmarshaller(JAXBContextRegistry.EVENT_GRAPH,
+                    unmarshaller -> (SimEntity) unmarshaller.unmarshal(eventGraphFile));
 
             // NOTE: If the project's build directory got nuked and we have
             // cached our Event Graphs and classes with MD5 hash, we'll throw a
@@ -200,7 +249,7 @@ public class FileBasedClassManager {
 
             List<Object>[] parameterArray = GenericConversion.newListObjectTypeArray(List.class, 1);
             parameterArray[0].addAll(simEntity.getParameter());
-            ViskitStatics.putParameterList(fileClass.getName(), parameterArray);
+            ViskitStatics.putParameterList(fileClass, parameterArray);
 
             LOG.debug("Put " + fileClass.getName() + simEntity.getParameter());
         } 
@@ -211,42 +260,52 @@ public class FileBasedClassManager {
     }
 
     /**
-     * Cache the Event Graph and its .class file with good MD5 hash
+     * Cache the Event Graph and its .class file with good content hash
      * @param xmlEventGraphFile the Event Graph to cacheXML
      * @param classFile the compiled version of this Event Graph
      */
-    public void addCache(File xmlEventGraphFile, File classFile) 
+    public synchronized void addCache(File xmlEventGraphFile, File classFile) 
     {
         // isCached ( itself checks isStale, if so update and return cached false ) if so don't bother adding the same cacheXML
         if (isCached(xmlEventGraphFile)) {
             return;
         }
         try {
-            List<String> cache = Arrays.asList(ViskitUserConfiguration.instance().getConfigurationValues(ViskitUserConfiguration.CACHED_EVENTGRAPHS_KEY));
             if (viskit.ViskitStatics.debug) {
-                if (cache == null) {
-                    LOG.debug("cache " + cache);
-                } else {
-                    LOG.debug("cache size " + cache.size());
-                }
+                LOG.debug("cache size " + cacheEntries.size());
+                LOG.debug("Adding cache " + xmlEventGraphFile + " " + classFile);
             }
 
-            // TODO: Not used right now, but may be useful for other build/classes paths
-//            if (cacheXML.isEmpty()) {
-//                String s = ViskitGlobals.instance().getProjectWorkingDirectory().getCanonicalPath().replaceAll("\\\\", "/");
-//                if (viskit.ViskitStatics.debug) {
-//                    LOG.debug("Cache is empty, creating workDir entry at " + s);
-//                }
-//                projectXMLConfiguration.setProperty(ViskitUserConfiguration.CACHED_WORKING_DIR_KEY, s);
-//            }
-            if (viskit.ViskitStatics.debug) {
-                LOG.debug("Adding cache " + xmlEventGraphFile + " " + classFile);
+            // The digest covers the class file, which is written in the background
+            InMemoryFileManager.awaitFlush();
+
+            CacheEntry cacheEntry = new CacheEntry();
+            cacheEntry.xml = xmlEventGraphFile.getCanonicalPath().replaceAll("\\\\", "/");
+            cacheEntry.classPath = classFile.getCanonicalPath().replaceAll("\\\\", "/");
+            cacheEntry.digest = createContentHash(xmlEventGraphFile, classFile);
+            cacheEntry.stamp(xmlEventGraphFile, classFile);
+
+            // Remember what this Event Graph was built against
+            try {
+                SimEntity cachedSimEntity = JAXBContextRegistry.withUnmarshaller(JAXBContextRegistry.EVENT_GRAPH,
+                        unmarshaller -> (SimEntity) unmarshaller.unmarshal(xmlEventGraphFile));
+                cacheEntry.className = cachedSimEntity.getPackage() + "." + cachedSimEntity.getName();
+                for (String dependency : (cachedSimEntity.getExtend() + "," + cachedSimEntity.getImplement()).split("[,\\s]+")) {
+                    if (dependency.isEmpty() || dependency.equals("null") || dependency.equals(cacheEntry.className))
+                        continue;
+                    CacheEntry dependencyEntry = cacheClassNameIndex.get(dependency);
+                    cacheEntry.depends.put(dependency, (dependencyEntry == null) ? "" : dependencyEntry.digest);
+                }
+            } catch (JAXBException | ClassCastException ex) {
+                LOG.error("addCache() exception: " + ex);
             }
 
-            if (cache != null) {
-                projectXMLConfiguration.setProperty("Cached.EventGraphs(" + cache.size() + ")[@xml]", xmlEventGraphFile.getCanonicalPath().replaceAll("\\\\", "/"));
-                projectXMLConfiguration.setProperty("Cached.EventGraphs(" + cache.size() + ")[@class]", classFile.getCanonicalPath().replaceAll("\\\\", "/"));
-                projectXMLConfiguration.setProperty("Cached.EventGraphs(" + cache.size() + ")[@digest]", createMessageDigest(xmlEventGraphFile, classFile));
+            if (projectXMLConfiguration != null) {
+                indexCache();
+
+                // One node with all of its attributes, so only one autosave
+                projectXMLConfiguration.addNodes(ViskitUserConfiguration.CACHED_CLEAR_KEY, Collections.singletonList(cacheEntry.toNode()));
+                putCacheEntry(cacheEntry);
             }
             // if used to miss, unmiss it
             removeCacheMiss(xmlEventGraphFile);
@@ -257,6 +316,26 @@ public class FileBasedClassManager {
         }
     }
 
+    /** Creates a fast CRC-32C content hash composed of file contents.  If
+     * contents change there will be a mismatch in the new hash, so delete
+     * cacheXML etc.
+     * @param files the varargs containing files to evaluate
+     * @return a String representation of the content hash
+     */
+    public String createContentHash(File... files) {
+        CRC32C crc = new CRC32C();
+        for (File file : files) {
+            try {
+                crc.update(Files.readAllBytes(file.toPath()));
+            } catch (IOException ex) {
+
+                // This can happen if the build/classes directory got nuked
+                // so, ignore
+            }
+        }
+        return Long.toHexString(crc.getValue());
+    }
+
     /** Creates an MD5 message digest composed of file contents.  If contents
      * change there will be a mismatch in the new digest, so delete cacheXML
      * etc.
@@ -297,14 +376,15 @@ public class FileBasedClassManager {
         return retVal;
     }
 
-    public boolean isCached(File file) {
-        List<String> cacheXML = Arrays.asList(ViskitUserConfiguration.instance().getConfigurationValues(ViskitUserConfiguration.CACHED_EVENTGRAPHS_KEY));
+    public synchronized boolean isCached(File file) {
+        indexCache();
         try {
             String filePath = file.getCanonicalPath().replaceAll("\\\\", "/");
-            LOG.debug("isCached() " + file + " of cacheSize " + cacheXML.size());
-            LOG.debug("chached " + cacheXML.contains(filePath));
-            if (cacheXML.contains(filePath)) {
-                if (isStale(file)) {
+            CacheEntry cacheEntry = cacheIndex.get(filePath);
+            LOG.debug("isCached() " + file + " of cacheSize " + cacheIndex.size());
+            LOG.debug("chached " + (cacheEntry != null));
+            if (cacheEntry != null) {
+                if (isStale(cacheEntry)) {
                     deleteCache(file);
                     return false;
                 } else {
@@ -324,23 +404,16 @@ public class FileBasedClassManager {
      * @param file XML file cached with its class file
      * @return a cached class file given its cached XML file
      */
-    public File getCachedClass(File file) {
-        List<String> cacheXML = Arrays.asList(ViskitUserConfiguration.instance().getConfigurationValues(ViskitUserConfiguration.CACHED_EVENTGRAPHS_KEY));
-        List<String> cacheClass = Arrays.asList(ViskitUserConfiguration.instance().getConfigurationValues(ViskitUserConfiguration.CACHED_EVENTGRAPHS_CLASS_KEY));
-        int index = 0;
+    public synchronized File getCachedClass(File file) {
+        indexCache();
+        CacheEntry cacheEntry = null;
         try {
-            index = cacheXML.lastIndexOf(file.getCanonicalPath().replaceAll("\\\\", "/"));
-            if (viskit.ViskitStatics.debug) {
-                LOG.debug("getCached index at {}", index);
-                LOG.debug("will return {}", cacheClass.get(index));
-            }
+            cacheEntry = cacheIndex.get(file.getCanonicalPath().replaceAll("\\\\", "/"));
         } catch (IOException ex) {
             LOG.error(ex);
-//            ex.printStackTrace();
         }
-        File cachedFile = new File(cacheClass.get(index));
+        File cachedFile = (cacheEntry == null) ? null : new File(cacheEntry.classPath);
         if (viskit.ViskitStatics.debug) {
-            LOG.debug("cachedFile index at {}", index);
             LOG.debug("will return {}", cachedFile);
         }
         return cachedFile;
@@ -350,23 +423,16 @@ public class FileBasedClassManager {
      * @param file cached compiled class file of XML file
      * @return an XML file given its cached class file
      */
-    public File getCachedXML(File file) {
-        List<String> cacheXML = Arrays.asList(ViskitUserConfiguration.instance().getConfigurationValues(ViskitUserConfiguration.CACHED_EVENTGRAPHS_KEY));
-        List<String> cacheClass = Arrays.asList(ViskitUserConfiguration.instance().getConfigurationValues(ViskitUserConfiguration.CACHED_EVENTGRAPHS_CLASS_KEY));
-        int index = 0;
+    public synchronized File getCachedXML(File file) {
+        indexCache();
+        CacheEntry cacheEntry = null;
         try {
-            index = cacheClass.lastIndexOf(file.getCanonicalPath().replaceAll("\\\\", "/"));
-            if (viskit.ViskitStatics.debug) {
-                LOG.debug("getCachedXml index at " + index);
-                LOG.debug("will return " + cacheXML.get(index));
-            }
+            cacheEntry = cacheClassIndex.get(file.getCanonicalPath().replaceAll("\\\\", "/"));
         } catch (IOException ex) {
             LOG.error(ex);
-//            ex.printStackTrace();
         }
-        File cachedFile = new File(cacheXML.get(index));
+        File cachedFile = (cacheEntry == null) ? null : new File(cacheEntry.xml);
         if (viskit.ViskitStatics.debug) {
-            LOG.debug("cachedFile index at " + index);
             LOG.debug("will return " + cachedFile);
         }
         return cachedFile;
@@ -375,26 +441,28 @@ public class FileBasedClassManager {
     /** Delete cacheXML given either xml or class file
      * @param file the XML, or class file to delete from the cacheXML
      */
-    public void deleteCache(File file) {
-        List<String> cacheXML = Arrays.asList(ViskitUserConfiguration.instance().getConfigurationValues(ViskitUserConfiguration.CACHED_EVENTGRAPHS_KEY));
-        List<String> cacheClass = Arrays.asList(ViskitUserConfiguration.instance().getConfigurationValues(ViskitUserConfiguration.CACHED_EVENTGRAPHS_CLASS_KEY));
+    public synchronized void deleteCache(File file) {
+        indexCache();
         String filePath;
         File deletedCache = null;
         try {
             filePath = file.getCanonicalPath().replaceAll("\\\\", "/");
 
-            int index = - 1;
-            if (cacheXML.contains(filePath)) {
-                index = cacheXML.lastIndexOf(filePath);
-                deletedCache = new File(cacheClass.get(index));
-            } else if (cacheClass.contains(filePath)) {
-                index = cacheClass.lastIndexOf(filePath);
+            CacheEntry cacheEntry = cacheIndex.get(filePath);
+            if (cacheEntry != null) {
+                deletedCache = new File(cacheEntry.classPath);
+            } else {
+                cacheEntry = cacheClassIndex.get(filePath);
                 deletedCache = file;
             }
-            if (index >= 0) {
-                projectXMLConfiguration.clearProperty("Cached.EventGraphs(" + index + ")[@xml]");
-                projectXMLConfiguration.clearProperty("Cached.EventGraphs(" + index + ")[@class]");
-                projectXMLConfiguration.clearProperty("Cached.EventGraphs(" + index + ")[@digest]");
+            if (cacheEntry != null) {
+                int index = cacheEntries.indexOf(cacheEntry);
+                projectXMLConfiguration.clearTree("Cached.EventGraphs(" + index + ")");
+                cacheEntries.remove(index);
+                cacheIndex.remove(cacheEntry.xml);
+                cacheClassIndex.remove(cacheEntry.classPath);
+                if (cacheClassNameIndex.get(cacheEntry.className) == cacheEntry)
+                    cacheClassNameIndex.remove(cacheEntry.className);
 
                 boolean didDelete = false;
                 if (deletedCache != null)
@@ -459,22 +527,17 @@ public class FileBasedClassManager {
         }
     }
 
-    /** If either the eventGraphFile changed, or the classFile, the cacheXML is stale
+    /** If either the eventGraphFile changed, or the classFile, or anything it
+     * was built against, the cacheXML is stale
      * @param eventGraphFile the EventGraph file to compare digests with
      * @return an indication Event Graph state change
      */
-    public boolean isStale(File eventGraphFile) {
-        File classFile = getCachedClass(eventGraphFile);
-        List<String> cacheDigest = Arrays.asList(ViskitUserConfiguration.instance().getConfigurationValues(ViskitUserConfiguration.CACHED_DIGEST_KEY));
-        List<String> cacheXML = Arrays.asList(ViskitUserConfiguration.instance().getConfigurationValues(ViskitUserConfiguration.CACHED_EVENTGRAPHS_KEY));
-        String filePath;
+    public synchronized boolean isStale(File eventGraphFile) {
+        indexCache();
         try {
-            filePath = eventGraphFile.getCanonicalPath().replaceAll("\\\\", "/");
-            int index = cacheXML.lastIndexOf(filePath);
-            if (index >= 0) {
-                String cachedDigest = cacheDigest.get(index);
-                String compareDigest = createMessageDigest(eventGraphFile, classFile);
-                return !cachedDigest.equals(compareDigest);
+            CacheEntry cacheEntry = cacheIndex.get(eventGraphFile.getCanonicalPath().replaceAll("\\\\", "/"));
+            if (cacheEntry != null) {
+                return isStale(cacheEntry);
             }
         } catch (IOException ex) {
             LOG.error(ex);
@@ -484,4 +547,134 @@ public class FileBasedClassManager {
         return false;
     }
 
+    private boolean isStale(CacheEntry cacheEntry) {
+        File xmlFile = new File(cacheEntry.xml);
+        File classFile = new File(cacheEntry.classPath);
+
+        // Untouched files can't have changed, only hash the touched ones
+        if (!cacheEntry.isStamped(xmlFile, classFile)) {
+            if (!cacheEntry.digest.equals(createContentHash(xmlFile, classFile))) {
+                return true;
+            }
+            cacheEntry.stamp(xmlFile, classFile);
+        }
+
+        // Rebuild when a cached superclass, or interface, has changed since
+        for (Map.Entry<String, String> dependency : cacheEntry.depends.entrySet()) {
+            CacheEntry dependencyEntry = cacheClassNameIndex.get(dependency.getKey());
+            if (dependencyEntry == null || dependencyEntry == cacheEntry) {
+                continue;
+            }
+            if (dependency.getValue().isEmpty()) {
+
+                // Was cached later than this one, e.g. in the same batch
+                dependency.setValue(dependencyEntry.digest);
+            }
+            if (isStale(dependencyEntry) || !dependencyEntry.digest.equals(dependency.getValue())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** (Re)builds the in-memory index of the Cached.EventGraphs entries when
+     * the project configuration has changed, i.e. on opening a project
+     */
+    private void indexCache() {
+        if (indexedConfiguration == projectXMLConfiguration) {
+            return;
+        }
+        indexedConfiguration = projectXMLConfiguration;
+        cacheEntries.clear();
+        cacheIndex.clear();
+        cacheClassIndex.clear();
+        cacheClassNameIndex.clear();
+        if (projectXMLConfiguration == null) {
+            return;
+        }
+        int maxIndex = projectXMLConfiguration.getMaxIndex("Cached.EventGraphs");
+        for (int index = 0; index <= maxIndex; index++) {
+            putCacheEntry(CacheEntry.fromConfiguration(projectXMLConfiguration, "Cached.EventGraphs(" + index + ")"));
+        }
+    }
+
+    private void putCacheEntry(CacheEntry cacheEntry) {
+
+        // Keep entries lacking a path so positions match the configuration
+        cacheEntries.add(cacheEntry);
+        if (cacheEntry.xml.isEmpty() || cacheEntry.classPath.isEmpty()) {
+            return;
+        }
+        cacheIndex.put(cacheEntry.xml, cacheEntry);
+        cacheClassIndex.put(cacheEntry.classPath, cacheEntry);
+        if (!cacheEntry.className.isEmpty()) {
+            cacheClassNameIndex.put(cacheEntry.className, cacheEntry);
+        }
+    }
+
+    /** One Cached.EventGraphs entry: the Event Graph, its class file, their
+     * content hash, the size and time stamps the hash was taken at, and the
+     * content hashes of the cached Event Graphs it was built against
+     */
+    private static class CacheEntry {
+
+        String xml = "";
+        String classPath = "";
+        String digest = "";
+        String className = "";
+        long xmlModified, xmlLength, classModified, classLength;
+        final Map<String, String> depends = new LinkedHashMap<>();
+
+        void stamp(File xmlFile, File classFile) {
+            xmlModified = xmlFile.lastModified();
+            xmlLength = xmlFile.length();
+            classModified = classFile.lastModified();
+            classLength = classFile.length();
+        }
+
+        boolean isStamped(File xmlFile, File classFile) {
+            return xmlModified != 0L && classModified != 0L &&
+                   xmlFile.lastModified() == xmlModified && xmlFile.length() == xmlLength &&
+                   classFile.lastModified() == classModified && classFile.length() == classLength;
+        }
+
+        ImmutableNode toNode() {
+            StringBuilder dependsValue = new StringBuilder();
+            for (Map.Entry<String, String> dependency : depends.entrySet()) {
+                if (dependsValue.length() > 0)
+                    dependsValue.append(' ');
+                dependsValue.append(dependency.getKey()).append('=').append(dependency.getValue());
+            }
+            return new ImmutableNode.Builder().name("EventGraphs")
+                    .addAttribute("xml", xml)
+                    .addAttribute("class", classPath)
+                    .addAttribute("digest", digest)
+                    .addAttribute("className", className)
+                    .addAttribute("xmlModified", xmlModified)
+                    .addAttribute("xmlLength", xmlLength)
+                    .addAttribute("classModified", classModified)
+                    .addAttribute("classLength", classLength)
+                    .addAttribute("depends", dependsValue.toString())
+                    .create();
+        }
+
+        static CacheEntry fromConfiguration(XMLConfiguration configuration, String key) {
+            CacheEntry cacheEntry = new CacheEntry();
+            cacheEntry.xml = configuration.getString(key + "[@xml]", "");
+            cacheEntry.classPath = configuration.getString(key + "[@class]", "");
+            cacheEntry.digest = configuration.getString(key + "[@digest]", "");
+            cacheEntry.className = configuration.getString(key + "[@className]", "");
+            cacheEntry.xmlModified = configuration.getLong(key + "[@xmlModified]", 0L);
+            cacheEntry.xmlLength = configuration.getLong(key + "[@xmlLength]", 0L);
+            cacheEntry.classModified = configuration.getLong(key + "[@classModified]", 0L);
+            cacheEntry.classLength = configuration.getLong(key + "[@classLength]", 0L);
+            for (String dependency : configuration.getString(key + "[@depends]", "").split("\\s+")) {
+                int separator = dependency.indexOf('=');
+                if (separator > 0)
+                    cacheEntry.depends.put(dependency.substring(0, separator), dependency.substring(separator + 1));
+            }
+            return cacheEntry;
+        }
+    }
+
 } // end class FileBasedClassManager
@@ -399,7 +399,9 @@ public class InternalAssemblyRunner implements PropertyChangeListener
             }
             // *** End RNG seed state reset ***
 
-            textAreaOutputStream = new viskit.assembly.TextAreaOutputStream(simulationRunPanel.outputStreamTA, 16*1024);
+            if (textAreaOutputStream != null)
+                textAreaOutputStream.stop(); // prior run, its output remains spooled
+            textAreaOutputStream = new viskit.assembly.TextAreaOutputStream(simulationRunPanel.outputStreamTA);
 
             // TODO update panel values for Simulation Run
 
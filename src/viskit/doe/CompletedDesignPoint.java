@@ -0,0 +1,55 @@
+/*
+ * CompletedDesignPoint.java
+ *
+ * The design point statistics of one completed task, as pushed
+ * to subscribers of a DoeRunDriver.
+ */
+
+package viskit.doe;
+
+import java.util.Hashtable;
+import java.util.Map;
+
+/**
+ * One entry of DoeRunDriver.takeCompletedDesignPoints()
+ */
+public class CompletedDesignPoint {
+
+    /** the SGE style taskID, starting at 1 */
+    public final int taskID;
+    public final int sampleIndex;
+    public final int designPtIndex;
+
+    /** statistic name keyed to the String of its SampleStatistics xml */
+    public final Map<String, String> statistics;
+
+    public CompletedDesignPoint(int taskID, int sampleIndex, int designPtIndex, Map<String, String> statistics) {
+        this.taskID = taskID;
+        this.sampleIndex = sampleIndex;
+        this.designPtIndex = designPtIndex;
+        this.statistics = statistics;
+    }
+
+    /**
+     * @param entry a Map with "taskID", "sampleIndex", "designPtIndex" and
+     * "statistics", as sent by GridRunner.takeCompletedDesignPoints()
+     */
+    CompletedDesignPoint(Map<?, ?> entry) {
+        this((Integer) entry.get("taskID"), (Integer) entry.get("sampleIndex"),
+                (Integer) entry.get("designPtIndex"), statistics((Map<?, ?>) entry.get("statistics")));
+    }
+
+    // the statistics as sent, each name and xml checked to be a String
+    private static Map<String, String> statistics(Map<?, ?> sent) {
+        Map<String, String> statistics = new Hashtable<>();
+        for (Map.Entry<?, ?> statistic : sent.entrySet()) {
+            statistics.put((String) statistic.getKey(), (String) statistic.getValue());
+        }
+        return statistics;
+    }
+
+    @Override
+    public String toString() {
+        return "task " + taskID + " at sampleIndex " + sampleIndex + " at designPtIndex " + designPtIndex;
+    }
+}
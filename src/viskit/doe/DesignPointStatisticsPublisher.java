@@ -0,0 +1,150 @@
+/*
+ * DesignPointStatisticsPublisher.java
+ *
+ * Pushes the statistics of each completed design point to a
+ * Flow.Subscriber, for either a Local or a Remote (Grid) driver.
+ */
+
+package viskit.doe;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Flow;
+
+/**
+ * Each subscriber gets one daemon thread, which keeps a single
+ * takeCompletedDesignPoints() call outstanding with the driver, sized to
+ * the subscriber's unmet demand, and delivers the returned design points
+ * in completion order. Nothing is fetched while the subscriber has not
+ * requested more, so a slow consumer holds back the transfer rather than
+ * queueing results in memory; the results themselves stay with the
+ * GridRunner until taken.
+ */
+public class DesignPointStatisticsPublisher implements Flow.Publisher<CompletedDesignPoint> {
+
+    /** the most design points fetched from the driver in one call */
+    public static final int MAX_BATCH = 64;
+
+    private final DoeRunDriver doe;
+
+    public DesignPointStatisticsPublisher(DoeRunDriver doe) {
+        this.doe = doe;
+    }
+
+    /**
+     * Design points are shared out between subscribers, each completed
+     * task goes to just one of them.
+     * @param subscriber receives onSubscribe() on the calling thread,
+     * everything else on the delivery thread
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super CompletedDesignPoint> subscriber) {
+        Delivery delivery = new Delivery(subscriber);
+        subscriber.onSubscribe(delivery);
+        delivery.thread.start();
+    }
+
+    /**
+     * Subscribes to the driver before running its experiment, since a
+     * local run() only returns once every task has ended, so that the
+     * subscriber gets each design point as it completes.
+     * @param doe the driver, its assembly set
+     * @param subscriber the receiver of completed design points
+     * @throws DoeException if the experiment can't be run
+     */
+    public static void subscribeAndRun(DoeRunDriver doe, Flow.Subscriber<? super CompletedDesignPoint> subscriber) throws DoeException {
+        doe.subscribe(subscriber);
+        doe.run();
+    }
+
+    class Delivery implements Flow.Subscription, Runnable {
+
+        final Flow.Subscriber<? super CompletedDesignPoint> subscriber;
+        final Thread thread;
+
+        // guarded by this
+        private long demand;
+        private long illegalRequest;
+        private boolean cancelled;
+
+        Delivery(Flow.Subscriber<? super CompletedDesignPoint> subscriber) {
+            this.subscriber = subscriber;
+            thread = new Thread(this, "DesignPointStatistics");
+            thread.setDaemon(true);
+        }
+
+        @Override
+        public synchronized void request(long n) {
+            if (n <= 0) {
+                illegalRequest = n;
+            } else {
+                demand += n;
+                if (demand < 0) { // unbounded
+                    demand = Long.MAX_VALUE;
+                }
+            }
+            notifyAll();
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (this) {
+                cancelled = true;
+                notifyAll();
+            }
+            // a local driver's wait for the next task is interruptible
+            if (Thread.currentThread() != thread) {
+                thread.interrupt();
+            }
+        }
+
+        private synchronized boolean isCancelled() {
+            return cancelled;
+        }
+
+        // blocks until the subscriber wants more, 0 once cancelled
+        private synchronized int awaitDemand() throws InterruptedException {
+            while (demand == 0 && illegalRequest == 0 && !cancelled) {
+                wait();
+            }
+            if (cancelled) {
+                return 0;
+            }
+            if (illegalRequest != 0) {
+                throw new IllegalArgumentException("request(" + illegalRequest + "), requests must be positive");
+            }
+            return (int) Math.min(demand, MAX_BATCH);
+        }
+
+        @Override
+        public void run() {
+            try {
+                int batch;
+                while ((batch = awaitDemand()) > 0) {
+                    List<Object> completed = doe.takeCompletedDesignPoints(batch);
+                    if (completed.isEmpty()) {
+                        if (!isCancelled()) {
+                            subscriber.onComplete();
+                        }
+                        return;
+                    }
+                    for (Object entry : completed) {
+                        if (isCancelled()) {
+                            return;
+                        }
+                        synchronized (this) {
+                            if (demand != Long.MAX_VALUE) {
+                                demand--;
+                            }
+                        }
+                        subscriber.onNext(new CompletedDesignPoint((Map<?, ?>) entry));
+                    }
+                }
+            } catch (DoeException | InterruptedException | RuntimeException e) {
+                if (!isCancelled()) {
+                    subscriber.onError(e);
+                }
+            }
+        }
+    }
+}
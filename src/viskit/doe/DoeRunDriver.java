@@ -3,6 +3,7 @@ package viskit.doe;
 import java.io.File;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Flow;
 
 /**
  *
@@ -46,6 +47,15 @@ public interface DoeRunDriver {
      */
     int getRemainingTasks() throws DoeException;
 
+    /**
+     * Heap pressure of the JVM running the experiment, taken from its
+     * last garbage collection rather than by forcing one.
+     *
+     * @return named Double and Integer values, see viskit.util.HeapPressure
+     * @throws DoeException
+     */
+    Map getHeapPressure() throws DoeException;
+
     Map getReplicationStatistics(int sampleIndex, int designPtIndex, int replicationIndex) throws DoeException;
 
     /**
@@ -86,6 +96,45 @@ public interface DoeRunDriver {
      */
     List<Object> getTaskQueue() throws DoeException;
 
+    /**
+     * Blocks until a task completes, either because it finished or
+     * because it was removed, and returns its taskID. Each taskID is
+     * returned exactly once, in completion order, so clients don't
+     * need to compare successive getTaskQueue() copies.
+     *
+     * @return the taskID of a completed task, taskID's start at 1,
+     * or -1 once every task has been returned
+     * @throws DoeException
+     */
+    int takeCompletedTask() throws DoeException;
+
+    /**
+     * Blocks until a task completes, then returns it along with any other
+     * tasks already complete, up to maxTasks, each with its design point
+     * statistics. Remote clients need only this one outstanding request
+     * however many tasks are running. Each entry is a Map with Integer
+     * "taskID", "sampleIndex" and "designPtIndex", and the "statistics"
+     * of getDesignPointStatistics().
+     *
+     * @param maxTasks the most entries to return, at least one is
+     * @return completed tasks in completion order, empty once every task
+     * has been returned
+     * @throws DoeException
+     */
+    List<Object> takeCompletedDesignPoints(int maxTasks) throws DoeException;
+
+    /**
+     * Pushes the statistics of each design point to the subscriber as its
+     * task completes, on a single delivery thread, then calls onComplete()
+     * after the last one. Nothing more is fetched than the subscriber has
+     * request()ed, which is its means of backpressure.
+     *
+     * @param subscriber the receiver of completed design points
+     * @throws DoeException
+     * @see DesignPointStatisticsPublisher
+     */
+    void subscribe(Flow.Subscriber<? super CompletedDesignPoint> subscriber) throws DoeException;
+
     String qstat() throws DoeException;
 
     String qstatXML() throws DoeException;
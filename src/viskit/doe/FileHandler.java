@@ -39,7 +39,6 @@ import java.io.IOException;
 import java.io.Writer;
 import java.util.List;
 import javax.swing.*;
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.Marshaller;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -51,12 +50,12 @@ import org.jdom.input.SAXBuilder;
 import org.jdom.output.Format;
 import org.jdom.output.XMLOutputter;
 
+import viskit.util.JAXBContextRegistry;
 import viskit.util.OpenAssembly;
 import viskit.util.XMLValidationTool;
 import viskit.xsd.bindings.assembly.SimkitAssembly;
 import viskit.xsd.bindings.assembly.SimEntity;
 import viskit.xsd.bindings.assembly.TerminalParameter;
-import viskit.xsd.translator.assembly.SimkitAssemblyXML2Java;
 
 /**
  * Naval Postgraduate School, Monterey, CA
@@ -135,12 +134,12 @@ public class FileHandler
 
     public static void marshallJaxb(File of) throws Exception
     {
-        JAXBContext jaxbContext = JAXBContext.newInstance(SimkitAssemblyXML2Java.ASSEMBLY_BINDINGS);
         try (Writer fileWriter = new FileWriter(of)) {
-            Marshaller marshaller = jaxbContext.createMarshaller();
-            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-            marshaller.setProperty(Marshaller.JAXB_NO_NAMESPACE_SCHEMA_LOCATION, SCHEMA_LOC);
-            marshaller.marshal(OpenAssembly.instance().jaxbRootSimkitAssembly, fileWriter);
+            JAXBContextRegistry.withMarshaller(JAXBContextRegistry.ASSEMBLY, SCHEMA_LOC, marshaller -> {
+                marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+                marshaller.marshal(OpenAssembly.instance().jaxbRootSimkitAssembly, fileWriter);
+                return null;
+            });
         }
     }
 
@@ -46,14 +46,13 @@ import java.net.URL;
 import java.security.Key;
 import java.util.List;
 import java.util.*;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import javax.swing.border.EtchedBorder;
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Unmarshaller;
+import javax.xml.bind.JAXBIntrospector;
 import org.apache.commons.configuration2.XMLConfiguration;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -62,6 +61,8 @@ import org.jdom.Document;
 import org.jdom.Element;
 import org.jdom.Text;
 import viskit.*;
+import viskit.util.HeapPressure;
+import viskit.util.JAXBContextRegistry;
 import viskit.util.TitleListener;
 import viskit.util.OpenAssembly;
 import viskit.view.SimulationRunPanel;
@@ -70,7 +71,6 @@ import viskit.xsd.bindings.assembly.Experiment;
 import viskit.xsd.bindings.assembly.SampleStatistics;
 import viskit.xsd.bindings.assembly.Schedule;
 import viskit.xsd.bindings.assembly.SimkitAssembly;
-import viskit.xsd.translator.assembly.SimkitAssemblyXML2Java;
 
 /**
  * MOVES Institute
@@ -87,7 +87,6 @@ public class JobLauncherTab2 extends JPanel implements Runnable, OpenAssembly.As
 
     DoeRunDriver doe;
 //    Map statisticsGraphs;
-    BlockingQueue<DesignPointStatisticsWrapper> bQ;
     String inputFileString;
     File inputFile;
     File filteredFile;
@@ -123,10 +122,10 @@ public class JobLauncherTab2 extends JPanel implements Runnable, OpenAssembly.As
     private JTextField numberReplicationsTF;
     private JTextField numberDPsTF;
     private JTextField replicationsTimeOut;
+    private JTextField localThreadsTF;
     private JTextField unameTF;
     private JCheckBox doAnalystReports;
     private JCheckBox doLocalRun;
-    private GraphUpdater graphUpdater;
     private QStatisticsConsole qStatisticsConsole;
     private StatisticsGraph statisticsGraph;
     private Thread thread;
@@ -134,18 +133,14 @@ public class JobLauncherTab2 extends JPanel implements Runnable, OpenAssembly.As
     private final String title;
     private final DoeController doeController;
     private SimkitAssembly jaxbRoot;
-    private Unmarshaller unmarshaller;
     private JPanel clusterConfigurationPanel;
     private Boolean clusterConfigurationReturn = null;
     private JDialog configurationDialog;
-    private static JAXBContext jaxbContext;
 
     public JobLauncherTab2(DoeController controller, String file, String title, JFrame mainFrame)
     {
         try {
-            if (jaxbContext == null) // avoid JAXBException (perhaps due to concurrency)
-                jaxbContext = JAXBContext.newInstance(SimkitAssemblyXML2Java.ASSEMBLY_BINDINGS);
-            unmarshaller = jaxbContext.createUnmarshaller();
+            JAXBContextRegistry.getContext(JAXBContextRegistry.ASSEMBLY);
         } catch (JAXBException je) {
             LOG.error(je);
         }
@@ -296,6 +291,9 @@ public class JobLauncherTab2 extends JPanel implements Runnable, OpenAssembly.As
         replicationsTimeOut = new JTextField(6);
         JLabel tmoLab = new JLabel("Replication time out (ms)"); // TODO for local simulation
 
+        JLabel localThreadsLab = new JLabel("Local threads (0 = all cores)");
+        localThreadsTF = new JTextField(6);
+
         JLabel analystReportLab = new JLabel("Analyst report each run");
         doAnalystReports = new JCheckBox((String) null, false);
 
@@ -309,12 +307,14 @@ public class JobLauncherTab2 extends JPanel implements Runnable, OpenAssembly.As
         topPan.add(numberReplicationsTF);
         topPan.add(tmoLab);
         topPan.add(replicationsTimeOut);
+        topPan.add(localThreadsLab);
+        topPan.add(localThreadsTF);
         topPan.add(analystReportLab); // tooltip this with warning
         topPan.add(doAnalystReports);
         //topPan.add(doGraphLab);
         //topPan.add(doGraphOutput);
 
-        SpringUtilities.makeCompactGrid(topPan, 5, 2, 10, 10, 5, 5);
+        SpringUtilities.makeCompactGrid(topPan, 6, 2, 10, 10, 5, 5);
         topPan.setMaximumSize(new Dimension(topPan.getPreferredSize()));
         topPan.setMinimumSize(new Dimension(20, 20));
         topPan.setBorder(new EtchedBorder());
@@ -466,6 +466,10 @@ public class JobLauncherTab2 extends JPanel implements Runnable, OpenAssembly.As
             if (s != null) {
                 replicationsTimeOut.setText(s);
             }
+            s = exp.getThreads();
+            if (s != null) {
+                localThreadsTF.setText(s);
+            }
         } else {
             exp = OpenAssembly.instance().jaxbAssemblyObjectFactory.createExperiment();
 
@@ -477,6 +481,8 @@ public class JobLauncherTab2 extends JPanel implements Runnable, OpenAssembly.As
             numberReplicationsTF.setText(Integer.toString(SimulationRunPanel.DEFAULT_NUMBER_OF_REPLICATIONS));
             exp.setTimeout("5000");
             replicationsTimeOut.setText("5000");
+            exp.setThreads("0");
+            localThreadsTF.setText("0");
             int numDesignPts = jaxbRoot.getDesignParameters().size();
             numberDPsTF.setText("" + numDesignPts);
         }
@@ -534,6 +540,17 @@ public class JobLauncherTab2 extends JPanel implements Runnable, OpenAssembly.As
         }
         exp.setTotalSamples(samps);                                // rg: 5
 
+        String threads = localThreadsTF.getText().trim();
+        try {
+            if (Integer.parseInt(threads) < 0) {
+                throw new NumberFormatException(threads);
+            }
+        } catch (NumberFormatException e) {
+            threads = "0";
+            LOG.error("Bad number of local threads...use one per core");
+        }
+        exp.setThreads(threads);
+
         exp.setJitter("true");
         exp.setType("latin-hypercube");
 
@@ -567,6 +584,7 @@ public class JobLauncherTab2 extends JPanel implements Runnable, OpenAssembly.As
         numberCubesTF.addKeyListener(myEditListener);
         numberReplicationsTF.addKeyListener(myEditListener);
         replicationsTimeOut.addKeyListener(myEditListener);
+        localThreadsTF.addKeyListener(myEditListener);
     }
 
     /**
@@ -789,7 +807,6 @@ public class JobLauncherTab2 extends JPanel implements Runnable, OpenAssembly.As
             } else {
                 doe = new LocalDriverImpl(ViskitUserPreferencesDialog.getExtraClassPathArraytoURLArray(), viskit.ViskitGlobals.instance().getProjectWorkingDirectory());
             }
-            System.gc();
             qStatisticsConsole.setDoe(doe);
 
             statisticsGraph = new StatisticsGraph();
@@ -866,107 +883,101 @@ public class JobLauncherTab2 extends JPanel implements Runnable, OpenAssembly.As
     }
     private boolean statisticsGraphPropertiesSet = false;
 
-    class ProcessResults extends SwingWorker<Void, Void> {
+    /** design points handed to the Swing thread but not yet shown */
+    static final int PENDING_DESIGN_POINTS = 16;
+
+    /**
+     * Subscribes to the driver's completed design points and shows each on
+     * the statistics graph as it arrives. A new design point is requested
+     * once one has been shown, so the driver never runs ahead of the graph
+     * by more than PENDING_DESIGN_POINTS.
+     */
+    class ProcessResults extends SwingWorker<Void, CompletedDesignPoint> implements Flow.Subscriber<CompletedDesignPoint> {
 
         SimkitAssembly jaxbRoot;
         DoeRunDriver doe;
         StatisticsGraph statisticsGraph;
+        Flow.Subscription subscription;
+        int designPoints;
+        int samples;
+        int replicationsPerDesignPoint;
+        int tasksRemaining;
+        final CountDownLatch finished = new CountDownLatch(1);
 
         public ProcessResults(DoeRunDriver doe, SimkitAssembly jaxbRoot, StatisticsGraph statsGraph) {
             this.doe = doe;
             this.jaxbRoot = jaxbRoot;
             this.statisticsGraph = statsGraph;
-            Thread.currentThread().setPriority(Thread.MAX_PRIORITY);
         }
 
         @Override
         protected Void doInBackground() throws Exception {
-            processResults();
-            return null;
-        }
-
-        // TODO: XML RPC v2.0 not updated to generics
-        @SuppressWarnings("unchecked")
-        private void processResults() {
-            Map ret;
             Experiment experiment = jaxbRoot.getExperiment();
-            int samples = Integer.parseInt(experiment.getTotalSamples());
-            int designPoints = jaxbRoot.getDesignParameters().size();
-
-            List<Object> lastQueue;
+            samples = Integer.parseInt(experiment.getTotalSamples());
+            replicationsPerDesignPoint = Integer.parseInt(experiment.getReplicationsPerDesignPoint());
 
             try {
+                designPoints = doe.getDesignPointCount();
+                tasksRemaining = doe.getRemainingTasks();
+                writeStatus("Total tasks: " + tasksRemaining);
+                DesignPointStatisticsPublisher.subscribeAndRun(doe, this);
+                finished.await();
+                writeStatus("Experiment " + HeapPressure.toString(doe.getHeapPressure()));
+            } catch (DoeException e) {
+                LOG.error(e);
+                writeStatus("Error in cluster execution: " + e.getMessage());
+            } catch (InterruptedException e) {
+                if (subscription != null) {
+                    subscription.cancel();
+                }
+            }
+            stopRun();
+            return null;
+        }
 
-                lastQueue = doe.getTaskQueue();
-                int totalTasks = lastQueue.size();
-                int tasksRemaining = totalTasks;
-                writeStatus("Total tasks: " + totalTasks);
-                //writeStatus("Started tasks: " + totalTasks - tasksRemaining);
-                bQ = new ArrayBlockingQueue<>(totalTasks);
-                graphUpdater = new GraphUpdater(bQ, statisticsGraph);
-                doe.run();
-                graphUpdater.execute();
-                while (tasksRemaining > 0) {
-                    try {
-                        // this will block until a task ends which could be
-                        // because it died, or because it completed, either way
-                        // check the logs returned by getResults will tell.
-                        List<Object> queue = doe.getTaskQueue();
-                        List<Object> sQueue = Collections.synchronizedList(queue);
-                        synchronized (sQueue) {
-                            ListIterator li = sQueue.listIterator();
-                            int i = 0;
-                            while (li.hasNext()) {
-                                //for (int i = 0; i < totalTasks; i ++) {
-                                // trick: any change between queries indicates a transition at
-                                // taskID = i (well i+1 really, taskID's in SGE start at 1)
-                                //if (!((Boolean) lastQueue.get(i)).equals(((Boolean) queue.get(i)))) {
-
-                                boolean state = ((Boolean) li.next());
-
-                                if (((Boolean) lastQueue.get(i)) != state) {
-                                    int sampleIndex = i / designPoints;
-                                    int designPointIndex = i % designPoints;
-
-                                    if (/*verbose*/true) {
-                                        //ret = doe.getResult(sampleIndex,designPtIndex);
-                                        writeStatus("Result returned from task " + (i + 1) + " leaving " + tasksRemaining + " to go");
-                                    //writeStatus(ret.toString());
-                                    }
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(PENDING_DESIGN_POINTS);
+        }
 
-                                    ret = doe.getDesignPointStatistics(sampleIndex, designPointIndex);
+        @Override
+        public void onNext(CompletedDesignPoint designPoint) {
+            publish(designPoint);
+        }
 
-                                    if (statisticsGraphPropertiesSet == false) {
-                                        String[] properties = GenericConversion.toArray(ret.keySet(), new String[0]);
-                                        statisticsGraph.setProperties(properties, designPoints, samples);
-                                        statisticsGraphPropertiesSet = true;
-                                    }
-                                    addDesignPointStatisticsToGraphs(ret, designPointIndex, sampleIndex);
-                                    writeStatus("DesignPointStatistics from task " + (i + 1) + " at sampleIndex " + sampleIndex + " at designPtIndex " + designPointIndex);
+        @Override
+        public void onError(Throwable throwable) {
+            LOG.error(throwable);
+            writeStatus("Error in cluster execution: " + throwable.getMessage());
+            finished.countDown();
+        }
 
-                                    writeStatus("Replications per designPt " + experiment.getReplicationsPerDesignPoint());
-                                    for (int j = 0; j < Integer.parseInt(experiment.getReplicationsPerDesignPoint()); j++) {
-                                        writeStatus("ReplicationStatistics from task " + (i + 1) + " replication " + j);
-//                                        ret = doe.getReplicationStatistics(sampleIndex, designPtIndex, j);
-                                    }
-                                    --tasksRemaining;
-                                    lastQueue.set(i, state);
-                                }
-                                i++;
-                                System.gc();
-                            }
-                        }
+        @Override
+        public void onComplete() {
+            finished.countDown();
+        }
 
-                    } catch (NumberFormatException | DoeException e) {
-                        LOG.error(e);
-                    }
+        @Override
+        protected void process(List<CompletedDesignPoint> designPointList) {
+            for (CompletedDesignPoint designPoint : designPointList) {
+                --tasksRemaining;
+                writeStatus("Result returned from task " + designPoint.taskID + " leaving " + tasksRemaining + " to go");
+
+                if (statisticsGraphPropertiesSet == false) {
+                    String[] properties = GenericConversion.toArray(designPoint.statistics.keySet(), new String[0]);
+                    statisticsGraph.setProperties(properties, designPoints, samples);
+                    statisticsGraphPropertiesSet = true;
+                }
+                addDesignPointStatisticsToGraphs(designPoint);
+                writeStatus("DesignPointStatistics from " + designPoint);
 
+                writeStatus("Replications per designPt " + replicationsPerDesignPoint);
+                for (int j = 0; j < replicationsPerDesignPoint; j++) {
+                    writeStatus("ReplicationStatistics from task " + designPoint.taskID + " replication " + j);
                 }
-            } catch (DoeException e) {
-                LOG.error(e);
-                writeStatus("Error in cluster execution: " + e.getMessage());
             }
-            stopRun();
+            subscription.request(designPointList.size());
         }
     }
     List<Object[]> outputList;
@@ -1336,73 +1347,22 @@ public class JobLauncherTab2 extends JPanel implements Runnable, OpenAssembly.As
         clusterNameReadOnlyTF.setText(serverCfg);
     }
 
-    private void addDesignPointStatisticsToGraphs(Map ret, int d, int s) {
-
-        // for the SwingWorker to publish a single object
-        bQ.add(new DesignPointStatisticsWrapper(ret, d, s));
-
-    }
-
-    class GraphUpdater extends SwingWorker<Void, DesignPointStatisticsWrapper> {
-
-        BlockingQueue<DesignPointStatisticsWrapper> bQ;
-        StatisticsGraph statisticsGraph;
-
-        GraphUpdater(BlockingQueue<DesignPointStatisticsWrapper> bQ, StatisticsGraph statsGraph) {
-            this.bQ = bQ; // bbq
-            this.statisticsGraph = statsGraph;
-        }
-
-        @Override
-        public Void doInBackground() {
-            DesignPointStatisticsWrapper dp;
-
+    private void addDesignPointStatisticsToGraphs(CompletedDesignPoint designPoint) {
+        for (String data : designPoint.statistics.values()) {
             try {
-                while ((dp = bQ.take()) != null) {
-                    publish(dp);
+                if (viskit.ViskitStatics.debug) {
+                    LOG.info("\tAdding data " + data);
                 }
-            } catch (InterruptedException ie) {
-                // Do nothing
-            }
-
-            return null;
-        }
-
-        @Override
-        protected void process(List<DesignPointStatisticsWrapper> designPointStatisticsWrapperList) {
-            for (DesignPointStatisticsWrapper designPointStatistics : designPointStatisticsWrapperList) {
-                java.util.Enumeration statisticsElements = ((Dictionary) designPointStatistics.statisticsReturnedMap).elements();
-                while (statisticsElements.hasMoreElements()) {
-                    String data = (String) statisticsElements.nextElement();
-                    try {
-                        // creating an unmarshaller each time here is supposed to be more thread safe
-                        // if slower, however, this only gets hit by the swing thread
-                        // unmarshaller = jaxbContext.createUnmarshaller();
-                        if (viskit.ViskitStatics.debug) {
-                            LOG.info("\tAdding data " + data);
-                        }
-                        SampleStatistics sampleStatistics = (SampleStatistics) unmarshaller.unmarshal(new ByteArrayInputStream(data.getBytes()));
-
-                        statisticsGraph.addSampleStatistic(sampleStatistics, designPointStatistics.designPtIndex, designPointStatistics.sampleIndex);
-                    } 
-                    catch (JAXBException ex) {
-                       LOG.error(ex);
-                    }
+                // SampleStatistics is no root element, it comes wrapped
+                Object sampleStatistics = JAXBIntrospector.getValue(JAXBContextRegistry.withUnmarshaller(JAXBContextRegistry.ASSEMBLY,
+                        u -> u.unmarshal(new ByteArrayInputStream(data.getBytes()))));
+                if (sampleStatistics instanceof SampleStatistics) {
+                    statisticsGraph.addSampleStatistic((SampleStatistics) sampleStatistics, designPoint.designPtIndex, designPoint.sampleIndex);
                 }
             }
-        }
-    }
-
-    class DesignPointStatisticsWrapper {
-
-        public Map statisticsReturnedMap;
-        public int designPtIndex;
-        public int sampleIndex;
-
-        DesignPointStatisticsWrapper(Map statisticsReturned, int designPointIndex, int sampleIndex) {
-            this.statisticsReturnedMap = statisticsReturned;
-            this.designPtIndex = designPointIndex;
-            this.sampleIndex = sampleIndex;
+            catch (JAXBException ex) {
+               LOG.error(ex);
+            }
         }
     }
 
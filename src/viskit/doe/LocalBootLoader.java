@@ -23,6 +23,7 @@ import org.apache.logging.log4j.Logger;
 
 import viskit.ViskitGlobals;
 import viskit.ViskitStatics;
+import viskit.util.InMemoryFileManager;
 
 /** LocalBootLoader is similar to Viskit's ViskitStatics.classForName and implements
  * class loading that can be used in "Local Grid" mode.
@@ -107,7 +108,8 @@ public class LocalBootLoader extends URLClassLoader {
         super(localBootLoaderName, new URL[] {}, parentClassLoader);
         externalUrlArray      = classesUrlArray;
         this.workingDirectory = workingDirectory;
-        LOG.debug(ViskitGlobals.instance().printCallerLog());
+        if (LOG.isDebugEnabled()) // avoid creating a ViskitGlobals singleton inside isolated contexts
+            LOG.debug(ViskitGlobals.instance().printCallerLog());
 //        LOG.info("localBootLoaderName=" + localBootLoaderName + ", actual name=" + getName());
     }
 
@@ -222,6 +224,21 @@ public class LocalBootLoader extends URLClassLoader {
         return localBootLoader;
     }
 
+    /** Classes freshly compiled by {@link viskit.util.Compiler} are defined
+     * straight from memory, otherwise they are found on the URL classpath
+     *
+     * @param name the binary name of the class
+     * @return the resulting Class object
+     * @throws ClassNotFoundException if the class could not be found
+     */
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+        byte[] classBytes = InMemoryFileManager.getClassBytes(name);
+        if (classBytes != null)
+            return defineClass(name, classBytes, 0, classBytes.length);
+        return super.findClass(name);
+    }
+
     /**
      * Convenience method for the DOE local driver
      * @param u the URL to add to this ClassLoader
@@ -230,6 +247,20 @@ public class LocalBootLoader extends URLClassLoader {
         super.addURL(u);
     }
 
+    /**
+     * Closes the jars of this and the isolated context it initialized, so a
+     * finished task's classes can be released as soon as nothing refers to
+     * them. Classes already loaded remain usable, new ones can't be found.
+     * @throws IOException if a jar could not be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (localBootLoader != null && localBootLoader != this) {
+            localBootLoader.close();
+        }
+        super.close();
+    }
+
     /**
      * Convenience method for the DOE local driver
      * @return a URL[] of External ClassPath paths
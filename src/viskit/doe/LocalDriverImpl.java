@@ -9,6 +9,8 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.Hashtable;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Flow;
 import viskit.ViskitStatics;
 
 /**Implements a Local Doe Driver, to be interchangeable with the remote
@@ -118,6 +120,17 @@ public class LocalDriverImpl implements DoeRunDriver {
         //return runner.getRemainingTasks();
     }
 
+    @Override
+    public Map getHeapPressure() throws DoeException {
+        try {
+            return (Map) methods.get("getHeapPressure").invoke(runner,new Object[]{});
+        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException ex) {
+            ex.printStackTrace();
+            throw new DoeException(ex.getMessage());
+        }
+        //return runner.getHeapPressure();
+    }
+
     @Override
     public synchronized Hashtable getReplicationStatistics(int sampleIndex, int designPtIndex, int replicationIndex) throws DoeException {
         try {
@@ -168,6 +181,34 @@ public class LocalDriverImpl implements DoeRunDriver {
         //return runner.getTaskQueue();
     }
 
+    @Override
+    public int takeCompletedTask() throws DoeException {
+        try {
+            return (Integer) methods.get("takeCompletedTask").invoke(runner,new Object[]{});
+        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException ex) {
+            ex.printStackTrace();
+            throw new DoeException(ex.getMessage());
+        }
+        //return runner.takeCompletedTask();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public List<Object> takeCompletedDesignPoints(int maxTasks) throws DoeException {
+        try {
+            return (List<Object>) methods.get("takeCompletedDesignPoints").invoke(runner,maxTasks);
+        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException ex) {
+            ex.printStackTrace();
+            throw new DoeException(ex.getMessage());
+        }
+        //return runner.takeCompletedDesignPoints(maxTasks);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super CompletedDesignPoint> subscriber) throws DoeException {
+        new DesignPointStatisticsPublisher(this).subscribe(subscriber);
+    }
+
     @Override
     public String qstat() throws DoeException {
         try {
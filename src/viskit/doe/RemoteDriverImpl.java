@@ -15,6 +15,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.util.*;
+import java.util.concurrent.Flow;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.xmlrpc.XmlRpcClientLite;
@@ -199,6 +200,18 @@ public class RemoteDriverImpl implements DoeDriver
         return ret;
     }
 
+    @Override
+    public Map getHeapPressure() throws DoeException {
+        Map ret;
+
+        try {
+            ret = (Map) rpc.execute("gridkit.getHeapPressure", makeArgs(usid) );
+        } catch (XmlRpcException | IOException xre) {
+            throw new DoeException("getHeapPressure failed: "+xre.getMessage());
+        }
+        return ret;
+    }
+
     @Override
     public synchronized Map getReplicationStatistics(int sampleIndex, int designPtIndex, int replicationIndex) throws DoeException {
          Map ret = new Hashtable();
@@ -256,6 +269,37 @@ public class RemoteDriverImpl implements DoeDriver
         return ret;
     }
 
+    @Override
+    public int takeCompletedTask() throws DoeException {
+        int ret = -1;
+
+        try {
+            ret = (Integer) rpc.execute("gridkit.takeCompletedTask", makeArgs(usid) );
+        } catch (XmlRpcException | IOException xre) {
+            throw new DoeException("takeCompletedTask failed: "+xre.getMessage());
+        }
+        return ret;
+    }
+
+    // TODO: XML RPC v2.0 not updated to generics
+    @SuppressWarnings("unchecked")
+    @Override
+    public List<Object> takeCompletedDesignPoints(int maxTasks) throws DoeException {
+        Vector<Object> ret;
+
+        try {
+            ret = (Vector<Object>) rpc.execute("gridkit.takeCompletedDesignPoints", makeArgs(usid,maxTasks) );
+        } catch (XmlRpcException | IOException xre) {
+            throw new DoeException("takeCompletedDesignPoints failed: "+xre.getMessage());
+        }
+        return new ArrayList<>(ret);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super CompletedDesignPoint> subscriber) throws DoeException {
+        new DesignPointStatisticsPublisher(this).subscribe(subscriber);
+    }
+
     @Override
     public String qstat() throws DoeException {
         String ret = "";
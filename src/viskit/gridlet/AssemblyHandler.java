@@ -20,12 +20,11 @@ package viskit.gridlet;
 import java.io.InputStream;
 import java.util.Hashtable;
 import java.util.Vector;
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.xmlrpc.XmlRpcHandler;
-import viskit.xsd.translator.assembly.SimkitAssemblyXML2Java;
+import viskit.util.JAXBContextRegistry;
 
 /**
  *
@@ -48,7 +47,6 @@ public class AssemblyHandler implements XmlRpcHandler
     // during an addReport(), likewise enabling the appropriate
     // getReport() monitor.
     int port;
-    private static JAXBContext jaxbContext;
     InputStream inputStream;
 
     public AssemblyHandler(int port) {
@@ -61,8 +59,7 @@ public class AssemblyHandler implements XmlRpcHandler
         this.sessionManager = sessionManager;
         gridRuns = new Hashtable<>();
         try {
-            if (jaxbContext == null) // avoid JAXBException (perhaps due to concurrency)
-                jaxbContext = JAXBContext.newInstance(SimkitAssemblyXML2Java.ASSEMBLY_BINDINGS);
+            JAXBContextRegistry.getContext(JAXBContextRegistry.ASSEMBLY);
         } catch (JAXBException e) {
             LOG.error("Classpath error loading jaxb bindings?", e);
         }
@@ -183,15 +180,35 @@ public class AssemblyHandler implements XmlRpcHandler
                         ret = gridRunner.addReplicationStat(sample, designPt, replication, stat);
                         break;
                     }
+                case "gridkit.addTaskStatistics":
+                    {
+                        Integer sample = (Integer) arguments.elementAt(1);
+                        Integer designPt = (Integer) arguments.elementAt(2);
+                        byte[] message = (byte[]) arguments.elementAt(3);
+                        ret = gridRunner.addTaskStatistics(sample, designPt, message);
+                        break;
+                    }
                 case "gridkit.flushQueue":
                     ret = gridRunner.flushQueue();
                     break;
                 case "gridkit.getRemainingTasks":
                     ret = gridRunner.getRemainingTasks();
                     break;
+                case "gridkit.getHeapPressure":
+                    ret = gridRunner.getHeapPressure();
+                    break;
                 case "gridkit.getTaskQueue":
                     ret = gridRunner.getTaskQueue();
                     break;
+                case "gridkit.takeCompletedTask":
+                    ret = gridRunner.takeCompletedTask();
+                    break;
+                case "gridkit.takeCompletedDesignPoints":
+                    {
+                        Integer maxTasks = (Integer) arguments.elementAt(1);
+                        ret = gridRunner.takeCompletedDesignPoints(maxTasks);
+                        break;
+                    }
                 case "gridkit.clear":
                     ret = gridRunner.clear();
                     break;
@@ -25,6 +25,7 @@ package viskit.gridlet;
 import edu.nps.util.Log4jUtilities;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintStream;
@@ -155,19 +156,20 @@ public class BshGridlet extends Thread
 
         Experiment exp = root.getExperiment();
         int replicationsPerDesignPoint = parseInt(exp.getReplicationsPerDesignPoint());
-        List<Sample> samples = exp.getSample();
 
+        // this task's design point, from the GridRunner's DesignMatrix
         List<TerminalParameter> designParams = root.getDesignParameters();
-        int sampleIndex = (taskID-1) / designParams.size();
-        int designPtIndex = (taskID-1) % designParams.size();
-
-        Sample sample = samples.get(sampleIndex);
-        List<DesignPoint> designPoints = sample.getDesignPoint();
-
-        DesignPoint designPoint = designPoints.get(designPtIndex);
-        List<TerminalParameter> designArgs = designPoint.getTerminalParameter();
-        Iterator itd = designParams.iterator();
-        Iterator itp = designArgs.iterator();
+        int sampleIndex;
+        int designPtIndex;
+        double[] designPoint;
+        try (DesignMatrix designMatrix = DesignMatrix.open(DesignMatrix.fileFor(new File(pwd, filename)))) {
+            sampleIndex = (taskID-1) / designMatrix.getDesignPointCount();
+            designPtIndex = (taskID-1) % designMatrix.getDesignPointCount();
+            designPoint = designMatrix.getPoint(sampleIndex, designPtIndex);
+        } catch (IOException | RuntimeException e) {
+            LOG.error("run() exception: " + e);
+            return;
+        }
 
         boolean debug_io = Boolean.parseBoolean(exp.getDebug());
 
@@ -176,10 +178,9 @@ public class BshGridlet extends Thread
         }
 
         //pass design args into design params
-        while ( itd.hasNext() && itp.hasNext() ) {
-            TerminalParameter arg = (TerminalParameter)(itp.next());
-            TerminalParameter designParam = (TerminalParameter)(itd.next());
-            designParam.setValue(arg.getValue());
+        for (int designIndex = 0; designIndex < designParams.size(); designIndex++) {
+            TerminalParameter designParam = designParams.get(designIndex);
+            designParam.setValue(ExperimentDesign.valueOf(designParam, designPoint[designIndex]));
         }
 
         try {
@@ -0,0 +1,137 @@
+/*
+ * DesignMatrix.java
+ *
+ * The unit coordinates of every design point of an experiment, stored
+ * next to the experiment file for the Gridlets to read their own from.
+ */
+package viskit.gridlet;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+
+/**
+ * A header of five ints, MAGIC, VERSION, samples, design points per sample
+ * and design parameters, followed by one double per parameter of each design
+ * point, sample by sample. Writing streams the design a sample at a time and
+ * a design point is read with a single seek, so neither the GridRunner nor a
+ * Gridlet holds the whole design, nor does the experiment file carry it.
+ */
+public class DesignMatrix implements Closeable
+{
+    public static final int MAGIC   = 0x564B444D; // "VKDM"
+    public static final int VERSION = 1;
+
+    static final int HEADER_BYTES = 5 * Integer.BYTES;
+
+    private final File file;
+    private final RandomAccessFile in;
+    private final int samples;
+    private final int designPoints;
+    private final int factors;
+    private final byte[] row;
+
+    private DesignMatrix(File file) throws IOException {
+        this.file = file;
+        in = new RandomAccessFile(file, "r");
+        try {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException(file + " is not a version " + VERSION + " design matrix");
+            }
+            samples = in.readInt();
+            designPoints = in.readInt();
+            factors = in.readInt();
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+        row = new byte[factors * Double.BYTES];
+    }
+
+    /**
+     * @param experimentFile the experiment file Gridlets are run from
+     * @return where its design matrix goes
+     */
+    public static File fileFor(File experimentFile) {
+        return new File(experimentFile.getParentFile(), experimentFile.getName() + ".design");
+    }
+
+    /**
+     * Generates and stores every sample of a design
+     * @param file to (over)write
+     * @param design the design
+     * @param samples the number of samples
+     * @throws IOException if the file could not be written
+     */
+    public static void write(File file, ExperimentDesign design, int samples) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(samples);
+            out.writeInt(design.getDesignPointCount());
+            out.writeInt(design.getFactorCount());
+            for (int s = 0; s < samples; s++) {
+                design.generate(s, (designPtIndex, point) -> {
+                    for (double coordinate : point) {
+                        out.writeDouble(coordinate);
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * @param file as written by write()
+     * @return the matrix, open for reading points
+     * @throws IOException if the file can't be read or is no design matrix
+     */
+    public static DesignMatrix open(File file) throws IOException {
+        return new DesignMatrix(file);
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    public int getSampleCount() {
+        return samples;
+    }
+
+    public int getDesignPointCount() {
+        return designPoints;
+    }
+
+    public int getFactorCount() {
+        return factors;
+    }
+
+    /**
+     * @param sampleIndex the sample
+     * @param designPtIndex the design point in that sample
+     * @return the unit coordinates of the design point, one per design parameter
+     * @throws IOException if the file could not be read
+     */
+    public synchronized double[] getPoint(int sampleIndex, int designPtIndex) throws IOException {
+        if (sampleIndex < 0 || sampleIndex >= samples || designPtIndex < 0 || designPtIndex >= designPoints) {
+            throw new IndexOutOfBoundsException("sample " + sampleIndex + " design point " + designPtIndex);
+        }
+        in.seek(HEADER_BYTES + ((long) sampleIndex * designPoints + designPtIndex) * row.length);
+        in.readFully(row);
+        ByteBuffer buffer = ByteBuffer.wrap(row);
+        double[] point = new double[factors];
+        for (int j = 0; j < factors; j++) {
+            point[j] = buffer.getDouble();
+        }
+        return point;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        in.close();
+    }
+}
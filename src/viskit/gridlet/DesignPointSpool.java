@@ -0,0 +1,215 @@
+/*
+ * DesignPointSpool.java
+ *
+ * The completed DesignPoints of an experiment, kept next to the
+ * experiment file rather than in the GridRunner's memory.
+ */
+package viskit.gridlet;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+import java.util.Collections;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLEventFactory;
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLEventWriter;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.events.XMLEvent;
+import viskit.util.JAXBContextRegistry;
+import viskit.xsd.bindings.assembly.DesignPoint;
+import viskit.xsd.bindings.assembly.SimkitAssembly;
+
+/**
+ * Each DesignPoint is appended as an XML fragment once its task completes,
+ * and indexed by task, so that a late query unmarshals just that one point
+ * and the Results dump is written by splicing the fragments, sample by
+ * sample in design point order, into the Experiment of the marshalled
+ * assembly, without any more than one of them in memory at a time.
+ */
+public class DesignPointSpool implements Closeable
+{
+    private static final String EXPERIMENT = "Experiment";
+    private static final String SAMPLE = "Sample";
+
+    private final File file;
+    private final RandomAccessFile out;
+    private final int samples;
+    private final int designPoints;
+    // file offset and length of each task's fragment, -1 while not spooled
+    private final long[] offsets;
+    private final int[] lengths;
+
+    /**
+     * @param file to (over)write
+     * @param samples the number of samples
+     * @param designPoints the number of design points per sample
+     * @throws IOException if the file can't be created
+     */
+    public DesignPointSpool(File file, int samples, int designPoints) throws IOException
+    {
+        this.file = file;
+        this.samples = samples;
+        this.designPoints = designPoints;
+        out = new RandomAccessFile(file, "rw");
+        out.setLength(0);
+        offsets = new long[samples * designPoints];
+        lengths = new int[samples * designPoints];
+        Arrays.fill(offsets, -1L);
+    }
+
+    /**
+     * @param experimentFile the experiment file Gridlets are run from
+     * @return where its spool goes
+     */
+    public static File fileFor(File experimentFile) {
+        return new File(experimentFile.getParentFile(), experimentFile.getName() + ".designPoints");
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Appends a completed DesignPoint, replacing any earlier fragment of it
+     * @param sampleIndex the sample
+     * @param designPtIndex the design point in that sample
+     * @param designPoint the DesignPoint with all its results and statistics
+     * @throws IOException if the fragment can't be written
+     * @throws JAXBException if the DesignPoint can't be marshalled
+     */
+    public void write(int sampleIndex, int designPtIndex, DesignPoint designPoint) throws IOException, JAXBException
+    {
+        ByteArrayOutputStream fragment = new ByteArrayOutputStream();
+        JAXBContextRegistry.withMarshaller(JAXBContextRegistry.ASSEMBLY, marshaller -> {
+            marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
+            marshaller.marshal(designPoint, fragment);
+            return null;
+        });
+        int task = task(sampleIndex, designPtIndex);
+        synchronized (this) {
+            offsets[task] = out.length();
+            lengths[task] = fragment.size();
+            out.seek(offsets[task]);
+            out.write(fragment.toByteArray());
+        }
+    }
+
+    /**
+     * @param sampleIndex the sample
+     * @param designPtIndex the design point in that sample
+     * @return true if the DesignPoint has been written
+     */
+    public synchronized boolean contains(int sampleIndex, int designPtIndex) {
+        return offsets[task(sampleIndex, designPtIndex)] >= 0;
+    }
+
+    /**
+     * @param sampleIndex the sample
+     * @param designPtIndex the design point in that sample
+     * @return a copy of the DesignPoint as written, or null if it has not been
+     * @throws IOException if the file can't be read
+     * @throws JAXBException if the fragment can't be unmarshalled
+     */
+    public DesignPoint read(int sampleIndex, int designPtIndex) throws IOException, JAXBException
+    {
+        byte[] fragment = readFragment(task(sampleIndex, designPtIndex));
+        if (fragment == null) {
+            return null;
+        }
+        return JAXBContextRegistry.withUnmarshaller(JAXBContextRegistry.ASSEMBLY,
+                u -> (DesignPoint) u.unmarshal(new ByteArrayInputStream(fragment)));
+    }
+
+    /**
+     * Writes the assembly with every DesignPoint written so far, each in its
+     * Sample, as the Experiment's last elements
+     * @param root the assembly, whose Experiment holds no Samples itself
+     * @param outputStream where the document goes, left open
+     * @throws IOException if the spool can't be read
+     * @throws JAXBException if the assembly can't be marshalled
+     * @throws XMLStreamException if the document can't be written
+     */
+    public void writeResults(SimkitAssembly root, OutputStream outputStream) throws IOException, JAXBException, XMLStreamException
+    {
+        ByteArrayOutputStream skeleton = new ByteArrayOutputStream();
+        JAXBContextRegistry.withMarshaller(JAXBContextRegistry.ASSEMBLY, marshaller -> {
+            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+            marshaller.marshal(root, skeleton);
+            return null;
+        });
+        XMLInputFactory inputFactory = XMLInputFactory.newInstance();
+        XMLEventFactory eventFactory = XMLEventFactory.newInstance();
+        XMLEventWriter writer = XMLOutputFactory.newInstance().createXMLEventWriter(outputStream, "UTF-8");
+        XMLEventReader reader = inputFactory.createXMLEventReader(new ByteArrayInputStream(skeleton.toByteArray()));
+        XMLEvent event;
+        byte[] fragment;
+        while (reader.hasNext()) {
+            event = reader.nextEvent();
+            if (event.isEndElement() && event.asEndElement().getName().getLocalPart().equals(EXPERIMENT)) {
+                for (int s = 0; s < samples; s++) {
+                    writer.add(eventFactory.createStartElement(new QName(SAMPLE),
+                            Collections.singletonList(eventFactory.createAttribute("index", "" + s)).iterator(), null));
+                    for (int d = 0; d < designPoints; d++) {
+                        fragment = readFragment(task(s, d));
+                        if (fragment != null) {
+                            copyFragment(inputFactory.createXMLEventReader(new ByteArrayInputStream(fragment)), writer);
+                        }
+                    }
+                    writer.add(eventFactory.createEndElement(new QName(SAMPLE), null));
+                }
+            }
+            writer.add(event);
+        }
+        reader.close();
+        writer.flush();
+        writer.close();
+    }
+
+    // every event of a fragment but its document start and end
+    private static void copyFragment(XMLEventReader reader, XMLEventWriter writer) throws XMLStreamException
+    {
+        XMLEvent event;
+        while (reader.hasNext()) {
+            event = reader.nextEvent();
+            if (!event.isStartDocument() && !event.isEndDocument()) {
+                writer.add(event);
+            }
+        }
+        reader.close();
+    }
+
+    private synchronized byte[] readFragment(int task) throws IOException
+    {
+        if (offsets[task] < 0) {
+            return null;
+        }
+        byte[] fragment = new byte[lengths[task]];
+        out.seek(offsets[task]);
+        out.readFully(fragment);
+        return fragment;
+    }
+
+    private int task(int sampleIndex, int designPtIndex) {
+        if (sampleIndex < 0 || sampleIndex >= samples || designPtIndex < 0 || designPtIndex >= designPoints) {
+            throw new IndexOutOfBoundsException("sample " + sampleIndex + " design point " + designPtIndex);
+        }
+        return sampleIndex * designPoints + designPtIndex;
+    }
+
+    /** Closes and deletes the spool */
+    @Override
+    public synchronized void close() throws IOException {
+        out.close();
+        file.delete();
+    }
+}
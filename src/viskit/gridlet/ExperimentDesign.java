@@ -0,0 +1,418 @@
+/*
+ * ExperimentDesign.java
+ *
+ * Space-filling and factorial designs for the design parameters
+ * of an Experiment, generated one sample at a time.
+ */
+package viskit.gridlet;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import simkit.random.MersenneTwister;
+import viskit.xsd.bindings.assembly.Experiment;
+import viskit.xsd.bindings.assembly.TerminalParameter;
+import viskit.xsd.bindings.assembly.ValueRange;
+
+/**
+ * A design places the design points of each sample in the unit hypercube,
+ * one coordinate in [0, 1] per design parameter, which valueOf() then maps
+ * onto the parameter's ValueRange. The Experiment's type picks the design:
+ * <ul>
+ * <li>latin-hypercube: each parameter's range is cut into designPoints
+ * strata of equal width, every stratum used once, in an independent random
+ * order per parameter and sample. Jittered points are drawn uniformly within
+ * their strata, otherwise they sit at the stratum centers.</li>
+ * <li>maximin-latin-hypercube: the latin hypercube whose closest two points
+ * are furthest apart, out of up to CANDIDATES random ones.</li>
+ * <li>nearly-orthogonal-latin-hypercube: a random latin hypercube whose
+ * strata are exchanged within parameters until no two parameters correlate
+ * by more than MAX_CORRELATION, or EXCHANGES exchanges per point were
+ * tried.</li>
+ * <li>fractional-factorial: a two level 2^(k-p) design of the fewest runs,
+ * a power of two, that is at least designPoints and can hold the k
+ * parameters. The first k-p parameters form a full factorial, each of the
+ * other p follows the highest order interaction left, for the highest
+ * resolution this simple scheme gets.</li>
+ * <li>full-factorial: every combination of the low and high values, 2^k
+ * design points.</li>
+ * </ul>
+ * Latin hypercubes hold a permutation per parameter, O(designPoints * k),
+ * while generating a sample; factorial points are computed from their index.
+ * The Experiment's seed makes a design repeatable, each sample gets its own
+ * stream of it.
+ */
+public abstract class ExperimentDesign {
+
+    static final Logger LOG = LogManager.getLogger();
+
+    public static final String LATIN_HYPERCUBE = "latin-hypercube";
+    public static final String MAXIMIN_LATIN_HYPERCUBE = "maximin-latin-hypercube";
+    public static final String NEARLY_ORTHOGONAL_LATIN_HYPERCUBE = "nearly-orthogonal-latin-hypercube";
+    public static final String FRACTIONAL_FACTORIAL = "fractional-factorial";
+    public static final String FULL_FACTORIAL = "full-factorial";
+
+    /** random latin hypercubes a maximin one is chosen from */
+    public static final int CANDIDATES = 10;
+
+    /** point pairs compared, over all candidates, before fewer are tried */
+    public static final long MAXIMIN_PAIRS = 1L << 28;
+
+    /** largest absolute correlation of two parameters in a nearly orthogonal design */
+    public static final double MAX_CORRELATION = 0.03;
+
+    /** strata exchanges tried per design point for a nearly orthogonal design */
+    public static final int EXCHANGES = 200;
+
+    /** receives the points of a sample in design point order */
+    @FunctionalInterface
+    public interface PointConsumer {
+
+        /**
+         * @param designPtIndex index of the point in its sample
+         * @param point unit coordinates, only valid during the call
+         * @throws IOException if the point could not be stored
+         */
+        void accept(int designPtIndex, double[] point) throws IOException;
+    }
+
+    protected final int factors;
+    protected final int designPoints;
+    protected final long seed;
+
+    protected ExperimentDesign(int factors, int designPoints, long seed) {
+        this.factors = factors;
+        this.designPoints = designPoints;
+        this.seed = seed;
+    }
+
+    /**
+     * @param experiment type, designPoints, seed and jitter of the design,
+     * a seed of 0 is replaced with the one picked
+     * @param factors the number of design parameters
+     * @return the design
+     * @throws IllegalArgumentException for an unknown type or a design too
+     * large to index
+     */
+    public static ExperimentDesign forExperiment(Experiment experiment, int factors) {
+        String type = (experiment.getType() == null) ? LATIN_HYPERCUBE : experiment.getType();
+        int requested = (experiment.getDesignPoints() == null) ? 0 : Integer.parseInt(experiment.getDesignPoints().trim());
+        long seed = (experiment.getSeed() == null) ? 0L : Long.parseLong(experiment.getSeed().trim());
+        if (seed == 0L) {
+            seed = System.nanoTime() | 1L;
+            experiment.setSeed(Long.toString(seed));
+        }
+        boolean jitter = !"false".equals(experiment.getJitter());
+        // as before, a latin hypercube has a point per parameter by default
+        int points = (requested > 0) ? requested : factors;
+
+        switch (type) {
+            case LATIN_HYPERCUBE:
+                return new LatinHypercube(factors, points, seed, jitter);
+            case MAXIMIN_LATIN_HYPERCUBE:
+                return new MaximinLatinHypercube(factors, points, seed, jitter);
+            case NEARLY_ORTHOGONAL_LATIN_HYPERCUBE:
+                return new NearlyOrthogonalLatinHypercube(factors, points, seed, jitter);
+            case FRACTIONAL_FACTORIAL:
+                return new FractionalFactorial(factors, requested, seed);
+            case FULL_FACTORIAL:
+                return new FullFactorial(factors, seed);
+            default:
+                throw new IllegalArgumentException("unknown Experiment type " + type);
+        }
+    }
+
+    /**
+     * @param designParam a design parameter with a ValueRange
+     * @param unit its coordinate of a design point, in [0, 1]
+     * @return the value at that point, a double spread linearly over the
+     * range, an integer range is split into a stratum per integer
+     */
+    public static String valueOf(TerminalParameter designParam, double unit) {
+        ValueRange range = designParam.getValueRange().getValue();
+        if ("double".equals(designParam.getType()) ||
+                "DoubleRange".equals(designParam.getValueRange().getName().getLocalPart())) {
+            double l = Double.parseDouble(range.getLowValue());
+            double h = Double.parseDouble(range.getHighValue());
+            return "" + (l + unit * (h - l));
+        }
+        long l = Long.parseLong(range.getLowValue());
+        long h = Long.parseLong(range.getHighValue());
+        if (h < l) {
+            long tmp = l;
+            l = h;
+            h = tmp;
+        }
+        long span = h - l;
+        return "" + (l + Math.min((long) (unit * (span + 1)), span));
+    }
+
+    /** @return the number of design parameters */
+    public int getFactorCount() {
+        return factors;
+    }
+
+    /** @return the number of design points in each sample */
+    public int getDesignPointCount() {
+        return designPoints;
+    }
+
+    /**
+     * Generates every point of a sample, the same ones each time
+     * @param sampleIndex the sample
+     * @param consumer receives the points in design point order
+     * @throws IOException from the consumer
+     */
+    public abstract void generate(int sampleIndex, PointConsumer consumer) throws IOException;
+
+    // independent stream per sample from the seed
+    protected MersenneTwister random(int sampleIndex) {
+        MersenneTwister rnd = new MersenneTwister();
+        rnd.setSeed(seed + sampleIndex * 0x9E3779B97F4A7C15L);
+        return rnd;
+    }
+
+    static class LatinHypercube extends ExperimentDesign {
+
+        final boolean jitter;
+
+        LatinHypercube(int factors, int designPoints, long seed, boolean jitter) {
+            super(factors, designPoints, seed);
+            this.jitter = jitter;
+        }
+
+        @Override
+        public void generate(int sampleIndex, PointConsumer consumer) throws IOException {
+            MersenneTwister rnd = random(sampleIndex);
+            int[][] strata = strata(rnd);
+            double[] point = new double[factors];
+            for (int i = 0; i < designPoints; i++) {
+                for (int j = 0; j < factors; j++) {
+                    point[j] = (strata[j][i] + (jitter ? rnd.draw() : 0.5)) / designPoints;
+                }
+                consumer.accept(i, point);
+            }
+        }
+
+        // stratum of each point, by parameter
+        int[][] strata(MersenneTwister rnd) {
+            return randomStrata(rnd);
+        }
+
+        // an independent random permutation of the strata per parameter
+        int[][] randomStrata(MersenneTwister rnd) {
+            int[][] strata = new int[factors][designPoints];
+            for (int[] column : strata) {
+                for (int i = 0; i < designPoints; i++) {
+                    int r = (int) (rnd.draw() * (i + 1));
+                    column[i] = column[r];
+                    column[r] = i;
+                }
+            }
+            return strata;
+        }
+    }
+
+    static class MaximinLatinHypercube extends LatinHypercube {
+
+        MaximinLatinHypercube(int factors, int designPoints, long seed, boolean jitter) {
+            super(factors, designPoints, seed, jitter);
+        }
+
+        @Override
+        int[][] strata(MersenneTwister rnd) {
+            long pairs = (long) designPoints * (designPoints - 1) / 2;
+            int candidates = (int) Math.max(1, Math.min(CANDIDATES, MAXIMIN_PAIRS / Math.max(pairs, 1)));
+            if (candidates < CANDIDATES) {
+                LOG.info("strata() " + designPoints + " design points, choosing from " + candidates + " latin hypercubes");
+            }
+            int[][] best = randomStrata(rnd);
+            if (candidates == 1) {
+                return best;
+            }
+            long bestDistance = minDistance(best);
+            for (int c = 1; c < candidates; c++) {
+                int[][] candidate = randomStrata(rnd);
+                long distance = minDistance(candidate);
+                if (distance > bestDistance) {
+                    best = candidate;
+                    bestDistance = distance;
+                }
+            }
+            return best;
+        }
+
+        // smallest squared distance between two points, in strata
+        long minDistance(int[][] strata) {
+            long min = Long.MAX_VALUE;
+            for (int p = 0; p < designPoints; p++) {
+                for (int q = p + 1; q < designPoints; q++) {
+                    long distance = 0;
+                    for (int[] column : strata) {
+                        long d = column[p] - column[q];
+                        distance += d * d;
+                    }
+                    min = Math.min(min, distance);
+                }
+            }
+            return min;
+        }
+    }
+
+    static class NearlyOrthogonalLatinHypercube extends LatinHypercube {
+
+        NearlyOrthogonalLatinHypercube(int factors, int designPoints, long seed, boolean jitter) {
+            super(factors, designPoints, seed, jitter);
+        }
+
+        // exchanges two strata of one parameter at a time, keeping those
+        // that lower the parameter's squared correlations with the others
+        @Override
+        int[][] strata(MersenneTwister rnd) {
+            int[][] strata = randomStrata(rnd);
+            if (factors < 2 || designPoints < 3) {
+                return strata;
+            }
+            // centered strata, every column has the same sum of squares
+            double center = (designPoints - 1) / 2.0;
+            double sumOfSquares = 0;
+            for (int i = 0; i < designPoints; i++) {
+                sumOfSquares += (i - center) * (i - center);
+            }
+            double[][] cross = new double[factors][factors];
+            for (int a = 0; a < factors; a++) {
+                for (int b = a + 1; b < factors; b++) {
+                    double s = 0;
+                    for (int i = 0; i < designPoints; i++) {
+                        s += (strata[a][i] - center) * (strata[b][i] - center);
+                    }
+                    cross[a][b] = cross[b][a] = s;
+                }
+            }
+            double target = MAX_CORRELATION * sumOfSquares;
+            double[] delta = new double[factors];
+            long exchanges = (long) EXCHANGES * designPoints;
+            for (long x = 0; x < exchanges; x++) {
+                if (x % designPoints == 0 && maxAbs(cross) <= target) {
+                    break;
+                }
+                int j = (int) (rnd.draw() * factors);
+                int p = (int) (rnd.draw() * designPoints);
+                int q = (int) (rnd.draw() * designPoints);
+                if (p == q) {
+                    continue;
+                }
+                int[] column = strata[j];
+                double change = 0;
+                for (int m = 0; m < factors; m++) {
+                    if (m == j) {
+                        continue;
+                    }
+                    delta[m] = (double) (column[q] - column[p]) * (strata[m][p] - strata[m][q]);
+                    change += delta[m] * (2 * cross[j][m] + delta[m]);
+                }
+                if (change < 0) {
+                    int tmp = column[p];
+                    column[p] = column[q];
+                    column[q] = tmp;
+                    for (int m = 0; m < factors; m++) {
+                        if (m != j) {
+                            cross[j][m] = cross[m][j] = cross[j][m] + delta[m];
+                        }
+                    }
+                }
+            }
+            LOG.debug("strata() largest correlation " + maxAbs(cross) / sumOfSquares);
+            return strata;
+        }
+
+        static double maxAbs(double[][] cross) {
+            double max = 0;
+            for (double[] row : cross) {
+                for (double s : row) {
+                    max = Math.max(max, Math.abs(s));
+                }
+            }
+            return max;
+        }
+    }
+
+    static class FractionalFactorial extends ExperimentDesign {
+
+        // parameter j is at its high value where the parity
+        // of the run index masked by generators[j] is odd
+        final int[] generators;
+
+        FractionalFactorial(int factors, int requested, long seed) {
+            super(factors, runs(factors, requested), seed);
+            int base = Integer.numberOfTrailingZeros(designPoints);
+            generators = new int[factors];
+            for (int j = 0; j < base; j++) {
+                generators[j] = 1 << j;
+            }
+            // interactions of two or more base parameters, highest order first
+            List<Integer> interactions = new ArrayList<>();
+            for (int mask = 1; mask < designPoints; mask++) {
+                if (Integer.bitCount(mask) > 1) {
+                    interactions.add(mask);
+                }
+            }
+            interactions.sort((a, b) -> (Integer.bitCount(a) != Integer.bitCount(b))
+                    ? Integer.bitCount(b) - Integer.bitCount(a) : a - b);
+            for (int j = base; j < factors; j++) {
+                generators[j] = interactions.get(j - base);
+            }
+        }
+
+        // fewest runs, 2^m with m base parameters, for the requested
+        // runs, m <= k, and room for k-m generators, k <= 2^m - 1
+        static int runs(int factors, int requested) {
+            int base = 0;
+            while (base < factors && ((1 << base) < requested || (1 << base) - 1 < factors)) {
+                base++;
+                if (base > 30) {
+                    throw new IllegalArgumentException("fractional factorial of " + factors + " parameters too large");
+                }
+            }
+            return 1 << base;
+        }
+
+        @Override
+        public void generate(int sampleIndex, PointConsumer consumer) throws IOException {
+            double[] point = new double[factors];
+            for (int i = 0; i < designPoints; i++) {
+                for (int j = 0; j < factors; j++) {
+                    point[j] = Integer.bitCount(i & generators[j]) & 1;
+                }
+                consumer.accept(i, point);
+            }
+        }
+    }
+
+    static class FullFactorial extends ExperimentDesign {
+
+        FullFactorial(int factors, long seed) {
+            super(factors, points(factors), seed);
+        }
+
+        static int points(int factors) {
+            if (factors > 30) {
+                throw new IllegalArgumentException("full factorial of " + factors + " parameters too large");
+            }
+            return 1 << factors;
+        }
+
+        @Override
+        public void generate(int sampleIndex, PointConsumer consumer) throws IOException {
+            double[] point = new double[factors];
+            for (int i = 0; i < designPoints; i++) {
+                for (int j = 0; j < factors; j++) {
+                    point[j] = (i >> j) & 1;
+                }
+                consumer.accept(i, point);
+            }
+        }
+    }
+}
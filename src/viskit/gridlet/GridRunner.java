@@ -7,44 +7,54 @@
 package viskit.gridlet;
 
 import edu.nps.util.Log4jUtilities;
+import edu.nps.util.TempFileManager;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import static java.io.File.createTempFile;
-import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringWriter;
+import java.io.OutputStream;
 import static java.lang.Integer.parseInt;
 import static java.lang.Integer.valueOf;
 import static java.lang.Runtime.getRuntime;
-import static java.lang.System.gc;
 import static java.lang.System.getProperty;
 //import static java.lang.System.runFinalization;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
-import static java.util.Collections.synchronizedList;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.Hashtable;
-import java.util.Iterator;
-import java.util.ListIterator;
 import java.util.Map;
 import java.util.Vector;
-import javax.xml.bind.JAXBContext;
-import static javax.xml.bind.JAXBContext.newInstance;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.LinkedBlockingQueue;
 import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Unmarshaller;
+import javax.xml.bind.Marshaller;
+import javax.xml.stream.XMLStreamException;
 import javax.xml.transform.stream.StreamSource;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import simkit.random.MersenneTwister;
 import viskit.doe.DoeException;
 import viskit.doe.LocalBootLoader;
-import viskit.xsd.translator.assembly.SimkitAssemblyXML2Java;
+import viskit.reports.ReplicationStatisticsStore;
+import viskit.util.HeapPressure;
+import viskit.util.JAXBContextRegistry;
 import viskit.xsd.bindings.assembly.*;
 
 /**
@@ -93,34 +103,61 @@ public class GridRunner /* complements DoeRunDriver*/
     // method, subsequently augmented by addEventGraph().
     // Upon, run(), written out to shared storage
     // for the Gridlets to then reconsitute with appropriate
-    // parameters and execute. TBD it is possible to GC
-    // after run() as long as Results are handled the
-    // same synchronized way.
+    // parameters and execute. Its Experiment holds no
+    // DesignPoints, see openDesignPoints and designPointSpool.
     SimkitAssembly root;
     viskit.xsd.bindings.assembly.ObjectFactory assemblyFactory;
     // running total number of tasks done
     int tasksCompleted;
     // count of DesignPoints per Sample
     int designPointCount;
+    // generates the points of each Sample for the Experiment's type
+    ExperimentDesign experimentDesign;
+    // the points of every Sample, next to the experiment file, which
+    // DesignPoints of the Experiment are created from as they are needed
+    DesignMatrix designMatrix;
+    // DesignPoints by taskID-1, from their first result or statistic
+    // until their task is complete and handed out by
+    // takeCompletedDesignPoints()
+    final Map<Integer, DesignPoint> openDesignPoints = new HashMap<>();
+    // every completed DesignPoint, next to the experiment file, read
+    // back for queries once evicted from openDesignPoints
+    DesignPointSpool designPointSpool;
     // replications per DesignPoint
     int replicationsPerDesignPoint;
     // total sample sets
     int totalSamples;
-    // numberOfStats used to synchronize access to getDesignPointStats
-    int numberOfStats = Integer.MAX_VALUE;
     // list of Booleans in order
     // indicating if a taskID is in the queue
     // True: in queue
     // False: Complete or DOA, check Results to determine.
     // gets updated by removeTask or removeIndexedTask
-    // can be used by client by synchronized checking
+    // kept for getTaskQueue() clients, see takeCompletedTask()
     List<Object> queue;
     boolean queueClean = false; // dirty means unclaimed info
-    // locking semaphores between set and get threads
-    // for designPts, results
-    List<Boolean> designPointStatsNotifiers;
-    List<Boolean> replicationStatsNotifiers;
-    List<Boolean> resultsNotifiers;
+    private final Object queueMonitor = new Object();
+    // one future per task, indexed by taskID-1, completed
+    // by removeTask once the Gridlet has reported its results
+    // and statistics, or the task was removed from the queue
+    List<CompletableFuture<Integer>> taskCompletions;
+    // taskIDs in the order their tasks completed, claimed
+    // one at a time by takeCompletedTask()
+    BlockingQueue<Integer> completedTasks;
+    // number of taskIDs handed out by takeCompletedTask()
+    int completedTasksClaimed;
+    // local mode worker pool size as set by the Experiment's threads
+    // attribute, 0 means one thread per available processor
+    int localThreads;
+    // local mode time out per task in ms, the Experiment's timeout
+    // per replication times the replications, 0 means indefinite
+    long localTaskTimeout;
+    ThreadPoolExecutor localPool;
+    ScheduledExecutorService localWatchdog;
+    // worker threads of the local pool by the taskID they are running
+    private final Map<Integer, Thread> localWorkers = new HashMap<>();
+    // every replication statistic of the experiment in columnar
+    // binary form, next to the experiment file
+    ReplicationStatisticsStore replicationStatisticsStore;
     List<String> status;
 
     private static final Object LOCK_OBJ = new Object();
@@ -160,7 +197,6 @@ public class GridRunner /* complements DoeRunDriver*/
      * @return an indication of success
      */
     public Boolean setAssembly(String assembly) {
-        Unmarshaller u;
         InputStream inputStream;
 
         LOG.debug("Setting assembly");
@@ -168,9 +204,8 @@ public class GridRunner /* complements DoeRunDriver*/
 
         inputStream = new ByteArrayInputStream(assembly.getBytes());
         try {
-            JAXBContext jaxbContext = newInstance(SimkitAssemblyXML2Java.ASSEMBLY_BINDINGS);
-            u = jaxbContext.createUnmarshaller();
-            this.root = (SimkitAssembly) u.unmarshal(inputStream);
+            this.root = JAXBContextRegistry.withUnmarshaller(JAXBContextRegistry.ASSEMBLY,
+                    u -> (SimkitAssembly) u.unmarshal(inputStream));
         } catch (JAXBException e) {
             LOG.error(e);
             return Boolean.FALSE;
@@ -185,26 +220,48 @@ public class GridRunner /* complements DoeRunDriver*/
         // totalSample * designPointCount = queue size
         // also handy, sampleIndex = taskID / designPointCount;
         // and         designPtIndex = taskID % designPointCount;
-        this.designPointCount = root.getDesignParameters().size();
+        if (root.getDesignParameters().isEmpty()) {
+            this.experimentDesign = null;
+            this.designPointCount = 0;
+        } else {
+            try {
+                this.experimentDesign = ExperimentDesign.forExperiment(root.getExperiment(), root.getDesignParameters().size());
+            } catch (IllegalArgumentException e) {
+                LOG.error("setAssembly() exception: " + e);
+                return Boolean.FALSE;
+            }
+            this.designPointCount = experimentDesign.getDesignPointCount();
+        }
         // timeout for synchronized calls as set by Experiment tag, or not means indefinite wait
+        this.localTaskTimeout = parseExperimentValue("timeout", root.getExperiment().getTimeout()) * replicationsPerDesignPoint;
+        // local worker pool size, or not means one per processor
+        this.localThreads = (int) parseExperimentValue("threads", root.getExperiment().getThreads());
         this.queue = new ArrayList<>();
-        this.designPointStatsNotifiers = new ArrayList<>();
-        this.replicationStatsNotifiers = new ArrayList<>();
-        this.resultsNotifiers = new ArrayList<>();
+        this.taskCompletions = new ArrayList<>();
+        this.completedTasks = new LinkedBlockingQueue<>();
+        this.completedTasksClaimed = 0;
         this.status = new ArrayList<>();
         for ( int i = 0; i < totalSamples * designPointCount; i ++) {
             queue.add(Boolean.TRUE);
-            designPointStatsNotifiers.add(false);
-            for (int j = 0; j < this.replicationsPerDesignPoint; j++) {
-                replicationStatsNotifiers.add(false);
-            }
-            resultsNotifiers.add(false);
+            taskCompletions.add(new CompletableFuture<>());
             status.add("Pending");
         }
 
         return Boolean.TRUE;
     }
 
+    private long parseExperimentValue(String attribute, String value) {
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Math.max(Long.parseLong(value.trim()), 0);
+        } catch (NumberFormatException e) {
+            LOG.error("setAssembly() bad Experiment " + attribute + " \"" + value + "\", using 0");
+            return 0;
+        }
+    }
+
     // can be called either before or after setAssembly()
     // won't be processed until a run()
     public Boolean addEventGraph(String eventGraph) {
@@ -283,9 +340,8 @@ public class GridRunner /* complements DoeRunDriver*/
 
         try {
 
-            JAXBContext jaxbContext = newInstance(SimkitAssemblyXML2Java.ASSEMBLY_BINDINGS);
-            Unmarshaller u = jaxbContext.createUnmarshaller();
-            Results r = (Results) ( u.unmarshal(strsrc) );
+            Results r = JAXBContextRegistry.withUnmarshaller(JAXBContextRegistry.ASSEMBLY,
+                    u -> (Results) u.unmarshal(strsrc));
             int sample = parseInt(r.getSample());
             int designPt = parseInt(r.getDesignPoint());
             // note replication is not indexed, yet.
@@ -295,20 +351,9 @@ public class GridRunner /* complements DoeRunDriver*/
             // differently. this result is mainly to dump
             // a lot of logs.
 
-            List<Sample> samples = root.getExperiment().getSample();
-            //
-            List<DesignPoint> designPoints = samples.get(sample).getDesignPoint();
-            int index = sample*designPointCount + designPt;
-            Boolean notifier = resultsNotifiers.get(index);
+            DesignPoint designPoint = getDesignPoint(sample, designPt);
             synchronized(LOCK_OBJ) {
-                DesignPoint designPoint = designPoints.get(designPt);
                 designPoint.setResults(r);
-                // notice these get swapped, the Boolean
-                // being waited on is no longer the one in
-                // the Vector, however it only waits if FALSE
-                resultsNotifiers.set(index,true);
-                notifier.notifyAll();
-
             }
 
         } catch (NumberFormatException | JAXBException e) {
@@ -319,7 +364,7 @@ public class GridRunner /* complements DoeRunDriver*/
         return error;
     }
 
-    public synchronized String getResultByTaskID(int taskID) {
+    public String getResultByTaskID(int taskID) {
         taskID --;
         int sampleIndex = taskID / designPointCount;
         int designPtIndex = taskID % designPointCount;
@@ -329,10 +374,10 @@ public class GridRunner /* complements DoeRunDriver*/
 
     /**
      * XML-RPC hook to retrieve results from an experimental run.
-     * The call is synchronized, the calling client thread
-     * which invokes this method on the server thread blocks
-     * until a node run invokes the addResult() on a separate
-     * server thread for the particular run requested.
+     * The calling client thread which invokes this method on the
+     * server thread blocks until the task for the particular run
+     * requested has been removed, which a node run does right
+     * after its addResult() on a separate server thread.
      *
      * Any of Async XML-RPC with client callbacks, single threaded
      * in order, or multithreaded any order clients can be used.
@@ -350,19 +395,12 @@ public class GridRunner /* complements DoeRunDriver*/
      * @param newDesignPoint and index for a design point
      * @return a String representation for the result
      */
-    public synchronized String getResult(int sample, int newDesignPoint) {
+    public String getResult(int sample, int newDesignPoint) {
         try {
-            Sample s = root.getExperiment().getSample().get(sample);
-            DesignPoint designPoint = s.getDesignPoint().get(newDesignPoint);
-            Results r = designPoint.getResults();
-            int index = sample * designPointCount + newDesignPoint;
-            Boolean notifier = resultsNotifiers.get(index);
-            if ( ! notifier ) {
-                try {
-                    notifier.wait();
-                } catch (InterruptedException ie) {
-                    // do nothing
-                }
+            DesignPoint designPoint = getDesignPoint(sample, newDesignPoint);
+            awaitTask(sample * designPointCount + newDesignPoint + 1);
+            Results r;
+            synchronized(LOCK_OBJ) {
                 r = designPoint.getResults();
             }
 
@@ -377,7 +415,8 @@ public class GridRunner /* complements DoeRunDriver*/
                     LOG.error("getResult(" + sample + ", " + newDesignPoint + " exception: " + e.getMessage());
                 }
             }
-            return (new SimkitAssemblyXML2Java()).marshalFragmentToString(r);
+            Results results = r;
+            return JAXBContextRegistry.withMarshaller(JAXBContextRegistry.ASSEMBLY, m -> marshalFragment(m, results));
         } 
         catch (Exception e) {
             LOG.error("getResult(" + sample + ", " + newDesignPoint + " exception: " + e.getMessage());
@@ -388,98 +427,85 @@ public class GridRunner /* complements DoeRunDriver*/
     }
 
     // Hashtable returned is name keyed to String of xml
-    public synchronized Map<String, String> getDesignPointStats(int sampleIndex, int designPtIndex) {
-        Sample s = root.getExperiment().getSample().get(sampleIndex);
-        DesignPoint dp = s.getDesignPoint().get(designPtIndex);
+    public Map<String, String> getDesignPointStats(int sampleIndex, int designPtIndex) {
+        DesignPoint dp = getDesignPoint(sampleIndex, designPtIndex);
         Map<String, String> ret = new Hashtable<>();
-        List<JAXBElement<?>> stats = dp.getStatistics();
-        int index = sampleIndex*designPointCount + designPtIndex;
-        Boolean notifier = designPointStatsNotifiers.get(index);
-        if(!notifier) {
-            int sz = stats.size();
-            while ( sz < numberOfStats ) { // tbd use boolean in notifier
-                try {
-                    notifier.wait();
-                } catch (InterruptedException ie) {
-                    //LOG.info("getDesignPointStats has size  "+stats.size());
-                }
-            }
-        }
-        Iterator<JAXBElement<?>> it = stats.iterator();
-        while (it.hasNext()) {
-            String name = null;
-            String xml = null;
-            Object st = it.next();
-            if ( st instanceof SampleStatistics ) {
-                name = ((SampleStatistics)st).getName();
-                xml = (new SimkitAssemblyXML2Java()).marshalFragmentToString(st);
-            } else if ( st instanceof IndexedSampleStatistics ) {
-                name = ((IndexedSampleStatistics)st).getName();
-                xml = (new SimkitAssemblyXML2Java()).marshalFragmentToString(st);
-            }
-            if ( name != null && xml != null ) {
-                ret.put(name, xml);
-            }
+        awaitTask(sampleIndex*designPointCount + designPtIndex + 1);
+        List<JAXBElement<?>> stats;
+        synchronized(LOCK_OBJ) {
+            stats = new ArrayList<>(dp.getStatistics());
         }
-
+        putStatistics(stats, ret);
         return ret;
     }
 
     // Hashtable returned is name keyed to String of xml
-    public synchronized Map<String, String> getReplicationStats(int sampleIndex, int designPtIndex, int replicationIndex) {
-        Sample s = root.getExperiment().getSample().get(sampleIndex);
-        DesignPoint dp = s.getDesignPoint().get(designPtIndex);
+    public Map<String, String> getReplicationStats(int sampleIndex, int designPtIndex, int replicationIndex) {
+        DesignPoint dp = getDesignPoint(sampleIndex, designPtIndex);
         Replication rp = dp.getReplication().get(replicationIndex);
         Map<String, String> ret = new Hashtable<>();
-        List<JAXBElement<?>> stats = rp.getStatistics();
-        int index = ((sampleIndex*designPointCount + designPtIndex) * replicationsPerDesignPoint) + replicationIndex;
-        Boolean notifier = replicationStatsNotifiers.get(index);
-
-        if ( !notifier ) {
-            try {
-                notifier.wait();
-            } catch (InterruptedException ex) {
-                // do nothing
-            }
+        awaitTask(sampleIndex*designPointCount + designPtIndex + 1);
+        List<JAXBElement<?>> stats;
+        synchronized(LOCK_OBJ) {
+            stats = new ArrayList<>(rp.getStatistics());
         }
+        putStatistics(stats, ret);
+        return ret;
+    }
 
-        Iterator<JAXBElement<?>> it = stats.iterator();
-        while (it.hasNext()) {
-            String name = null;
-            String xml = null;
-            Object st = it.next();
-            if ( st instanceof SampleStatistics ) {
-                name = ((SampleStatistics)st).getName();
-                xml = (new SimkitAssemblyXML2Java()).marshalToString(st);
-            } else if ( st instanceof IndexedSampleStatistics ) {
-                name = ((IndexedSampleStatistics)st).getName();
-                xml = (new SimkitAssemblyXML2Java()).marshalToString(st);
-            }
-            if ( name != null && xml != null ) {
-                ret.put(name, xml);
-            }
+    // puts each statistic's xml by its name, with one marshaller borrowed
+    // for all of them; the JAXBElements are marshalled rather than their
+    // values, which aren't root elements
+    private void putStatistics(List<JAXBElement<?>> stats, Map<String, String> ret) {
+        try {
+            JAXBContextRegistry.withMarshaller(JAXBContextRegistry.ASSEMBLY, marshaller -> {
+                String name;
+                Object st;
+                for (JAXBElement<?> stat : stats) {
+                    st = stat.getValue();
+                    if ( st instanceof SampleStatistics ) {
+                        name = ((SampleStatistics)st).getName();
+                    } else if ( st instanceof IndexedSampleStatistics ) {
+                        name = ((IndexedSampleStatistics)st).getName();
+                    } else {
+                        continue;
+                    }
+                    if ( name != null ) {
+                        ret.put(name, marshalFragment(marshaller, stat));
+                    }
+                }
+                return null;
+            });
+        } catch (JAXBException e) {
+            LOG.error("putStatistics() exception: " + e);
         }
+    }
 
-        return ret;
+    // formatted as by SimkitAssemblyXML2Java.marshalToString()
+    private static String marshalFragment(Marshaller marshaller, Object jaxbObject) throws JAXBException {
+        marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
+        StringWriter stringWriter = new StringWriter();
+        marshaller.marshal(jaxbObject, stringWriter);
+        return stringWriter.toString();
     }
 
     public Boolean addDesignPointStat(int sampleIndex, int designPtIndex, int numberOfStats, String stat) {
         try {
-            this.numberOfStats = numberOfStats; // this really only needs to be set the first time
-            JAXBContext jaxbContext = newInstance(SimkitAssemblyXML2Java.ASSEMBLY_BINDINGS);
-            Unmarshaller u = jaxbContext.createUnmarshaller();
-            Sample sample = root.getExperiment().getSample().get(sampleIndex);
-            DesignPoint designPoint = sample.getDesignPoint().get(designPtIndex);
-            JAXBElement<?> stats = (JAXBElement<?>) u.unmarshal(new ByteArrayInputStream(stat.getBytes()));
-            int index = (sampleIndex*designPointCount) + designPtIndex;
-            Boolean notifier = designPointStatsNotifiers.get(index);
-
-            synchronized(LOCK_OBJ) {
-                designPoint.getStatistics().add(stats);
-                designPointStatsNotifiers.set(index,true);
-                notifier.notify();
+            DesignPoint designPoint = getDesignPoint(sampleIndex, designPtIndex);
+            JAXBElement<?> stats = JAXBContextRegistry.withUnmarshaller(JAXBContextRegistry.ASSEMBLY,
+                    u -> (JAXBElement<?>) u.unmarshal(new ByteArrayInputStream(stat.getBytes())));
+
+            synchronized(this) {
+                if (isTaskDone(sampleIndex, designPtIndex)) {
+                    LOG.warn("addDesignPointStat() dropped, task for " + sampleIndex + " " + designPtIndex + " is done");
+                    return Boolean.FALSE;
+                }
+                synchronized(LOCK_OBJ) {
+                    designPoint.getStatistics().add(stats);
 
-                //LOG.info("addDesignPointStat "+stat);
+                    //LOG.info("addDesignPointStat "+stat);
+                }
             }
 
         } catch (JAXBException e) {
@@ -492,22 +518,33 @@ public class GridRunner /* complements DoeRunDriver*/
 
     public Boolean addReplicationStat(int sampleIndex, int designPtIndex, int replicationIndex, String stat) {
         try {
-            JAXBContext jaxbContext = newInstance(SimkitAssemblyXML2Java.ASSEMBLY_BINDINGS);
-            Unmarshaller u = jaxbContext.createUnmarshaller();
-            Sample sample = root.getExperiment().getSample().get(sampleIndex);
-            DesignPoint designPoint = sample.getDesignPoint().get(designPtIndex);
+            DesignPoint designPoint = getDesignPoint(sampleIndex, designPtIndex);
             Replication rep = designPoint.getReplication().get(replicationIndex);
-            JAXBElement<?> stats = (JAXBElement<?>) u.unmarshal(new ByteArrayInputStream(stat.getBytes()));
-            int index = ((sampleIndex*designPointCount + designPtIndex) * replicationsPerDesignPoint) + replicationIndex;
-            Boolean notifier = replicationStatsNotifiers.get(index);
+            JAXBElement<?> stats = JAXBContextRegistry.withUnmarshaller(JAXBContextRegistry.ASSEMBLY,
+                    u -> (JAXBElement<?>) u.unmarshal(new ByteArrayInputStream(stat.getBytes())));
 
-            synchronized(LOCK_OBJ) {
-                rep.getStatistics().add(stats);
-                replicationStatsNotifiers.set(index,true);
-                notifier.notify();
+            synchronized(this) {
+                if (isTaskDone(sampleIndex, designPtIndex)) {
+                    LOG.warn("addReplicationStat() dropped, task for " + sampleIndex + " " + designPtIndex + " is done");
+                    return Boolean.FALSE;
+                }
+                synchronized(LOCK_OBJ) {
+                    rep.getStatistics().add(stats);
 
-                LOG.info("addReplicationStat "+stat);
+                    LOG.info("addReplicationStat "+stat);
+                }
+                if (replicationStatisticsStore != null && stats.getValue() instanceof SampleStatistics) {
+                    SampleStatistics sampleStatistics = (SampleStatistics) stats.getValue();
+                    replicationStatisticsStore.add(designPtIndex, sampleIndex, replicationIndex, sampleStatistics.getName(),
+                            (long) parseStatistic(sampleStatistics.getCount()),
+                            parseStatistic(sampleStatistics.getMinObs()),
+                            parseStatistic(sampleStatistics.getMaxObs()),
+                            parseStatistic(sampleStatistics.getMean()),
+                            parseStatistic(sampleStatistics.getVariance()));
+                }
             }
+        } catch (IOException e) {
+            LOG.error("addReplicationStat() exception: " + e);
         } catch (JAXBException e) {
             LOG.error(e);
             return Boolean.FALSE;
@@ -516,6 +553,129 @@ public class GridRunner /* complements DoeRunDriver*/
         return Boolean.TRUE;
     }
 
+    /**
+     * hook for a local Gridlet, which comes from another class loader, to
+     * hand over all of its statistics at once as TaskStatistics columns
+     * @param sampleIndex the sample index
+     * @param designPtIndex the design point index
+     * @param columns as returned by TaskStatistics.toColumns()
+     * @return an indication of success
+     */
+    public Boolean addTaskStatistics(int sampleIndex, int designPtIndex, Object[] columns) {
+        return addTaskStatistics(sampleIndex, designPtIndex, TaskStatistics.fromColumns(columns));
+    }
+
+    /**
+     * hook for gridkit.addTaskStatistics XML-RPC call, used by a grid node
+     * to report all of its statistics in one binary message
+     * @param sampleIndex the sample index
+     * @param designPtIndex the design point index
+     * @param message as returned by TaskStatistics.toBytes()
+     * @return an indication of success
+     */
+    public Boolean addTaskStatistics(int sampleIndex, int designPtIndex, byte[] message) {
+        try {
+            return addTaskStatistics(sampleIndex, designPtIndex, TaskStatistics.fromBytes(message));
+        } catch (IOException e) {
+            LOG.error("addTaskStatistics() exception: " + e);
+            return Boolean.FALSE;
+        }
+    }
+
+    // builds the same bindings that addDesignPointStat and addReplicationStat
+    // unmarshal, directly from the values; consecutive rows of one replication
+    // sharing an indexed name form an IndexedSampleStatistics
+    private Boolean addTaskStatistics(int sampleIndex, int designPtIndex, TaskStatistics taskStatistics) {
+        DesignPoint designPoint = getDesignPoint(sampleIndex, designPtIndex);
+        List<JAXBElement<?>> designPointStatistics = new ArrayList<>();
+        Map<Integer, List<JAXBElement<?>>> replicationStatistics = new HashMap<>();
+        List<JAXBElement<?>> statistics;
+        IndexedSampleStatistics indexedSampleStatistics = null;
+        int replication;
+        String indexedName;
+        for (int row = 0; row < taskStatistics.getRowCount(); row++) {
+            replication = taskStatistics.getReplication(row);
+            statistics = (replication == TaskStatistics.DESIGN_POINT) ? designPointStatistics :
+                    replicationStatistics.computeIfAbsent(replication, r -> new ArrayList<>());
+            indexedName = taskStatistics.getIndexedName(row);
+            if (indexedName == null) {
+                indexedSampleStatistics = null;
+                statistics.add(assemblyFactory.createSampleStatistics(sampleStatistics(taskStatistics, row)));
+            } else {
+                if (indexedSampleStatistics == null || row == 0 ||
+                        !indexedName.equals(taskStatistics.getIndexedName(row - 1)) ||
+                        replication != taskStatistics.getReplication(row - 1)) {
+                    indexedSampleStatistics = assemblyFactory.createIndexedSampleStatistics();
+                    indexedSampleStatistics.setName(indexedName);
+                    statistics.add(assemblyFactory.createIndexedSampleStatistics(indexedSampleStatistics));
+                }
+                indexedSampleStatistics.getSampleStatistics().add(sampleStatistics(taskStatistics, row));
+            }
+        }
+        synchronized(this) {
+            if (isTaskDone(sampleIndex, designPtIndex)) {
+                LOG.warn("addTaskStatistics() dropped, task for " + sampleIndex + " " + designPtIndex + " is done");
+                return Boolean.FALSE;
+            }
+            synchronized(LOCK_OBJ) {
+                designPoint.getStatistics().addAll(designPointStatistics);
+                for (Map.Entry<Integer, List<JAXBElement<?>>> entry : replicationStatistics.entrySet()) {
+                    designPoint.getReplication().get(entry.getKey()).getStatistics().addAll(entry.getValue());
+                }
+            }
+            if (replicationStatisticsStore != null) {
+                try {
+                    for (int row = 0; row < taskStatistics.getRowCount(); row++) {
+                        if (taskStatistics.getReplication(row) != TaskStatistics.DESIGN_POINT && taskStatistics.getIndexedName(row) == null) {
+                            replicationStatisticsStore.add(designPtIndex, sampleIndex, taskStatistics.getReplication(row), taskStatistics.getName(row),
+                                    taskStatistics.getCount(row),
+                                    taskStatistics.getValue(row, TaskStatistics.MIN_OBS),
+                                    taskStatistics.getValue(row, TaskStatistics.MAX_OBS),
+                                    taskStatistics.getValue(row, TaskStatistics.MEAN),
+                                    taskStatistics.getValue(row, TaskStatistics.VARIANCE));
+                        }
+                    }
+                } catch (IOException e) {
+                    LOG.error("addTaskStatistics() exception: " + e);
+                }
+            }
+        }
+        LOG.info("addTaskStatistics " + sampleIndex + " " + designPtIndex + ", " + taskStatistics.getRowCount() + " statistics");
+        return Boolean.TRUE;
+    }
+
+    // a task completes once, by removing itself or by timing out, and what
+    // it reports afterwards is dropped; callers hold this GridRunner's lock,
+    // as removeTask() does, so nothing lands after the store is closed
+    private boolean isTaskDone(int sampleIndex, int designPtIndex) {
+        return taskCompletions.get(sampleIndex * designPointCount + designPtIndex).isDone();
+    }
+
+    private SampleStatistics sampleStatistics(TaskStatistics taskStatistics, int row) {
+        SampleStatistics sampleStat = assemblyFactory.createSampleStatistics();
+        sampleStat.setCount(""+taskStatistics.getCount(row));
+        sampleStat.setMaxObs(""+taskStatistics.getValue(row, TaskStatistics.MAX_OBS));
+        sampleStat.setMean(""+taskStatistics.getValue(row, TaskStatistics.MEAN));
+        sampleStat.setMinObs(""+taskStatistics.getValue(row, TaskStatistics.MIN_OBS));
+        sampleStat.setName(taskStatistics.getName(row));
+        sampleStat.setSamplingType(taskStatistics.getSamplingType(row));
+        sampleStat.setStandardDeviation(""+taskStatistics.getValue(row, TaskStatistics.STANDARD_DEVIATION));
+        sampleStat.setVariance(""+taskStatistics.getValue(row, TaskStatistics.VARIANCE));
+        return sampleStat;
+    }
+
+    /** Statistic values arrive as text, as written by Double.toString() */
+    private static double parseStatistic(String value) {
+        if (value == null) {
+            return Double.NaN;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
     // qdel format is "jobID.taskID" in array jobs, so only way to
     // get jobID to parent process was by tagging the experiment
     // with the usid, so that the first Gridlet would report its
@@ -527,88 +687,55 @@ public class GridRunner /* complements DoeRunDriver*/
         taskID += designPointIndex;
         taskID += 1;
 
-        removeTask(jobID,taskID);
-
-        // TBD check if result first then make an empty result if needed
-        try {
-            Results r = assemblyFactory.createResults();
-            r.setDesignPoint(""+designPointIndex);
-            r.setSample(""+sampleIndex);
-            // release Results lock on thread
-            addResult((new SimkitAssemblyXML2Java()).marshalFragmentToString(r));
-            LOG.info("addResult for "+(new SimkitAssemblyXML2Java()).marshalFragmentToString(r));
-        } 
-        catch (Exception e) {
-            LOG.error("removeIndexedTask(" + sampleIndex + ", " + designPointIndex + " exception: " + e.getMessage());
+        // a task removed before its Gridlet reported any results gets
+        // empty ones, set directly, and before its DesignPoint is spooled
+        if (!taskCompletions.get(taskID-1).isDone()) {
+            DesignPoint designPoint = getDesignPoint(sampleIndex, designPointIndex);
+            synchronized(LOCK_OBJ) {
+                if (designPoint.getResults() == null) {
+                    Results r = assemblyFactory.createResults();
+                    r.setDesignPoint(""+designPointIndex);
+                    r.setSample(""+sampleIndex);
+                    designPoint.setResults(r);
+                }
+            }
         }
+
+        removeTask(jobID,taskID);
         return taskID;
     }
 
     // called by Gridlet to remove itself after
     // completion
 
-    public synchronized Integer removeTask(int jobID, int taskID) {
+    public Integer removeTask(int jobID, int taskID) {
+        return removeTask(jobID, taskID, "Complete");
+    }
+
+    // localStatus is the task's final status in a local run, kept when a
+    // late removeTask follows one that timed out or cancelled the task
+    private synchronized Integer removeTask(int jobID, int taskID, String localStatus) {
         try {
             LOG.debug("qdel: " + jobID + "." + taskID);
             if (!usid.equals("LOCAL-RUN")) {
                 getRuntime().exec( new String[] {"qdel",""+jobID+"."+taskID} ) ;
-            } else {
-                status.set(taskID-1,"Complete");
             }
 
-            List<Object> sQueue = synchronizedList(queue);
-
-            synchronized(sQueue) {
-                ListIterator<Object> li = sQueue.listIterator(taskID-1);
-
-                li.next();
+            // a task completes once, removeIndexedTask may follow
+            // a Gridlet that already removed itself
+            if (taskCompletions.get(taskID-1).isDone()) {
+                return taskID;
+            }
+            if (usid.equals("LOCAL-RUN")) {
+                status.set(taskID-1,localStatus);
+            }
+            tasksCompleted++;
 
+            synchronized(queueMonitor) {
                 // TODO: fix generics
-                li.set(Boolean.FALSE);
-
+                queue.set(taskID-1, Boolean.FALSE);
                 queueClean = false;
-
-                // last case first
-                // if results not ready, wait on resultsNotifier
-                Boolean notifier = resultsNotifiers.get(taskID-1);
-                if ( ! notifier  ) {
-
-                    try {
-                        notifier.wait();
-                    } catch (InterruptedException ex) {
-                        // do nothing
-                    }
-
-                }
-                // if replication stats not ready, wait on replicationStatsNotifier
-                // replications are always added in order by one thread,
-                // don't expect any a < b to be locked if b isn't
-                for (int i = 0; i < replicationsPerDesignPoint; i++) {
-                    int index = ((taskID-1)*replicationsPerDesignPoint) + i;
-                    notifier = replicationStatsNotifiers.get(index);
-                    if ( ! notifier ) {
-
-                        try {
-                            notifier.wait();
-                        } catch (InterruptedException ex) {
-                            // do nothing
-                        }
-
-                    }
-                }
-                // if designPointStats not ready, wait on designPointStatsNotifier
-                notifier = designPointStatsNotifiers.get(taskID-1);
-                if ( ! notifier ) {
-
-                    try {
-                        notifier.wait();
-                    } catch (InterruptedException ex) {
-                        // do nothing
-                    }
-
-                }
-                tasksCompleted++;
-                //queue.notify();
+                queueMonitor.notifyAll();
             }
 
             // if all results in, done! write out all results to storage
@@ -618,17 +745,34 @@ public class GridRunner /* complements DoeRunDriver*/
             // sessions in case of server shutdown, and that would be
             // a good place to also store this "core dump" filename for the
             // session.
+            spoolDesignPoint(taskID);
             if ( tasksCompleted == designPointCount * totalSamples) {
                 File dump = createTempFile(root.getName(),"Results.xml",experimentFile.getParentFile());
+                try (OutputStream outputStream = new FileOutputStream(dump)) {
+                    designPointSpool.writeResults(root, outputStream);
+                }
 
-                new SimkitAssemblyXML2Java().marshal(root, new FileOutputStream(dump));
+                if (replicationStatisticsStore != null) {
+                    replicationStatisticsStore.close();
+                    LOG.info("Replication statistics stored in " + replicationStatisticsStore.getFile());
+                    replicationStatisticsStore = null;
+                }
 
+                // classes the Gridlets shared, see Gridlet.compileShared(),
+                // and the design, whose points are in the results by now
+                TempFileManager.deleteTempDir(new File(experimentFile.getParentFile(), experimentFile.getName() + ".classes"));
+                closeDesignMatrix();
+                LOG.info("Experiment complete, " + HeapPressure.toString(getHeapPressure()));
             }
-        } catch (IOException e) {
-            LOG.error(e);
+        } catch (IOException | JAXBException | XMLStreamException e) {
+            LOG.error("removeTask() exception: " + e);
         }
 
-        gc();
+        // results and statistics for this task are all in, release
+        // anybody waiting on it and announce it to takeCompletedTask()
+        taskCompletions.get(taskID-1).complete(taskID);
+        completedTasks.offer(taskID);
+
         return taskID;
     }
 
@@ -640,16 +784,20 @@ public class GridRunner /* complements DoeRunDriver*/
 
     public Integer flushQueue() {
         Integer remainingTasks = ( designPointCount * totalSamples ) - tasksCompleted;
-        try {
-            getRuntime().exec( new String[] {"qdel",jobID.toString()} ) ;
-        } catch (IOException e) {
-            LOG.debug(e);
-        }
-        if (root != null) {
+        if (usid.equals("LOCAL-RUN")) {
+            cancelLocalRun();
+        } else {
             try {
-                new SimkitAssemblyXML2Java().marshal(root, new FileOutputStream(new File(root.getName() + "Exp.xml")));
-            } catch (FileNotFoundException e) {
-                LOG.error(e);
+                getRuntime().exec( new String[] {"qdel",jobID.toString()} ) ;
+            } catch (IOException e) {
+                LOG.debug(e);
+            }
+        }
+        if (root != null && designPointSpool != null) {
+            try (OutputStream outputStream = new FileOutputStream(new File(root.getName() + "Exp.xml"))) {
+                designPointSpool.writeResults(root, outputStream);
+            } catch (IOException | JAXBException | XMLStreamException e) {
+                LOG.error("flushQueue() exception: " + e);
             }
         }
 
@@ -657,6 +805,15 @@ public class GridRunner /* complements DoeRunDriver*/
         return remainingTasks;
     }
 
+    /**
+     * XML-RPC hook for the heap pressure of the JVM running the
+     * experiment, as of its last garbage collection, see HeapPressure.
+     * @return a Hashtable of Doubles and Integers keyed by name
+     */
+    public Map<String, Object> getHeapPressure() {
+        return HeapPressure.sample();
+    }
+
     /**
      * XML-RPC handler for returning number of remaining tasks in queue.
      * @return number of remaining tasks in the queue still running.
@@ -670,25 +827,116 @@ public class GridRunner /* complements DoeRunDriver*/
     // server thread limit of 100 requests. This call will block until
     // there has been some change in the queue, and returns a Vector
     // of Booleans which can be compared to the previous return Vector
-    // to see which was updated. It won't block the first time called.
-    public synchronized List<Object> getTaskQueue() {
-
-        if (queueClean) {
-            synchronized(queue) {
+    // to see which was updated. It won't block the first time called,
+    // nor once every task is complete. Prefer takeCompletedTask(),
+    // which names the completed task instead of the whole queue.
+    public List<Object> getTaskQueue() {
+        synchronized(queueMonitor) {
+            while (queueClean && getRemainingTasks() > 0) {
                 try {
-                    //if (timeout == 0)
-                        queue.wait(); // wait for dirtyness
-                    //else
-                        //queue.wait(timeout);
+                    queueMonitor.wait(); // wait for dirtyness
                 } catch (InterruptedException ie) {
-                    // do nothing
+                    break;
                 }
-                queueClean = true;
             }
+            queueClean = true;
             return queue;
         }
+    }
+
+    /**
+     * XML-RPC hook returning the taskID of the next task to complete.
+     * Blocks until a task has been removed, either by its Gridlet on
+     * completion or by removeIndexedTask(), and hands out each taskID
+     * exactly once in completion order.
+     * @return the taskID of a completed task, or -1 if every task has
+     * already been handed out, or the wait was interrupted
+     */
+    public Integer takeCompletedTask() {
+        synchronized(completedTasks) {
+            if (completedTasksClaimed >= designPointCount * totalSamples) {
+                return -1;
+            }
+            completedTasksClaimed++;
+        }
+        try {
+            return completedTasks.take();
+        } catch (InterruptedException ie) {
+            synchronized(completedTasks) {
+                completedTasksClaimed--;
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * XML-RPC hook handing out completed tasks together with their
+     * design point statistics, so a client needs one outstanding call
+     * rather than one per task. Blocks until a task completes, then adds
+     * any others already complete, up to maxTasks, without waiting.
+     * Each entry is a Hashtable with Integer "taskID", "sampleIndex"
+     * and "designPtIndex", and the "statistics" of getDesignPointStats().
+     * @param maxTasks the most entries to return, at least one is
+     * @return completed tasks in completion order, empty once every
+     * task has been handed out, or the wait was interrupted
+     */
+    public Vector<Object> takeCompletedDesignPoints(int maxTasks) {
+        Vector<Object> completed = new Vector<>();
+        int taskID = takeCompletedTask();
+        while (taskID > 0) {
+            int sampleIndex = (taskID - 1) / designPointCount;
+            int designPtIndex = (taskID - 1) % designPointCount;
+            Hashtable<String, Object> designPoint = new Hashtable<>();
+            designPoint.put("taskID", taskID);
+            designPoint.put("sampleIndex", sampleIndex);
+            designPoint.put("designPtIndex", designPtIndex);
+            designPoint.put("statistics", getDesignPointStats(sampleIndex, designPtIndex));
+            completed.add(designPoint);
+            evictDesignPoint(taskID);
+            if (completed.size() >= maxTasks) {
+                break;
+            }
+            taskID = pollCompletedTask();
+        }
+        return completed;
+    }
 
-        return queue;
+    // takeCompletedTask() without the wait, -1 if none is ready; never
+    // takes a taskID already claimed by a waiting takeCompletedTask()
+    private int pollCompletedTask() {
+        synchronized(completedTasks) {
+            if (completedTasksClaimed >= designPointCount * totalSamples) {
+                return -1;
+            }
+            Integer taskID = completedTasks.poll();
+            if (taskID == null) {
+                return -1;
+            }
+            completedTasksClaimed++;
+            return taskID;
+        }
+    }
+
+    /**
+     * In process hook for the completion of a single task, the future
+     * completes with the taskID once its results and statistics are in.
+     * @param taskID the SGE style taskID, starting at 1
+     * @return the completion of the task
+     */
+    public CompletableFuture<Integer> getTaskCompletion(int taskID) {
+        return taskCompletions.get(taskID-1);
+    }
+
+    // blocks the calling thread until taskID is complete
+    private void awaitTask(int taskID) {
+        try {
+            taskCompletions.get(taskID-1).get();
+        } catch (InterruptedException e) {
+            LOG.error("awaitTask(" + taskID + ") exception: " + e);
+            Thread.currentThread().interrupt(); // leave it to the caller's thread to stop
+        } catch (ExecutionException e) {
+            LOG.error("awaitTask(" + taskID + ") exception: " + e);
+        }
     }
 
     public void setJobID(Integer jobID) {
@@ -703,8 +951,8 @@ public class GridRunner /* complements DoeRunDriver*/
      */
     public Boolean clear() {
         flushQueue();
+        closeDesignPointSpool();
         this.root = null;
-        gc();
         return true;
     }
 
@@ -792,6 +1040,14 @@ public class GridRunner /* complements DoeRunDriver*/
             return Boolean.FALSE;
         }
 
+        try {
+            String storeName = experimentFile.getName().substring(0, experimentFile.getName().lastIndexOf('.')) + ".stats";
+            replicationStatisticsStore = new ReplicationStatisticsStore(new File(experimentFile.getParentFile(), storeName));
+        } catch (IOException e) {
+            LOG.error("run() exception: " + e);
+            replicationStatisticsStore = null;
+        }
+
         // calculate DesignPoints
 
         if (!calculateDesignPoints()) {
@@ -800,9 +1056,13 @@ public class GridRunner /* complements DoeRunDriver*/
 
         // deposit the Experiment file
 
-        try {
-            new SimkitAssemblyXML2Java().marshal(root, new FileOutputStream(experimentFile));
-        } catch (FileNotFoundException e) {
+        try (OutputStream outputStream = new FileOutputStream(experimentFile)) {
+            JAXBContextRegistry.withMarshaller(JAXBContextRegistry.ASSEMBLY, marshaller -> {
+                marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+                marshaller.marshal(root, outputStream);
+                return null;
+            });
+        } catch (IOException | JAXBException e) {
             LOG.error(e);
             return Boolean.FALSE;
         }
@@ -826,335 +1086,284 @@ public class GridRunner /* complements DoeRunDriver*/
 
     // spawn Gridlets, but not on the "Grid", ie Locally
     // in Local mode, the number of concurrent threads
-    // should be limited to number of cpu's and cores on
-    // the local host machine. There really isn't a way
-    // I know of to get that number in a platform independent
-    // way. so default to 4 and be selectable, one thread
-    // at a time per core, recent JVM's can do this pretty
-    // well for most OS's hopefully, some quite well.
+    // is limited to the Experiment's threads attribute, by
+    // default the number of processors available to the JVM.
     //
     // In Grid mode, the TaskQueue is a synchronized
     // array of Boolean's, to be pluggable, the Local
-    // queue is a list of Threads, whose get method
-    // returns the isAlive() state of the thread, only
-    // current threads in the pool get a start().
-    public static final int MAX_THREADS = 4;
+    // queue is a list of Gridlets, whose get method
+    // returns TRUE for a created Gridlet, each one is
+    // run by a worker of the local pool in turn.
     void localRun(File experimentFile, int totalTasks) {
-        List<Object> lastQueue;
+        LocalTaskQueue localQueue;
         try {
 
             // TODO: fix generics
-            queue = new LocalTaskQueue(this,experimentFile,totalTasks);
+            localQueue = new LocalTaskQueue(this,experimentFile,totalTasks);
+            queue = localQueue;
         } catch (DoeException e) {
             LOG.error(e);
+            return;
         }
 
-        // this shouldn't block on the very first call
-        int tasksRemaining = getRemainingTasks(); // should be totalTasks
-
-        lastQueue = cloneFromLocalTaskQueue((LocalTaskQueue) queue);
-        queueClean = false; // redirty it
-        // launch N starters of totalTasks tasks here
-        // active tasks are going to be hot so put them in the pool
-        // needed: a way to select the pool size
-        // here just test with N=4 for starters. GUI adjust tbd
-        int starters = MAX_THREADS>totalTasks?totalTasks:MAX_THREADS;
-        for (int task = 0; task<starters; task++,tasksRemaining--) {
-            status.set(task,"Running");
-           ((LocalTaskQueue)queue).activate(task);
+        int threads = localThreads > 0 ? localThreads : getRuntime().availableProcessors();
+        threads = Math.max(Math.min(threads, totalTasks), 1);
+        LOG.info("localRun() running " + totalTasks + " tasks on " + threads + " threads");
+
+        // one more waiting task per thread is queued, beyond that
+        // submitting blocks until a worker frees up
+        localPool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threads), new LocalThreadFactory("Gridlet"),
+                (task, pool) -> {
+                    if (pool.isShutdown()) {
+                        throw new RejectedExecutionException("local pool is shut down");
+                    }
+                    try {
+                        pool.getQueue().put(task);
+                    } catch (InterruptedException ie) {
+                        throw new RejectedExecutionException(ie);
+                    }
+                });
+        if (localTaskTimeout > 0) {
+            localWatchdog = Executors.newSingleThreadScheduledExecutor(new LocalThreadFactory("GridletWatchdog"));
         }
-        // if starters tasks complete in this loop, activate upto starters more until no tasks remain
-        // this second time through the getTaskQueue should block until results in
-        // from a Gridlet
-        while (tasksRemaining > 0) {
-            // this should block until a task or a number of tasks ends
-            LocalTaskQueue nextQueue = (LocalTaskQueue) getTaskQueue();
-            synchronized(nextQueue) {
-                for (int i = 0; i < nextQueue.size(); i ++) {
-                    // any change between queries indicates a transition at
-                    // taskID = i0, i1,..., indicating results for these tasks
-                    // since it's possible more than one comes in at once
-                    if (!lastQueue.get(i).equals(nextQueue.get(i))) {
-                        // i changed due to end of task
-                        //
-                        // find next available task from nextQueue
-                        int j;
-                        for (j = i+1; j<nextQueue.size(); j++) {
-                            if (nextQueue.activate(j)) {
-                                status.set(j,"Running");
-                                break;
-                            }
-                        }
-                        --tasksRemaining;
 
-                        nextQueue.set(i, Boolean.FALSE);
-                        nextQueue.notify();
+        try {
+            for (int i = 0; i < totalTasks; i++) {
+                int index = i;
+                localPool.execute(() -> runLocalTask(localQueue, index));
+            }
+            // this blocks until every task ended, was timed out or flushed
+            CompletableFuture.allOf(taskCompletions.toArray(new CompletableFuture<?>[0])).get();
+        } catch (RejectedExecutionException | InterruptedException | ExecutionException e) {
+            LOG.error("localRun() exception: " + e);
+            cancelLocalRun();
+        } finally {
+            localPool.shutdown();
+            if (localWatchdog != null) {
+                localWatchdog.shutdownNow();
+            }
+            localQueue.close();
+        }
+    }
 
-                    }
-                    // TODO: fix generics
-                    lastQueue.set(i,nextQueue.get(i));
-                }
-                //lastQueue = cloneFromLocalTaskQueue(nextQueue);
+    // body of a local pool worker, runs the Gridlet for taskID index+1
+    private void runLocalTask(LocalTaskQueue localQueue, int index) {
+        int taskID = index + 1;
+        synchronized(localWorkers) {
+            if (taskCompletions.get(index).isDone()) {
+                return; // removed or flushed while queued
             }
+            localWorkers.put(taskID, Thread.currentThread());
+        }
+        status.set(index,"Running");
+        ScheduledFuture<?> timeout = null;
+        if (localWatchdog != null) {
+            timeout = localWatchdog.schedule(() -> timeOutLocalTask(taskID), localTaskTimeout, TimeUnit.MILLISECONDS);
+        }
+        try {
+            if (!localQueue.runTask(index)) {
+                LOG.error("runLocalTask() could not run task " + taskID);
+            }
+        } finally {
+            synchronized(localWorkers) {
+                localWorkers.remove(taskID);
+            }
+            if (timeout != null) {
+                timeout.cancel(false);
+            }
+            // a Gridlet that died before removing itself is done anyway
+            removeTask(0, taskID);
         }
     }
 
-    private synchronized ArrayList<Object> cloneFromLocalTaskQueue(LocalTaskQueue localQ) {
-        ArrayList<Object> q = new ArrayList<>();
-        for (Object localQ1 : localQ) {
-            q.add(localQ1);
+    // the interrupted Gridlet stops its simulation, and a timed out task
+    // is completed here so that the add*Stat hooks drop whatever it
+    // reports afterwards, see isTaskDone()
+    private void timeOutLocalTask(int taskID) {
+        synchronized(localWorkers) {
+            Thread worker = localWorkers.get(taskID);
+            if (worker == null) {
+                return;
+            }
+            LOG.error("timeOutLocalTask() task " + taskID + " exceeded " + localTaskTimeout + " ms");
+            worker.interrupt();
         }
-        //}
-        return q;
+        removeTask(0, taskID, "Timed out");
     }
 
-    public Boolean calculateDesignPoints() 
-    {
-        boolean batch;
+    // drops the queued tasks, interrupts the running ones and
+    // removes every task not yet complete
+    private void cancelLocalRun() {
+        if (localPool != null) {
+            localPool.shutdownNow();
+        }
+        if (taskCompletions == null) {
+            return;
+        }
+        for (int taskID = 1; taskID <= taskCompletions.size(); taskID++) {
+            if (!taskCompletions.get(taskID-1).isDone()) {
+                removeTask(0, taskID, "Cancelled");
+            }
+        }
+    }
 
-        List<TerminalParameter> params = root.getDesignParameters();
-        batch = !params.isEmpty();
+    // daemon threads, a Gridlet that won't stop shouldn't keep the JVM alive
+    private static class LocalThreadFactory implements ThreadFactory {
 
-        if ( batch ) {
+        private final String name;
+        private int count;
 
-            if (root.getExperiment() == null) { // in test mode, never happens
+        LocalThreadFactory(String name) {
+            this.name = name;
+        }
 
-                Experiment e = assemblyFactory.createExperiment();
-                Sample s = assemblyFactory.createSample();
-                s.setIndex("" + 0);
+        @Override
+        public synchronized Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, name + "-" + (++count));
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MAX_PRIORITY);
+            return thread;
+        }
+    }
 
-                e.getSample().add(s);
-                e.setType("full-factorial");
-                root.setExperiment(e);
-                doFullFactorial();
+    /**
+     * Writes the points of every Sample of the experimentDesign to its
+     * DesignMatrix next to the experiment file, where the Gridlets read
+     * them from. The Experiment itself gets no DesignPoints up front, see
+     * getDesignPoint(), so that its file stays the same size however many
+     * points the design has.
+     * @return an indication of success
+     */
+    public Boolean calculateDesignPoints() {
+        if (experimentDesign == null) {
+            return Boolean.FALSE;
+        }
+        closeDesignMatrix();
+        closeDesignPointSpool();
+        root.getExperiment().getSample().clear();
+        File designFile = DesignMatrix.fileFor(experimentFile);
+        try {
+            DesignMatrix.write(designFile, experimentDesign, totalSamples);
+            designMatrix = DesignMatrix.open(designFile);
+            designPointSpool = new DesignPointSpool(DesignPointSpool.fileFor(experimentFile), totalSamples, designPointCount);
+        } catch (IOException e) {
+            LOG.error("calculateDesignPoints() exception: " + e);
+            return Boolean.FALSE;
+        }
+        LOG.info("calculateDesignPoints() " + root.getExperiment().getType() + " of " + totalSamples + " x "
+                + designPointCount + " design points, seed " + root.getExperiment().getSeed());
+        return Boolean.TRUE;
+    }
 
-            } else { // take a Script or use built ins
-                Experiment e = root.getExperiment();
-                String expType = e.getType();
-                //bsh.Interpreter bsh = new bsh.Interpreter();
+    /**
+     * The DesignPoint of the Experiment at sampleIndex and designPtIndex,
+     * created with its TerminalParameters and Replications the first time
+     * it is needed. Only the points whose tasks are running, or complete
+     * but not yet handed out, are held in memory; the others are read back
+     * from the designPointSpool, as a copy, and changes to one are lost.
+     * @param sampleIndex the sample index
+     * @param designPtIndex the design point index
+     * @return the DesignPoint
+     */
+    DesignPoint getDesignPoint(int sampleIndex, int designPtIndex) {
+        if (sampleIndex < 0 || sampleIndex >= totalSamples || designPtIndex < 0 || designPtIndex >= designPointCount) {
+            throw new IndexOutOfBoundsException("sample " + sampleIndex + " design point " + designPtIndex);
+        }
+        int task = sampleIndex * designPointCount + designPtIndex;
+        synchronized(LOCK_OBJ) {
+            DesignPoint designPoint = openDesignPoints.get(task);
+            if (designPoint != null) {
+                return designPoint;
+            }
+            if (designPointSpool != null && designPointSpool.contains(sampleIndex, designPtIndex)) {
                 try {
-                    switch (expType) {
-                        case "full-factorial":
-                            doFullFactorial();
-                            break;
-                        case "latin-hypercube":
-                            doLatinHypercube();
-                            break;
-                    }
-                    //could script via jaxb and beanshell
-                    //bsh.eval(root.getExperiment().getScript());
-                } 
-                catch (Exception ex) { 
-                    LOG.error("calculateDesignPoints() exception: " + ex.getMessage());
-                    return Boolean.FALSE; 
+                    return designPointSpool.read(sampleIndex, designPtIndex);
+                } catch (IOException | JAXBException e) {
+                    LOG.error("getDesignPoint() exception: " + e);
                 }
             }
-
-            return Boolean.TRUE;
-        } else {
-            return Boolean.FALSE;
+            designPoint = createDesignPoint(sampleIndex, designPtIndex);
+            openDesignPoints.put(task, designPoint);
+            return designPoint;
         }
     }
 
-    public void doFullFactorial() {
-
-        List<TerminalParameter> params = root.getDesignParameters();
-        Map<TerminalParameter, Object> values = new HashMap<>();
-        for (TerminalParameter t : params) {
-            LOG.debug("Batch Mode " + t);
-            JAXBElement<ValueRange> range = t.getValueRange();
-            Object returns;
-            if (range.getName().toString().contains("DoubleRange")) {
-                returns = new Double[] {
-                    Double.valueOf(range.getValue().getLowValue()),
-                    Double.valueOf(range.getValue().getHighValue())
-                };
-            } else {
-                returns = new Integer[] {
-                    Integer.valueOf(range.getValue().getLowValue()),
-                    Integer.valueOf(range.getValue().getHighValue())
-                };
-            }
-
-            values.put(t,returns);
+    // a completed task's DesignPoint, including one whose task reported
+    // nothing, goes to the spool, and so into the results
+    private void spoolDesignPoint(int taskID) throws IOException, JAXBException {
+        if (designPointSpool == null) {
+            return;
         }
-        if (!values.isEmpty()) {
-            iterate(values,values.size()-1);
+        int sampleIndex = (taskID - 1) / designPointCount;
+        int designPtIndex = (taskID - 1) % designPointCount;
+        DesignPoint designPoint = getDesignPoint(sampleIndex, designPtIndex);
+        synchronized(LOCK_OBJ) {
+            designPointSpool.write(sampleIndex, designPtIndex, designPoint);
         }
     }
 
-    void iterate(Map<TerminalParameter, Object> values, int depth) {
-
-        TerminalParameter[] terms = (TerminalParameter[]) values.keySet().toArray();
-        Object params = values.get(terms[depth]);
-        Object[] paramValues = (Object[])params;
-        for (Object paramValue : paramValues) {
-            TerminalParameter tp = terms[depth];
-            tp.setValue(paramValue.toString());
-            if (depth > 0) {
-                iterate(values, depth - 1);
-            } else {
-
-                Experiment experiment = root.getExperiment();
-                Sample sample = experiment.getSample().get(0);
-
-                // TODO: Update with generic JWSDP
-                List<DesignPoint> designPoints = sample.getDesignPoint();
-                DesignPoint designPoint = assemblyFactory.createDesignPoint();
-
-                // TODO: Update with generic JWSDP
-                List<TerminalParameter> terminalParams = designPoint.getTerminalParameter();
-                for (Object term : terms) {
-                    TerminalParameter termCopy = assemblyFactory.createTerminalParameter();
-                    termCopy.setValue(((TerminalParameter) term).getValue());
-                    termCopy.setType(((TerminalParameter) term).getType());
-                    terminalParams.add(termCopy);
-                }
-
-                designPoints.add(designPoint);
+    // a completed DesignPoint, once handed out, is only kept in the spool
+    private void evictDesignPoint(int taskID) {
+        synchronized(LOCK_OBJ) {
+            if (designPointSpool != null && designPointSpool.contains((taskID - 1) / designPointCount, (taskID - 1) % designPointCount)) {
+                openDesignPoints.remove(taskID - 1);
             }
         }
     }
 
-    /**
-     * Here we can use a Script to optionally set values before each set of Runs.
-     * for example,
-     * &lt;Script&gt; server.getServiceTime().getRandomNumber().resetSeed(); &lt;/Script&gt;
-     * so, the script should get copied into each DesignPoint instance (?).
-     *
-     * The DesignParameters return a range of values as per the FullFactorial
-     * version.
-     *
-     * Each range is divided into bins of equal probability. Each bin is
-     * numbered from 0 to number of independent variables - 1.
-     * A numIndptVars x numIndptVars index matrix is created in the form of a
-     * Random Latin Square. A Random Latin Square is one whose first row and
-     * column contain a random permutation of {sequence 0...runs-1} and each sub
-     * matrix is created by selecting values that are not in the row or column
-     * of the super matrix. To randomize within the same jvm session, rather
-     * than take the value of the range at the bin number in the stratification,
-     * a uniformly chosen sample is taken from the bin for each design point,
-     * which stochastically jitters the sample points. Then even if the single
-     * pass node runs all are from the same seed, they came from a slightly
-     * different sample point. To create more runs per sample that have any
-     * meaning then, it is required to use a different seed each Run via Script,
-     * since each run starts from a "fresh" jvm.
-     *
-     * The Latin part is that the index matrix is Latin, which represent
-     * probability bins to select from, not interpolated values of the ranges.
-     * For small number of variates, more samples, as controlled from the
-     * Experiment tag's totalsSamples attribute, from each Latin square, should
-     * be run per Experiment. If a script for the Runs as described above is
-     * used then several different results can occur for designs where a
-     * RandomVariate is seeded, otherwise they are the same.
-     *
-     * Each Latin square may generate an "infinite" number of similarly jittered
-     * DesignPoints, but there are countably finite Latin square combinations.
-     *
-     * In general, the number of Latin square combinations is far
-     * less than the number of FullFactorial combinations and converges as fast,
-     * or better; there can be a large number of Latin squares, so in the case of
-     * a large number of variates, it may not be essential to select more than
-     * one sample set from each Latin square.
-     *
-     * @throws java.lang.Exception
-     */
-    // totalSamples is number of unique squares
-    // size of designParams list is dimension of square
-    // and number of designPoints to generate
-    // each taskID is multi-replicationed
-    //
-    // taskID is sampleNumber
-    public void doLatinHypercube() throws Exception {
-        //int runs = replicationsPerDesignPoint;
-        //String initScript = experiment.getScript();
-        //bsh.Interpreter bsh = new bsh.Interpreter();
-
-        int size = designPointCount;
-        LatinPermutator latinSquares = new LatinPermutator(size);
-        List<TerminalParameter> designParams = root.getDesignParameters();
-        List<Sample> samples = root.getExperiment().getSample();
-        List<DesignPoint> designPoints;// = root.getExperiment().getDesignPoint();
-
-        MersenneTwister rnd = new MersenneTwister();
-
-        for ( int i = 0; i < totalSamples; i++ ) {
-            Sample sample = assemblyFactory.createSample();
-            sample.setIndex(""+i);
-            samples.add(sample);
-            designPoints = sample.getDesignPoint();
-            int[][] latinSquare = latinSquares.getRandomLatinSquare();
-            int[] row;
-
-            for ( int j = 0 ; j < latinSquare.length; j++) { // .length == size
-                DesignPoint designPt = assemblyFactory.createDesignPoint();
-                Iterator<TerminalParameter> it = designParams.iterator();
-                row = latinSquare[j];
-                int ct = 0;
-
-                while (it.hasNext()) {
-
-                    TerminalParameter tp = assemblyFactory.createTerminalParameter();
-                    TerminalParameter dp = it.next();
-                    Object[] range;
-
-                    if (dp.getType().equals("double")) {
-
-                        range = new Double[]{
-                            Double.valueOf(dp.getValueRange().getValue().getLowValue()),
-                            Double.valueOf(dp.getValueRange().getValue().getHighValue())
-                        };
-
-                    } else {
-
-                        range = new Integer[]{
-                            Integer.valueOf(dp.getValueRange().getValue().getLowValue()),
-                            Integer.valueOf(dp.getValueRange().getValue().getHighValue())
-                        };
-
-                    }
-
-                    // create sample "stratified" from n=size equal probability bins
-                    // over range; this will "jitter" the sample if used repeatedly,
-                    // while maintaining proximity to the same hypersurface anchor points
-                    boolean enableJitter = true; // make a property of Experiment type tbd
-                    if (range[0] instanceof Double) { // right now accept Double[2], spline TBD
-                        double h = ((Double) (range[0]));
-                        double l = ((Double) (range[1]));
-                        if (h < l) {
-                            double tmp = l;
-                            l = h;
-                            h = tmp;
-                        }
-                        double dt = h - l;
-                        double ddt = dt / size;
-                        double sampleJitter = ddt * (rnd.draw() - .5); // fits in bin +/- .5ddt
-                        double value = l + ddt * row[ct] + (enableJitter ? sampleJitter : 0.0);
-
-                        tp.setValue("" + value);
-                        tp.setType(dp.getType());
-
-                    } else if (range[0] instanceof Integer) { // or accept Integer[size] (not tested)
-
-                        tp.setValue(range[row[ct]].toString());
-                        tp.setType(dp.getType());
-
-                    }
+    private void closeDesignPointSpool() {
+        synchronized(LOCK_OBJ) {
+            openDesignPoints.clear();
+            if (designPointSpool == null) {
+                return;
+            }
+            try {
+                designPointSpool.close();
+            } catch (IOException e) {
+                LOG.error("closeDesignPointSpool() exception: " + e);
+            }
+            designPointSpool = null;
+        }
+    }
 
-                    designPt.getTerminalParameter().add(tp);
-                    ct++; //
-                }
+    private DesignPoint createDesignPoint(int sampleIndex, int designPtIndex) {
+        DesignPoint designPt = assemblyFactory.createDesignPoint();
+        designPt.setIndex("" + designPtIndex);
+        try {
+            double[] point = designMatrix.getPoint(sampleIndex, designPtIndex);
+            List<TerminalParameter> designParams = root.getDesignParameters();
+            for (int i = 0; i < point.length; i++) {
+                TerminalParameter tp = assemblyFactory.createTerminalParameter();
+                tp.setValue(ExperimentDesign.valueOf(designParams.get(i), point[i]));
+                tp.setType(designParams.get(i).getType());
+                designPt.getTerminalParameter().add(tp);
+            }
+        } catch (IOException | RuntimeException e) {
+            LOG.error("createDesignPoint() exception: " + e);
+        }
 
-                List<Replication> runList = designPt.getReplication();
-                for (int ri = 0; ri < replicationsPerDesignPoint; ri++) {
-                    Replication r = assemblyFactory.createReplication();
-                    r.setIndex("" + ri);
-                    runList.add(r);
-                }
+        List<Replication> runList = designPt.getReplication();
+        for (int ri = 0; ri < replicationsPerDesignPoint; ri++) {
+            Replication r = assemblyFactory.createReplication();
+            r.setIndex("" + ri);
+            runList.add(r);
+        }
+        return designPt;
+    }
 
-                designPt.setIndex("" + j);
-                designPoints.add(designPt);
-            }
+    private void closeDesignMatrix() {
+        if (designMatrix == null) {
+            return;
+        }
+        try {
+            designMatrix.close();
+        } catch (IOException e) {
+            LOG.error("closeDesignMatrix() exception: " + e);
+        }
+        if (!designMatrix.getFile().delete()) {
+            LOG.error("closeDesignMatrix() could not delete " + designMatrix.getFile());
         }
+        designMatrix = null;
     }
 }
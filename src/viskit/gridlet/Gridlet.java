@@ -41,10 +41,12 @@ import java.lang.reflect.Method;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.List;
-import java.util.Iterator;
 import java.util.Map;
 import java.util.Vector;
 import javax.tools.Diagnostic;
@@ -63,13 +65,8 @@ import viskit.ViskitStatics;
 import viskit.doe.DoeException;
 import viskit.xsd.translator.assembly.SimkitAssemblyXML2Java;
 import viskit.assembly.ViskitAssembly;
-import viskit.xsd.bindings.assembly.DesignPoint;
 import viskit.xsd.bindings.assembly.EventGraph;
 import viskit.xsd.bindings.assembly.Experiment;
-import viskit.xsd.bindings.assembly.IndexedSampleStatistics;
-import viskit.xsd.bindings.assembly.ObjectFactory;
-import viskit.xsd.bindings.assembly.Sample;
-import viskit.xsd.bindings.assembly.SampleStatistics;
 import viskit.xsd.bindings.assembly.SimkitAssembly;
 import viskit.xsd.bindings.assembly.TerminalParameter;
 import viskit.xsd.cli.Boot;
@@ -79,8 +76,9 @@ import viskit.xsd.translator.eventgraph.SimkitEventGraphXML2Java;
  *
  * @author Rick Goldberg
  *
- * Gridlet indexes itself to a DesignPoint within the Experiment file,
- * creates an Assembly from that DesignPoint, compiles and runs it.
+ * Gridlet indexes itself to a DesignPoint within the Experiment's
+ * DesignMatrix, creates an Assembly from that DesignPoint, compiles
+ * and runs it.
  *
  * This is the compiled version of the Gridlet, formerly interpreted,
  * which is now in BshGridlet.
@@ -104,6 +102,9 @@ public class Gridlet extends Thread
 {
     static final Logger LOG = LogManager.getLogger();
 
+    // how long an interrupted run() waits for its simulation to stop
+    static final long STOP_TIMEOUT_MS = 5000;
+
     SimkitAssemblyXML2Java sax2j;
     XmlRpcClientLite xmlrpc;
     // The gridRunner really is a GridRunner, however this instance came from
@@ -120,6 +121,9 @@ public class Gridlet extends Thread
     String filename;
     String pwd;
     File expFile;
+    // set once run() is done with the classes shared by every design
+    // point, and the simulation thread has ended
+    volatile boolean recyclable;
 
     public Gridlet(int taskID, int jobID, int numTasks, String frontHost, int port, String usid, URL expFile ) {
         try {
@@ -234,6 +238,14 @@ public class Gridlet extends Thread
         this.numTasks = totalTasks;
     }
 
+    /**
+     * @return true if this Gridlet ran to completion on classes shared by
+     * every design point, so that its ClassLoader may run another one
+     */
+    public boolean isRecyclable() {
+        return recyclable;
+    }
+
     public static void main(String[] args) {
         Gridlet gridlet = new Gridlet();
         gridlet.start();
@@ -248,31 +260,41 @@ public class Gridlet extends Thread
 
         Experiment exp = root.getExperiment();
         int replicationsPerDesignPoint = Integer.parseInt(exp.getReplicationsPerDesignPoint());
-        List<Sample> samples = exp.getSample();
 
+        // this task's design point, from the GridRunner's DesignMatrix
         List<TerminalParameter> designParams = root.getDesignParameters();
-        int sampleIndex = (taskID-1) / designParams.size();
-        int designPtIndex = (taskID-1) % designParams.size();
-
-        Sample sample = samples.get(sampleIndex);
-        List<DesignPoint> designPoints = sample.getDesignPoint();
-
-        DesignPoint designPoint = designPoints.get(designPtIndex);
-        List<TerminalParameter> designArgs = designPoint.getTerminalParameter();
-        Iterator<TerminalParameter> itd = designParams.iterator();
-        Iterator<TerminalParameter> itp = designArgs.iterator();
+        int sampleIndex;
+        int designPtIndex;
+        double[] designPoint;
+        try (DesignMatrix designMatrix = DesignMatrix.open(DesignMatrix.fileFor(getExperimentFile()))) {
+            sampleIndex = (taskID-1) / designMatrix.getDesignPointCount();
+            designPtIndex = (taskID-1) % designMatrix.getDesignPointCount();
+            designPoint = designMatrix.getPoint(sampleIndex, designPtIndex);
+        } catch (IOException | RuntimeException e) {
+            LOG.error("run() exception: " + e);
+            return;
+        }
 
         boolean debug_io = Boolean.parseBoolean(exp.getDebug());
         debug_io = false;
         //if(debug_io)LOG.info(filename+" Grid Task ID "+taskID+" of "+numTasks+" tasks in jobID "+jobID+" which is DesignPoint "+designPtIndex+" of Sample "+ sampleIndex);
 
+        // design args are injected into a shared compiled assembly
+        // if possible, otherwise compiled into this task's own copy
+        boolean shareClasses = sax2j.canInjectDesignParameters();
+        String[] designValues = new String[designParams.size()];
+
         //pass design args into design params
-        while ( itd.hasNext() && itp.hasNext() ) {
-            TerminalParameter arg = itp.next();
-            TerminalParameter designParam = itd.next();
-            designParam.setValue(arg.getValue());
+        for (int designIndex = 0; designIndex < designValues.length; designIndex++) {
+            TerminalParameter designParam = designParams.get(designIndex);
+            designValues[designIndex] = ExperimentDesign.valueOf(designParam, designPoint[designIndex]);
+            if (!shareClasses) {
+                designParam.setValue(designValues[designIndex]);
+            }
         }
 
+        // this task's own classes, if it can't share them
+        File taskDir = null;
         try {
 
             //processed into results tag, sent back to
@@ -295,19 +317,8 @@ public class Gridlet extends Thread
             File tempDir;
             String classPath=""; // for javac cmd line
             if (!usid.equals("LOCAL-RUN")) {
-
-                tempDir = TempFileManager.createTempFile("gridkit","doe");
-                tempDir = TempFileManager.createTempDir(tempDir);
-                // setting a classpath this way, we don't need to keep track of the
-                // actual files, ie "javac -d tempDir" will create subdirs
-                classPath = System.getProperty("java.class.path");
-                System.setProperty("java.class.path", classPath+File.pathSeparator+tempDir.getCanonicalPath());
                 classPath = System.getProperty("java.class.path");
             } else {
-
-                tempDir = TempFileManager.createTempFile("viskit","doe");
-                tempDir = TempFileManager.createTempDir(tempDir);
-
                 Object loader = getContextClassLoader();
                 Class<?> loaderz = loader.getClass();
                 String[] classPaths = (String[]) (loaderz.getMethod("getClassPath",new Class<?>[] {})).invoke(loader, new Object[] {});
@@ -316,88 +327,18 @@ public class Gridlet extends Thread
                 }
             }
 
-            List<EventGraph> depends = root.getEventGraph();
-            List<File> javaFiles = new ArrayList<>();
-
-            // submit all EventGraphs
-            for (EventGraph d : depends) {
-                ByteArrayInputStream bais;
-                String content = d.getContent();
-
-                bais = new ByteArrayInputStream(content.getBytes());
-
-                // generate java for the eventGraph and evaluate a loaded
-                // class
-                SimkitEventGraphXML2Java sx2j = new SimkitEventGraphXML2Java(bais);
-                // first convert XML to java source
-                sx2j.unmarshal();
-
-                if (debug_io) {
-                    LOG.info("Evaluating generated java Event Graph:");
-                    LOG.info(sx2j.translate());
-                }
-                // pass the source for this SimEntity in for compile
-                String eventGraphJava = sx2j.translate();
-                File eventGraphJavaFile = new File(tempDir,sx2j.getRoot().getName()+".java");
-                try (FileWriter writer = new FileWriter(eventGraphJavaFile)) {
-                    writer.write(eventGraphJava);
-                }
-                // since there may be some kind of event-graph interdependency, compile
-                // all .java's "at once"; javac should be able to resolve these if given
-                // on the command line all at once.
-                javaFiles.add(eventGraphJavaFile);
-            }
-
-            // compile eventGraphJavaFiles and deposit the .classes in the appropriate
-            // direcory under tempDir
-
-            List<String> cmdLine = new ArrayList<>();
-
-            cmdLine.add("-Xlint:unchecked");
-            cmdLine.add("-Xlint:deprecation");
-            cmdLine.add("-verbose");
-            cmdLine.add("-cp");
-            cmdLine.add(classPath);
-            cmdLine.add("-d");
-            cmdLine.add(tempDir.getCanonicalPath());
-
-            // Now add the Assembly
-
-            String assemblyJava = sax2j.translateIntoJavaSource();
-            File assemblyJavaFile = new File(tempDir, root.getName()+".java");
-            try (FileWriter writer = new FileWriter(assemblyJavaFile)) {
-                writer.write(assemblyJava);
+            if (shareClasses) {
+                tempDir = compileShared(root, classPath);
+            } else {
+                tempDir = TempFileManager.createTempFile(usid.equals("LOCAL-RUN") ? "viskit" : "gridkit","doe");
+                tempDir = TempFileManager.createTempDir(tempDir);
+                taskDir = tempDir;
+                compile(root, tempDir, classPath);
             }
-            javaFiles.add(assemblyJavaFile);
-
-            JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
-            DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
-            StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics,null,null);
-            Iterable<? extends JavaFileObject> compilationUnits = fileManager.getJavaFileObjectsFromFiles(javaFiles);
-            compiler.getTask(null, fileManager, null, cmdLine, null, compilationUnits).call();
-
-            if (/*debug_io*/true) {
-                LOG.info("Evaluating generated java Simulation "+ root.getName() + ":");
-                LOG.info(sax2j.translateIntoJavaSource());
-                URI cwd = tempDir.toURI();
-                for (Diagnostic<? extends JavaFileObject> diagnostic :
-                    diagnostics.getDiagnostics()) {
-                    String kind = diagnostic.getKind().toString().toLowerCase();
-                    JavaFileObject source = diagnostic.getSource();
-                    if (source != null) {
-                        long line = diagnostic.getLineNumber();
-                        URI name = cwd.relativize(source.toUri());
-                        if (line != Diagnostic.NOPOS) {
-                            System.out.format("%s:%s: %s: %s%n", name, line, kind, diagnostic.getMessage(null));
-                        }
-                        else {
-                            System.out.format("%s:1: %s: %s%n", name, kind, diagnostic.getMessage(null));
-                        }
-                    } else {
-                        System.out.format("%s: %s%n", kind,
-                                diagnostic.getMessage(null));
-                    }
-                }
+            if (!usid.equals("LOCAL-RUN")) {
+                // setting a classpath this way, we don't need to keep track of the
+                // actual files, ie "javac -d tempDir" created subdirs
+                System.setProperty("java.class.path", classPath+File.pathSeparator+tempDir.getCanonicalPath());
             }
 
             ClassLoader cloader = getContextClassLoader();
@@ -414,7 +355,14 @@ public class Gridlet extends Thread
 
             Class<?> asmz = cloader.loadClass(sax2j.getAssemblyRoot().getPackage()+"."+sax2j.getAssemblyRoot().getName());
             Constructor<?> asmc = asmz.getConstructors()[0];
+            // every design point starts from the default RandomNumber a fresh
+            // loader has, also when this loader ran another task before, and
+            // before the assembly's RandomVariates get hold of it
+            simkit.random.RandomVariateFactory.setDefaultRandomNumber(simkit.random.RandomNumberFactory.getInstance());
             ViskitAssembly sim = (ViskitAssembly) (asmc.newInstance(new Object[] {} ));
+            if (shareClasses) {
+                sim.setDesignParameterValues(designValues);
+            }
             sim.setEnableAnalystReports(false); // not needed in cluster mode, and threadly
             Thread runner = new Thread(sim);
 
@@ -423,56 +371,40 @@ public class Gridlet extends Thread
             runner.start();
             try {
                 runner.join();
-            } catch (InterruptedException ie) {} // done
+            } catch (InterruptedException ie) {
+                // timed out or cancelled, stop the simulation rather than
+                // leave it running in this loader
+                sim.setStopSimulationRun(true);
+                try {
+                    runner.join(STOP_TIMEOUT_MS);
+                } catch (InterruptedException e) {}
+                Thread.currentThread().interrupt();
+            }
+
+            // a timed out simulation may still be running in this loader
+            recyclable = shareClasses && !runner.isAlive();
 
             // finished running, collect some statistics
 
             simkit.stat.SampleStatistics[] designPointStats = sim.getDesignPointSampleStatistics();
             simkit.stat.SampleStatistics replicationStat;
 
-            // go through and copy in the statistics
-
-            ObjectFactory of = new ObjectFactory();
-            String statXml;
+            // go through and copy in the statistics, then send them all
+            // at once: as columns to a local gridRunner, or as one binary
+            // message over rpc
 
             // first get designPoint stats
             if (designPointStats != null ) {
                 try {
+                    TaskStatistics taskStatistics = new TaskStatistics(designPointStats.length * (replicationsPerDesignPoint + 1));
                     for (simkit.stat.SampleStatistics designPointStat : designPointStats) {
                         if (designPointStat instanceof simkit.stat.IndexedSampleStatistics) {
-                            // tbd handle this for local case too
-                            IndexedSampleStatistics iss = of.createIndexedSampleStatistics();
-                            iss.setName(designPointStat.getName());
-                            List<SampleStatistics> args = iss.getSampleStatistics();
                             simkit.stat.SampleStatistics[] allStat = ((simkit.stat.IndexedSampleStatistics) designPointStat).getAllSampleStat();
                             for (simkit.stat.SampleStatistics allStat1 : allStat) {
-                                args.add(statForStat(allStat1));
+                                taskStatistics.add(TaskStatistics.DESIGN_POINT, designPointStat.getName(), allStat1);
                             }
-                            statXml = sax2j.marshalFragmentToString(iss);
-                        } else {
-                            statXml = sax2j.marshalFragmentToString(statForStat(designPointStat));
-                        }
-                        if (debug_io) {
-                            LOG.info(statXml);
-                        }
-                        if (gridRunner != null) {
-                            // local gridRunner
-                            Class<?> gridRunnerz = gridRunner.getClass();
-                            Method mthd = gridRunnerz.getMethod("addDesignPointStat", int.class, int.class, int.class, String.class);
-                            mthd.invoke(gridRunner, sampleIndex, designPtIndex, designPointStats.length, statXml);
                         } else {
-
-                            Vector<Object> args = new Vector<>();
-                            args.add(usid);
-                            args.add(sampleIndex);
-                            args.add(designPtIndex);
-                            args.add(designPointStats.length);
-                            args.add(statXml);
-                            if (debug_io) {
-                                LOG.info("sending DesignPointStat " + sampleIndex + " " + designPtIndex);
-                                LOG.info(statXml);
-                            }
-                            xmlrpc.execute("gridkit.addDesignPointStat", args);
+                            taskStatistics.add(TaskStatistics.DESIGN_POINT, null, designPointStat);
                         }
                         // replication stats similarly
                         String repName = designPointStat.getName();
@@ -480,50 +412,33 @@ public class Gridlet extends Thread
                         for (int j = 0; j < replicationsPerDesignPoint; j++) {
                             replicationStat = sim.getReplicationSampleStatistics(repName, j);
                             if (replicationStat != null) {
-                                try {
-                                    if (replicationStat instanceof simkit.stat.IndexedSampleStatistics) {
-                                        IndexedSampleStatistics iss = of.createIndexedSampleStatistics();
-                                        iss.setName(replicationStat.getName());
-
-                                        List<SampleStatistics> arg = iss.getSampleStatistics();
-                                        simkit.stat.SampleStatistics[] allStat = ((simkit.stat.IndexedSampleStatistics) replicationStat).getAllSampleStat();
-                                        for (simkit.stat.SampleStatistics allStat1 : allStat) {
-                                            arg.add(statForStat(allStat[j]));
-                                        }
-                                        statXml = sax2j.marshalToString(iss);
-                                    } else {
-                                        statXml = sax2j.marshalToString(statForStat(replicationStat));
-                                    }
-                                    if (debug_io) {
-                                        LOG.info(statXml);
+                                if (replicationStat instanceof simkit.stat.IndexedSampleStatistics) {
+                                    simkit.stat.SampleStatistics[] allStat = ((simkit.stat.IndexedSampleStatistics) replicationStat).getAllSampleStat();
+                                    for (simkit.stat.SampleStatistics allStat1 : allStat) {
+                                        taskStatistics.add(j, replicationStat.getName(), allStat1);
                                     }
-                                    if (gridRunner != null) {
-                                        // local is a local gridRunner
-                                        Class<?> gridRunnerz = gridRunner.getClass();
-                                        Method mthd = gridRunnerz.getMethod("addReplicationStat", int.class, int.class, int.class, String.class);
-                                        mthd.invoke(gridRunner, sampleIndex, designPtIndex, j, statXml);
-                                        //gridRunner.addReplicationStat(sampleIndex,designPtIndex,j,statXml);
-                                    } else {
-                                        // use rpc to runner on grid
-                                        Vector<Object> args = new Vector<>();
-                                        args.add(usid);
-                                        args.add(sampleIndex);
-                                        args.add(designPtIndex);
-                                        args.add(j);
-                                        args.add(statXml);
-                                        if (debug_io) {
-                                            LOG.info("sending ReplicationStat" + sampleIndex + " " + designPtIndex + " " + j);
-                                            LOG.info(statXml);
-                                        }
-                                        xmlrpc.execute("gridkit.addReplicationStat", args);
-                                    }
-                                } 
-                                catch (Exception e) {
-                                    LOG.error("run() exception: " + e.getMessage());
+                                } else {
+                                    taskStatistics.add(j, null, replicationStat);
                                 }
                             }
                         }
                     }
+                    if (gridRunner != null) {
+                        // local gridRunner, from another loader, takes JDK arrays as they are
+                        Class<?> gridRunnerz = gridRunner.getClass();
+                        Method mthd = gridRunnerz.getMethod("addTaskStatistics", int.class, int.class, Object[].class);
+                        mthd.invoke(gridRunner, sampleIndex, designPtIndex, taskStatistics.toColumns());
+                    } else {
+                        Vector<Object> args = new Vector<>();
+                        args.add(usid);
+                        args.add(sampleIndex);
+                        args.add(designPtIndex);
+                        args.add(taskStatistics.toBytes());
+                        if (debug_io) {
+                            LOG.info("sending TaskStatistics " + sampleIndex + " " + designPtIndex + ", " + taskStatistics.getRowCount() + " statistics");
+                        }
+                        xmlrpc.execute("gridkit.addTaskStatistics", args);
+                    }
                 } 
                 catch (Exception e) {
                     LOG.error("run() exception: " + e.getMessage());
@@ -652,20 +567,132 @@ public class Gridlet extends Thread
 
         } catch (IOException | NoSuchMethodException | SecurityException | IllegalAccessException | IllegalArgumentException | InvocationTargetException | ClassNotFoundException | InstantiationException | URISyntaxException e) {
             e.printStackTrace(System.err);
+        } finally {
+            // results are in, release what this task held on to rather
+            // than waiting for JVM exit or a collection to do it
+            TempFileManager.deleteTempDir(taskDir);
+            sax2j = null;
         }
     }
 
-    private SampleStatistics statForStat(simkit.stat.SampleStatistics stat) throws Exception {
-        ObjectFactory of = new ObjectFactory();
-        SampleStatistics sampleStat = of.createSampleStatistics();
-        sampleStat.setCount(""+stat.getCount());
-        sampleStat.setMaxObs(""+stat.getMaxObs());
-        sampleStat.setMean(""+stat.getMean());
-        sampleStat.setMinObs(""+stat.getMinObs());
-        sampleStat.setName(stat.getName());
-        sampleStat.setSamplingType(stat.getSamplingType().toString());
-        sampleStat.setStandardDeviation(""+stat.getStandardDeviation());
-        sampleStat.setVariance(""+stat.getVariance());
-        return sampleStat;
+    // the experiment file, as set locally or found in the SGE working directory
+    private File getExperimentFile() throws IOException {
+        File experimentFile = (expFile != null) ? expFile : new File(pwd, filename);
+        return experimentFile.getCanonicalFile();
+    }
+
+    // the event graphs and assembly of an experiment whose design parameters
+    // are injected compile to the same classes for every design point, so the
+    // first Gridlet compiles them next to the experiment file for all others
+    private File compileShared(SimkitAssembly root, String classPath) throws IOException {
+        File experimentFile = getExperimentFile();
+        File sharedDir = new File(experimentFile.getParentFile(), experimentFile.getName() + ".classes");
+
+        // Gridlets each come from their own ClassLoader, an interned String
+        // is a lock they all share within this JVM
+        synchronized (sharedDir.getPath().intern()) {
+            if (sharedDir.isDirectory()) {
+                return sharedDir;
+            }
+            Path compileDir = Files.createTempDirectory(experimentFile.getParentFile().toPath(), sharedDir.getName());
+            if (!compile(root, compileDir.toFile(), classPath)) {
+                // leave this task with its errors, others get to try again
+                return compileDir.toFile();
+            }
+            try {
+                Files.move(compileDir, sharedDir.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                // a Gridlet on another host got there first
+                if (!sharedDir.isDirectory()) {
+                    throw e;
+                }
+            }
+            return sharedDir;
+        }
+    }
+
+    // translate the event graphs and the assembly, and compile them all
+    // into classesDir, reporting diagnostics in this task's log
+    private boolean compile(SimkitAssembly root, File classesDir, String classPath) throws IOException {
+        List<EventGraph> depends = root.getEventGraph();
+        List<File> javaFiles = new ArrayList<>();
+
+        // submit all EventGraphs
+        for (EventGraph d : depends) {
+            ByteArrayInputStream bais;
+            String content = d.getContent();
+
+            bais = new ByteArrayInputStream(content.getBytes());
+
+            // generate java for the eventGraph and evaluate a loaded
+            // class
+            SimkitEventGraphXML2Java sx2j = new SimkitEventGraphXML2Java(bais);
+            // first convert XML to java source
+            sx2j.unmarshal();
+
+            // pass the source for this SimEntity in for compile
+            String eventGraphJava = sx2j.translate();
+            File eventGraphJavaFile = new File(classesDir,sx2j.getRoot().getName()+".java");
+            try (FileWriter writer = new FileWriter(eventGraphJavaFile)) {
+                writer.write(eventGraphJava);
+            }
+            // since there may be some kind of event-graph interdependency, compile
+            // all .java's "at once"; javac should be able to resolve these if given
+            // on the command line all at once.
+            javaFiles.add(eventGraphJavaFile);
+        }
+
+        // compile eventGraphJavaFiles and deposit the .classes in the appropriate
+        // direcory under classesDir
+
+        List<String> cmdLine = new ArrayList<>();
+
+        cmdLine.add("-Xlint:unchecked");
+        cmdLine.add("-Xlint:deprecation");
+        cmdLine.add("-verbose");
+        cmdLine.add("-cp");
+        cmdLine.add(classPath);
+        cmdLine.add("-d");
+        cmdLine.add(classesDir.getCanonicalPath());
+
+        // Now add the Assembly
+
+        String assemblyJava = sax2j.translateIntoJavaSource();
+        File assemblyJavaFile = new File(classesDir, root.getName()+".java");
+        try (FileWriter writer = new FileWriter(assemblyJavaFile)) {
+            writer.write(assemblyJava);
+        }
+        javaFiles.add(assemblyJavaFile);
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics,null,null);
+        Iterable<? extends JavaFileObject> compilationUnits = fileManager.getJavaFileObjectsFromFiles(javaFiles);
+        boolean compiled = compiler.getTask(null, fileManager, null, cmdLine, null, compilationUnits).call();
+
+        if (/*debug_io*/true) {
+            LOG.info("Evaluating generated java Simulation "+ root.getName() + ":");
+            LOG.info(assemblyJava);
+            URI cwd = classesDir.toURI();
+            for (Diagnostic<? extends JavaFileObject> diagnostic :
+                diagnostics.getDiagnostics()) {
+                String kind = diagnostic.getKind().toString().toLowerCase();
+                JavaFileObject source = diagnostic.getSource();
+                if (source != null) {
+                    long line = diagnostic.getLineNumber();
+                    URI name = cwd.relativize(source.toUri());
+                    if (line != Diagnostic.NOPOS) {
+                        System.out.format("%s:%s: %s: %s%n", name, line, kind, diagnostic.getMessage(null));
+                    }
+                    else {
+                        System.out.format("%s:1: %s: %s%n", name, kind, diagnostic.getMessage(null));
+                    }
+                } else {
+                    System.out.format("%s: %s%n", kind,
+                            diagnostic.getMessage(null));
+                }
+            }
+        }
+        return compiled;
     }
 }
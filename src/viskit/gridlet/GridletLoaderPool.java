@@ -0,0 +1,146 @@
+/*
+ * GridletLoaderPool.java
+ *
+ * Isolated LocalBootLoaders for local mode Gridlets, kept warm
+ * from one task to the next.
+ */
+
+package viskit.gridlet;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import viskit.ViskitGlobals;
+import viskit.doe.LocalBootLoader;
+
+/**
+ * Booting a LocalBootLoader rereads the classpath and reloads simkit,
+ * viskit and the event graphs, and the code of a fresh loader starts out
+ * interpreted again. When the Gridlets of an experiment run classes shared
+ * by every design point, the loader of a finished task is reset and lent
+ * to the next one instead, so that about one loader per worker thread is
+ * booted for the whole experiment and stays hot across design points.
+ *
+ * A loader is only ever in use by one task at a time, so concurrently
+ * running Gridlets remain as isolated from one another as before. Between
+ * tasks the static state simkit keeps is reset, see RESETS. A Gridlet that
+ * compiled its own classes, or that did not run to completion, gets its
+ * loader closed rather than recycled.
+ */
+public class GridletLoaderPool {
+
+    static final Logger LOG = LogManager.getLogger();
+
+    // static methods invoked, in order, on a loader's own classes before
+    // it runs another task, the same as a fresh loader would start with,
+    // a third element being the one String argument to pass; the default
+    // RandomNumber itself is reseeded by every Gridlet, see Gridlet.run()
+    private static final String[][] RESETS = {
+        {"simkit.random.RandomNumberFactory", "setDefaultClass", "simkit.random.MersenneTwister"},
+        {"simkit.Schedule", "resetToOriginalEventList"},
+        {"simkit.Schedule", "clearRerun"},
+        {"simkit.Schedule", "coldReset"},
+        {"simkit.BasicSimEntity", "resetNextSerial"}
+    };
+
+    private final BlockingQueue<LocalBootLoader> idle = new LinkedBlockingQueue<>();
+    private final AtomicInteger booted = new AtomicInteger();
+    private final AtomicInteger recycled = new AtomicInteger();
+    private volatile boolean closed;
+
+    /**
+     * @return an idle loader, or a freshly booted one if none is idle
+     * @throws ReflectiveOperationException if the application ClassLoader
+     * is not a LocalBootLoader
+     */
+    public LocalBootLoader acquire() throws ReflectiveOperationException {
+        LocalBootLoader loader = idle.poll();
+        if (loader != null) {
+            recycled.incrementAndGet();
+            return loader;
+        }
+        booted.incrementAndGet();
+        return boot();
+    }
+
+    /**
+     * Takes back a loader after its task is done
+     * @param loader from acquire()
+     * @param recyclable true if it may run another task, otherwise closed
+     */
+    public void release(LocalBootLoader loader, boolean recyclable) {
+        if (recyclable && !closed && reset(loader)) {
+            idle.offer(loader);
+            // close() may have drained the pool meanwhile
+            if (!closed || !idle.remove(loader)) {
+                return;
+            }
+        }
+        close(loader);
+    }
+
+    /** Closes the idle loaders, those still in use are closed on release */
+    public void close() {
+        closed = true;
+        LocalBootLoader loader;
+        while ((loader = idle.poll()) != null) {
+            close(loader);
+        }
+        LOG.info("close() " + booted.get() + " loaders booted, " + recycled.get() + " tasks ran on recycled loaders");
+    }
+
+    /** @return the number of loaders booted so far */
+    public int getBootedCount() {
+        return booted.get();
+    }
+
+    /** @return the number of times a loader was reused */
+    public int getRecycledCount() {
+        return recycled.get();
+    }
+
+    // boots an isolated context off the application's LocalBootLoader,
+    // from which this class may not be visible, hence the reflection
+    private LocalBootLoader boot() throws ReflectiveOperationException {
+        Object parent = ViskitGlobals.instance().getViskitApplicationClassLoader();
+        Class<?> parentz = parent.getClass();
+        Method getExternalUrlArray = parentz.getMethod("getExternalUrlArray");
+        URL[] extUrls = (URL[]) getExternalUrlArray.invoke(parent);
+        Method getWorkingDirectory = parentz.getMethod("getWorkingDirectory");
+        File workDir = (File) getWorkingDirectory.invoke(parent);
+        // really doesn't matter which ClassLoader gets passed to LBL, that's the whole point, it "boots" up from the bottom
+        LocalBootLoader loader = new LocalBootLoader(extUrls, (ClassLoader) parent, workDir, "LocalTaskQueue.activate");
+        return loader.initialize();
+    }
+
+    private boolean reset(LocalBootLoader loader) {
+        try {
+            for (String[] reset : RESETS) {
+                Class<?> resetz = loader.loadClass(reset[0]);
+                if (reset.length > 2) {
+                    resetz.getMethod(reset[1], String.class).invoke(null, reset[2]);
+                } else {
+                    resetz.getMethod(reset[1]).invoke(null);
+                }
+            }
+            return true;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOG.error("reset() exception: " + e);
+            return false;
+        }
+    }
+
+    private void close(LocalBootLoader loader) {
+        try {
+            loader.close();
+        } catch (IOException e) {
+            LOG.error("close() exception: " + e.getMessage());
+        }
+    }
+}
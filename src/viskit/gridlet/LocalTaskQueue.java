@@ -3,13 +3,10 @@ package viskit.gridlet;
 import edu.nps.util.Log4jUtilities;
 import java.io.File;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.net.URL;
 import java.util.ArrayList;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import viskit.ViskitGlobals;
 import viskit.doe.DoeException;
 import viskit.doe.LocalBootLoader;
 
@@ -31,6 +28,8 @@ public class LocalTaskQueue extends ArrayList<Object>
     GridRunner gridRunner;
     int totalTasks;
     File experimentFile;
+    // isolated loaders, recycled between the tasks run by runTask()
+    GridletLoaderPool loaderPool = new GridletLoaderPool();
 
     /** Creates a new instance of LocalTaskQueue, instanced by
      * GridRunner in local mode.
@@ -62,7 +61,7 @@ public class LocalTaskQueue extends ArrayList<Object>
     }
 
     /**
-     * Activate Gridlet indexed at i
+     * Activate Gridlet indexed at i on its own Thread
      *
      * @param i an index for this Gridlet
      * @return an indication of success
@@ -71,63 +70,122 @@ public class LocalTaskQueue extends ArrayList<Object>
         Object o = super.get(i);
         if (o instanceof Thread) {
             if (!((Thread) o).isAlive()) {
-                ((Thread) super.get(i)).start();
+                ((Thread) o).start();
                 return true;
             }
         } else if ((Boolean) o) {
-            Object parent = ViskitGlobals.instance().getViskitApplicationClassLoader();
-            Class<?> parentz = parent.getClass();
-            try {
-                Method getExtUrls = parentz.getMethod("getExtUrls");
-                URL[] extUrls = (URL[]) getExtUrls.invoke(parent);
-                Method getWorkDir = parentz.getMethod("getWorkDir");
-                File workDir = (File) getWorkDir.invoke(parent);
-                // really doesn't matter which ClassLoader gets passed to LBL, that's the whole point, it "boots" up from the bottom
-                LocalBootLoader loader = new LocalBootLoader(extUrls, (ClassLoader) parent, workDir,"LocalTaskQueue.activate");
-                loader = loader.initialize();
-                Thread.currentThread().setContextClassLoader(loader); // this line is not kidding around!
-                Object task;
-                Class<?> gridletz;
-
-                gridletz = loader.loadClass("viskit.gridlet.Gridlet");
-
-                Constructor<?> constr = gridletz.getConstructor(new Class<?>[]{});
-                task = constr.newInstance(new Object[]{});
-                ((Thread)task).setContextClassLoader(loader);
-                ((Thread)task).setPriority(Thread.MAX_PRIORITY);
-                //LOG.info("At this point, setting "+task+"'s loader to "+loader);
-                //task.setExperimentFile(experimentFile);
-                Class<?> fileClass = loader.loadClass("java.io.File");
-                Constructor<?> fileConstr = fileClass.getConstructor(java.net.URI.class);
-                Object fileObj = fileConstr.newInstance(experimentFile.toURI());
-                Method mthd = gridletz.getMethod("setExperimentFile",fileClass);
-                mthd.invoke(task,fileObj);
-                //task.setTaskID(i+1);
-                mthd = gridletz.getMethod("setTaskID",int.class);
-                mthd.invoke(task,(i+1));
-                //task.setJobID(0); // tbd, enable multiple jobs
-                mthd = gridletz.getMethod("setJobID",int.class);
-                mthd.invoke(task,0);
-                //task.setTotalTasks(totalTasks);
-                mthd = gridletz.getMethod("setTotalTasks",int.class);
-                mthd.invoke(task,totalTasks);
-
-                // gridRunner to be done "retrospectively" on the other side
-                // so send as Object
-                //task.setGridRunner(gridRunner);
-                mthd = gridletz.getMethod("setGridRunner",Object.class);
-                mthd.invoke(task, gridRunner);
-
-                super.set(i, task);
-                ((Thread) task).start();
-
-            } catch (NoSuchMethodException | SecurityException | IllegalAccessException | IllegalArgumentException | InvocationTargetException | InstantiationException | ClassNotFoundException e) {
-                LOG.error("activate(" + i + ") exception: " + e.getMessage());
+            Thread task = createTask(i);
+            if (task != null) {
+                task.start();
+                return true;
             }
         }
         return false;
     }
 
+    /**
+     * Run Gridlet indexed at i on the calling Thread, ie a worker
+     * of the GridRunner's local pool, which borrows the Gridlet's
+     * ClassLoader for the duration of the run.
+     *
+     * @param i an index for this Gridlet
+     * @return false if the Gridlet could not be created, or was
+     * already created before
+     */
+    public boolean runTask(int i) {
+        Object o = super.get(i);
+        if (o instanceof Thread || !((Boolean) o)) {
+            return false;
+        }
+        Thread worker = Thread.currentThread();
+        ClassLoader lastLoader = worker.getContextClassLoader();
+        try {
+            Thread task = createTask(i);
+            if (task == null) {
+                return false;
+            }
+            worker.setContextClassLoader(task.getContextClassLoader());
+            try {
+                task.run();
+            } finally {
+                // hand the loader on to the next task if the Gridlet's
+                // classes are good for it, else close its jars now rather
+                // than when the loader happens to be collected
+                loaderPool.release((LocalBootLoader) task.getContextClassLoader(), isRecyclable(task));
+            }
+            return true;
+        } finally {
+            worker.setContextClassLoader(lastLoader);
+        }
+    }
+
+    /**
+     * Create the Gridlet indexed at i in a LocalBootLoader of its
+     * own while it runs, freshly created or recycled, unstarted.
+     *
+     * @param i an index for this Gridlet
+     * @return the Gridlet, or null if it could not be created
+     */
+    Thread createTask(int i) {
+        try {
+            LocalBootLoader loader = loaderPool.acquire();
+            Thread.currentThread().setContextClassLoader(loader); // this line is not kidding around!
+            Object task;
+            Class<?> gridletz;
+
+            gridletz = loader.loadClass("viskit.gridlet.Gridlet");
+
+            Constructor<?> constr = gridletz.getConstructor(new Class<?>[]{});
+            task = constr.newInstance(new Object[]{});
+            ((Thread)task).setContextClassLoader(loader);
+            ((Thread)task).setPriority(Thread.MAX_PRIORITY);
+            //LOG.info("At this point, setting "+task+"'s loader to "+loader);
+            //task.setExperimentFile(experimentFile);
+            Class<?> fileClass = loader.loadClass("java.io.File");
+            Constructor<?> fileConstr = fileClass.getConstructor(java.net.URI.class);
+            Object fileObj = fileConstr.newInstance(experimentFile.toURI());
+            Method mthd = gridletz.getMethod("setExperimentFile",fileClass);
+            mthd.invoke(task,fileObj);
+            //task.setTaskID(i+1);
+            mthd = gridletz.getMethod("setTaskID",int.class);
+            mthd.invoke(task,(i+1));
+            //task.setJobID(0); // tbd, enable multiple jobs
+            mthd = gridletz.getMethod("setJobID",int.class);
+            mthd.invoke(task,0);
+            //task.setTotalTasks(totalTasks);
+            mthd = gridletz.getMethod("setTotalTasks",int.class);
+            mthd.invoke(task,totalTasks);
+
+            // gridRunner to be done "retrospectively" on the other side
+            // so send as Object
+            //task.setGridRunner(gridRunner);
+            mthd = gridletz.getMethod("setGridRunner",Object.class);
+            mthd.invoke(task, gridRunner);
+
+            super.set(i, task);
+            return (Thread) task;
+
+        } catch (ReflectiveOperationException | SecurityException | IllegalArgumentException e) {
+            LOG.error("createTask(" + i + ") exception: " + e.getMessage());
+        }
+        return null;
+    }
+
+    // a Gridlet from another loader, so ask reflectively
+    private boolean isRecyclable(Thread task) {
+        try {
+            return (Boolean) task.getClass().getMethod("isRecyclable").invoke(task);
+        } catch (ReflectiveOperationException e) {
+            LOG.error("isRecyclable() exception: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /** Closes the pooled loaders once every task has run */
+    public void close() {
+        loaderPool.close();
+    }
+
     @Override
     public Object get(int i) {
         return (super.get(i) instanceof Thread) ?
@@ -35,7 +35,12 @@ import simkit.random.RandomNumber;
  *
  */
 public class PartitionedRandomNumber implements simkit.random.RandomNumber {
+    /** the range of drawLong() for generators without a multiplier, e.g. RngStream */
+    static final long DEFAULT_DRAW_LONG_RANGE = 1L << 32;
+
     RandomNumber base;
+    // drawLong() of the base is on [0, baseRange)
+    long baseRange;
     int partitions;
     int currentPartition;
 
@@ -51,16 +56,37 @@ public class PartitionedRandomNumber implements simkit.random.RandomNumber {
 
     public void setBase(RandomNumber base) {
         this.base=base;
+        try {
+            baseRange = (long) (1.0 / base.getMultiplier());
+        } catch (UnsupportedOperationException e) {
+            baseRange = DEFAULT_DRAW_LONG_RANGE;
+        }
+    }
+
+    public RandomNumber getBase() {
+        return base;
     }
 
     public void setPartitions(int partitions) {
+        if (partitions < 1)
+            throw new IllegalArgumentException("partitions must be >= 1: " + partitions);
         this.partitions = partitions;
     }
 
+    public int getPartitions() {
+        return partitions;
+    }
+
     public void setCurrentPartition(int partition) {
+        if (partition < 0 || partition >= partitions)
+            throw new IllegalArgumentException("partition must be in [0, " + partitions + "): " + partition);
         this.currentPartition = partition;
     }
 
+    public int getCurrentPartition() {
+        return currentPartition;
+    }
+
     @Override
     public void setSeed(long l) {
         base.setSeed(l);
@@ -86,20 +112,16 @@ public class PartitionedRandomNumber implements simkit.random.RandomNumber {
         return base.getSeeds();
     }
 
+    /** @return a draw uniform on [currentPartition/partitions, (currentPartition + 1)/partitions) */
     @Override
     public double draw() {
-        double rn = base.draw();
-        rn = rn/partitions;
-        rn += currentPartition/partitions;
-        return rn;
+        return (currentPartition + base.draw()) / partitions;
     }
 
+    /** @return a drawLong() scaled into the currentPartition of the base range, consistent with draw() */
     @Override
     public long drawLong() {
-        long rn = base.drawLong();
-        rn = rn/partitions;
-        rn += currentPartition/partitions;
-        return rn;
+        return currentPartition * (baseRange / partitions) + base.drawLong() / partitions;
     }
 
     @Override
@@ -24,6 +24,8 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
@@ -39,17 +41,15 @@ import javax.crypto.SecretKey;
 import javax.crypto.SecretKeyFactory;
 import javax.crypto.spec.PBEKeySpec;
 import javax.crypto.spec.PBEParameterSpec;
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Unmarshaller;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import static viskit.ViskitUserConfiguration.SYSTEM_USER_HOME;
+import viskit.util.JAXBContextRegistry;
 import viskit.xsd.bindings.assembly.ObjectFactory;
 import viskit.xsd.bindings.assembly.PasswordFile;
 import viskit.xsd.bindings.assembly.User;
-import viskit.xsd.translator.assembly.SimkitAssemblyXML2Java;
 
 /**
  * @version $Id$
@@ -58,7 +58,6 @@ import viskit.xsd.translator.assembly.SimkitAssemblyXML2Java;
 public class SessionManager /* compliments DoeSessionDriver*/ {
 
     private Hashtable<String, String> sessions;
-    private static JAXBContext jaxbContext;
 
     static final Logger LOG = LogManager.getLogger();
 
@@ -71,8 +70,7 @@ public class SessionManager /* compliments DoeSessionDriver*/ {
     public SessionManager() { // public?
         sessions = new Hashtable<>();
         try {
-            if (jaxbContext == null) // avoid JAXBException (perhaps due to concurrency)
-                jaxbContext = JAXBContext.newInstance(SimkitAssemblyXML2Java.ASSEMBLY_BINDINGS);
+            JAXBContextRegistry.getContext(JAXBContextRegistry.ASSEMBLY);
         } catch (JAXBException e) {
             LOG.error(e);
         }
@@ -83,8 +81,7 @@ public class SessionManager /* compliments DoeSessionDriver*/ {
 
         try {
             FileInputStream is = new FileInputStream(PASSWD);
-            Unmarshaller u = jaxbContext.createUnmarshaller();
-            PasswordFile passwd = (PasswordFile) u.unmarshal(is);
+            PasswordFile passwd = readPasswordFile(is);
             List<User> users = passwd.getUser();
             String passcrypt = null;
             for (User user : users) {
@@ -158,7 +155,6 @@ public class SessionManager /* compliments DoeSessionDriver*/ {
 
             try {
                 String passcrypt = null;
-                Unmarshaller u = jaxbContext.createUnmarshaller();
                 ObjectFactory of = new ObjectFactory();
                 //JAXB feature(?)
                 //createPasswordFile returns an Object which
@@ -170,7 +166,7 @@ public class SessionManager /* compliments DoeSessionDriver*/ {
                 List<User> users = passwd.getUser();
                 if (pwd.exists()) {
                     try (FileInputStream is = new FileInputStream(pwd)) {
-                        passwd = (PasswordFile) u.unmarshal(is);
+                        passwd = readPasswordFile(is);
                     }
 
                     // TODO: upgrade to generic JWSDP
@@ -206,7 +202,7 @@ public class SessionManager /* compliments DoeSessionDriver*/ {
 
                     // write out to XML user database
                     try (FileOutputStream fos = new FileOutputStream(pwd)) {
-                        jaxbContext.createMarshaller().marshal(passwd,fos);
+                        writePasswordFile(passwd, fos);
                         fos.flush();
                     }
                     LOG.info("New user created for "+newUser);
@@ -228,10 +224,9 @@ public class SessionManager /* compliments DoeSessionDriver*/ {
         File pwd = new File(PASSWD);
         if ( getUser(usid).equals(username) || isAdmin(usid) ) {
             try {
-                Unmarshaller u = jaxbContext.createUnmarshaller();
                 PasswordFile passwd;
                 try (FileInputStream is = new FileInputStream(pwd)) {
-                    passwd = (PasswordFile) u.unmarshal(is);
+                    passwd = readPasswordFile(is);
                 }
                 List<User> users = passwd.getUser();
                 for (User user : users) {
@@ -253,7 +248,7 @@ public class SessionManager /* compliments DoeSessionDriver*/ {
                     }
                 }
                 try (FileOutputStream fos = new FileOutputStream(pwd)) {
-                    jaxbContext.createMarshaller().marshal(passwd,fos);
+                    writePasswordFile(passwd, fos);
                     fos.flush();
                 }
             } catch (JAXBException | IOException | NoSuchAlgorithmException | InvalidKeySpecException | NoSuchPaddingException | InvalidKeyException | InvalidAlgorithmParameterException | IllegalBlockSizeException | BadPaddingException e) {
@@ -269,6 +264,18 @@ public class SessionManager /* compliments DoeSessionDriver*/ {
 
     // end of XML-RPC direct back-ends
 
+    private static PasswordFile readPasswordFile(InputStream is) throws JAXBException {
+        return JAXBContextRegistry.withUnmarshaller(JAXBContextRegistry.ASSEMBLY,
+                u -> (PasswordFile) u.unmarshal(is));
+    }
+
+    private static void writePasswordFile(PasswordFile passwd, OutputStream os) throws JAXBException {
+        JAXBContextRegistry.withMarshaller(JAXBContextRegistry.ASSEMBLY, m -> {
+            m.marshal(passwd, os);
+            return null;
+        });
+    }
+
 
      private String generateCookie(String username) {
         try {
@@ -299,10 +306,9 @@ public class SessionManager /* compliments DoeSessionDriver*/ {
     private String getPasscrypt(String username) {
         try {
             String passcrypt = null;
-            Unmarshaller u = jaxbContext.createUnmarshaller();
             File pwd = new File(PASSWD);
             FileInputStream is = new FileInputStream(pwd);
-            PasswordFile passwd = (PasswordFile) u.unmarshal(is);
+            PasswordFile passwd = readPasswordFile(is);
             List<User> users = passwd.getUser();
             for (User user : users) {
                 if (user.getName().equals(username)) {
@@ -0,0 +1,247 @@
+/*
+ * TaskStatistics.java
+ *
+ * All of the design point and replication statistics of one Gridlet task,
+ * batched into a single message for its GridRunner.
+ *
+ * Rows are held in columns of JDK types only, so that in local mode the
+ * columns pass between the Gridlet's LocalBootLoader and the GridRunner's
+ * loader as they are, without serialization. In grid mode the same columns
+ * travel as one compact binary XML-RPC argument.
+ */
+package viskit.gridlet;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+public class TaskStatistics
+{
+    public static final int MAGIC   = 0x564B5453; // "VKTS"
+    public static final int VERSION = 1;
+
+    /** replication index of a design point statistic */
+    public static final int DESIGN_POINT = -1;
+
+    /** values per row, in this order */
+    public static final int MIN_OBS = 0, MAX_OBS = 1, MEAN = 2, VARIANCE = 3, STANDARD_DEVIATION = 4, VALUES_PER_ROW = 5;
+
+    private String[] names;
+    // name of the IndexedSampleStatistics a row belongs to, or null
+    private String[] indexedNames;
+    private String[] samplingTypes;
+    private int[]    replications;
+    private int[]    counts;
+    private double[] values;
+    private int      rowCount;
+
+    public TaskStatistics() {
+        this(16);
+    }
+
+    public TaskStatistics(int capacity) {
+        capacity = Math.max(1, capacity);
+        names         = new String[capacity];
+        indexedNames  = new String[capacity];
+        samplingTypes = new String[capacity];
+        replications  = new int[capacity];
+        counts        = new int[capacity];
+        values        = new double[capacity * VALUES_PER_ROW];
+    }
+
+    /**
+     * @param replication replication index, or DESIGN_POINT
+     * @param indexedName name of the enclosing IndexedSampleStatistics, or null
+     * @param stat the statistic
+     */
+    public void add(int replication, String indexedName, simkit.stat.SampleStatistics stat) {
+        if (rowCount == names.length) {
+            grow();
+        }
+        names[rowCount]         = stat.getName();
+        indexedNames[rowCount]  = indexedName;
+        samplingTypes[rowCount] = String.valueOf(stat.getSamplingType());
+        replications[rowCount]  = replication;
+        counts[rowCount]        = stat.getCount();
+        int v = rowCount * VALUES_PER_ROW;
+        values[v + MIN_OBS]            = stat.getMinObs();
+        values[v + MAX_OBS]            = stat.getMaxObs();
+        values[v + MEAN]               = stat.getMean();
+        values[v + VARIANCE]           = stat.getVariance();
+        values[v + STANDARD_DEVIATION] = stat.getStandardDeviation();
+        rowCount++;
+    }
+
+    private void grow() {
+        int capacity = names.length * 2;
+        names         = Arrays.copyOf(names, capacity);
+        indexedNames  = Arrays.copyOf(indexedNames, capacity);
+        samplingTypes = Arrays.copyOf(samplingTypes, capacity);
+        replications  = Arrays.copyOf(replications, capacity);
+        counts        = Arrays.copyOf(counts, capacity);
+        values        = Arrays.copyOf(values, capacity * VALUES_PER_ROW);
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public String getName(int row) {
+        return names[row];
+    }
+
+    public String getIndexedName(int row) {
+        return indexedNames[row];
+    }
+
+    public String getSamplingType(int row) {
+        return samplingTypes[row];
+    }
+
+    public int getReplication(int row) {
+        return replications[row];
+    }
+
+    public int getCount(int row) {
+        return counts[row];
+    }
+
+    /**
+     * @param row the row
+     * @param value one of MIN_OBS, MAX_OBS, MEAN, VARIANCE or STANDARD_DEVIATION
+     * @return the value
+     */
+    public double getValue(int row, int value) {
+        return values[row * VALUES_PER_ROW + value];
+    }
+
+    /**
+     * The columns as JDK arrays, for handing to a GridRunner from another
+     * class loader without copying
+     *
+     * @return rowCount, names, indexedNames, samplingTypes, replications, counts, values
+     */
+    public Object[] toColumns() {
+        return new Object[] {rowCount, names, indexedNames, samplingTypes, replications, counts, values};
+    }
+
+    /**
+     * @param columns as returned by toColumns(), possibly from another class loader
+     * @return statistics wrapping those columns
+     */
+    public static TaskStatistics fromColumns(Object[] columns) {
+        TaskStatistics taskStatistics = new TaskStatistics(1);
+        taskStatistics.rowCount      = (Integer)  columns[0];
+        taskStatistics.names         = (String[]) columns[1];
+        taskStatistics.indexedNames  = (String[]) columns[2];
+        taskStatistics.samplingTypes = (String[]) columns[3];
+        taskStatistics.replications  = (int[])    columns[4];
+        taskStatistics.counts        = (int[])    columns[5];
+        taskStatistics.values        = (double[]) columns[6];
+        return taskStatistics;
+    }
+
+    /**
+     * Encodes all rows, with repeated names and sampling types written once
+     *
+     * @return the binary message
+     * @throws IOException not expected writing to memory
+     */
+    public byte[] toBytes() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + rowCount * 56);
+        DataOutputStream out = new DataOutputStream(bytes);
+        StringTable stringTable = new StringTable();
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(rowCount);
+        for (int row = 0; row < rowCount; row++) {
+            stringTable.write(out, names[row]);
+            stringTable.write(out, indexedNames[row]);
+            stringTable.write(out, samplingTypes[row]);
+            out.writeInt(replications[row]);
+            out.writeInt(counts[row]);
+            for (int v = 0; v < VALUES_PER_ROW; v++) {
+                out.writeDouble(values[row * VALUES_PER_ROW + v]);
+            }
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @param message as written by toBytes()
+     * @return the decoded statistics
+     * @throws IOException if the message is truncated or not TaskStatistics
+     */
+    public static TaskStatistics fromBytes(byte[] message) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(message));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("not a TaskStatistics message");
+        }
+        int version = in.readInt();
+        if (version != VERSION) {
+            throw new IOException("unsupported TaskStatistics version " + version);
+        }
+        int rows = in.readInt();
+        TaskStatistics taskStatistics = new TaskStatistics(rows);
+        String[] stringTable = new String[16];
+        int strings = 0;
+        int index;
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < 3; column++) {
+                index = in.readInt();
+                String s;
+                if (index == -1) {
+                    s = null;
+                } else if (index == strings) {
+                    s = in.readUTF();
+                    if (strings == stringTable.length) {
+                        stringTable = Arrays.copyOf(stringTable, strings * 2);
+                    }
+                    stringTable[strings++] = s;
+                } else {
+                    s = stringTable[index];
+                }
+                switch (column) {
+                    case 0:  taskStatistics.names[row] = s;         break;
+                    case 1:  taskStatistics.indexedNames[row] = s;  break;
+                    default: taskStatistics.samplingTypes[row] = s; break;
+                }
+            }
+            taskStatistics.replications[row] = in.readInt();
+            taskStatistics.counts[row] = in.readInt();
+            for (int v = 0; v < VALUES_PER_ROW; v++) {
+                taskStatistics.values[row * VALUES_PER_ROW + v] = in.readDouble();
+            }
+        }
+        taskStatistics.rowCount = rows;
+        return taskStatistics;
+    }
+
+    // strings are written as their table index, followed by the string
+    // itself the first time it appears; -1 is null
+    private static class StringTable {
+        private final Map<String, Integer> indices = new HashMap<>();
+
+        void write(DataOutputStream out, String s) throws IOException {
+            if (s == null) {
+                out.writeInt(-1);
+                return;
+            }
+            Integer index = indices.get(s);
+            if (index != null) {
+                out.writeInt(index);
+            } else {
+                index = indices.size();
+                indices.put(s, index);
+                out.writeInt(index);
+                out.writeUTF(s);
+            }
+        }
+    }
+}
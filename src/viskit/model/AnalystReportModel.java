@@ -37,6 +37,9 @@ import edu.nps.util.TempFileManager;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.lang.reflect.InvocationTargetException;
 import java.text.SimpleDateFormat;
 import java.util.*;
@@ -50,7 +53,10 @@ import org.apache.logging.log4j.Logger;
 import org.jdom.Document;
 import org.jdom.Element;
 import org.jdom.JDOMException;
+import org.jdom.ProcessingInstruction;
 import org.jdom.filter.ElementFilter;
+import org.jdom.output.Format;
+import org.jdom.output.XMLOutputter;
 
 import viskit.util.EventGraphCache;
 import viskit.ViskitGlobals;
@@ -65,6 +71,9 @@ import viskit.doe.FileHandler;
 import viskit.mvc.MvcAbstractModel;
 import viskit.reports.HistogramChart;
 import viskit.reports.LinearRegressionChart;
+import viskit.reports.ReplicationStatisticsTable;
+import viskit.reports.ReplicationsSidecar;
+import viskit.reports.ReportStatisticsWriter;
 import static viskit.model.PropertyChangeListenerNode.METHOD_isStatisticTypeCount;
 
 /** This class constructs and exports an analyst report based on the parameters
@@ -87,7 +96,7 @@ public final class AnalystReportModel extends MvcAbstractModel
     
     private String assemblyName;
 
-    /** The viskit.reports.ReportStatisticsDOM object for this report */
+    /** The viskit.reports.ReportStatisticsWriter statistics file for this report */
     private Document statisticsReportDocument;
     private String   statisticsReportPath;
 
@@ -129,6 +138,8 @@ public final class AnalystReportModel extends MvcAbstractModel
     public static final String PARAMETER_TABLES            = "ParameterTables";
     public static final String REPLICATION                 = "Replication";
     public static final String REPLICATION_REPORT          = "ReplicationReport";
+    /** Attributes of a Replication element, in the order of a replication row */
+    private static final String[] REPLICATION_ATTRIBUTES   = {"number", "count", "minObs", "maxObs", "mean", "stdDeviation", "variance"};
     public static final String SCENARIO_LOCATION           = "ScenarioLocation";
     public static final String SIM_ENTITY                  = "SimEntity";
     public static final String SIMULATION_CONFIGURATION    = "SimulationConfiguration";
@@ -301,13 +312,56 @@ public final class AnalystReportModel extends MvcAbstractModel
     private void _writeCommon(File file) 
     {
         try {
-            FileHandler.marshallJdom(file, reportJdomDocument, false);
+            if (replicationsSidecar == null)
+                FileHandler.marshallJdom(file, reportJdomDocument, false);
+            else
+                try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+                    new ReplicationsOutputter().output(reportJdomDocument, writer);
+                }
         } 
         catch (IOException | JDOMException e) {
             LOG.error("_writeCommon(" + file.getName() + ") Bad JDOM operation: {}: ", e);
         }
     }
 
+    /** Target of the processing instruction that stands in for the Replication
+     * elements of a statistic whose rows are in the replications sidecar file */
+    private static final String REPLICATIONS_INSTRUCTION = "replications";
+
+    /** Writes the rows of each statistic straight from the replications sidecar
+     * file in place of its processing instruction, as Replication elements */
+    private class ReplicationsOutputter extends XMLOutputter
+    {
+        ReplicationsOutputter() {
+            super(Format.getPrettyFormat());
+        }
+
+        @Override
+        protected void printProcessingInstruction(Writer out, ProcessingInstruction processingInstruction) throws IOException
+        {
+            if (!processingInstruction.getTarget().equals(REPLICATIONS_INSTRUCTION)) {
+                super.printProcessingInstruction(out, processingInstruction);
+                return;
+            }
+            Element entityElement = (Element) processingInstruction.getParent();
+
+            // Each row after the first on its own line, indented as the pretty format indents the first
+            StringBuilder newLine = new StringBuilder(getFormat().getLineSeparator());
+            for (Element ancestor = entityElement; ancestor != null; ancestor = ancestor.getParentElement())
+                newLine.append(getFormat().getIndent());
+            boolean[] first = {true};
+            replicationsSidecar.readReplications(entityElement.getAttributeValue(NAME), entityElement.getAttributeValue(PROPERTY), replication -> {
+                if (!first[0])
+                    out.write(newLine.toString());
+                first[0] = false;
+                out.write("<" + REPLICATION);
+                for (int i = 0; i < REPLICATION_ATTRIBUTES.length; i++)
+                    out.write(" " + REPLICATION_ATTRIBUTES[i] + "=\"" + escapeAttributeEntities(replication[i]) + "\"");
+                out.write(" />");
+            });
+        }
+    }
+
     /**
      * Parse a completed Analyst Report from XML
      * @param analystReportXmlFile the XML file to parse
@@ -483,6 +537,14 @@ public final class AnalystReportModel extends MvcAbstractModel
             simEntityVector.add(simEntityElement.getAttributeValue(PROPERTY));
 
             r = new Vector<>();
+            if (isInSidecar(simEntityElement)) {
+                try {
+                    replicationsSidecar.readReplications(simEntityElement.getAttributeValue(NAME), simEntityElement.getAttributeValue(PROPERTY), r::add);
+                }
+                catch (IOException ex) {
+                    LOG.error("unMakeReplicationList() exception: " + ex);
+                }
+            }
             List<Element> replicationElementList = simEntityElement.getChildren(REPLICATION);
             for(Element replicationElement : replicationElementList) {
                 sa = new String[7];
@@ -855,12 +917,14 @@ public final class AnalystReportModel extends MvcAbstractModel
         HistogramChart histogramChart = new HistogramChart();
         LinearRegressionChart linearRegressionChart = new LinearRegressionChart();
         String chartTitle, axisLabel, typeStatistic = "", dataPointProperty;
-        List<Element> dataPointsElementList, replicationReportsElementList, replicationsElementList;
+        List<Element> dataPointsElementList, replicationReportsElementList;
+        List<String[]> replicationRowsList;
         boolean isCount;
         Object obj;
         Element entityElement, histogramChartUrlElement, linearRegressionChartUrlElement, replicationRecordElement;
-        double[] dataArray;
-        int index;
+        double[] dataArray, storeDataArray;
+        int index, valueColumn;
+        String entityName;
         for (Element simEntityElement : simEntitiesElementList) 
         {
             dataPointsElementList = simEntityElement.getChildren("DataPoint");
@@ -892,27 +956,42 @@ public final class AnalystReportModel extends MvcAbstractModel
                 axisLabel  = dataPoint.getAttributeValue(PROPERTY) ;
 
                 for (Element replicationReport : replicationReportsElementList) {
-                    replicationsElementList = replicationReport.getChildren(REPLICATION);
+                    entityName = simEntityElement.getAttributeValue(NAME);
+                    valueColumn = typeStatistic.equals("count") ? 1 : 4;
 
-                    // Create a data set instance and histogramChart for each replication report
-                    dataArray = new double[replicationReport.getChildren().size()];
-                    index = 0;
-                    for (Element replication : replicationsElementList) 
+                    // Unrounded values straight from the binary store, where there is one
+                    storeDataArray = getStoredValues(replicationReport, entityName, dataPointProperty, 
+                            typeStatistic.equals("count") ? ReplicationStatisticsTable.Column.COUNT : ReplicationStatisticsTable.Column.MEAN);
+
+                    if (openReplicationsSidecar(replicationReport))
+                    {
+                        // The rows stay in the sidecar file until the report is written
+                        entityElement.addContent(new ProcessingInstruction(REPLICATIONS_INSTRUCTION, ""));
+                        dataArray = storeDataArray;
+                        if (dataArray == null || dataArray.length != replicationsSidecar.getReplicationCount(entityName, dataPointProperty))
+                            dataArray = getSidecarValues(entityName, dataPointProperty, valueColumn);
+                    }
+                    else
                     {
-                        replicationRecordElement = new Element(REPLICATION);
-                        replicationRecordElement.setAttribute("number",       replication.getAttributeValue("number"));
-                        replicationRecordElement.setAttribute("count",        replication.getAttributeValue("count"));
-                        replicationRecordElement.setAttribute("minObs",       replication.getAttributeValue("minObs"));
-                        replicationRecordElement.setAttribute("maxObs",       replication.getAttributeValue("maxObs"));
-                        replicationRecordElement.setAttribute("mean",         replication.getAttributeValue("mean"));
-                        replicationRecordElement.setAttribute("stdDeviation", replication.getAttributeValue("stdDeviation"));
-                        replicationRecordElement.setAttribute("variance",     replication.getAttributeValue("variance"));
-                        entityElement.addContent(replicationRecordElement);
-
-                        // Add the raw count, or mean of replication data to the chart generators
-                        LOG.debug(replication.getAttributeValue(typeStatistic));
-                        dataArray[index] = Double.parseDouble(replication.getAttributeValue(typeStatistic));
-                        index++;
+                        replicationRowsList = getReplicationRows(replicationReport);
+
+                        // Create a data set instance and histogramChart for each replication report
+                        dataArray = new double[replicationRowsList.size()];
+                        index = 0;
+                        for (String[] replication : replicationRowsList) 
+                        {
+                            replicationRecordElement = new Element(REPLICATION);
+                            for (int i = 0; i < REPLICATION_ATTRIBUTES.length; i++)
+                                replicationRecordElement.setAttribute(REPLICATION_ATTRIBUTES[i], replication[i]);
+                            entityElement.addContent(replicationRecordElement);
+
+                            // Add the raw count, or mean of replication data to the chart generators
+                            LOG.debug(replication[valueColumn]);
+                            dataArray[index] = Double.parseDouble(replication[valueColumn]);
+                            index++;
+                        }
+                        if (storeDataArray != null && storeDataArray.length == dataArray.length)
+                            dataArray = storeDataArray;
                     }
 
                     histogramChartUrlElement        = new Element(HISTOGRAM_CHART);
@@ -938,9 +1017,125 @@ public final class AnalystReportModel extends MvcAbstractModel
                 }
             }
         }
+        if (replicationStatisticsTable != null)
+        {
+            try {
+                replicationStatisticsTable.close();
+            } 
+            catch (IOException ex) {
+                LOG.error("makeReplicationReport() exception: " + ex);
+            }
+            replicationStatisticsTable = null;
+        }
         return replicationReportsElement;
     }
 
+    /** The statistics file's binary store, open while making the replication report */
+    private ReplicationStatisticsTable replicationStatisticsTable;
+
+    /** The statistics file's replications sidecar, indexed by statistic in a
+     * single pass, its rows read again only when the report is written */
+    private ReplicationsSidecar replicationsSidecar;
+
+    /**
+     * @param replicationReport a ReplicationReport element of the statistics file
+     * @return true if its rows are in the replications sidecar file, now indexed
+     */
+    private boolean openReplicationsSidecar(Element replicationReport)
+    {
+        String sidecarFileName = replicationReport.getAttributeValue(ReportStatisticsWriter.FILE_ATTRIBUTE);
+        if (sidecarFileName == null)
+            return false;
+        if (replicationsSidecar != null)
+            return true;
+        try {
+            replicationsSidecar = new ReplicationsSidecar(new File(new File(statisticsReportPath).getParentFile(), sidecarFileName));
+            return true;
+        } 
+        catch (IOException ex) {
+            LOG.error("openReplicationsSidecar() exception: " + ex);
+            return false;
+        }
+    }
+
+    /**
+     * @param simEntityElement a SimEntity element of the ReplicationReports
+     * @return true if its Replication rows are written from the sidecar file
+     */
+    private boolean isInSidecar(Element simEntityElement)
+    {
+        if (replicationsSidecar == null)
+            return false;
+        for (Object content : simEntityElement.getContent())
+            if (content instanceof ProcessingInstruction && ((ProcessingInstruction) content).getTarget().equals(REPLICATIONS_INSTRUCTION))
+                return true;
+        return false;
+    }
+
+    /**
+     * @param entityName the SimEntity of the statistic
+     * @param property the property of the statistic
+     * @param valueColumn the column of the rows to chart
+     * @return that column of the statistic's rows in the sidecar file
+     */
+    private double[] getSidecarValues(String entityName, String property, int valueColumn)
+    {
+        double[] values = new double[replicationsSidecar.getReplicationCount(entityName, property)];
+        int[] index = {0};
+        try {
+            replicationsSidecar.readReplications(entityName, property, replication -> values[index[0]++] = Double.parseDouble(replication[valueColumn]));
+        } 
+        catch (IOException ex) {
+            LOG.error("getSidecarValues() exception: " + ex);
+        }
+        return values;
+    }
+
+    /**
+     * Replication records of one statistic contained in its ReplicationReport
+     * element, as in statistics files written before the sidecar file
+     *
+     * @param replicationReport a ReplicationReport element of the statistics file
+     * @return rows of number, count, minObs, maxObs, mean, stdDeviation and variance
+     */
+    @SuppressWarnings("unchecked")
+    private List<String[]> getReplicationRows(Element replicationReport)
+    {
+        List<String[]> replicationRowsList = new ArrayList<>();
+        String[] row;
+        for (Element replication : (List<Element>) replicationReport.getChildren(REPLICATION))
+        {
+            row = new String[REPLICATION_ATTRIBUTES.length];
+            for (int i = 0; i < REPLICATION_ATTRIBUTES.length; i++)
+                row[i] = replication.getAttributeValue(REPLICATION_ATTRIBUTES[i]);
+            replicationRowsList.add(row);
+        }
+        return replicationRowsList;
+    }
+
+    /**
+     * @param replicationReport a ReplicationReport element of the statistics file
+     * @param entityName the SimEntity of the statistic
+     * @param property the property of the statistic
+     * @param column the value wanted
+     * @return the statistic's values from the binary store the report names, or null if none
+     */
+    private double[] getStoredValues(Element replicationReport, String entityName, String property, ReplicationStatisticsTable.Column column)
+    {
+        String storeFileName = replicationReport.getAttributeValue(ReportStatisticsWriter.STORE_ATTRIBUTE);
+        if (storeFileName == null)
+            return null;
+        try {
+            if (replicationStatisticsTable == null)
+                replicationStatisticsTable = ReplicationStatisticsTable.open(new File(new File(statisticsReportPath).getParentFile(), storeFileName));
+            return replicationStatisticsTable.getValues(entityName + "_" + property, column);
+        } 
+        catch (IOException ex) {
+            LOG.error("getStoredValues() exception: " + ex);
+            return null;
+        }
+    }
+
     /**
      * Converts boolean input into a 'true'/'false' string representation for
      * use as an attribute value in the Analyst report XML.
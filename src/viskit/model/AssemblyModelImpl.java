@@ -9,10 +9,8 @@ import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
 import java.util.*;
 import javax.swing.JOptionPane;
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
-import javax.xml.bind.Unmarshaller;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import viskit.ViskitGlobals;
@@ -21,9 +19,9 @@ import viskit.ViskitUserConfiguration;
 import viskit.util.FileBasedAssemblyNode;
 import viskit.control.AssemblyControllerImpl;
 import viskit.mvc.MvcAbstractModel;
+import viskit.util.JAXBContextRegistry;
 import viskit.util.XMLValidationTool;
 import viskit.xsd.bindings.assembly.*;
-import viskit.xsd.translator.assembly.SimkitAssemblyXML2Java;
 import static viskit.view.SimulationRunPanel.SIMULATION_STOP_TIME_DEFAULT;
 
 /**
@@ -40,7 +38,6 @@ public class AssemblyModelImpl extends MvcAbstractModel implements AssemblyModel
 {
     static final Logger LOG = LogManager.getLogger();
     
-    private static JAXBContext jaxbContext;
     private viskit.xsd.bindings.assembly.ObjectFactory jaxbAssemblyObjectFactory;
     private SimkitAssembly simkitAssemblyJaxbRoot;
     private String         currentAssemblyModelName = new String();
@@ -66,8 +63,7 @@ public class AssemblyModelImpl extends MvcAbstractModel implements AssemblyModel
     public void initialize() 
     {
         try {
-            if (jaxbContext == null) // avoid JAXBException (perhaps due to concurrency)
-                jaxbContext = JAXBContext.newInstance(SimkitAssemblyXML2Java.ASSEMBLY_BINDINGS);
+            JAXBContextRegistry.getContext(JAXBContextRegistry.ASSEMBLY);
             jaxbAssemblyObjectFactory = new viskit.xsd.bindings.assembly.ObjectFactory();
             simkitAssemblyJaxbRoot = jaxbAssemblyObjectFactory.createSimkitAssembly(); // to start with empty graph
         } 
@@ -117,11 +113,10 @@ public class AssemblyModelImpl extends MvcAbstractModel implements AssemblyModel
         else 
         {
             try {
-                Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-
                 // Check for inadvertant opening of an Event Graph, tough to do, yet possible (bugfix 1248)
                 try {
-                    simkitAssemblyJaxbRoot = (SimkitAssembly) unmarshaller.unmarshal(newAssemblyModelFile);
+                    simkitAssemblyJaxbRoot = JAXBContextRegistry.withUnmarshaller(JAXBContextRegistry.ASSEMBLY,
+                            unmarshaller -> (SimkitAssembly) unmarshaller.unmarshal(newAssemblyModelFile));
                 } 
                 catch (ClassCastException cce) {
                     // If we get here, they've tried to load an event graph.
@@ -218,9 +213,6 @@ public class AssemblyModelImpl extends MvcAbstractModel implements AssemblyModel
         try 
         {
             fileWriter = new FileWriter(tempAssemblyMarshallFile);
-            Marshaller assemblyMarshaller = jaxbContext.createMarshaller();
-            assemblyMarshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-            assemblyMarshaller.setProperty(Marshaller.JAXB_NO_NAMESPACE_SCHEMA_LOCATION, schemaLocation);
 
             simkitAssemblyJaxbRoot.setName       (ViskitStatics.nullIfEmpty(graphMetadata.name));
             simkitAssemblyJaxbRoot.setVersion    (ViskitStatics.nullIfEmpty(graphMetadata.version));
@@ -310,7 +302,12 @@ public class AssemblyModelImpl extends MvcAbstractModel implements AssemblyModel
             simkitAssemblyJaxbRoot.getSchedule().setSaveReplicationData(String.valueOf(ViskitGlobals.instance().getSimulationRunPanel().analystReportCB.isSelected()));
             simkitAssemblyJaxbRoot.getSchedule().setVerbose(String.valueOf(graphMetadata.verbose));
 
-            assemblyMarshaller.marshal(simkitAssemblyJaxbRoot, fileWriter);
+            final FileWriter assemblyFileWriter = fileWriter;
+            JAXBContextRegistry.withMarshaller(JAXBContextRegistry.ASSEMBLY, schemaLocation, assemblyMarshaller -> {
+                assemblyMarshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+                assemblyMarshaller.marshal(simkitAssemblyJaxbRoot, assemblyFileWriter);
+                return null;
+            });
 
             // OK, made it through the marshal, overwrite the "real" file
             Files.copy(tempAssemblyMarshallFile.toPath(), savableAssemblyModelFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
@@ -14,10 +14,8 @@ import java.util.regex.Pattern;
 
 import javax.swing.JOptionPane;
 import javax.swing.tree.DefaultMutableTreeNode;
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
-import javax.xml.bind.Unmarshaller;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -26,10 +24,9 @@ import viskit.ViskitStatics;
 import viskit.ViskitUserConfiguration;
 import viskit.control.EventGraphControllerImpl;
 import viskit.mvc.MvcAbstractModel;
+import viskit.util.JAXBContextRegistry;
 import viskit.util.XMLValidationTool;
 import viskit.xsd.bindings.eventgraph.*;
-import viskit.xsd.translator.assembly.SimkitAssemblyXML2Java;
-import viskit.xsd.translator.eventgraph.SimkitEventGraphXML2Java;
 import viskit.mvc.MvcController;
 
 /**
@@ -54,7 +51,6 @@ public class EventGraphModelImpl extends MvcAbstractModel implements Model
     static final Logger LOG = LogManager.getLogger();
     
     File currentFile;
-    private static JAXBContext jaxbContext;
     ObjectFactory         jaxbEventGraphObjectFactory;
     SimEntity             simEntityJaxbRoot;
     Map<Event, EventNode> eventNodeCacheMap           = new HashMap<>();
@@ -95,8 +91,7 @@ public class EventGraphModelImpl extends MvcAbstractModel implements Model
     public void initialize() 
     {
         try {
-            if (jaxbContext == null) // avoid JAXBException (perhaps due to concurrency)
-                jaxbContext = JAXBContext.newInstance(SimkitEventGraphXML2Java.EVENT_GRAPH_BINDINGS);
+            JAXBContextRegistry.getContext(JAXBContextRegistry.EVENT_GRAPH);
             jaxbEventGraphObjectFactory = new viskit.xsd.bindings.eventgraph.ObjectFactory();
             simEntityJaxbRoot = jaxbEventGraphObjectFactory.createSimEntity(); // to start with empty graph
         } 
@@ -136,6 +131,19 @@ public class EventGraphModelImpl extends MvcAbstractModel implements Model
 
     @Override
     public boolean newModel(File modelFile) 
+    {
+        return newModel(modelFile, null);
+    }
+
+    /**
+     * Builds the model of an Event Graph which may have been unmarshalled
+     * already, e.g. off the event dispatch thread while opening a project
+     *
+     * @param modelFile the Event Graph file, or null for an empty graph
+     * @param unmarshalledSimEntity the file's contents, or null to unmarshal it here
+     * @return true if the model was built
+     */
+    public boolean newModel(File modelFile, SimEntity unmarshalledSimEntity) 
     {
               stateVariableElements.removeAllElements();
         simulationParameterElements.removeAllElements();
@@ -151,8 +159,9 @@ public class EventGraphModelImpl extends MvcAbstractModel implements Model
             try {
                 currentFile = modelFile;
 
-                Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-                simEntityJaxbRoot = (SimEntity) unmarshaller.unmarshal(currentFile);
+                simEntityJaxbRoot = (unmarshalledSimEntity != null) ? unmarshalledSimEntity :
+                        JAXBContextRegistry.withUnmarshaller(JAXBContextRegistry.EVENT_GRAPH,
+                        unmarshaller -> (SimEntity) unmarshaller.unmarshal(currentFile));
 
                 GraphMetadata myGraphMetadata = new GraphMetadata(this);
                 myGraphMetadata.name                  = ViskitStatics.emptyIfNull(simEntityJaxbRoot.getName());
@@ -191,10 +200,8 @@ public class EventGraphModelImpl extends MvcAbstractModel implements Model
             {
                 // want a clear way to know if they're trying to load an assembly vs. some unspecified XML.
                 try {
-                    if (jaxbContext == null) // avoid JAXBException (perhaps due to concurrency)
-                        jaxbContext = JAXBContext.newInstance(SimkitAssemblyXML2Java.ASSEMBLY_BINDINGS);
-                    Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-                    unmarshaller.unmarshal(modelFile);
+                    JAXBContextRegistry.withUnmarshaller(JAXBContextRegistry.ASSEMBLY,
+                            unmarshaller -> unmarshaller.unmarshal(modelFile));
                     // If we get here, we've tried to load an assembly into the Event Graph editor
                     ViskitGlobals.instance().messageUser(JOptionPane.ERROR_MESSAGE,
                             "This file is an Assembly",
@@ -253,10 +260,6 @@ public class EventGraphModelImpl extends MvcAbstractModel implements Model
         try {
             // save metadata
             fileWriter = new FileWriter(tempFile);
-            Marshaller marshaller = jaxbContext.createMarshaller();
-            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-            marshaller.setProperty(Marshaller.JAXB_NO_NAMESPACE_SCHEMA_LOCATION, schemaLocation);
-
             simEntityJaxbRoot.setName       (ViskitStatics.nullIfEmpty(graphMetadata.name));
             simEntityJaxbRoot.setVersion    (ViskitStatics.nullIfEmpty(graphMetadata.version));
             simEntityJaxbRoot.setAuthor     (ViskitStatics.nullIfEmpty(graphMetadata.author));
@@ -332,7 +335,12 @@ public class EventGraphModelImpl extends MvcAbstractModel implements Model
 //                clis.add(cmt.trim());
 //            }
 
-            marshaller.marshal(simEntityJaxbRoot, fileWriter);
+            final FileWriter eventGraphFileWriter = fileWriter;
+            JAXBContextRegistry.withMarshaller(JAXBContextRegistry.EVENT_GRAPH, schemaLocation, marshaller -> {
+                marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+                marshaller.marshal(simEntityJaxbRoot, eventGraphFileWriter);
+                return null;
+            });
 
             // OK, made it through the marshal, overwrite the "real" file
             Files.copy(tempFile.toPath(), currentFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
@@ -0,0 +1,180 @@
+/*
+Copyright (c) 1995-2025 held by the author(s).  All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions
+are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer
+      in the documentation and/or other materials provided with the
+      distribution.
+    * Neither the names of the Naval Postgraduate School (NPS)
+      Modeling, Virtual Environments and Simulation (MOVES) Institute
+      (http://www.nps.edu and https://my.nps.edu/web/moves)
+      nor the names of its contributors may be used to endorse or
+      promote products derived from this software without specific
+      prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+"AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+POSSIBILITY OF SUCH DAMAGE.
+*/
+package viskit.reports;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Appends per-replication statistics to a compact columnar binary file, one
+ * file per assembly run or DOE experiment, to be read back with
+ * {@link ReplicationStatisticsTable}.  Rows are buffered in primitive arrays
+ * and written in blocks, each block holding its columns contiguously:
+ * <pre>
+ *   header  int MAGIC, int VERSION
+ *   name    byte NAME_RECORD,  int statistic id, UTF statistic name
+ *   block   byte BLOCK_RECORD, int rows,
+ *           int[rows] designPoint, int[rows] sample, int[rows] replication, int[rows] statistic,
+ *           long[rows] count, double[rows] minObs, maxObs, mean, variance
+ * </pre>
+ * A statistic's name record always precedes the first block using its id.
+ *
+ * @version $Id$
+ */
+public class ReplicationStatisticsStore
+{
+    /** "VKRS" */
+    public static final int MAGIC = 0x564B5253;
+    public static final int VERSION = 1;
+    public static final byte NAME_RECORD = 1;
+    public static final byte BLOCK_RECORD = 2;
+
+    /** Rows buffered before a block is written */
+    public static final int BLOCK_ROWS = 4096;
+
+    private final File file;
+    private final DataOutputStream dataOutputStream;
+    private final Map<String, Integer> statisticIds = new HashMap<>();
+
+    private final int[]    designPoints = new int[BLOCK_ROWS];
+    private final int[]    samples      = new int[BLOCK_ROWS];
+    private final int[]    replications = new int[BLOCK_ROWS];
+    private final int[]    statistics   = new int[BLOCK_ROWS];
+    private final long[]   counts       = new long[BLOCK_ROWS];
+    private final double[] minObs       = new double[BLOCK_ROWS];
+    private final double[] maxObs       = new double[BLOCK_ROWS];
+    private final double[] means        = new double[BLOCK_ROWS];
+    private final double[] variances    = new double[BLOCK_ROWS];
+    private int rows;
+
+    /**
+     * @param file the store to create, replacing any existing file
+     * @throws IOException if the file can't be created
+     */
+    public ReplicationStatisticsStore(File file) throws IOException
+    {
+        this.file = file;
+        if (file.getParentFile() != null)
+            file.getParentFile().mkdirs();
+        dataOutputStream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), 1 << 16));
+        dataOutputStream.writeInt(MAGIC);
+        dataOutputStream.writeInt(VERSION);
+    }
+
+    /** @return the file being written */
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Appends one statistic of one replication
+     *
+     * @param designPoint the design point index, 0 outside of an experiment
+     * @param sample the sample index, 0 outside of an experiment
+     * @param replication the replication number
+     * @param statistic the statistic's name
+     * @param count number of observations
+     * @param minimum minimum observation
+     * @param maximum maximum observation
+     * @param mean mean of the observations
+     * @param variance variance of the observations
+     * @throws IOException if a full block can't be written
+     */
+    public synchronized void add(int designPoint, int sample, int replication, String statistic,
+            long count, double minimum, double maximum, double mean, double variance) throws IOException
+    {
+        Integer statisticId = statisticIds.get(statistic);
+        if (statisticId == null)
+        {
+            statisticId = statisticIds.size();
+            statisticIds.put(statistic, statisticId);
+            dataOutputStream.writeByte(NAME_RECORD);
+            dataOutputStream.writeInt(statisticId);
+            dataOutputStream.writeUTF(statistic);
+        }
+        designPoints[rows] = designPoint;
+        samples[rows]      = sample;
+        replications[rows] = replication;
+        statistics[rows]   = statisticId;
+        counts[rows]       = count;
+        minObs[rows]       = minimum;
+        maxObs[rows]       = maximum;
+        means[rows]        = mean;
+        variances[rows]    = variance;
+        if (++rows == BLOCK_ROWS)
+            writeBlock();
+    }
+
+    /** Hands the blocks written so far to the file system, e.g. at the end
+     * of a replication; rows of a block not yet full stay buffered, so that
+     * blocks are only ever cut at BLOCK_ROWS, or by close()
+     * @throws IOException if the stream can't be flushed
+     */
+    public synchronized void flush() throws IOException
+    {
+        dataOutputStream.flush();
+    }
+
+    /** Writes the remaining rows and closes the file
+     * @throws IOException if the file can't be written
+     */
+    public synchronized void close() throws IOException
+    {
+        writeBlock();
+        dataOutputStream.close();
+    }
+
+    private void writeBlock() throws IOException
+    {
+        if (rows == 0)
+            return;
+        dataOutputStream.writeByte(BLOCK_RECORD);
+        dataOutputStream.writeInt(rows);
+        for (int i = 0; i < rows; i++) dataOutputStream.writeInt(designPoints[i]);
+        for (int i = 0; i < rows; i++) dataOutputStream.writeInt(samples[i]);
+        for (int i = 0; i < rows; i++) dataOutputStream.writeInt(replications[i]);
+        for (int i = 0; i < rows; i++) dataOutputStream.writeInt(statistics[i]);
+        for (int i = 0; i < rows; i++) dataOutputStream.writeLong(counts[i]);
+        for (int i = 0; i < rows; i++) dataOutputStream.writeDouble(minObs[i]);
+        for (int i = 0; i < rows; i++) dataOutputStream.writeDouble(maxObs[i]);
+        for (int i = 0; i < rows; i++) dataOutputStream.writeDouble(means[i]);
+        for (int i = 0; i < rows; i++) dataOutputStream.writeDouble(variances[i]);
+        rows = 0;
+    }
+}
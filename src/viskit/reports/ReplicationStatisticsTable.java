@@ -0,0 +1,265 @@
+/*
+Copyright (c) 1995-2025 held by the author(s).  All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions
+are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer
+      in the documentation and/or other materials provided with the
+      distribution.
+    * Neither the names of the Naval Postgraduate School (NPS)
+      Modeling, Virtual Environments and Simulation (MOVES) Institute
+      (http://www.nps.edu and https://my.nps.edu/web/moves)
+      nor the names of its contributors may be used to endorse or
+      promote products derived from this software without specific
+      prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+"AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+POSSIBILITY OF SUCH DAMAGE.
+*/
+package viskit.reports;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read access to a file written by {@link ReplicationStatisticsStore}.  The
+ * file is memory mapped in a few large regions, each holding whole blocks,
+ * and only its block directory is read on opening, so
+ * post-processing, histograms and regressions get at the values of a
+ * statistic directly, without parsing the XML reports.
+ * <pre>
+ *   try (ReplicationStatisticsTable table = ReplicationStatisticsTable.open(file)) {
+ *       double[] means = table.getValues("server_delay", ReplicationStatisticsTable.Column.MEAN);
+ *   }
+ * </pre>
+ *
+ * @version $Id$
+ */
+public class ReplicationStatisticsTable implements AutoCloseable
+{
+    /** The columns of the table, STANDARD_DEVIATION is derived from VARIANCE */
+    public enum Column { DESIGN_POINT, SAMPLE, REPLICATION, COUNT, MIN_OBS, MAX_OBS, MEAN, VARIANCE, STANDARD_DEVIATION }
+
+    /** Selects any design point or sample */
+    public static final int ANY = -1;
+
+    /** Largest region of blocks mapped at once, a single mapping being limited to 2 GiB */
+    static final long MAP_REGION = 1L << 30;
+
+    private final FileChannel fileChannel;
+    private final Map<String, Integer> statisticIds = new LinkedHashMap<>();
+    private final List<ByteBuffer> blocks = new ArrayList<>();
+    private final List<Integer> blockRows = new ArrayList<>();
+    private int rowCount;
+
+    private ReplicationStatisticsTable(FileChannel fileChannel) {
+        this.fileChannel = fileChannel;
+    }
+
+    /**
+     * @param file a statistics store
+     * @return the opened table
+     * @throws IOException if the file can't be read, or is no statistics store
+     */
+    public static ReplicationStatisticsTable open(File file) throws IOException
+    {
+        FileChannel fileChannel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        ReplicationStatisticsTable table = new ReplicationStatisticsTable(fileChannel);
+        try {
+            table.readDirectory();
+        }
+        catch (IOException ex) {
+            fileChannel.close();
+            throw ex;
+        }
+        return table;
+    }
+
+    private void readDirectory() throws IOException
+    {
+        long size = fileChannel.size();
+        ByteBuffer record = ByteBuffer.allocate(8);
+        if (size < 8 || read(record, 0, 8).getInt() != ReplicationStatisticsStore.MAGIC || record.getInt() != ReplicationStatisticsStore.VERSION)
+            throw new IOException("not a replication statistics store");
+
+        // Only the small records are read, the blocks are mapped
+        // afterwards, see mapBlocks()
+        List<Long> blockPositions = new ArrayList<>();
+        long position = 8;
+        int rows;
+        while (position + 5 <= size)
+        {
+            read(record, position, 5);
+            byte tag = record.get();
+            if (tag == ReplicationStatisticsStore.NAME_RECORD)
+            {
+                int statisticId = record.getInt();
+
+                // modified UTF-8, preceded by its length in an unsigned short
+                int utfLength = read(ByteBuffer.allocate(2), position + 5, 2).getShort() & 0xFFFF;
+                ByteBuffer utf = read(ByteBuffer.allocate(2 + utfLength), position + 5, 2 + utfLength);
+                statisticIds.put(new DataInputStream(new ByteArrayInputStream(utf.array())).readUTF(), statisticId);
+                position += 5 + 2 + utfLength;
+            }
+            else if (tag == ReplicationStatisticsStore.BLOCK_RECORD)
+            {
+                rows = record.getInt();
+                long blockSize = (long) rows * (4 * Integer.BYTES + 5 * Long.BYTES);
+                if (position + 5 + blockSize > size)
+                    break; // partially written, e.g. a run still in progress
+                blockPositions.add(position + 5);
+                blockRows.add(rows);
+                rowCount += rows;
+                position += 5 + blockSize;
+            }
+            else
+                throw new IOException("corrupt replication statistics store at " + position);
+        }
+        mapBlocks(blockPositions);
+    }
+
+    // maps consecutive blocks together, up to MAP_REGION bytes at a time,
+    // rather than each block on its own, and slices the blocks out of them
+    private void mapBlocks(List<Long> blockPositions) throws IOException
+    {
+        int first = 0;
+        int last;
+        long regionStart;
+        long regionEnd;
+        ByteBuffer region;
+        while (first < blockPositions.size())
+        {
+            regionStart = blockPositions.get(first);
+            regionEnd = regionStart + blockSize(first);
+            last = first + 1;
+            while (last < blockPositions.size() && blockPositions.get(last) + blockSize(last) - regionStart <= MAP_REGION)
+            {
+                regionEnd = blockPositions.get(last) + blockSize(last);
+                last++;
+            }
+            region = fileChannel.map(FileChannel.MapMode.READ_ONLY, regionStart, regionEnd - regionStart);
+            for (int b = first; b < last; b++)
+                blocks.add(region.slice((int) (blockPositions.get(b) - regionStart), (int) blockSize(b)));
+            first = last;
+        }
+    }
+
+    private long blockSize(int block) {
+        return (long) blockRows.get(block) * (4 * Integer.BYTES + 5 * Long.BYTES);
+    }
+
+    private ByteBuffer read(ByteBuffer byteBuffer, long position, int length) throws IOException
+    {
+        byteBuffer.clear().limit(length);
+        while (byteBuffer.hasRemaining())
+        {
+            if (fileChannel.read(byteBuffer, position + byteBuffer.position()) < 0)
+                throw new IOException("truncated replication statistics store");
+        }
+        byteBuffer.flip();
+        return byteBuffer;
+    }
+
+    /** @return the names of the statistics, in order of first appearance */
+    public List<String> getStatisticNames() {
+        return Collections.unmodifiableList(new ArrayList<>(statisticIds.keySet()));
+    }
+
+    /** @return the number of rows, one per statistic per replication */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * @param statistic a statistic's name
+     * @param column the column to read
+     * @return the column's values for that statistic, in replication order
+     */
+    public double[] getValues(String statistic, Column column) {
+        return getValues(statistic, column, ANY, ANY);
+    }
+
+    /**
+     * @param statistic a statistic's name
+     * @param column the column to read
+     * @param designPoint a design point index, or {@link #ANY}
+     * @param sample a sample index, or {@link #ANY}
+     * @return the column's values for the selected rows, in the order written
+     */
+    public double[] getValues(String statistic, Column column, int designPoint, int sample)
+    {
+        Integer statisticId = statisticIds.get(statistic);
+        if (statisticId == null)
+            return new double[0];
+
+        double[] values = new double[16];
+        int count = 0;
+        for (int b = 0; b < blocks.size(); b++)
+        {
+            ByteBuffer block = blocks.get(b);
+            int rows = blockRows.get(b);
+            for (int row = 0; row < rows; row++)
+            {
+                if (block.getInt((3 * rows + row) * Integer.BYTES) != statisticId)
+                    continue;
+                if (designPoint != ANY && block.getInt(row * Integer.BYTES) != designPoint)
+                    continue;
+                if (sample != ANY && block.getInt((rows + row) * Integer.BYTES) != sample)
+                    continue;
+                if (count == values.length)
+                    values = Arrays.copyOf(values, count * 2);
+                values[count++] = getValue(block, rows, row, column);
+            }
+        }
+        return Arrays.copyOf(values, count);
+    }
+
+    private static double getValue(ByteBuffer block, int rows, int row, Column column)
+    {
+        int longs = 4 * rows * Integer.BYTES; // start of the 8 byte columns
+        switch (column)
+        {
+            case DESIGN_POINT:       return block.getInt(row * Integer.BYTES);
+            case SAMPLE:             return block.getInt((rows + row) * Integer.BYTES);
+            case REPLICATION:        return block.getInt((2 * rows + row) * Integer.BYTES);
+            case COUNT:              return block.getLong(longs + row * Long.BYTES);
+            case MIN_OBS:            return block.getDouble(longs + (rows + row) * Long.BYTES);
+            case MAX_OBS:            return block.getDouble(longs + (2 * rows + row) * Long.BYTES);
+            case MEAN:               return block.getDouble(longs + (3 * rows + row) * Long.BYTES);
+            case VARIANCE:           return block.getDouble(longs + (4 * rows + row) * Long.BYTES);
+            case STANDARD_DEVIATION: return Math.sqrt(block.getDouble(longs + (4 * rows + row) * Long.BYTES));
+            default:                 return Double.NaN;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        fileChannel.close();
+    }
+}
@@ -0,0 +1,188 @@
+/*
+Copyright (c) 1995-2025 held by the author(s).  All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions
+are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer
+      in the documentation and/or other materials provided with the
+      distribution.
+    * Neither the names of the Naval Postgraduate School (NPS)
+      Modeling, Virtual Environments and Simulation (MOVES) Institute
+      (http://www.nps.edu and https://my.nps.edu/web/moves)
+      nor the names of its contributors may be used to endorse or
+      promote products derived from this software without specific
+      prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+"AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+POSSIBILITY OF SUCH DAMAGE.
+*/
+package viskit.reports;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read access to a replications sidecar file written by
+ * {@link ReportStatisticsWriter}.  The file holds the rows of every statistic
+ * of a replication together, one replication after the other, so it is read
+ * once on opening to find where each statistic's rows start, and only those
+ * offsets are kept.  A statistic's rows are then read in replication order,
+ * one at a time, straight from the file.
+ *
+ * @version $Id$
+ */
+public class ReplicationsSidecar
+{
+    /** Receives the rows of one statistic */
+    public interface ReplicationConsumer
+    {
+        /**
+         * @param replication number, count, minObs, maxObs, mean, stdDeviation and variance
+         * @throws IOException if the row can't be handled
+         */
+        void accept(String[] replication) throws IOException;
+    }
+
+    private final File replicationsFile;
+    // file offsets of each statistic's rows, by statisticKey(), and how many there are
+    private final Map<String, long[]> offsets = new HashMap<>();
+    private final Map<String, Integer> counts = new HashMap<>();
+
+    /**
+     * Reads the file once, indexing its rows by statistic
+     * @param replicationsFile the sidecar file
+     * @throws IOException if the file can't be read
+     */
+    public ReplicationsSidecar(File replicationsFile) throws IOException
+    {
+        this.replicationsFile = replicationsFile;
+        List<String> fields = new ArrayList<>(9);
+        ByteArrayOutputStream line = new ByteArrayOutputStream(160);
+        long offset = 0;
+        long lineOffset = 0;
+        boolean header = true;
+        int b;
+        try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(replicationsFile.toPath()), 1 << 16))
+        {
+            while ((b = inputStream.read()) >= 0)
+            {
+                offset++;
+                if (b != '\n')
+                {
+                    line.write(b);
+                    continue;
+                }
+                if (!header)
+                    index(line, lineOffset, fields);
+                header = false;
+                line.reset();
+                lineOffset = offset;
+            }
+            if (!header && line.size() > 0)
+                index(line, lineOffset, fields);
+        }
+    }
+
+    private void index(ByteArrayOutputStream line, long lineOffset, List<String> fields)
+    {
+        ReportStatisticsWriter.splitCsv(line.toString(StandardCharsets.UTF_8).trim(), fields);
+        if (fields.size() < 9)
+            return;
+        String key = statisticKey(fields.get(0), fields.get(1));
+        int count = counts.getOrDefault(key, 0);
+        long[] statisticOffsets = offsets.get(key);
+        if (statisticOffsets == null)
+            statisticOffsets = new long[16];
+        else if (count == statisticOffsets.length)
+            statisticOffsets = Arrays.copyOf(statisticOffsets, count * 2);
+        statisticOffsets[count] = lineOffset;
+        offsets.put(key, statisticOffsets);
+        counts.put(key, count + 1);
+    }
+
+    private static String statisticKey(String entityName, String property)
+    {
+        return entityName + '\n' + property; // no field holds a line break
+    }
+
+    /**
+     * @param entityName the SimEntity of the statistic
+     * @param property the property of the statistic
+     * @return how many rows the statistic has
+     */
+    public int getReplicationCount(String entityName, String property)
+    {
+        return counts.getOrDefault(statisticKey(entityName, property), 0);
+    }
+
+    /**
+     * Reads one statistic's rows in replication order
+     * @param entityName the SimEntity of the statistic
+     * @param property the property of the statistic
+     * @param consumer receives each row in turn
+     * @throws IOException if the file can't be read, or the consumer fails
+     */
+    public void readReplications(String entityName, String property, ReplicationConsumer consumer) throws IOException
+    {
+        String key = statisticKey(entityName, property);
+        int count = counts.getOrDefault(key, 0);
+        if (count == 0)
+            return;
+        long[] statisticOffsets = offsets.get(key);
+        List<String> fields = new ArrayList<>(9);
+        byte[] buffer = new byte[256];
+        int length, end;
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(replicationsFile, "r"))
+        {
+            for (int i = 0; i < count; i++)
+            {
+                randomAccessFile.seek(statisticOffsets[i]);
+                length = 0;
+                end = -1;
+                while (end < 0)
+                {
+                    if (length == buffer.length)
+                        buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                    int read = randomAccessFile.read(buffer, length, buffer.length - length);
+                    if (read < 0)
+                        end = length;
+                    else
+                    {
+                        for (int j = length; j < length + read && end < 0; j++)
+                            if (buffer[j] == '\n')
+                                end = j;
+                        length += read;
+                    }
+                }
+                ReportStatisticsWriter.splitCsv(new String(buffer, 0, end, StandardCharsets.UTF_8).trim(), fields);
+                consumer.accept(fields.subList(2, 9).toArray(new String[7]));
+            }
+        }
+    }
+}
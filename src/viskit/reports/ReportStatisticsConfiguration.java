@@ -17,14 +17,10 @@ import org.apache.logging.log4j.LogManager;
 
 import org.apache.logging.log4j.Logger;
 
-import org.jdom.Document;
-import org.jdom.Element;
-import org.jdom.JDOMException;
 
 import simkit.stat.SampleStatistics;
 import viskit.ViskitProject;
 import viskit.ViskitStatics;
-import viskit.doe.FileHandler;
 
 /**
  * This class serves as the intermediate step between viskit.xsd.BasicAssembly and
@@ -68,10 +64,10 @@ public class ReportStatisticsConfiguration {
     private final DecimalFormat decimalFormat0, decimalFormat3;
 
     /**
-     * The DOM object this class uses to create an XML record of the simulation
-     * statistics
+     * Streams the record of the simulation statistics to disk as the run
+     * progresses
      */
-    private ReportStatisticsDOM reportStatisticsDOM;
+    private ReportStatisticsWriter reportStatisticsWriter;
 
     /**
      * Report author (system username)
@@ -95,19 +91,22 @@ public class ReportStatisticsConfiguration {
         decimalFormatSymbols.setInfinity("inf");  // xml chokes on default
         decimalFormat0 = new DecimalFormat("0",     decimalFormatSymbols);
         decimalFormat3 = new DecimalFormat("0.000", decimalFormatSymbols);
-        reportStatisticsDOM = new ReportStatisticsDOM();
     }
 
     public void reset() {
-        reportStatisticsDOM = new ReportStatisticsDOM();
+        if (reportStatisticsWriter != null)
+            reportStatisticsWriter.abandon();
+        reportStatisticsWriter = null;
     }
 
     /**
      * Parses the key value of the replicationStatistics LHMap to create a local
      * index of entities and properties
      * @param keyValuesList list of keyValues
+     * @param recordStatistics true if the run's statistics are to be written
+     * to the project for an analyst report, ignored without a project
      */
-    public void setEntityIndex(List<String> keyValuesList) 
+    public void setEntityIndex(List<String> keyValuesList, boolean recordStatistics) 
     {
           entityIndexArray = new String[keyValuesList.size()];
         propertyIndexArray = new String[keyValuesList.size()];
@@ -144,7 +143,21 @@ public class ReportStatisticsConfiguration {
             System.out.println();
         }
         // TODO missing names :(
-        reportStatisticsDOM.initializeEntities(entityIndexArray, propertyIndexArray);
+        // Headless runs have no project, nothing to record to
+        if (!recordStatistics || (localViskitProject == null))
+            return;
+
+        // Create a unique file name for each DTG/Location Pair
+        File analystReportStatisticsDirectory = localViskitProject.getAnalystReportStatisticsDirectory();
+        String statisticsOutputFileName = (assemblyName + "_" + "Statistics" + "_" + ViskitStatics.todaysDate() + ".xml"); // superfluous: author + "_" + 
+        try {
+            reportStatisticsWriter = new ReportStatisticsWriter(new File(analystReportStatisticsDirectory, statisticsOutputFileName), 
+                    entityIndexArray, propertyIndexArray);
+        } 
+        catch (IOException ex) {
+            LOG.error("setEntityIndex() exception: " + ex);
+            reportStatisticsWriter = null;
+        }
     }
 
     /**
@@ -175,24 +188,30 @@ public class ReportStatisticsConfiguration {
     public void processReplicationStatistics(int repNumber, PropertyChangeListener[] replicationStatisticsPropertyChangeListenerArray) 
     {
         LOG.debug("\n\nprocessReplicationReport in ReportStatisticsConfig");
+        if (reportStatisticsWriter == null)
+            return;
 
-        Element[] replicationUpdate = new Element[replicationStatisticsPropertyChangeListenerArray.length];
-        Element replication;
-        for (int i = 0; i < replicationStatisticsPropertyChangeListenerArray.length; i++) {
-
-            replication = new Element("Replication");
-
-            replication.setAttribute("number", Integer.toString(repNumber));
-            replication.setAttribute("count", new DecimalFormat("0").format(((SampleStatistics) replicationStatisticsPropertyChangeListenerArray[i]).getCount()));
-            replication.setAttribute("minObs", decimalFormat0.format(((SampleStatistics) replicationStatisticsPropertyChangeListenerArray[i]).getMinObs()));
-            replication.setAttribute("maxObs", decimalFormat0.format(((SampleStatistics) replicationStatisticsPropertyChangeListenerArray[i]).getMaxObs()));
-            replication.setAttribute("mean", decimalFormat3.format(((SampleStatistics) replicationStatisticsPropertyChangeListenerArray[i]).getMean()));
-            replication.setAttribute("stdDeviation", decimalFormat3.format(((SampleStatistics) replicationStatisticsPropertyChangeListenerArray[i]).getStandardDeviation()));
-            replication.setAttribute("variance", decimalFormat3.format(((SampleStatistics) replicationStatisticsPropertyChangeListenerArray[i]).getVariance()));
-
-            replicationUpdate[i] = replication;
+        SampleStatistics sampleStatistics;
+        try {
+            for (int i = 0; i < replicationStatisticsPropertyChangeListenerArray.length; i++) {
+
+                sampleStatistics = (SampleStatistics) replicationStatisticsPropertyChangeListenerArray[i];
+                reportStatisticsWriter.writeReplication(i, repNumber,
+                        decimalFormat0.format(sampleStatistics.getCount()),
+                        decimalFormat0.format(sampleStatistics.getMinObs()),
+                        decimalFormat0.format(sampleStatistics.getMaxObs()),
+                        decimalFormat3.format(sampleStatistics.getMean()),
+                        decimalFormat3.format(sampleStatistics.getStandardDeviation()),
+                        decimalFormat3.format(sampleStatistics.getVariance()));
+                reportStatisticsWriter.storeReplication(i, repNumber, sampleStatistics.getCount(),
+                        sampleStatistics.getMinObs(), sampleStatistics.getMaxObs(),
+                        sampleStatistics.getMean(), sampleStatistics.getVariance());
+            }
+            reportStatisticsWriter.endReplication();
+        } 
+        catch (IOException ex) {
+            LOG.error("processReplicationStatistics() exception: " + ex);
         }
-        reportStatisticsDOM.storeReplicationData(replicationUpdate);
     }
 
     /**
@@ -204,61 +223,43 @@ public class ReportStatisticsConfiguration {
      */
     public void processSummaryReport(SampleStatistics[] sum) {
 
-        Element[] summaryUpdate = new Element[sum.length];
-        Element summary;
-        for (int i = 0; i < sum.length; i++) {
-
-            summary = new Element("Summary");
-
-            summary.setAttribute("property", propertyIndexArray[i]);
-            summary.setAttribute("numRuns", new DecimalFormat("0").format(sum[i].getCount()));
-            summary.setAttribute("minObs", decimalFormat0.format(sum[i].getMinObs()));
-            summary.setAttribute("maxObs", decimalFormat0.format(sum[i].getMaxObs()));
-            summary.setAttribute("mean", decimalFormat3.format(sum[i].getMean()));
-            summary.setAttribute("stdDeviation", decimalFormat3.format(sum[i].getStandardDeviation()));
-            summary.setAttribute("variance", decimalFormat3.format(sum[i].getVariance()));
+        if (reportStatisticsWriter == null)
+            return;
 
-            summaryUpdate[i] = summary;
+        for (int i = 0; i < sum.length; i++) {
+            reportStatisticsWriter.writeSummary(i,
+                    decimalFormat0.format(sum[i].getCount()),
+                    decimalFormat0.format(sum[i].getMinObs()),
+                    decimalFormat0.format(sum[i].getMaxObs()),
+                    decimalFormat3.format(sum[i].getMean()),
+                    decimalFormat3.format(sum[i].getStandardDeviation()),
+                    decimalFormat3.format(sum[i].getVariance()));
         }
-        reportStatisticsDOM.storeSummaryData(summaryUpdate);
     }
 
     /**
      * Save statistics, provide path to report
      * @return path to statistics XML file
      */
-    public String saveStatisticsGetReportPath() {
-        Document reportDocument = reportStatisticsDOM.getReport();
-        return saveStatisticsData(reportDocument);
-    }
-
-    /**
-     * File I/O that saves the report in XML format
-     * @param reportDocument a data report to save
-     * @return the String representation of this report
-     */
-    public String saveStatisticsData(Document reportDocument) 
+    public String saveStatisticsGetReportPath() 
     {
-        // Create a unique file name for each DTG/Location Pair
-        File analystReportStatisticsDirectory = localViskitProject.getAnalystReportStatisticsDirectory();
-
-        String statisticsOutputFileName = (assemblyName + "_" + "Statistics" + "_" + ViskitStatics.todaysDate() + ".xml"); // superfluous: author + "_" + 
-        File analystReportStatisticsDirectoryFile = new File(analystReportStatisticsDirectory, statisticsOutputFileName);
-
+        if (reportStatisticsWriter == null) {
+            LOG.error("saveStatisticsGetReportPath() no statistics were recorded");
+            return null;
+        }
+        File analystReportStatisticsDirectoryFile;
         try {
-            FileHandler.marshallJdom(analystReportStatisticsDirectoryFile, reportDocument, false);
+            analystReportStatisticsDirectoryFile = reportStatisticsWriter.close();
         } 
-        catch (JDOMException | IOException ex) {
-            if (reportDocument == null)
-                LOG.error( "saveData(" + null + "} reportDocument is null, exception: "    + ex.getMessage());
-            else 
-            {
-                LOG.error( "saveData(" + reportDocument.getRootElement() + "} exception: " + ex.getMessage());
-                ex.printStackTrace(System.err);
-            }
+        catch (IOException ex) {
+            LOG.error("saveStatisticsGetReportPath() exception: " + ex.getMessage());
+            ex.printStackTrace(System.err);
             return null;
         }
-        LOG.info("saveData(" + reportDocument.getRootElement().getName() + ") to\n      " + 
+        finally {
+            reportStatisticsWriter = null;
+        }
+        LOG.info("saveStatisticsGetReportPath() to\n      " + 
                 analystReportStatisticsDirectoryFile.getAbsolutePath()); // analystReportStatisticsDirectoryFile at
 
         return analystReportStatisticsDirectoryFile.getAbsolutePath();
@@ -0,0 +1,345 @@
+/*
+Copyright (c) 1995-2025 held by the author(s).  All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions
+are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer
+      in the documentation and/or other materials provided with the
+      distribution.
+    * Neither the names of the Naval Postgraduate School (NPS)
+      Modeling, Virtual Environments and Simulation (MOVES) Institute
+      (http://www.nps.edu and https://my.nps.edu/web/moves)
+      nor the names of its contributors may be used to endorse or
+      promote products derived from this software without specific
+      prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+"AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+POSSIBILITY OF SUCH DAMAGE.
+*/
+package viskit.reports;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+/**
+ * Streams the statistics of an Assembly's simulation run to disk as the run
+ * progresses, so that memory use no longer grows with the number of
+ * replications.  Each replication's records are appended to a CSV sidecar
+ * file, and unformatted to a {@link ReplicationStatisticsStore}, as soon as
+ * that replication completes; the summary statistics are
+ * written, along with the SimEntity/DataPoint layout the analyst report
+ * expects, to a small XML statistics file once the run is over.  Each
+ * ReplicationReport element of that file refers to the sidecar file rather
+ * than containing the replications, so the summary can be read back without
+ * loading every replication.
+ *
+ * @version $Id$
+ */
+public class ReportStatisticsWriter
+{
+    /** Column names of the replications sidecar file */
+    public static final String CSV_HEADER = "entity,property,number,count,minObs,maxObs,mean,stdDeviation,variance";
+
+    /** Attribute of a ReplicationReport element naming its sidecar file */
+    public static final String FILE_ATTRIBUTE = "file";
+
+    /** Attribute of a ReplicationReport element naming its binary statistics store */
+    public static final String STORE_ATTRIBUTE = "store";
+
+    private final File statisticsFile;
+    private final File replicationsFile;
+    private final String[] entityIndexArray;
+    private final String[] propertyIndexArray;
+    private final String[][] summaryRecords;
+    private final BufferedWriter replicationsWriter;
+    private final ReplicationStatisticsStore replicationStatisticsStore;
+    private final StringBuilder line = new StringBuilder(160);
+    private int replicationCount;
+
+    /**
+     * @param statisticsFile the XML statistics file to write at the end of the run,
+     * the replications go to a .csv file of the same name next to it
+     * @param entityIndexArray the SimEntity of each statistic, in order
+     * @param propertyIndexArray the property of each statistic, in order
+     * @throws IOException if the replications file can't be created
+     */
+    public ReportStatisticsWriter(File statisticsFile, String[] entityIndexArray, String[] propertyIndexArray) throws IOException
+    {
+        this.statisticsFile     = statisticsFile;
+        this.entityIndexArray   = entityIndexArray;
+        this.propertyIndexArray = propertyIndexArray;
+        summaryRecords = new String[entityIndexArray.length][];
+        replicationsFile = getReplicationsFile(statisticsFile);
+        replicationsFile.getParentFile().mkdirs();
+        replicationsWriter = Files.newBufferedWriter(replicationsFile.toPath(), StandardCharsets.UTF_8);
+        replicationsWriter.write(CSV_HEADER);
+        replicationsWriter.newLine();
+        replicationStatisticsStore = new ReplicationStatisticsStore(getStoreFile(statisticsFile));
+    }
+
+    /**
+     * @param statisticsFile an XML statistics file
+     * @return the replications sidecar file belonging to it
+     */
+    public static File getReplicationsFile(File statisticsFile)
+    {
+        String name = statisticsFile.getName();
+        if (name.toLowerCase().endsWith(".xml"))
+            name = name.substring(0, name.length() - ".xml".length());
+        return new File(statisticsFile.getParentFile(), name + ".csv");
+    }
+
+    /**
+     * @param statisticsFile an XML statistics file
+     * @return the binary statistics store belonging to it
+     */
+    public static File getStoreFile(File statisticsFile)
+    {
+        String name = getReplicationsFile(statisticsFile).getName();
+        return new File(statisticsFile.getParentFile(), name.substring(0, name.length() - ".csv".length()) + ".stats");
+    }
+
+    /**
+     * @param index the index of the statistic
+     * @return the statistic's name in the binary store, its entity and property joined by '_'
+     */
+    public String getStatisticName(int index) {
+        return entityIndexArray[index] + "_" + propertyIndexArray[index];
+    }
+
+    /**
+     * Appends one statistic's record of a replication
+     *
+     * @param index the index of the statistic
+     * @param replicationNumber the replication number
+     * @param count formatted number of observations
+     * @param minObs formatted minimum observation
+     * @param maxObs formatted maximum observation
+     * @param mean formatted mean
+     * @param stdDeviation formatted standard deviation
+     * @param variance formatted variance
+     * @throws IOException if the record can't be written
+     */
+    public void writeReplication(int index, int replicationNumber, String count, String minObs, String maxObs,
+            String mean, String stdDeviation, String variance) throws IOException
+    {
+        line.setLength(0);
+        appendCsv(entityIndexArray[index]);
+        line.append(',');
+        appendCsv(propertyIndexArray[index]);
+        line.append(',').append(replicationNumber)
+            .append(',').append(count)
+            .append(',').append(minObs)
+            .append(',').append(maxObs)
+            .append(',').append(mean)
+            .append(',').append(stdDeviation)
+            .append(',').append(variance);
+        replicationsWriter.append(line);
+        replicationsWriter.newLine();
+    }
+
+    /**
+     * Appends the unformatted values of one statistic's record of a
+     * replication to the binary store
+     *
+     * @param index the index of the statistic
+     * @param replicationNumber the replication number
+     * @param count number of observations
+     * @param minObs minimum observation
+     * @param maxObs maximum observation
+     * @param mean mean of the observations
+     * @param variance variance of the observations
+     * @throws IOException if the record can't be written
+     */
+    public void storeReplication(int index, int replicationNumber, long count, double minObs, double maxObs,
+            double mean, double variance) throws IOException
+    {
+        replicationStatisticsStore.add(0, 0, replicationNumber, getStatisticName(index), count, minObs, maxObs, mean, variance);
+    }
+
+    /** Hands a completed replication's records to the file system
+     * @throws IOException if the records can't be written
+     */
+    public void endReplication() throws IOException
+    {
+        replicationsWriter.flush();
+        replicationStatisticsStore.flush();
+        replicationCount++;
+    }
+
+    /**
+     * Keeps one statistic's summary, written by {@link #close()}
+     *
+     * @param index the index of the statistic
+     * @param summaryAttributes numRuns, minObs, maxObs, mean, stdDeviation and variance, formatted
+     */
+    public void writeSummary(int index, String... summaryAttributes)
+    {
+        summaryRecords[index] = summaryAttributes;
+    }
+
+    /**
+     * Closes the replications file and writes the XML statistics file
+     *
+     * @return the XML statistics file
+     * @throws IOException if either file can't be written
+     */
+    public File close() throws IOException
+    {
+        replicationsWriter.close();
+        replicationStatisticsStore.close();
+
+        // The SimEntities in order of first appearance, each with its statistics
+        Map<String, List<Integer>> entityStatistics = new LinkedHashMap<>();
+        for (int i = 0; i < entityIndexArray.length; i++)
+            entityStatistics.computeIfAbsent(entityIndexArray[i], key -> new ArrayList<>()).add(i);
+
+        try (OutputStream outputStream = new FileOutputStream(statisticsFile))
+        {
+            XMLStreamWriter xmlStreamWriter = XMLOutputFactory.newInstance().createXMLStreamWriter(outputStream, "UTF-8");
+            xmlStreamWriter.writeStartDocument("UTF-8", "1.0");
+            xmlStreamWriter.writeCharacters("\n");
+            xmlStreamWriter.writeStartElement("ReportStatistics");
+            for (Map.Entry<String, List<Integer>> entity : entityStatistics.entrySet())
+            {
+                xmlStreamWriter.writeCharacters("\n  ");
+                xmlStreamWriter.writeStartElement("SimEntity");
+                xmlStreamWriter.writeAttribute("name", entity.getKey());
+                for (int index : entity.getValue())
+                {
+                    xmlStreamWriter.writeCharacters("\n    ");
+                    xmlStreamWriter.writeStartElement("DataPoint");
+                    xmlStreamWriter.writeAttribute("property", propertyIndexArray[index]);
+                    xmlStreamWriter.writeCharacters("\n      ");
+                    xmlStreamWriter.writeEmptyElement("ReplicationReport");
+                    xmlStreamWriter.writeAttribute(FILE_ATTRIBUTE, replicationsFile.getName());
+                    xmlStreamWriter.writeAttribute(STORE_ATTRIBUTE, replicationStatisticsStore.getFile().getName());
+                    xmlStreamWriter.writeAttribute("replications", Integer.toString(replicationCount));
+                    xmlStreamWriter.writeCharacters("\n    ");
+                    xmlStreamWriter.writeEndElement();
+                }
+                xmlStreamWriter.writeCharacters("\n    ");
+                xmlStreamWriter.writeStartElement("SummaryReport");
+                for (int index : entity.getValue())
+                {
+                    if (summaryRecords[index] == null)
+                        continue;
+                    xmlStreamWriter.writeCharacters("\n      ");
+                    xmlStreamWriter.writeEmptyElement("Summary");
+                    xmlStreamWriter.writeAttribute("property",     propertyIndexArray[index]);
+                    xmlStreamWriter.writeAttribute("numRuns",      summaryRecords[index][0]);
+                    xmlStreamWriter.writeAttribute("minObs",       summaryRecords[index][1]);
+                    xmlStreamWriter.writeAttribute("maxObs",       summaryRecords[index][2]);
+                    xmlStreamWriter.writeAttribute("mean",         summaryRecords[index][3]);
+                    xmlStreamWriter.writeAttribute("stdDeviation", summaryRecords[index][4]);
+                    xmlStreamWriter.writeAttribute("variance",     summaryRecords[index][5]);
+                }
+                xmlStreamWriter.writeCharacters("\n    ");
+                xmlStreamWriter.writeEndElement();
+                xmlStreamWriter.writeCharacters("\n  ");
+                xmlStreamWriter.writeEndElement();
+            }
+            xmlStreamWriter.writeCharacters("\n");
+            xmlStreamWriter.writeEndElement();
+            xmlStreamWriter.writeEndDocument();
+            xmlStreamWriter.close();
+        }
+        catch (XMLStreamException ex)
+        {
+            throw new IOException(ex);
+        }
+        return statisticsFile;
+    }
+
+    /** Discards an unfinished run, e.g. on a reset */
+    public void abandon()
+    {
+        try {
+            replicationsWriter.close();
+            replicationStatisticsStore.close();
+        }
+        catch (IOException ex) {}
+    }
+
+    private void appendCsv(String value) {
+        appendCsv(line, value);
+    }
+
+    private static void appendCsv(StringBuilder line, String value)
+    {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0)
+        {
+            line.append(value);
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < value.length(); i++)
+        {
+            if (value.charAt(i) == '"')
+                line.append('"');
+            line.append(value.charAt(i));
+        }
+        line.append('"');
+    }
+
+    static void splitCsv(String csvLine, List<String> fields)
+    {
+        fields.clear();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        char c;
+        for (int i = 0; i < csvLine.length(); i++)
+        {
+            c = csvLine.charAt(i);
+            if (quoted)
+            {
+                if (c == '"' && i + 1 < csvLine.length() && csvLine.charAt(i + 1) == '"')
+                {
+                    field.append('"');
+                    i++;
+                }
+                else if (c == '"')
+                    quoted = false;
+                else
+                    field.append(c);
+            }
+            else if (c == '"')
+                quoted = true;
+            else if (c == ',')
+            {
+                fields.add(field.toString());
+                field.setLength(0);
+            }
+            else
+                field.append(c);
+        }
+        fields.add(field.toString());
+    }
+}
@@ -0,0 +1,458 @@
+/*
+Copyright (c) 1995-2025 held by the author(s).  All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions
+are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer
+      in the documentation and/or other materials provided with the
+      distribution.
+    * Neither the names of the Naval Postgraduate School (NPS)
+      Modeling, Virtual Environments and Simulation (MOVES) Institute
+      (http://www.nps.edu and https://my.nps.edu/web/moves)
+      nor the names of its contributors may be used to endorse or
+      promote products derived from this software without specific
+      prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+"AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+POSSIBILITY OF SUCH DAMAGE.
+*/
+package viskit.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import viskit.ViskitUserConfiguration;
+
+/**
+ * An index of the classes in a jar, read from their bytecode without loading
+ * or defining any of them: each class file's constant pool is walked only as
+ * far as its access flags, superclass and interfaces. Subtype tests follow
+ * those names through every jar indexed so far, then through the class files
+ * a ClassLoader can find as resources, the JDK's included, again without
+ * loading them.
+ * <p>
+ * Each jar's index is kept in memory and under the user's .viskit directory,
+ * keyed by the jar's path, last modified time and size, so that a jar is only
+ * scanned again once it changed. Class files found as resources are kept per
+ * ClassLoader, weakly, as are the names a loader does not have. All of it is
+ * forgotten by clear(), e.g. once the classpath changed.
+ * </p>
+ */
+public final class ClassIndex
+{
+    static final Logger LOG = LogManager.getLogger();
+
+    public static final int MAGIC   = 0x564B4349; // "VKCI"
+    public static final int VERSION = 1;
+
+    /** where the index of each jar is kept between sessions */
+    public static final File INDEX_DIRECTORY = new File(ViskitUserConfiguration.VISKIT_CONFIGURATION_DIR, "classIndex");
+
+    private static final int CLASS_MAGIC = 0xCAFEBABE;
+
+    /** a class, as described by its class file */
+    public static final class Entry
+    {
+        private final String name;
+        private final String superName;
+        private final String[] interfaceNames;
+        private final int access;
+
+        Entry(String name, String superName, String[] interfaceNames, int access) {
+            this.name = name;
+            this.superName = superName;
+            this.interfaceNames = interfaceNames;
+            this.access = access;
+        }
+
+        /** @return the binary name, e.g. simkit.examples.ArrivalProcess */
+        public String getName() {
+            return name;
+        }
+
+        /** @return the superclass name, null for java.lang.Object */
+        public String getSuperName() {
+            return superName;
+        }
+
+        public String[] getInterfaceNames() {
+            return interfaceNames.clone();
+        }
+
+        /** @return the package name, "" for the default package */
+        public String getPackageName() {
+            int dot = name.lastIndexOf('.');
+            return (dot < 0) ? "" : name.substring(0, dot);
+        }
+
+        /** @return true for a class that is neither an interface nor abstract */
+        public boolean isConcrete() {
+            return (access & (Modifier.INTERFACE | Modifier.ABSTRACT)) == 0;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    private static final class JarIndex
+    {
+        final long lastModified;
+        final long length;
+        final List<Entry> entries;
+
+        JarIndex(long lastModified, long length, List<Entry> entries) {
+            this.lastModified = lastModified;
+            this.length = length;
+            this.entries = entries;
+        }
+    }
+
+    // stands in for a class no jar or loader has
+    private static final Entry MISSING = new Entry("", null, new String[0], 0);
+
+    private static final Map<String, JarIndex> JARS = new ConcurrentHashMap<>();
+    /** every class of the jars indexed so far, by name */
+    private static final Map<String, Entry> CLASSES = new ConcurrentHashMap<>();
+    /** classes looked up as a loader's resources by name, MISSING included */
+    private static final Map<ClassLoader, Map<String, Entry>> LOADER_CLASSES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private ClassIndex() {}
+
+    /**
+     * @param jar a jar file
+     * @return every class in the jar, from the in memory or stored index if
+     * the jar is unchanged, otherwise scanned and stored again
+     * @throws IOException if the jar can't be read
+     */
+    public static List<Entry> getEntries(File jar) throws IOException
+    {
+        String path = jar.getCanonicalPath();
+        long lastModified = jar.lastModified();
+        long length = jar.length();
+        JarIndex index = JARS.get(path);
+        if (index == null || index.lastModified != lastModified || index.length != length)
+        {
+            File indexFile = indexFileFor(path, jar.getName());
+            List<Entry> entries = read(indexFile, path, lastModified, length);
+            if (entries == null)
+            {
+                entries = scan(jar);
+                write(indexFile, path, lastModified, length, entries);
+            }
+            JarIndex previous = index;
+            index = new JarIndex(lastModified, length, Collections.unmodifiableList(entries));
+            JARS.put(path, index);
+
+            // classes of the jar's earlier version, unless another jar has them
+            if (previous != null)
+            {
+                for (Entry entry : previous.entries)
+                    CLASSES.remove(entry.getName(), entry);
+            }
+            for (Entry entry : entries)
+                CLASSES.put(entry.getName(), entry);
+        }
+        return index.entries;
+    }
+
+    /**
+     * @param jar a jar file
+     * @param targetName the class or interface to look for
+     * @param loader to find class files outside indexed jars, may be null
+     * @return the concrete classes in the jar that are, extend or
+     * implement targetName
+     * @throws IOException if the jar can't be read
+     */
+    public static List<Entry> findSubtypes(File jar, String targetName, ClassLoader loader) throws IOException
+    {
+        List<Entry> found = new ArrayList<>();
+        for (Entry entry : getEntries(jar))
+        {
+            if (entry.isConcrete() && isSubtype(entry.getName(), targetName, loader))
+                found.add(entry);
+        }
+        return found;
+    }
+
+    /**
+     * @param name a class name
+     * @param targetName the class or interface to test against
+     * @param loader to find class files outside indexed jars, may be null
+     * @return true if name is targetName or a subtype of it, as far as
+     * its superclasses and interfaces can be found
+     */
+    public static boolean isSubtype(String name, String targetName, ClassLoader loader)
+    {
+        Deque<String> pending = new ArrayDeque<>();
+        Set<String> seen = new HashSet<>();
+        pending.add(name);
+        while (!pending.isEmpty())
+        {
+            String next = pending.poll();
+            if (next.equals(targetName))
+                return true;
+            if (!seen.add(next))
+                continue;
+            Entry entry = lookup(next, loader);
+            if (entry.getSuperName() != null)
+                pending.add(entry.getSuperName());
+            Collections.addAll(pending, entry.interfaceNames);
+        }
+        return false;
+    }
+
+    /**
+     * Forgets every class seen so far, and those a loader did not have,
+     * e.g. after the classpath changed; jars unchanged since are read
+     * again from their stored index rather than scanned
+     */
+    public static void clear()
+    {
+        JARS.clear();
+        CLASSES.clear();
+        LOADER_CLASSES.clear();
+    }
+
+    private static Entry lookup(String name, ClassLoader loader)
+    {
+        Entry entry = CLASSES.get(name);
+        if (entry != null)
+            return entry;
+        ClassLoader resourceLoader = (loader == null) ? ClassLoader.getSystemClassLoader() : loader;
+        Map<String, Entry> loaderClasses = LOADER_CLASSES.computeIfAbsent(resourceLoader, key -> new ConcurrentHashMap<>());
+        entry = loaderClasses.get(name);
+        if (entry != null)
+            return entry;
+        entry = MISSING;
+        String resource = name.replace('.', '/') + ".class";
+        try (InputStream in = resourceLoader.getResourceAsStream(resource))
+        {
+            if (in != null)
+                entry = parse(in);
+        }
+        catch (IOException e) {
+            LOG.debug("lookup(" + name + ") exception: " + e);
+        }
+        loaderClasses.put(name, entry);
+        return entry;
+    }
+
+    private static List<Entry> scan(File jar) throws IOException
+    {
+        List<Entry> entries = new ArrayList<>();
+        try (JarFile jarFile = new JarFile(jar))
+        {
+            for (Enumeration<JarEntry> e = jarFile.entries(); e.hasMoreElements();)
+            {
+                JarEntry jarEntry = e.nextElement();
+                String entryName = jarEntry.getName();
+                if (!entryName.endsWith(".class") || entryName.startsWith("META") ||
+                        entryName.endsWith("module-info.class") || entryName.endsWith("package-info.class"))
+                    continue;
+                try (InputStream in = jarFile.getInputStream(jarEntry))
+                {
+                    entries.add(parse(in));
+                }
+                catch (IOException ex) {
+                    LOG.debug("scan() skipping " + entryName + ": " + ex);
+                }
+            }
+        }
+        LOG.debug("scan() indexed " + entries.size() + " classes of " + jar);
+        return entries;
+    }
+
+    /**
+     * Reads a class file as far as its interfaces
+     * @param classFile the class file bytes
+     * @return its entry
+     * @throws IOException if it's no class file
+     */
+    static Entry parse(InputStream classFile) throws IOException
+    {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(classFile));
+        if (in.readInt() != CLASS_MAGIC)
+            throw new IOException("not a class file");
+        in.readUnsignedShort(); // minor
+        in.readUnsignedShort(); // major
+        int count = in.readUnsignedShort();
+        String[] utf8 = new String[count];
+        int[] classNameIndex = new int[count];
+        for (int i = 1; i < count; i++)
+        {
+            int tag = in.readUnsignedByte();
+            switch (tag)
+            {
+                case 1:  // Utf8
+                    utf8[i] = in.readUTF();
+                    break;
+                case 7:  // Class
+                    classNameIndex[i] = in.readUnsignedShort();
+                    break;
+                case 8:  // String
+                case 16: // MethodType
+                case 19: // Module
+                case 20: // Package
+                    in.skipBytes(2);
+                    break;
+                case 15: // MethodHandle
+                    in.skipBytes(3);
+                    break;
+                case 3:  // Integer
+                case 4:  // Float
+                case 9:  // Fieldref
+                case 10: // Methodref
+                case 11: // InterfaceMethodref
+                case 12: // NameAndType
+                case 17: // Dynamic
+                case 18: // InvokeDynamic
+                    in.skipBytes(4);
+                    break;
+                case 5:  // Long
+                case 6:  // Double, both take two entries
+                    in.skipBytes(8);
+                    i++;
+                    break;
+                default:
+                    throw new IOException("bad constant pool tag " + tag);
+            }
+        }
+        int access = in.readUnsignedShort();
+        String name = className(utf8, classNameIndex, in.readUnsignedShort());
+        String superName = className(utf8, classNameIndex, in.readUnsignedShort());
+        String[] interfaceNames = new String[in.readUnsignedShort()];
+        for (int i = 0; i < interfaceNames.length; i++)
+            interfaceNames[i] = className(utf8, classNameIndex, in.readUnsignedShort());
+        return new Entry(name, superName, interfaceNames, access);
+    }
+
+    private static String className(String[] utf8, int[] classNameIndex, int classIndex)
+    {
+        if (classIndex == 0)
+            return null;
+        return utf8[classNameIndex[classIndex]].replace('/', '.');
+    }
+
+    private static File indexFileFor(String path, String jarName)
+    {
+        return new File(INDEX_DIRECTORY, jarName + "-" + Integer.toHexString(path.hashCode()) + ".idx");
+    }
+
+    // the stored entries, null unless stored for this very jar
+    private static List<Entry> read(File indexFile, String path, long lastModified, long length)
+    {
+        if (!indexFile.isFile())
+            return null;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile))))
+        {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION || !in.readUTF().equals(path) ||
+                    in.readLong() != lastModified || in.readLong() != length)
+                return null;
+            int size = in.readInt();
+            List<Entry> entries = new ArrayList<>(size);
+            for (int i = 0; i < size; i++)
+            {
+                String name = in.readUTF();
+                String superName = in.readUTF();
+                int access = in.readUnsignedShort();
+                String[] interfaceNames = new String[in.readUnsignedShort()];
+                for (int j = 0; j < interfaceNames.length; j++)
+                    interfaceNames[j] = in.readUTF();
+                entries.add(new Entry(name, superName.isEmpty() ? null : superName, interfaceNames, access));
+            }
+            return entries;
+        }
+        catch (IOException e) {
+            LOG.debug("read() " + indexFile + " exception: " + e);
+            return null;
+        }
+    }
+
+    private static void write(File indexFile, String path, long lastModified, long length, List<Entry> entries)
+    {
+        if (!INDEX_DIRECTORY.isDirectory() && !INDEX_DIRECTORY.mkdirs())
+        {
+            LOG.warn("write() could not create " + INDEX_DIRECTORY);
+            return;
+        }
+        File temp;
+        try {
+            temp = File.createTempFile(indexFile.getName(), ".tmp", INDEX_DIRECTORY);
+        }
+        catch (IOException e) {
+            LOG.warn("write() " + indexFile + " exception: " + e);
+            return;
+        }
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp))))
+        {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeUTF(path);
+            out.writeLong(lastModified);
+            out.writeLong(length);
+            out.writeInt(entries.size());
+            for (Entry entry : entries)
+            {
+                out.writeUTF(entry.name);
+                out.writeUTF(entry.superName == null ? "" : entry.superName);
+                out.writeShort(entry.access);
+                out.writeShort(entry.interfaceNames.length);
+                for (String interfaceName : entry.interfaceNames)
+                    out.writeUTF(interfaceName);
+            }
+        }
+        catch (IOException e) {
+            LOG.warn("write() " + indexFile + " exception: " + e);
+            temp.delete();
+            return;
+        }
+        if (!temp.renameTo(indexFile))
+        {
+            indexFile.delete();
+            if (!temp.renameTo(indexFile))
+            {
+                LOG.warn("write() could not store " + indexFile);
+                temp.delete();
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+Copyright (c) 1995-2025 held by the author(s).  All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions
+are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer
+      in the documentation and/or other materials provided with the
+      distribution.
+    * Neither the names of the Naval Postgraduate School (NPS)
+      Modeling, Virtual Environments and Simulation (MOVES) Institute
+      (http://www.nps.edu and https://my.nps.edu/web/moves)
+      nor the names of its contributors may be used to endorse or
+      promote products derived from this software without specific
+      prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+"AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+POSSIBILITY OF SUCH DAMAGE.
+*/
+package viskit.util;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Remembers how class names resolved, failures included, for one ClassLoader
+ * at a time.
+ * <p>
+ * Resolving a type name that is no class, or not yet one, can walk the whole
+ * classpath, and the editors and translators ask for the same few names over
+ * and over. A resolution is kept until clear() is called, which has to happen
+ * whenever a name could resolve differently, e.g. once the classpath changed
+ * or a class was compiled; asking with another loader than last time clears
+ * the cache too.
+ * </p>
+ */
+public final class ClassResolutionCache
+{
+    private final Map<String, Optional<Class<?>>> resolved = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong negativeHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    // the loader the resolutions came from, and a count of clear()s
+    // so that a resolution racing a clear() is not kept
+    private ClassLoader loader;
+    private long generation;
+
+    /**
+     * @param name the class name
+     * @param currentLoader the loader to resolve with
+     * @param resolver resolves the name on a miss, null if it doesn't
+     * @return the class, or null if it did not resolve, now or before
+     */
+    public Class<?> resolve(String name, ClassLoader currentLoader, Function<String, Class<?>> resolver)
+    {
+        long resolvingGeneration;
+        synchronized (this)
+        {
+            if (currentLoader != loader)
+            {
+                clear();
+                loader = currentLoader;
+            }
+            resolvingGeneration = generation;
+        }
+        Optional<Class<?>> cached = resolved.get(name);
+        if (cached != null)
+        {
+            if (cached.isPresent())
+                hits.incrementAndGet();
+            else
+                negativeHits.incrementAndGet();
+            return cached.orElse(null);
+        }
+        misses.incrementAndGet();
+        Class<?> c = resolver.apply(name);
+        synchronized (this)
+        {
+            if (resolvingGeneration == generation)
+                resolved.put(name, Optional.ofNullable(c));
+        }
+        return c;
+    }
+
+    /** Forgets every resolution, the counts are kept */
+    public synchronized void clear()
+    {
+        resolved.clear();
+        loader = null;
+        generation++;
+    }
+
+    /** @return the names resolved to a class and kept */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /** @return the names known not to resolve and not tried again */
+    public long getNegativeHits() {
+        return negativeHits.get();
+    }
+
+    /** @return the names resolved the long way */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /** @return the fraction of lookups answered from the cache, 0 before any */
+    public double getHitRate()
+    {
+        long answered = hits.get() + negativeHits.get();
+        long total = answered + misses.get();
+        return (total == 0) ? 0.0 : (double) answered / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d hits, %d negative hits, %d misses, %.1f%% hit rate, %d names",
+                getHits(), getNegativeHits(), getMisses(), 100 * getHitRate(), resolved.size());
+    }
+}
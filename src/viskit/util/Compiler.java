@@ -8,8 +8,15 @@ import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import javax.swing.JOptionPane;
+import javax.tools.DiagnosticListener;
 import javax.tools.JavaCompiler;
 import javax.tools.JavaFileObject;
 import javax.tools.StandardJavaFileManager;
@@ -51,14 +58,70 @@ public class Compiler
      */
     public static String invoke(String packageName, String className, String sourceCodeText) {
 
-        StringBuilder diagnosticMessages = new StringBuilder();
-        StandardJavaFileManager sjfm = null;
-        StringBuilder classPaths;
-        String classPathsString;
-
+        String qualifiedName = className;
         if (packageName != null && !packageName.isEmpty()) {
-            packageName += ".";
+            qualifiedName = packageName + "." + className;
         }
+        return invoke(Collections.singletonMap(qualifiedName, sourceCodeText)).get(qualifiedName);
+    }
+
+    /** Compile a batch of sources, e.g. all stale Event Graphs of a project,
+     * in a single compiler task sharing one file manager and classpath.
+     * Since javac generates nothing when any source has errors, sources
+     * which came through clean are compiled again without the failed ones.
+     *
+     * @param classSources fully qualified class names mapped to their source code
+     * @return the diagnostic messages for each class name, either
+     * {@link #COMPILE_SUCCESS_MESSAGE} or the compiler errors of that source
+     */
+    public static Map<String, String> invoke(Map<String, String> classSources) {
+
+        Map<String, String> diagnosticMessages = new LinkedHashMap<>();
+        Map<String, String> pendingSources = new LinkedHashMap<>(classSources);
+        Map<String, StringBuilder> messages = new HashMap<>();
+        Map<String, String> retrySources;
+        boolean compiled;
+
+        while (!pendingSources.isEmpty()) {
+            messages.clear();
+            compiled = compile(pendingSources, messages);
+            retrySources = new LinkedHashMap<>();
+            for (Map.Entry<String, String> entry : pendingSources.entrySet()) {
+                String message = messages.get(entry.getKey()).toString();
+                if (!message.isEmpty()) {
+                    diagnosticMessages.put(entry.getKey(), message);
+                } else if (compiled) {
+                    diagnosticMessages.put(entry.getKey(), COMPILE_SUCCESS_MESSAGE);
+                } else {
+                    retrySources.put(entry.getKey(), entry.getValue());
+                }
+            }
+
+            // No source was at fault, so another attempt won't fare better
+            if (retrySources.size() == pendingSources.size()) {
+                for (String qualifiedName : retrySources.keySet()) {
+                    diagnosticMessages.put(qualifiedName, "");
+                }
+                break;
+            }
+            pendingSources = retrySources;
+        }
+        return diagnosticMessages;
+    }
+
+    /** Runs one compiler task over the given sources
+     *
+     * @param classSources fully qualified class names mapped to their source code
+     * @param messages receives the diagnostic messages for each class name
+     * @return true if the task generated its class files
+     */
+    private static boolean compile(Map<String, String> classSources, Map<String, StringBuilder> messages) {
+
+        StandardJavaFileManager sjfm = null;
+        InMemoryFileManager inMemoryFileManager;
+        Map<JavaFileObject, CompilerDiagnosticsListener> listeners = new HashMap<>();
+        List<JavaFileObject> fileObjects = new ArrayList<>(classSources.size());
+        boolean compiled = false;
 
         try {
 
@@ -67,54 +130,59 @@ public class Compiler
             // JDK's java.exe.  If so, correct the Path in Computer ->
             // Properties -> Advanced system settings -> Environment variables
             JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
-            compilerDiagnosticsListener = new CompilerDiagnosticsListener(diagnosticMessages);
-            sjfm = compiler.getStandardFileManager(compilerDiagnosticsListener, null, null);
-
-            JavaObjectFromString jofs = new JavaObjectFromString(packageName + className, sourceCodeText);
-            Iterable<? extends JavaFileObject> fileObjects = Arrays.asList(jofs);
-            File workingDirectory = ViskitGlobals.instance().getProjectWorkingDirectory();
-            String workingDirectoryPath = workingDirectory.getCanonicalPath();
-
-            // This is would be the first instance of obtaining a LBL if
-            // beginning fresh, so, it is reset on the first instantiation
-            String[] classPathArray = ((LocalBootLoader) (ViskitGlobals.instance().getViskitApplicationClassLoader())).getClassPath();
-            int classPathArrayLength = classPathArray.length;
-            classPaths = new StringBuilder(classPathArrayLength);
-            
-            for (String nextClassPath : classPathArray) {
-                classPaths.append(nextClassPath);
-                classPaths.append(File.pathSeparator);
+            for (Map.Entry<String, String> entry : classSources.entrySet()) {
+                StringBuilder message = new StringBuilder();
+                messages.put(entry.getKey(), message);
+                JavaObjectFromString jofs = new JavaObjectFromString(entry.getKey(), entry.getValue());
+                fileObjects.add(jofs);
+                listeners.put(jofs, new CompilerDiagnosticsListener(message));
+            }
+            if (classSources.size() == 1) {
+                compilerDiagnosticsListener = listeners.values().iterator().next();
             }
 
-            // Get rid of the last ";" or ":" on the cp
-            classPaths = classPaths.deleteCharAt(classPaths.lastIndexOf(File.pathSeparator));
-            classPathsString = classPaths.toString();
-            LOG.debug("{} classPath is: {}", className,classPathsString);
+            // Map each diagnostic back onto the source it was reported for,
+            // those without a source concern every file
+            DiagnosticListener<JavaFileObject> diagnosticListener = diagnostic -> {
+                CompilerDiagnosticsListener listener = listeners.get(diagnostic.getSource());
+                if (listener != null) {
+                    listener.report(diagnostic);
+                } else {
+                    for (CompilerDiagnosticsListener each : listeners.values()) {
+                        each.report(diagnostic);
+                    }
+                }
+            };
+            sjfm = compiler.getStandardFileManager(diagnosticListener, null, null);
+
+            // Class files stay in memory and are defined directly by the
+            // LocalBootLoader, build/classes is only written in the background
+            inMemoryFileManager = new InMemoryFileManager(sjfm);
+
+            File workingDirectory = ViskitGlobals.instance().getProjectWorkingDirectory();
+            String classPathsString = getClassPath();
+            LOG.debug("{} classPath is: {}", classSources.keySet(), classPathsString);
 
             String[] options = {
                 "-Xlint:unchecked",
                 "-Xlint:deprecation",
                 "-proc:none",
                 "-cp",
-                 classPathsString,
-                "-d",
-                workingDirectoryPath
+                 classPathsString
             };
-            java.util.List<String> optionsList = Arrays.asList(options);
+            List<String> optionsList = Arrays.asList(options);
 
             if (baosOut == null)
                 baosOut = new ByteArrayOutputStream();
 
-            compiler.getTask(new BufferedWriter(new OutputStreamWriter(baosOut)),
-                    sjfm,
-                    compilerDiagnosticsListener,
+            compiled = compiler.getTask(new BufferedWriter(new OutputStreamWriter(baosOut)),
+                    inMemoryFileManager,
+                    diagnosticListener,
                     optionsList,
                     null,
                     fileObjects).call();
-
-            // Check for errors
-            if (diagnosticMessages.toString().isEmpty())
-                diagnosticMessages.append(COMPILE_SUCCESS_MESSAGE);
+            if (compiled)
+                inMemoryFileManager.publish(workingDirectory);
         } 
         catch (Exception ex)
         {
@@ -133,7 +201,7 @@ public class Compiler
                 );
                 LOG.error(message);
             }
-            LOG.error("JavaObjectFromString invoke " + packageName + "." + className + " exception: " + ex.getMessage());
+            LOG.error("JavaObjectFromString invoke " + classSources.keySet() + " exception: " + ex.getMessage());
 //            LOG.info("Classpath is {}: ", cp);
         } 
         finally {
@@ -145,7 +213,25 @@ public class Compiler
                 }
             }
         }
-        return diagnosticMessages.toString();
+        return compiled;
+    }
+
+    /** @return the LocalBootLoader's classpath as a single path string */
+    private static String getClassPath() {
+
+        // This is would be the first instance of obtaining a LBL if
+        // beginning fresh, so, it is reset on the first instantiation
+        String[] classPathArray = ((LocalBootLoader) (ViskitGlobals.instance().getViskitApplicationClassLoader())).getClassPath();
+        StringBuilder classPaths = new StringBuilder(classPathArray.length);
+
+        for (String nextClassPath : classPathArray) {
+            classPaths.append(nextClassPath);
+            classPaths.append(File.pathSeparator);
+        }
+
+        // Get rid of the last ";" or ":" on the cp
+        classPaths = classPaths.deleteCharAt(classPaths.lastIndexOf(File.pathSeparator));
+        return classPaths.toString();
     }
 
     /**
@@ -131,7 +131,8 @@ public class FindClassesForInterface
 
     /**
      * Create a list of the classes (Class objects) implementing
-     * a desired interface
+     * a desired interface. Candidates are found in the jar's ClassIndex,
+     * so only the matching classes get loaded.
      * @param jarFile The jar file to be examined for classes
      * @param implementing The class that classes should implement
      * @return List containing the Class objects implementing the
@@ -140,25 +141,25 @@ public class FindClassesForInterface
     public static List<Class<?>> findClasses(JarFile jarFile, Class<?> implementing) {
         List<Class<?>> found = new ArrayList<>();
         URLClassLoader loader = ((LocalBootLoader) ViskitGlobals.instance().getViskitApplicationClassLoader());
-        JarEntry nextEntry;
+        if (loader == null)
+            return found;
+        List<ClassIndex.Entry> entries;
+        try {
+            entries = ClassIndex.findSubtypes(new File(jarFile.getName()), implementing.getName(), loader);
+        } catch (IOException e) {
+            LOG.error("findClasses() exception: " + e);
+            return found;
+        }
         Class<?> c;
-        for (Enumeration entries = jarFile.entries(); entries.hasMoreElements();) {
-            nextEntry = (JarEntry) entries.nextElement();
-            if (nextEntry.getName().startsWith("META"))
-                continue;
-            
-            if (loader != null)
-                try {
-                    c = loader.loadClass(getClassName(nextEntry.getName()));
-                    if (c.isInterface())
-                        continue;
-                    
-                    if (implementing.isAssignableFrom(c) && isConcrete(c))
-                        found.add(c);
-                    
-                } catch (ClassNotFoundException | NoClassDefFoundError e) {
-                    // do nothing
-                }
+        for (ClassIndex.Entry entry : entries) {
+            try {
+                c = loader.loadClass(entry.getName());
+                if (implementing.isAssignableFrom(c))
+                    found.add(c);
+
+            } catch (ClassNotFoundException | NoClassDefFoundError e) {
+                // do nothing
+            }
         }
         return found;
     }
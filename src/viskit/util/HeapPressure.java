@@ -0,0 +1,126 @@
+/*
+Copyright (c) 1995-2025 held by the author(s).  All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions
+are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer
+      in the documentation and/or other materials provided with the
+      distribution.
+    * Neither the names of the Naval Postgraduate School (NPS)
+      Modeling, Virtual Environments and Simulation (MOVES) Institute
+      (http://www.nps.edu and https://my.nps.edu/web/moves)
+      nor the names of its contributors may be used to endorse or
+      promote products derived from this software without specific
+      prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+"AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+POSSIBILITY OF SUCH DAMAGE.
+*/
+package viskit.util;
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.Hashtable;
+import java.util.Map;
+
+/**
+ * Heap pressure of this JVM as the collector sees it, without forcing a
+ * collection. The used heap right after the last collection of each pool
+ * shows what is really retained, and a rising count of unloaded classes
+ * shows that per task ClassLoaders are being released.
+ * <p>
+ * Values are Doubles, Integers and Strings only, so that the Map can be
+ * returned over XML-RPC or across LocalBootLoaders as it is.
+ * </p>
+ */
+public final class HeapPressure
+{
+    public static final String HEAP_USED_MB             = "heapUsedMB";
+    public static final String HEAP_COMMITTED_MB        = "heapCommittedMB";
+    public static final String HEAP_MAX_MB              = "heapMaxMB";
+    public static final String HEAP_USED_AFTER_GC_MB    = "heapUsedAfterGcMB";
+    /** used after the last collection over the max, 0 to 1 */
+    public static final String HEAP_PRESSURE            = "heapPressure";
+    public static final String GC_COUNT                 = "gcCount";
+    public static final String GC_TIME_MS               = "gcTimeMs";
+    public static final String LOADED_CLASSES           = "loadedClasses";
+    public static final String UNLOADED_CLASSES         = "unloadedClasses";
+
+    private static final double MB = 1024.0 * 1024.0;
+
+    private HeapPressure() {}
+
+    /** @return a snapshot of the current heap pressure */
+    public static Map<String, Object> sample()
+    {
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        long usedAfterGc = 0L;
+        long max = 0L;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans())
+        {
+            if (pool.getType() != MemoryType.HEAP)
+                continue;
+            MemoryUsage collected = pool.getCollectionUsage();
+            // pools not collected yet count as they are now
+            MemoryUsage usage = (collected != null && collected.getCommitted() > 0) ? collected : pool.getUsage();
+            usedAfterGc += usage.getUsed();
+            if (usage.getMax() > 0)
+                max += usage.getMax();
+        }
+        if (heap.getMax() > 0)
+            max = heap.getMax();
+
+        long gcCount = 0L;
+        long gcTime = 0L;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans())
+        {
+            gcCount += Math.max(gc.getCollectionCount(), 0L);
+            gcTime  += Math.max(gc.getCollectionTime(), 0L);
+        }
+        ClassLoadingMXBean classLoading = ManagementFactory.getClassLoadingMXBean();
+
+        Map<String, Object> pressure = new Hashtable<>();
+        pressure.put(HEAP_USED_MB,          heap.getUsed() / MB);
+        pressure.put(HEAP_COMMITTED_MB,     heap.getCommitted() / MB);
+        pressure.put(HEAP_MAX_MB,           max / MB);
+        pressure.put(HEAP_USED_AFTER_GC_MB, usedAfterGc / MB);
+        pressure.put(HEAP_PRESSURE,         (max > 0) ? (double) usedAfterGc / max : 0.0);
+        pressure.put(GC_COUNT,              (int) Math.min(gcCount, Integer.MAX_VALUE));
+        pressure.put(GC_TIME_MS,            (double) gcTime);
+        pressure.put(LOADED_CLASSES,        classLoading.getLoadedClassCount());
+        pressure.put(UNLOADED_CLASSES,      (int) Math.min(classLoading.getUnloadedClassCount(), Integer.MAX_VALUE));
+        return pressure;
+    }
+
+    /**
+     * @param pressure a sample() Map, possibly from another JVM
+     * @return the sample on one line, for a log or status message
+     */
+    public static String toString(Map<?, ?> pressure)
+    {
+        return String.format("heap %.1f of %.1f MB used, %.1f MB after GC (%.0f%%), %s GCs in %.0f ms, %s classes loaded, %s unloaded",
+                (Double) pressure.get(HEAP_USED_MB), (Double) pressure.get(HEAP_MAX_MB),
+                (Double) pressure.get(HEAP_USED_AFTER_GC_MB), 100.0 * (Double) pressure.get(HEAP_PRESSURE),
+                pressure.get(GC_COUNT), (Double) pressure.get(GC_TIME_MS),
+                pressure.get(LOADED_CLASSES), pressure.get(UNLOADED_CLASSES));
+    }
+}
@@ -0,0 +1,263 @@
+/*
+Copyright (c) 1995-2025 held by the author(s).  All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions
+are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer
+      in the documentation and/or other materials provided with the
+      distribution.
+    * Neither the names of the Naval Postgraduate School (NPS)
+      Modeling, Virtual Environments and Simulation (MOVES) Institute
+      (http://www.nps.edu and https://my.nps.edu/web/moves)
+      nor the names of its contributors may be used to endorse or
+      promote products derived from this software without specific
+      prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+"AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+POSSIBILITY OF SUCH DAMAGE.
+*/
+package viskit.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import org.apache.logging.log4j.LogManager;
+
+import org.apache.logging.log4j.Logger;
+
+/**
+ * A JavaFileManager that keeps the compiler's class file output in memory.
+ * Once a compilation succeeds its classes are published to a process wide
+ * table from which {@link viskit.doe.LocalBootLoader} defines them directly,
+ * so a freshly compiled Event Graph or Assembly does not have to make a
+ * round trip through the file system before it can be run. The class files
+ * are written to the project's build/classes directory in the background for
+ * persistence only, after which their in-memory copy is dropped.
+ *
+ * @version $Id$
+ */
+public class InMemoryFileManager extends ForwardingJavaFileManager<StandardJavaFileManager>
+{
+    static final Logger LOG = LogManager.getLogger();
+
+    /** Recently compiled classes, binary name to bytecode, not yet flushed to disk */
+    private static final Map<String, byte[]> COMPILED_CLASSES = new ConcurrentHashMap<>();
+
+    /** Single background writer so flushes of the same class never overtake each other */
+    private static final ThreadPoolExecutor FLUSH_EXECUTOR = new ThreadPoolExecutor(
+            1, 1, 5L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "InMemoryFileManager flush");
+                thread.setDaemon(false);
+                return thread;
+            });
+
+    static {
+        FLUSH_EXECUTOR.allowCoreThreadTimeOut(true);
+    }
+
+    /** Class files produced by this compilation, binary name to output object */
+    private final Map<String, ClassFileObject> classFileObjects = new LinkedHashMap<>();
+
+    /**
+     * @param standardJavaFileManager the compiler's standard file manager
+     */
+    public InMemoryFileManager(StandardJavaFileManager standardJavaFileManager) {
+        super(standardJavaFileManager);
+    }
+
+    /**
+     * @param binaryName the binary name of a class, e.g. examples.ArrivalProcess
+     * @return the bytecode of a compiled, but not yet flushed class, or null
+     */
+    public static byte[] getClassBytes(String binaryName) {
+        return COMPILED_CLASSES.get(binaryName);
+    }
+
+    /** Blocks until all class files queued so far have been written, for
+     * callers which read them back from disk
+     */
+    public static void awaitFlush() {
+        try {
+            FLUSH_EXECUTOR.submit(() -> {}).get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ex) {
+            LOG.error("awaitFlush() exception: " + ex);
+        }
+    }
+
+    @Override
+    public JavaFileObject getJavaFileForOutput(Location location, String className,
+            JavaFileObject.Kind kind, FileObject sibling) throws IOException {
+        if (kind != JavaFileObject.Kind.CLASS) {
+            return super.getJavaFileForOutput(location, className, kind, sibling);
+        }
+        ClassFileObject classFileObject = new ClassFileObject(className);
+        classFileObjects.put(className, classFileObject);
+        return classFileObject;
+    }
+
+    /** Also offers the unflushed classes on the classpath so that an Assembly
+     * can compile against Event Graphs which have not reached the disk yet.
+     */
+    @Override
+    public Iterable<JavaFileObject> list(Location location, String packageName,
+            Set<JavaFileObject.Kind> kinds, boolean recurse) throws IOException {
+        Iterable<JavaFileObject> listed = super.list(location, packageName, kinds, recurse);
+        if (location != StandardLocation.CLASS_PATH || !kinds.contains(JavaFileObject.Kind.CLASS) || COMPILED_CLASSES.isEmpty()) {
+            return listed;
+        }
+        List<JavaFileObject> combined = new ArrayList<>();
+        for (Map.Entry<String, byte[]> entry : COMPILED_CLASSES.entrySet()) {
+            String name = entry.getKey();
+            String namePackage = name.lastIndexOf('.') < 0 ? "" : name.substring(0, name.lastIndexOf('.'));
+            if (namePackage.equals(packageName) || (recurse && namePackage.startsWith(packageName + "."))) {
+                combined.add(new ClassFileObject(name, entry.getValue()));
+            }
+        }
+        for (JavaFileObject javaFileObject : listed) {
+
+            // The in-memory copy is the newer one
+            if (!COMPILED_CLASSES.containsKey(super.inferBinaryName(location, javaFileObject))) {
+                combined.add(javaFileObject);
+            }
+        }
+        return combined;
+    }
+
+    @Override
+    public String inferBinaryName(Location location, JavaFileObject file) {
+        if (file instanceof ClassFileObject) {
+            return ((ClassFileObject) file).binaryName;
+        }
+        return super.inferBinaryName(location, file);
+    }
+
+    @Override
+    public boolean isSameFile(FileObject a, FileObject b) {
+        if (a instanceof ClassFileObject || b instanceof ClassFileObject) {
+            return a.equals(b);
+        }
+        return super.isSameFile(a, b);
+    }
+
+    /**
+     * Makes the classes of a successful compilation available to class loaders
+     * and queues them to be written beneath the given directory.
+     *
+     * @param classesDirectory the root of the class file tree, i.e. build/classes
+     */
+    public void publish(File classesDirectory) {
+        Map<String, byte[]> published = new LinkedHashMap<>();
+        for (ClassFileObject classFileObject : classFileObjects.values()) {
+            byte[] classBytes = classFileObject.getBytes();
+            COMPILED_CLASSES.put(classFileObject.binaryName, classBytes);
+            published.put(classFileObject.binaryName, classBytes);
+        }
+        classFileObjects.clear();
+        if (classesDirectory != null && !published.isEmpty()) {
+            FLUSH_EXECUTOR.execute(() -> flush(classesDirectory, published));
+        }
+    }
+
+    /** Writes class files, each through a temporary file so that a reader
+     * never sees a partial class, and then drops them from memory unless they
+     * have been recompiled in the meantime.
+     */
+    private static void flush(File classesDirectory, Map<String, byte[]> published) {
+        for (Map.Entry<String, byte[]> entry : published.entrySet()) {
+            Path classFile = classesDirectory.toPath().resolve(entry.getKey().replace('.', '/') + JavaFileObject.Kind.CLASS.extension);
+            try {
+                Files.createDirectories(classFile.getParent());
+                Path tempFile = Files.createTempFile(classFile.getParent(), classFile.getFileName().toString(), ".tmp");
+                Files.write(tempFile, entry.getValue());
+                try {
+                    Files.move(tempFile, classFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException ex) {
+                    Files.move(tempFile, classFile, StandardCopyOption.REPLACE_EXISTING);
+                }
+                COMPILED_CLASSES.remove(entry.getKey(), entry.getValue());
+            } catch (IOException ex) {
+
+                // Keep serving it from memory
+                LOG.error("flush() exception: " + ex);
+            }
+        }
+    }
+
+    /** Bytecode held in memory, either as compiler output or classpath input */
+    static class ClassFileObject extends SimpleJavaFileObject {
+
+        final String binaryName;
+        private ByteArrayOutputStream outputStream;
+        private byte[] bytes;
+
+        ClassFileObject(String binaryName) {
+            super(URI.create("bytes:///" + binaryName.replace('.', '/') + Kind.CLASS.extension), Kind.CLASS);
+            this.binaryName = binaryName;
+        }
+
+        ClassFileObject(String binaryName, byte[] bytes) {
+            this(binaryName);
+            this.bytes = bytes;
+        }
+
+        @Override
+        public OutputStream openOutputStream() {
+            outputStream = new ByteArrayOutputStream();
+            return outputStream;
+        }
+
+        @Override
+        public InputStream openInputStream() {
+            return new ByteArrayInputStream(getBytes());
+        }
+
+        byte[] getBytes() {
+            if (bytes == null && outputStream != null) {
+                bytes = outputStream.toByteArray();
+            }
+            return bytes == null ? new byte[0] : bytes;
+        }
+    }
+
+} // end class file InMemoryFileManager.java
@@ -0,0 +1,200 @@
+/*
+Copyright (c) 1995-2025 held by the author(s).  All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions
+are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer
+      in the documentation and/or other materials provided with the
+      distribution.
+    * Neither the names of the Naval Postgraduate School (NPS)
+      Modeling, Virtual Environments and Simulation (MOVES) Institute
+      (http://www.nps.edu and https://my.nps.edu/web/moves)
+      nor the names of its contributors may be used to endorse or
+      promote products derived from this software without specific
+      prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+"AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+POSSIBILITY OF SUCH DAMAGE.
+*/
+package viskit.util;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+
+/**
+ * One shared JAXBContext per binding package, with pools of marshallers and
+ * unmarshallers.
+ * <p>
+ * Creating a JAXBContext is by far the most expensive JAXB operation, while
+ * contexts are thread safe and may be shared. Marshallers and unmarshallers
+ * are cheap by comparison but not thread safe, so they are borrowed from a
+ * small pool for the duration of one call, e.g.
+ * </p>
+ * <pre>
+ * SimkitAssembly root = JAXBContextRegistry.withUnmarshaller(JAXBContextRegistry.ASSEMBLY,
+ *         unmarshaller -&gt; (SimkitAssembly) unmarshaller.unmarshal(file));
+ * </pre>
+ * Contexts are created with this class's loader, so that each LocalBootLoader
+ * has a registry of its own binding classes.
+ */
+public final class JAXBContextRegistry
+{
+    public static final String ASSEMBLY   = "viskit.xsd.bindings.assembly";
+    public static final String EVENT_GRAPH = "viskit.xsd.bindings.eventgraph";
+    public static final String STATISTICS = "viskit.xsd.bindings.assembly.stats";
+    public static final String CLI        = "viskit.xsd.bindings.cli";
+    public static final String QSTAT      = "viskit.xsd.bindings.sge.qstat";
+
+    /** idle marshallers or unmarshallers kept per pool, more may be in use */
+    public static final int POOL_SIZE = 8;
+
+    @FunctionalInterface
+    public interface UnmarshalAction<T> {
+        T apply(Unmarshaller unmarshaller) throws JAXBException;
+    }
+
+    @FunctionalInterface
+    public interface MarshalAction<T> {
+        T apply(Marshaller marshaller) throws JAXBException;
+    }
+
+    private static final Map<String, JAXBContext> CONTEXTS = new ConcurrentHashMap<>();
+    private static final Map<String, BlockingQueue<Unmarshaller>> UNMARSHALLERS = new ConcurrentHashMap<>();
+    /** keyed by context path and schema location, which cannot be reset once set */
+    private static final Map<String, BlockingQueue<Marshaller>> MARSHALLERS = new ConcurrentHashMap<>();
+
+    private JAXBContextRegistry() {}
+
+    /**
+     * @param contextPath binding package, e.g. ASSEMBLY
+     * @return the shared context, created on first use
+     * @throws JAXBException if the bindings cannot be found
+     */
+    public static JAXBContext getContext(String contextPath) throws JAXBException
+    {
+        JAXBContext jaxbContext = CONTEXTS.get(contextPath);
+        if (jaxbContext == null)
+        {
+            synchronized (CONTEXTS)
+            {
+                jaxbContext = CONTEXTS.get(contextPath);
+                if (jaxbContext == null)
+                {
+                    jaxbContext = JAXBContext.newInstance(contextPath, JAXBContextRegistry.class.getClassLoader());
+                    CONTEXTS.put(contextPath, jaxbContext);
+                }
+            }
+        }
+        return jaxbContext;
+    }
+
+    /**
+     * Borrows an unmarshaller for the duration of the action
+     *
+     * @param <T> result type
+     * @param contextPath binding package, e.g. ASSEMBLY
+     * @param action what to do with the unmarshaller, which must not escape it
+     * @return the action's result
+     * @throws JAXBException from the context or the action
+     */
+    public static <T> T withUnmarshaller(String contextPath, UnmarshalAction<T> action) throws JAXBException
+    {
+        BlockingQueue<Unmarshaller> pool = UNMARSHALLERS.computeIfAbsent(contextPath, k -> new ArrayBlockingQueue<>(POOL_SIZE));
+        Unmarshaller unmarshaller = pool.poll();
+        if (unmarshaller == null)
+            unmarshaller = getContext(contextPath).createUnmarshaller();
+        boolean reusable = false;
+        try {
+            T result = action.apply(unmarshaller);
+            reusable = true;
+            return result;
+        }
+        finally {
+            if (reusable)
+            {
+                unmarshaller.setSchema(null);
+                unmarshaller.setEventHandler(null);
+                pool.offer(unmarshaller);
+            }
+        }
+    }
+
+    /**
+     * Borrows a marshaller with default properties for the duration of the action
+     *
+     * @param <T> result type
+     * @param contextPath binding package, e.g. ASSEMBLY
+     * @param action what to do with the marshaller, which must not escape it
+     * @return the action's result
+     * @throws JAXBException from the context or the action
+     */
+    public static <T> T withMarshaller(String contextPath, MarshalAction<T> action) throws JAXBException {
+        return withMarshaller(contextPath, null, action);
+    }
+
+    /**
+     * Borrows a marshaller writing the given no namespace schema location
+     *
+     * @param <T> result type
+     * @param contextPath binding package, e.g. ASSEMBLY
+     * @param schemaLocation the jaxb.noNamespaceSchemaLocation, or null for none
+     * @param action what to do with the marshaller, which must not escape it
+     * @return the action's result
+     * @throws JAXBException from the context or the action
+     */
+    public static <T> T withMarshaller(String contextPath, String schemaLocation, MarshalAction<T> action) throws JAXBException
+    {
+        BlockingQueue<Marshaller> pool = marshallerPool(contextPath, schemaLocation);
+        Marshaller marshaller = pool.poll();
+        if (marshaller == null)
+        {
+            marshaller = getContext(contextPath).createMarshaller();
+            if (schemaLocation != null)
+                marshaller.setProperty(Marshaller.JAXB_NO_NAMESPACE_SCHEMA_LOCATION, schemaLocation);
+        }
+        boolean reusable = false;
+        try {
+            T result = action.apply(marshaller);
+            reusable = true;
+            return result;
+        }
+        finally {
+            if (reusable)
+            {
+                marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, false);
+                marshaller.setProperty(Marshaller.JAXB_FRAGMENT, false);
+                marshaller.setProperty(Marshaller.JAXB_ENCODING, "UTF-8");
+                marshaller.setEventHandler(null);
+                marshaller.setSchema(null);
+                // a schema location set by the action moves the marshaller to that pool
+                marshallerPool(contextPath, (String) marshaller.getProperty(Marshaller.JAXB_NO_NAMESPACE_SCHEMA_LOCATION)).offer(marshaller);
+            }
+        }
+    }
+
+    private static BlockingQueue<Marshaller> marshallerPool(String contextPath, String schemaLocation) {
+        String key = (schemaLocation == null) ? contextPath : contextPath + '\n' + schemaLocation;
+        return MARSHALLERS.computeIfAbsent(key, k -> new ArrayBlockingQueue<>(POOL_SIZE));
+    }
+}
@@ -21,7 +21,7 @@ import org.apache.logging.log4j.Logger;
 
 import viskit.util.FileBasedAssemblyNode;
 import viskit.control.FileBasedClassManager;
-import viskit.util.FindClassesForInterface;
+import viskit.util.ClassIndex;
 import viskit.ViskitGlobals;
 import viskit.ViskitStatics;
 import static viskit.ViskitUserConfiguration.SYSTEM_USER_DIR;
@@ -255,10 +255,37 @@ public class LegoTree extends JTree implements DragGestureListener, DragSourceLi
             addJarFile(file.getPath());
         } 
         else if (!file.getName().toLowerCase().endsWith(".java")) {
+            if (file.isDirectory()) {
+
+                // Compile the directory's new and changed Event Graphs together
+                List<File> xmlFiles = new ArrayList<>();
+                collectXmlFiles(file, recurse, xmlFiles);
+                FileBasedClassManager.instance().compileStaleEventGraphs(xmlFiles);
+            }
             _addContentRoot(file, recurse); // directories, .xml, .class
         }
     }
 
+    /** Gathers the XML files that _addContentRoot will visit
+     *
+     * @param directory the directory to search
+     * @param recurse whether to descend into subdirectories
+     * @param xmlFiles receives the XML files found
+     */
+    private void collectXmlFiles(File directory, boolean recurse, List<File> xmlFiles)
+    {
+        File[] fileArray = directory.listFiles(new MyClassTypeFilter(recurse));
+        if (fileArray == null)
+            return;
+        for (File nextFile : fileArray)
+        {
+            if (nextFile.isDirectory())
+                collectXmlFiles(nextFile, true, xmlFiles);
+            else if (nextFile.getName().toLowerCase().endsWith(".xml"))
+                xmlFiles.add(nextFile);
+        }
+    }
+
     /** Does the real work of adding content to LegoTree
      * 
      * @param rootFile file or directory
@@ -420,15 +447,12 @@ public class LegoTree extends JTree implements DragGestureListener, DragSourceLi
      */
     private void addJarFile(String jarFilePath) 
     {
-        JarFile jarFile;
-        try {
-            jarFile = new JarFile(jarFilePath);
+        try (JarFile jarFile = new JarFile(jarFilePath)) {
+            jarFileCommon(jarFile);
         } 
         catch (IOException e) {
             LOG.error(e);
-            return;
         }
-        jarFileCommon(jarFile);
     }
 
     @SuppressWarnings("unchecked")
@@ -448,10 +472,17 @@ public class LegoTree extends JTree implements DragGestureListener, DragSourceLi
                 return; // already present
             }
         }
-        List<Class<?>> classList = FindClassesForInterface.findClasses(jarFile, targetClass);
-        classList.forEach(nextClass -> {
-            ViskitStatics.resolveParameters(nextClass);
-        });
+        // Listed from the jar's bytecode index, a class is only loaded,
+        // and its parameters resolved, once it is dropped onto the canvas
+        List<ClassIndex.Entry> classList;
+        try {
+            classList = ClassIndex.findSubtypes(new File(jarFile.getName()), targetClassName,
+                    ViskitGlobals.instance().getViskitApplicationClassLoader());
+        } 
+        catch (IOException e) {
+            LOG.error("jarFileCommon() exception: " + e);
+            return;
+        }
 
         // Shorten long path names
         if (jarFile.getName().contains(userDir)) {
@@ -478,8 +509,8 @@ public class LegoTree extends JTree implements DragGestureListener, DragSourceLi
         }
     }
 
-    private void hookToParent(Class<?> c, DefaultMutableTreeNode myroot) {
-        String pkg = c.getPackage().getName();
+    private void hookToParent(ClassIndex.Entry c, DefaultMutableTreeNode myroot) {
+        String pkg = c.getPackageName();
         DefaultMutableTreeNode dmtn = getParent(pkg, myroot);
         dmtn.add(new DefaultMutableTreeNode(c));
     }
@@ -491,9 +522,8 @@ public class LegoTree extends JTree implements DragGestureListener, DragSourceLi
             Object uo = ((DefaultMutableTreeNode) value).getUserObject();
             setLeafIcon(LegoTree.this.myLeafIcon); // default
 
-            if (uo instanceof Class<?>) {
-                Class<?> c = (Class<?>) uo;
-                String nm = c.getName();
+            if (uo instanceof Class<?> || uo instanceof ClassIndex.Entry) {
+                String nm = getClassName(uo);
 
                 setToolTipText(nm);
                 nm = nm.substring(nm.lastIndexOf('.') + 1);
@@ -574,7 +604,7 @@ public class LegoTree extends JTree implements DragGestureListener, DragSourceLi
         if (o instanceof FileBasedAssemblyNode) {
             FileBasedAssemblyNode xn = (FileBasedAssemblyNode) o;
             ss = new StringSelection(targetClassName + "\t" + xn.toString());
-        } else if (o instanceof Class<?>) {
+        } else if (o instanceof Class<?> || o instanceof ClassIndex.Entry) {
             String s = getClassName(o);
             if (s == null) {
                 return;
@@ -632,6 +662,9 @@ public class LegoTree extends JTree implements DragGestureListener, DragSourceLi
         if (o instanceof Class<?>) {
             return ((Class<?>) o).getName();
         }
+        if (o instanceof ClassIndex.Entry) {
+            return ((ClassIndex.Entry) o).getName();
+        }
         if (o instanceof FileBasedAssemblyNode) {
             return ((FileBasedAssemblyNode) o).loadedClass;
         }
@@ -468,6 +468,7 @@ public class ViskitUserPreferencesDialog extends JDialog
         // Always reinitialize the prop config. We may have changed projects
         getXMLConfigurations();
         projectXMLConfiguration.clearTree(ViskitUserConfiguration.X_CLASSPATHS_CLEAR_KEY);
+        ViskitStatics.clearClassForNameCache();
     }
 
     /** Method to facilitate putting project/lib entries on the classpath
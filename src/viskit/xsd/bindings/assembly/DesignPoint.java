@@ -0,0 +1,234 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.1 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.18 at 07:41:33 AM UTC 
+//
+
+
+package viskit.xsd.bindings.assembly;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlElementRef;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for anonymous complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element ref="{}TerminalParameter" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *         &lt;element ref="{}Script" minOccurs="0"/&gt;
+ *         &lt;element ref="{}Replication" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *         &lt;element ref="{}Results" minOccurs="0"/&gt;
+ *         &lt;element ref="{}Statistics" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="index" type="{http://www.w3.org/2001/XMLSchema}anySimpleType" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "", propOrder = {
+    "terminalParameter",
+    "script",
+    "replication",
+    "results",
+    "statistics"
+})
+@XmlRootElement(name = "DesignPoint")
+public class DesignPoint {
+
+    @XmlElement(name = "TerminalParameter")
+    protected List<TerminalParameter> terminalParameter;
+    @XmlElement(name = "Script")
+    protected String script;
+    @XmlElement(name = "Replication")
+    protected List<Replication> replication;
+    @XmlElement(name = "Results")
+    protected Results results;
+    @XmlElementRef(name = "Statistics", type = JAXBElement.class, required = false)
+    protected List<JAXBElement<?>> statistics;
+    @XmlAttribute(name = "index")
+    @XmlSchemaType(name = "anySimpleType")
+    protected String index;
+
+    /**
+     * Gets the value of the terminalParameter property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the terminalParameter property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getTerminalParameter().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link TerminalParameter }
+     * 
+     * 
+     */
+    public List<TerminalParameter> getTerminalParameter() {
+        if (terminalParameter == null) {
+            terminalParameter = new ArrayList<TerminalParameter>();
+        }
+        return this.terminalParameter;
+    }
+
+    /**
+     * Gets the value of the script property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getScript() {
+        return script;
+    }
+
+    /**
+     * Sets the value of the script property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setScript(String value) {
+        this.script = value;
+    }
+
+    /**
+     * Gets the value of the replication property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the replication property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getReplication().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link Replication }
+     * 
+     * 
+     */
+    public List<Replication> getReplication() {
+        if (replication == null) {
+            replication = new ArrayList<Replication>();
+        }
+        return this.replication;
+    }
+
+    /**
+     * Gets the value of the results property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Results }
+     *     
+     */
+    public Results getResults() {
+        return results;
+    }
+
+    /**
+     * Sets the value of the results property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Results }
+     *     
+     */
+    public void setResults(Results value) {
+        this.results = value;
+    }
+
+    /**
+     * Gets the value of the statistics property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the statistics property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getStatistics().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link JAXBElement }{@code <}{@link SampleStatistics }{@code >}
+     * {@link JAXBElement }{@code <}{@link IndexedSampleStatistics }{@code >}
+     * {@link JAXBElement }{@code <}{@link Object }{@code >}
+     * 
+     * 
+     */
+    public List<JAXBElement<?>> getStatistics() {
+        if (statistics == null) {
+            statistics = new ArrayList<JAXBElement<?>>();
+        }
+        return this.statistics;
+    }
+
+    /**
+     * Gets the value of the index property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getIndex() {
+        return index;
+    }
+
+    /**
+     * Sets the value of the index property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setIndex(String value) {
+        this.index = value;
+    }
+
+}
@@ -0,0 +1,450 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.1 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.18 at 07:41:33 AM UTC 
+//
+
+
+package viskit.xsd.bindings.assembly;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.CollapsedStringAdapter;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+
+
+/**
+ * <p>Java class for anonymous complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element ref="{}Script" minOccurs="0"/&gt;
+ *         &lt;element ref="{}Sample" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="jobID" type="{http://www.w3.org/2001/XMLSchema}anySimpleType" /&gt;
+ *       &lt;attribute name="type" default="latin-hypercube"&gt;
+ *         &lt;simpleType&gt;
+ *           &lt;restriction base="{http://www.w3.org/2001/XMLSchema}token"&gt;
+ *             &lt;enumeration value="latin-hypercube"/&gt;
+ *             &lt;enumeration value="maximin-latin-hypercube"/&gt;
+ *             &lt;enumeration value="nearly-orthogonal-latin-hypercube"/&gt;
+ *             &lt;enumeration value="fractional-factorial"/&gt;
+ *             &lt;enumeration value="full-factorial"/&gt;
+ *           &lt;/restriction&gt;
+ *         &lt;/simpleType&gt;
+ *       &lt;/attribute&gt;
+ *       &lt;attribute name="replicationsPerDesignPoint" type="{http://www.w3.org/2001/XMLSchema}anySimpleType" default="30" /&gt;
+ *       &lt;attribute name="totalSamples" type="{http://www.w3.org/2001/XMLSchema}anySimpleType" default="1" /&gt;
+ *       &lt;attribute name="designPoints" type="{http://www.w3.org/2001/XMLSchema}anySimpleType" default="0" /&gt;
+ *       &lt;attribute name="seed" type="{http://www.w3.org/2001/XMLSchema}anySimpleType" default="0" /&gt;
+ *       &lt;attribute name="jitter" default="true"&gt;
+ *         &lt;simpleType&gt;
+ *           &lt;restriction base="{http://www.w3.org/2001/XMLSchema}token"&gt;
+ *             &lt;enumeration value="true"/&gt;
+ *             &lt;enumeration value="false"/&gt;
+ *           &lt;/restriction&gt;
+ *         &lt;/simpleType&gt;
+ *       &lt;/attribute&gt;
+ *       &lt;attribute name="timeout" type="{http://www.w3.org/2001/XMLSchema}anySimpleType" default="0" /&gt;
+ *       &lt;attribute name="threads" type="{http://www.w3.org/2001/XMLSchema}anySimpleType" default="0" /&gt;
+ *       &lt;attribute name="debug" default="false"&gt;
+ *         &lt;simpleType&gt;
+ *           &lt;restriction base="{http://www.w3.org/2001/XMLSchema}token"&gt;
+ *             &lt;enumeration value="true"/&gt;
+ *             &lt;enumeration value="false"/&gt;
+ *           &lt;/restriction&gt;
+ *         &lt;/simpleType&gt;
+ *       &lt;/attribute&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "", propOrder = {
+    "script",
+    "sample"
+})
+@XmlRootElement(name = "Experiment")
+public class Experiment {
+
+    @XmlElement(name = "Script")
+    protected String script;
+    @XmlElement(name = "Sample")
+    protected List<Sample> sample;
+    @XmlAttribute(name = "jobID")
+    @XmlSchemaType(name = "anySimpleType")
+    protected String jobID;
+    @XmlAttribute(name = "type")
+    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
+    protected String type;
+    @XmlAttribute(name = "replicationsPerDesignPoint")
+    @XmlSchemaType(name = "anySimpleType")
+    protected String replicationsPerDesignPoint;
+    @XmlAttribute(name = "totalSamples")
+    @XmlSchemaType(name = "anySimpleType")
+    protected String totalSamples;
+    @XmlAttribute(name = "designPoints")
+    @XmlSchemaType(name = "anySimpleType")
+    protected String designPoints;
+    @XmlAttribute(name = "seed")
+    @XmlSchemaType(name = "anySimpleType")
+    protected String seed;
+    @XmlAttribute(name = "jitter")
+    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
+    protected String jitter;
+    @XmlAttribute(name = "timeout")
+    @XmlSchemaType(name = "anySimpleType")
+    protected String timeout;
+    @XmlAttribute(name = "threads")
+    @XmlSchemaType(name = "anySimpleType")
+    protected String threads;
+    @XmlAttribute(name = "debug")
+    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
+    protected String debug;
+
+    /**
+     * Gets the value of the script property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getScript() {
+        return script;
+    }
+
+    /**
+     * Sets the value of the script property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setScript(String value) {
+        this.script = value;
+    }
+
+    /**
+     * Gets the value of the sample property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the sample property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getSample().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link Sample }
+     * 
+     * 
+     */
+    public List<Sample> getSample() {
+        if (sample == null) {
+            sample = new ArrayList<Sample>();
+        }
+        return this.sample;
+    }
+
+    /**
+     * Gets the value of the jobID property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getJobID() {
+        return jobID;
+    }
+
+    /**
+     * Sets the value of the jobID property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setJobID(String value) {
+        this.jobID = value;
+    }
+
+    /**
+     * Gets the value of the type property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getType() {
+        if (type == null) {
+            return "latin-hypercube";
+        } else {
+            return type;
+        }
+    }
+
+    /**
+     * Sets the value of the type property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setType(String value) {
+        this.type = value;
+    }
+
+    /**
+     * Gets the value of the replicationsPerDesignPoint property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getReplicationsPerDesignPoint() {
+        if (replicationsPerDesignPoint == null) {
+            return "30";
+        } else {
+            return replicationsPerDesignPoint;
+        }
+    }
+
+    /**
+     * Sets the value of the replicationsPerDesignPoint property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setReplicationsPerDesignPoint(String value) {
+        this.replicationsPerDesignPoint = value;
+    }
+
+    /**
+     * Gets the value of the totalSamples property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getTotalSamples() {
+        if (totalSamples == null) {
+            return "1";
+        } else {
+            return totalSamples;
+        }
+    }
+
+    /**
+     * Sets the value of the totalSamples property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setTotalSamples(String value) {
+        this.totalSamples = value;
+    }
+
+    /**
+     * Gets the value of the designPoints property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getDesignPoints() {
+        if (designPoints == null) {
+            return "0";
+        } else {
+            return designPoints;
+        }
+    }
+
+    /**
+     * Sets the value of the designPoints property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setDesignPoints(String value) {
+        this.designPoints = value;
+    }
+
+    /**
+     * Gets the value of the seed property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getSeed() {
+        if (seed == null) {
+            return "0";
+        } else {
+            return seed;
+        }
+    }
+
+    /**
+     * Sets the value of the seed property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setSeed(String value) {
+        this.seed = value;
+    }
+
+    /**
+     * Gets the value of the jitter property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getJitter() {
+        if (jitter == null) {
+            return "true";
+        } else {
+            return jitter;
+        }
+    }
+
+    /**
+     * Sets the value of the jitter property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setJitter(String value) {
+        this.jitter = value;
+    }
+
+    /**
+     * Gets the value of the timeout property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getTimeout() {
+        if (timeout == null) {
+            return "0";
+        } else {
+            return timeout;
+        }
+    }
+
+    /**
+     * Sets the value of the timeout property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setTimeout(String value) {
+        this.timeout = value;
+    }
+
+    /**
+     * Gets the value of the threads property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getThreads() {
+        if (threads == null) {
+            return "0";
+        } else {
+            return threads;
+        }
+    }
+
+    /**
+     * Sets the value of the threads property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setThreads(String value) {
+        this.threads = value;
+    }
+
+    /**
+     * Gets the value of the debug property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getDebug() {
+        if (debug == null) {
+            return "false";
+        } else {
+            return debug;
+        }
+    }
+
+    /**
+     * Sets the value of the debug property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setDebug(String value) {
+        this.debug = value;
+    }
+
+}
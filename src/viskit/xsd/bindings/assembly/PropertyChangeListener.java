@@ -0,0 +1,324 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.1 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.18 at 07:41:33 AM UTC 
+//
+
+
+package viskit.xsd.bindings.assembly;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlElements;
+import javax.xml.bind.annotation.XmlID;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.CollapsedStringAdapter;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+
+
+/**
+ * <p>Java class for anonymous complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;group ref="{}Parameters" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *         &lt;element ref="{}Coordinate" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="name" use="required" type="{http://www.w3.org/2001/XMLSchema}ID" /&gt;
+ *       &lt;attribute name="type" use="required" type="{http://www.w3.org/2001/XMLSchema}anySimpleType" /&gt;
+ *       &lt;attribute name="mode" default="listener"&gt;
+ *         &lt;simpleType&gt;
+ *           &lt;restriction base="{http://www.w3.org/2001/XMLSchema}token"&gt;
+ *             &lt;enumeration value="replicationStat"/&gt;
+ *             &lt;enumeration value="replicationStats"/&gt;
+ *             &lt;enumeration value="designPointStat"/&gt;
+ *             &lt;enumeration value="designPointStats"/&gt;
+ *             &lt;enumeration value="listener"/&gt;
+ *           &lt;/restriction&gt;
+ *         &lt;/simpleType&gt;
+ *       &lt;/attribute&gt;
+ *       &lt;attribute name="meanStatistics" default="false"&gt;
+ *         &lt;simpleType&gt;
+ *           &lt;restriction base="{http://www.w3.org/2001/XMLSchema}token"&gt;
+ *             &lt;enumeration value="true"/&gt;
+ *             &lt;enumeration value="false"/&gt;
+ *           &lt;/restriction&gt;
+ *         &lt;/simpleType&gt;
+ *       &lt;/attribute&gt;
+ *       &lt;attribute name="countStatistics" default="true"&gt;
+ *         &lt;simpleType&gt;
+ *           &lt;restriction base="{http://www.w3.org/2001/XMLSchema}token"&gt;
+ *             &lt;enumeration value="true"/&gt;
+ *             &lt;enumeration value="false"/&gt;
+ *           &lt;/restriction&gt;
+ *         &lt;/simpleType&gt;
+ *       &lt;/attribute&gt;
+ *       &lt;attribute name="description" type="{http://www.w3.org/2001/XMLSchema}anySimpleType" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "", propOrder = {
+    "parameters",
+    "coordinate"
+})
+@XmlRootElement(name = "PropertyChangeListener")
+public class PropertyChangeListener {
+
+    @XmlElements({
+        @XmlElement(name = "MultiParameter", type = MultiParameter.class),
+        @XmlElement(name = "FactoryParameter", type = FactoryParameter.class),
+        @XmlElement(name = "TerminalParameter", type = TerminalParameter.class)
+    })
+    protected List<Object> parameters;
+    @XmlElement(name = "Coordinate")
+    protected Coordinate coordinate;
+    @XmlAttribute(name = "name", required = true)
+    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
+    @XmlID
+    @XmlSchemaType(name = "ID")
+    protected String name;
+    @XmlAttribute(name = "type", required = true)
+    @XmlSchemaType(name = "anySimpleType")
+    protected String type;
+    @XmlAttribute(name = "mode")
+    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
+    protected String mode;
+    @XmlAttribute(name = "meanStatistics")
+    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
+    protected String meanStatistics;
+    @XmlAttribute(name = "countStatistics")
+    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
+    protected String countStatistics;
+    @XmlAttribute(name = "description")
+    @XmlSchemaType(name = "anySimpleType")
+    protected String description;
+
+    /**
+     * Gets the value of the parameters property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the parameters property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getParameters().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link MultiParameter }
+     * {@link FactoryParameter }
+     * {@link TerminalParameter }
+     * 
+     * 
+     */
+    public List<Object> getParameters() {
+        if (parameters == null) {
+            parameters = new ArrayList<Object>();
+        }
+        return this.parameters;
+    }
+
+    /**
+     * Gets the value of the coordinate property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Coordinate }
+     *     
+     */
+    public Coordinate getCoordinate() {
+        return coordinate;
+    }
+
+    /**
+     * Sets the value of the coordinate property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Coordinate }
+     *     
+     */
+    public void setCoordinate(Coordinate value) {
+        this.coordinate = value;
+    }
+
+    /**
+     * Gets the value of the name property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Sets the value of the name property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setName(String value) {
+        this.name = value;
+    }
+
+    /**
+     * Gets the value of the type property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Sets the value of the type property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setType(String value) {
+        this.type = value;
+    }
+
+    /**
+     * Gets the value of the mode property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getMode() {
+        if (mode == null) {
+            return "listener";
+        } else {
+            return mode;
+        }
+    }
+
+    /**
+     * Sets the value of the mode property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setMode(String value) {
+        this.mode = value;
+    }
+
+    /**
+     * Gets the value of the meanStatistics property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getMeanStatistics() {
+        if (meanStatistics == null) {
+            return "false";
+        } else {
+            return meanStatistics;
+        }
+    }
+
+    /**
+     * Sets the value of the meanStatistics property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setMeanStatistics(String value) {
+        this.meanStatistics = value;
+    }
+
+    /**
+     * Gets the value of the countStatistics property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getCountStatistics() {
+        if (countStatistics == null) {
+            return "true";
+        } else {
+            return countStatistics;
+        }
+    }
+
+    /**
+     * Sets the value of the countStatistics property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setCountStatistics(String value) {
+        this.countStatistics = value;
+    }
+
+    /**
+     * Gets the value of the description property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Sets the value of the description property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setDescription(String value) {
+        this.description = value;
+    }
+
+}
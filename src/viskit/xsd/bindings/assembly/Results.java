@@ -0,0 +1,202 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.1 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.18 at 07:41:33 AM UTC 
+//
+
+
+package viskit.xsd.bindings.assembly;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElementRef;
+import javax.xml.bind.annotation.XmlElementRefs;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for anonymous complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;choice maxOccurs="unbounded" minOccurs="0"&gt;
+ *         &lt;element ref="{}Log"/&gt;
+ *         &lt;element ref="{}PropertyChange"/&gt;
+ *         &lt;element ref="{}Errors"/&gt;
+ *       &lt;/choice&gt;
+ *       &lt;attribute name="sample" use="required" type="{http://www.w3.org/2001/XMLSchema}anySimpleType" /&gt;
+ *       &lt;attribute name="designPoint" use="required" type="{http://www.w3.org/2001/XMLSchema}anySimpleType" /&gt;
+ *       &lt;attribute name="index" type="{http://www.w3.org/2001/XMLSchema}anySimpleType" /&gt;
+ *       &lt;attribute name="job" type="{http://www.w3.org/2001/XMLSchema}anySimpleType" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "", propOrder = {
+    "logOrPropertyChangeOrErrors"
+})
+@XmlRootElement(name = "Results")
+public class Results {
+
+    @XmlElementRefs({
+        @XmlElementRef(name = "Log", type = JAXBElement.class, required = false),
+        @XmlElementRef(name = "PropertyChange", type = PropertyChange.class, required = false),
+        @XmlElementRef(name = "Errors", type = JAXBElement.class, required = false)
+    })
+    protected List<Object> logOrPropertyChangeOrErrors;
+    @XmlAttribute(name = "sample", required = true)
+    @XmlSchemaType(name = "anySimpleType")
+    protected String sample;
+    @XmlAttribute(name = "designPoint", required = true)
+    @XmlSchemaType(name = "anySimpleType")
+    protected String designPoint;
+    @XmlAttribute(name = "index")
+    @XmlSchemaType(name = "anySimpleType")
+    protected String index;
+    @XmlAttribute(name = "job")
+    @XmlSchemaType(name = "anySimpleType")
+    protected String job;
+
+    /**
+     * Gets the value of the logOrPropertyChangeOrErrors property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the logOrPropertyChangeOrErrors property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getLogOrPropertyChangeOrErrors().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link JAXBElement }{@code <}{@link String }{@code >}
+     * {@link PropertyChange }
+     * {@link JAXBElement }{@code <}{@link String }{@code >}
+     * 
+     * 
+     */
+    public List<Object> getLogOrPropertyChangeOrErrors() {
+        if (logOrPropertyChangeOrErrors == null) {
+            logOrPropertyChangeOrErrors = new ArrayList<Object>();
+        }
+        return this.logOrPropertyChangeOrErrors;
+    }
+
+    /**
+     * Gets the value of the sample property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getSample() {
+        return sample;
+    }
+
+    /**
+     * Sets the value of the sample property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setSample(String value) {
+        this.sample = value;
+    }
+
+    /**
+     * Gets the value of the designPoint property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getDesignPoint() {
+        return designPoint;
+    }
+
+    /**
+     * Sets the value of the designPoint property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setDesignPoint(String value) {
+        this.designPoint = value;
+    }
+
+    /**
+     * Gets the value of the index property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getIndex() {
+        return index;
+    }
+
+    /**
+     * Sets the value of the index property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setIndex(String value) {
+        this.index = value;
+    }
+
+    /**
+     * Gets the value of the job property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getJob() {
+        return job;
+    }
+
+    /**
+     * Sets the value of the job property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setJob(String value) {
+        this.job = value;
+    }
+
+}
@@ -0,0 +1,304 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.1 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.18 at 05:42:36 AM UTC 
+//
+
+
+package viskit.xsd.bindings.eventgraph;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlElements;
+import javax.xml.bind.annotation.XmlID;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.CollapsedStringAdapter;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+
+
+/**
+ * <p>Java class for anonymous complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element ref="{}Argument" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *         &lt;element ref="{}LocalVariable" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *         &lt;element ref="{}StateTransition" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *         &lt;choice maxOccurs="unbounded" minOccurs="0"&gt;
+ *           &lt;element ref="{}Schedule"/&gt;
+ *           &lt;element ref="{}Cancel"/&gt;
+ *         &lt;/choice&gt;
+ *         &lt;element ref="{}SourceCodeBlock" minOccurs="0"/&gt;
+ *         &lt;element ref="{}Coordinate" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="name" use="required" type="{http://www.w3.org/2001/XMLSchema}ID" /&gt;
+ *       &lt;attribute name="description" type="{http://www.w3.org/2001/XMLSchema}anySimpleType" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "", propOrder = {
+    "argument",
+    "localVariable",
+    "stateTransition",
+    "scheduleOrCancel",
+    "sourceCodeBlock",
+    "coordinate"
+})
+@XmlRootElement(name = "Event")
+public class Event {
+
+    @XmlElement(name = "Argument")
+    protected List<Argument> argument;
+    @XmlElement(name = "LocalVariable")
+    protected List<LocalVariable> localVariable;
+    @XmlElement(name = "StateTransition")
+    protected List<StateTransition> stateTransition;
+    @XmlElements({
+        @XmlElement(name = "Schedule", type = Schedule.class),
+        @XmlElement(name = "Cancel", type = Cancel.class)
+    })
+    protected List<Object> scheduleOrCancel;
+    @XmlElement(name = "SourceCodeBlock")
+    protected SourceCodeBlock sourceCodeBlock;
+    @XmlElement(name = "Coordinate")
+    protected Coordinate coordinate;
+    @XmlAttribute(name = "name", required = true)
+    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
+    @XmlID
+    @XmlSchemaType(name = "ID")
+    protected String name;
+    @XmlAttribute(name = "description")
+    @XmlSchemaType(name = "anySimpleType")
+    protected String description;
+
+    /**
+     * Gets the value of the argument property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the argument property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getArgument().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link Argument }
+     * 
+     * 
+     */
+    public List<Argument> getArgument() {
+        if (argument == null) {
+            argument = new ArrayList<Argument>();
+        }
+        return this.argument;
+    }
+
+    /**
+     * Gets the value of the localVariable property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the localVariable property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getLocalVariable().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link LocalVariable }
+     * 
+     * 
+     */
+    public List<LocalVariable> getLocalVariable() {
+        if (localVariable == null) {
+            localVariable = new ArrayList<LocalVariable>();
+        }
+        return this.localVariable;
+    }
+
+    /**
+     * Gets the value of the stateTransition property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the stateTransition property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getStateTransition().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link StateTransition }
+     * 
+     * 
+     */
+    public List<StateTransition> getStateTransition() {
+        if (stateTransition == null) {
+            stateTransition = new ArrayList<StateTransition>();
+        }
+        return this.stateTransition;
+    }
+
+    /**
+     * Gets the value of the scheduleOrCancel property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the scheduleOrCancel property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getScheduleOrCancel().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link Schedule }
+     * {@link Cancel }
+     * 
+     * 
+     */
+    public List<Object> getScheduleOrCancel() {
+        if (scheduleOrCancel == null) {
+            scheduleOrCancel = new ArrayList<Object>();
+        }
+        return this.scheduleOrCancel;
+    }
+
+    /**
+     * Gets the value of the sourceCodeBlock property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link SourceCodeBlock }
+     *     
+     */
+    public SourceCodeBlock getSourceCodeBlock() {
+        return sourceCodeBlock;
+    }
+
+    /**
+     * Sets the value of the sourceCodeBlock property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link SourceCodeBlock }
+     *     
+     */
+    public void setSourceCodeBlock(SourceCodeBlock value) {
+        this.sourceCodeBlock = value;
+    }
+
+    /**
+     * Gets the value of the coordinate property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Coordinate }
+     *     
+     */
+    public Coordinate getCoordinate() {
+        return coordinate;
+    }
+
+    /**
+     * Sets the value of the coordinate property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Coordinate }
+     *     
+     */
+    public void setCoordinate(Coordinate value) {
+        this.coordinate = value;
+    }
+
+    /**
+     * Gets the value of the name property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Sets the value of the name property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setName(String value) {
+        this.name = value;
+    }
+
+    /**
+     * Gets the value of the description property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Sets the value of the description property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setDescription(String value) {
+        this.description = value;
+    }
+
+}
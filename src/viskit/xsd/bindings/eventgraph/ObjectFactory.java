@@ -0,0 +1,183 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.1 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.18 at 05:42:36 AM UTC 
+//
+
+
+package viskit.xsd.bindings.eventgraph;
+
+import javax.xml.bind.annotation.XmlRegistry;
+
+
+/**
+ * This object contains factory methods for each 
+ * Java content interface and Java element interface 
+ * generated in the viskit.xsd.bindings.eventgraph package. 
+ * <p>An ObjectFactory allows you to programatically 
+ * construct new instances of the Java representation 
+ * for XML content. The Java representation of XML 
+ * content can consist of schema derived interfaces 
+ * and classes representing the binding of schema 
+ * type definitions, element declarations and model 
+ * groups.  Factory methods for each of these are 
+ * provided in this class.
+ * 
+ */
+@XmlRegistry
+public class ObjectFactory {
+
+
+    /**
+     * Create a new ObjectFactory that can be used to create new instances of schema derived classes for package: viskit.xsd.bindings.eventgraph
+     * 
+     */
+    public ObjectFactory() {
+    }
+
+    /**
+     * Create an instance of {@link SimEntity }
+     * 
+     */
+    public SimEntity createSimEntity() {
+        return new SimEntity();
+    }
+
+    /**
+     * Create an instance of {@link Head }
+     * 
+     */
+    public Head createHead() {
+        return new Head();
+    }
+
+    /**
+     * Create an instance of {@link Meta }
+     * 
+     */
+    public Meta createMeta() {
+        return new Meta();
+    }
+
+    /**
+     * Create an instance of {@link Parameter }
+     * 
+     */
+    public Parameter createParameter() {
+        return new Parameter();
+    }
+
+    /**
+     * Create an instance of {@link StateVariable }
+     * 
+     */
+    public StateVariable createStateVariable() {
+        return new StateVariable();
+    }
+
+    /**
+     * Create an instance of {@link SourceCodeBlock }
+     * 
+     */
+    public SourceCodeBlock createSourceCodeBlock() {
+        return new SourceCodeBlock();
+    }
+
+    /**
+     * Create an instance of {@link Event }
+     * 
+     */
+    public Event createEvent() {
+        return new Event();
+    }
+
+    /**
+     * Create an instance of {@link Argument }
+     * 
+     */
+    public Argument createArgument() {
+        return new Argument();
+    }
+
+    /**
+     * Create an instance of {@link LocalVariable }
+     * 
+     */
+    public LocalVariable createLocalVariable() {
+        return new LocalVariable();
+    }
+
+    /**
+     * Create an instance of {@link StateTransition }
+     * 
+     */
+    public StateTransition createStateTransition() {
+        return new StateTransition();
+    }
+
+    /**
+     * Create an instance of {@link Assignment }
+     * 
+     */
+    public Assignment createAssignment() {
+        return new Assignment();
+    }
+
+    /**
+     * Create an instance of {@link Operation }
+     * 
+     */
+    public Operation createOperation() {
+        return new Operation();
+    }
+
+    /**
+     * Create an instance of {@link LocalVariableAssignment }
+     * 
+     */
+    public LocalVariableAssignment createLocalVariableAssignment() {
+        return new LocalVariableAssignment();
+    }
+
+    /**
+     * Create an instance of {@link LocalVariableInvocation }
+     * 
+     */
+    public LocalVariableInvocation createLocalVariableInvocation() {
+        return new LocalVariableInvocation();
+    }
+
+    /**
+     * Create an instance of {@link Schedule }
+     * 
+     */
+    public Schedule createSchedule() {
+        return new Schedule();
+    }
+
+    /**
+     * Create an instance of {@link EdgeParameter }
+     * 
+     */
+    public EdgeParameter createEdgeParameter() {
+        return new EdgeParameter();
+    }
+
+    /**
+     * Create an instance of {@link Cancel }
+     * 
+     */
+    public Cancel createCancel() {
+        return new Cancel();
+    }
+
+    /**
+     * Create an instance of {@link Coordinate }
+     * 
+     */
+    public Coordinate createCoordinate() {
+        return new Coordinate();
+    }
+
+}
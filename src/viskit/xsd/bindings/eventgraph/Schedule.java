@@ -0,0 +1,277 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.1 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.18 at 05:42:36 AM UTC 
+//
+
+
+package viskit.xsd.bindings.eventgraph;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlIDREF;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.CollapsedStringAdapter;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+
+
+/**
+ * <p>Java class for anonymous complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element ref="{}SourceCodeBlock" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *         &lt;element ref="{}EdgeParameter" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="delay" type="{http://www.w3.org/2001/XMLSchema}anySimpleType" default="0.0" /&gt;
+ *       &lt;attribute name="event" use="required" type="{http://www.w3.org/2001/XMLSchema}IDREF" /&gt;
+ *       &lt;attribute name="condition" type="{http://www.w3.org/2001/XMLSchema}anySimpleType" /&gt;
+ *       &lt;attribute name="priority" default="DEFAULT"&gt;
+ *         &lt;simpleType&gt;
+ *           &lt;restriction base="{http://www.w3.org/2001/XMLSchema}token"&gt;
+ *             &lt;enumeration value="HIGHEST"/&gt;
+ *             &lt;enumeration value="HIGHER"/&gt;
+ *             &lt;enumeration value="HIGH"/&gt;
+ *             &lt;enumeration value="DEFAULT"/&gt;
+ *             &lt;enumeration value="LOW"/&gt;
+ *             &lt;enumeration value="LOWER"/&gt;
+ *             &lt;enumeration value="LOWEST"/&gt;
+ *           &lt;/restriction&gt;
+ *         &lt;/simpleType&gt;
+ *       &lt;/attribute&gt;
+ *       &lt;attribute name="description" type="{http://www.w3.org/2001/XMLSchema}anySimpleType" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "", propOrder = {
+    "sourceCodeBlock",
+    "edgeParameter"
+})
+@XmlRootElement(name = "Schedule")
+public class Schedule {
+
+    @XmlElement(name = "SourceCodeBlock")
+    protected List<SourceCodeBlock> sourceCodeBlock;
+    @XmlElement(name = "EdgeParameter")
+    protected List<EdgeParameter> edgeParameter;
+    @XmlAttribute(name = "delay")
+    @XmlSchemaType(name = "anySimpleType")
+    protected String delay;
+    @XmlAttribute(name = "event", required = true)
+    @XmlIDREF
+    @XmlSchemaType(name = "IDREF")
+    protected Object event;
+    @XmlAttribute(name = "condition")
+    @XmlSchemaType(name = "anySimpleType")
+    protected String condition;
+    @XmlAttribute(name = "priority")
+    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
+    protected String priority;
+    @XmlAttribute(name = "description")
+    @XmlSchemaType(name = "anySimpleType")
+    protected String description;
+
+    /**
+     * Gets the value of the sourceCodeBlock property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the sourceCodeBlock property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getSourceCodeBlock().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link SourceCodeBlock }
+     * 
+     * 
+     */
+    public List<SourceCodeBlock> getSourceCodeBlock() {
+        if (sourceCodeBlock == null) {
+            sourceCodeBlock = new ArrayList<SourceCodeBlock>();
+        }
+        return this.sourceCodeBlock;
+    }
+
+    /**
+     * Gets the value of the edgeParameter property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the edgeParameter property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getEdgeParameter().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link EdgeParameter }
+     * 
+     * 
+     */
+    public List<EdgeParameter> getEdgeParameter() {
+        if (edgeParameter == null) {
+            edgeParameter = new ArrayList<EdgeParameter>();
+        }
+        return this.edgeParameter;
+    }
+
+    /**
+     * Gets the value of the delay property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getDelay() {
+        if (delay == null) {
+            return "0.0";
+        } else {
+            return delay;
+        }
+    }
+
+    /**
+     * Sets the value of the delay property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setDelay(String value) {
+        this.delay = value;
+    }
+
+    /**
+     * Gets the value of the event property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Object }
+     *     
+     */
+    public Object getEvent() {
+        return event;
+    }
+
+    /**
+     * Sets the value of the event property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Object }
+     *     
+     */
+    public void setEvent(Object value) {
+        this.event = value;
+    }
+
+    /**
+     * Gets the value of the condition property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getCondition() {
+        return condition;
+    }
+
+    /**
+     * Sets the value of the condition property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setCondition(String value) {
+        this.condition = value;
+    }
+
+    /**
+     * Gets the value of the priority property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getPriority() {
+        if (priority == null) {
+            return "DEFAULT";
+        } else {
+            return priority;
+        }
+    }
+
+    /**
+     * Sets the value of the priority property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setPriority(String value) {
+        this.priority = value;
+    }
+
+    /**
+     * Gets the value of the description property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Sets the value of the description property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setDescription(String value) {
+        this.description = value;
+    }
+
+}
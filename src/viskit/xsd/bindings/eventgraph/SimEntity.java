@@ -0,0 +1,409 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.1 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.18 at 05:42:36 AM UTC 
+//
+
+
+package viskit.xsd.bindings.eventgraph;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for anonymous complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element ref="{}head" minOccurs="0"/&gt;
+ *         &lt;element ref="{}Parameter" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *         &lt;element ref="{}StateVariable" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *         &lt;element ref="{}Event" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *         &lt;element ref="{}SourceCodeBlock" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="name" use="required" type="{http://www.w3.org/2001/XMLSchema}anySimpleType" /&gt;
+ *       &lt;attribute name="package" type="{http://www.w3.org/2001/XMLSchema}anySimpleType" default="examples" /&gt;
+ *       &lt;attribute name="version" type="{http://www.w3.org/2001/XMLSchema}anySimpleType" default="1.0" /&gt;
+ *       &lt;attribute name="author" type="{http://www.w3.org/2001/XMLSchema}anySimpleType" /&gt;
+ *       &lt;attribute name="extend" type="{http://www.w3.org/2001/XMLSchema}anySimpleType" default="SimEntityBase" /&gt;
+ *       &lt;attribute name="implement" type="{http://www.w3.org/2001/XMLSchema}anySimpleType" /&gt;
+ *       &lt;attribute name="description" type="{http://www.w3.org/2001/XMLSchema}anySimpleType" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "", propOrder = {
+    "head",
+    "parameter",
+    "stateVariable",
+    "event",
+    "sourceCodeBlock"
+})
+@XmlRootElement(name = "SimEntity")
+public class SimEntity {
+
+    protected Head head;
+    @XmlElement(name = "Parameter")
+    protected List<Parameter> parameter;
+    @XmlElement(name = "StateVariable")
+    protected List<StateVariable> stateVariable;
+    @XmlElement(name = "Event")
+    protected List<Event> event;
+    @XmlElement(name = "SourceCodeBlock")
+    protected SourceCodeBlock sourceCodeBlock;
+    @XmlAttribute(name = "name", required = true)
+    @XmlSchemaType(name = "anySimpleType")
+    protected String name;
+    @XmlAttribute(name = "package")
+    @XmlSchemaType(name = "anySimpleType")
+    protected String _package;
+    @XmlAttribute(name = "version")
+    @XmlSchemaType(name = "anySimpleType")
+    protected String version;
+    @XmlAttribute(name = "author")
+    @XmlSchemaType(name = "anySimpleType")
+    protected String author;
+    @XmlAttribute(name = "extend")
+    @XmlSchemaType(name = "anySimpleType")
+    protected String extend;
+    @XmlAttribute(name = "implement")
+    @XmlSchemaType(name = "anySimpleType")
+    protected String implement;
+    @XmlAttribute(name = "description")
+    @XmlSchemaType(name = "anySimpleType")
+    protected String description;
+
+    /**
+     * Gets the value of the head property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Head }
+     *     
+     */
+    public Head getHead() {
+        return head;
+    }
+
+    /**
+     * Sets the value of the head property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Head }
+     *     
+     */
+    public void setHead(Head value) {
+        this.head = value;
+    }
+
+    /**
+     * Gets the value of the parameter property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the parameter property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getParameter().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link Parameter }
+     * 
+     * 
+     */
+    public List<Parameter> getParameter() {
+        if (parameter == null) {
+            parameter = new ArrayList<Parameter>();
+        }
+        return this.parameter;
+    }
+
+    /**
+     * Gets the value of the stateVariable property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the stateVariable property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getStateVariable().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link StateVariable }
+     * 
+     * 
+     */
+    public List<StateVariable> getStateVariable() {
+        if (stateVariable == null) {
+            stateVariable = new ArrayList<StateVariable>();
+        }
+        return this.stateVariable;
+    }
+
+    /**
+     * Gets the value of the event property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the event property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getEvent().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link Event }
+     * 
+     * 
+     */
+    public List<Event> getEvent() {
+        if (event == null) {
+            event = new ArrayList<Event>();
+        }
+        return this.event;
+    }
+
+    /**
+     * Gets the value of the sourceCodeBlock property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link SourceCodeBlock }
+     *     
+     */
+    public SourceCodeBlock getSourceCodeBlock() {
+        return sourceCodeBlock;
+    }
+
+    /**
+     * Sets the value of the sourceCodeBlock property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link SourceCodeBlock }
+     *     
+     */
+    public void setSourceCodeBlock(SourceCodeBlock value) {
+        this.sourceCodeBlock = value;
+    }
+
+    /**
+     * Gets the value of the name property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Sets the value of the name property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setName(String value) {
+        this.name = value;
+    }
+
+    /**
+     * Gets the value of the package property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getPackage() {
+        if (_package == null) {
+            return "examples";
+        } else {
+            return _package;
+        }
+    }
+
+    /**
+     * Sets the value of the package property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setPackage(String value) {
+        this._package = value;
+    }
+
+    /**
+     * Gets the value of the version property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getVersion() {
+        if (version == null) {
+            return "1.0";
+        } else {
+            return version;
+        }
+    }
+
+    /**
+     * Sets the value of the version property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setVersion(String value) {
+        this.version = value;
+    }
+
+    /**
+     * Gets the value of the author property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getAuthor() {
+        return author;
+    }
+
+    /**
+     * Sets the value of the author property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setAuthor(String value) {
+        this.author = value;
+    }
+
+    /**
+     * Gets the value of the extend property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getExtend() {
+        if (extend == null) {
+            return "SimEntityBase";
+        } else {
+            return extend;
+        }
+    }
+
+    /**
+     * Sets the value of the extend property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setExtend(String value) {
+        this.extend = value;
+    }
+
+    /**
+     * Gets the value of the implement property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getImplement() {
+        return implement;
+    }
+
+    /**
+     * Sets the value of the implement property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setImplement(String value) {
+        this.implement = value;
+    }
+
+    /**
+     * Gets the value of the description property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Sets the value of the description property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setDescription(String value) {
+        this.description = value;
+    }
+
+}
@@ -7,15 +7,14 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.util.*;
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
-import javax.xml.bind.Unmarshaller;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import viskit.control.AssemblyControllerImpl;
 import viskit.ViskitGlobals;
 import viskit.ViskitStatics;
+import viskit.util.JAXBContextRegistry;
 import viskit.xsd.bindings.assembly.*;
 import viskit.xsd.translator.eventgraph.SimkitEventGraphXML2Java;
 
@@ -29,7 +28,7 @@ public class SimkitAssemblyXML2Java
 {
     static final Logger LOG = LogManager.getLogger();
 
-    public static final String ASSEMBLY_BINDINGS = "viskit.xsd.bindings.assembly";
+    public static final String ASSEMBLY_BINDINGS = JAXBContextRegistry.ASSEMBLY;
     static final boolean DEBUG = false; // TODO: tie to ViskitStatics.debug?
 
     /* convenience Strings for formatting */
@@ -67,14 +66,12 @@ public class SimkitAssemblyXML2Java
     private SimkitAssembly simkitAssemblyRoot;
     InputStream    fileInputStream;
     private String fileBaseName;
-    private static JAXBContext jaxbContext;
 
-    /** Default constructor that creates the JAXBContext */
+    /** Default constructor that ensures the shared JAXBContext */
     public SimkitAssemblyXML2Java()
     {
         try {
-            if (jaxbContext == null) // avoid JAXBException (perhaps due to concurrency)
-                jaxbContext = JAXBContext.newInstance(ASSEMBLY_BINDINGS);
+            JAXBContextRegistry.getContext(ASSEMBLY_BINDINGS);
         } 
         catch (JAXBException ex) {
             LOG.error(ex); // TODO failing on retry
@@ -113,9 +110,8 @@ public class SimkitAssemblyXML2Java
     public void unmarshal() 
     {
         try {
-            Unmarshaller u = jaxbContext.createUnmarshaller();
-
-            this.simkitAssemblyRoot = (SimkitAssembly) u.unmarshal(fileInputStream);
+            this.simkitAssemblyRoot = JAXBContextRegistry.withUnmarshaller(ASSEMBLY_BINDINGS,
+                    u -> (SimkitAssembly) u.unmarshal(fileInputStream));
 
             // For debugging, make DEBUG true
             if (DEBUG) {
@@ -139,16 +135,11 @@ public class SimkitAssemblyXML2Java
 
     public javax.xml.bind.Element unmarshalAny(String bindings)
     {
-        JAXBContext priorJAXBContext = jaxbContext;
-        Unmarshaller unmarshaller;
         try {
-            jaxbContext = JAXBContext.newInstance(bindings);
-            unmarshaller = jaxbContext.createUnmarshaller();
-            jaxbContext = priorJAXBContext;
-            return (javax.xml.bind.Element) unmarshaller.unmarshal(fileInputStream);
+            return JAXBContextRegistry.withUnmarshaller(bindings,
+                    unmarshaller -> (javax.xml.bind.Element) unmarshaller.unmarshal(fileInputStream));
         }
         catch (JAXBException e) {
-            jaxbContext = priorJAXBContext;
             return null;
         }
     }
@@ -156,9 +147,11 @@ public class SimkitAssemblyXML2Java
     public void marshalRoot() 
     {
         try {
-            Marshaller marshaller = jaxbContext.createMarshaller();
-            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-            marshaller.marshal(this.simkitAssemblyRoot, System.out);
+            JAXBContextRegistry.withMarshaller(ASSEMBLY_BINDINGS, marshaller -> {
+                marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+                marshaller.marshal(this.simkitAssemblyRoot, System.out);
+                return null;
+            });
         } 
         catch (JAXBException ex) {
             LOG.error(ex);
@@ -167,7 +160,6 @@ public class SimkitAssemblyXML2Java
 
     public String marshalToString(Object jaxbObject) 
     {
-        Marshaller marshaller;
         String stringResult;
         if ( jaxbObject == null ) 
         {
@@ -181,13 +173,13 @@ public class SimkitAssemblyXML2Java
             stringResult = "<Errors/>";
         }
         try {
-            marshaller = jaxbContext.createMarshaller();
-            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-            marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
-            StringWriter sw = new StringWriter();
-            PrintWriter  pw = new PrintWriter(sw);
-            marshaller.marshal(jaxbObject,pw);
-            stringResult = sw.toString();
+            stringResult = JAXBContextRegistry.withMarshaller(ASSEMBLY_BINDINGS, marshaller -> {
+                marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+                marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
+                StringWriter sw = new StringWriter();
+                marshaller.marshal(jaxbObject,sw);
+                return sw.toString();
+            });
         }  
         catch (JAXBException e) {
             LOG.error(e);
@@ -216,11 +208,12 @@ public class SimkitAssemblyXML2Java
 
     public void marshal(Object nodeObject, OutputStream outputStream) 
     {
-        Marshaller marshaller;
         try {
-            marshaller = jaxbContext.createMarshaller();
-            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-            marshaller.marshal(nodeObject,outputStream);
+            JAXBContextRegistry.withMarshaller(ASSEMBLY_BINDINGS, marshaller -> {
+                marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+                marshaller.marshal(nodeObject,outputStream);
+                return null;
+            });
         } catch (JAXBException e) {
             LOG.error(e);
 //            e.printStackTrace();
@@ -564,7 +557,16 @@ public class SimkitAssemblyXML2Java
         String value;
         if ( terminalParameter.getLinkRef() != null ) 
         {
-            value = ((TerminalParameter) (terminalParameter.getLinkRef())).getValue();
+            TerminalParameter link = (TerminalParameter) terminalParameter.getLinkRef();
+            value = link.getValue();
+            int designParameterIndex = this.simkitAssemblyRoot.getDesignParameters().indexOf(link);
+            if ( designParameterIndex >= 0 && canInjectDesignParameters() )
+            {
+                // looked up at run time so that the compiled assembly serves every design point
+                String defaultValue = isString(type) ? qu + value + qu : lp + type + rp + sp + value;
+                pw.print(indent + sp4 + "getDesignParameter" + lp + designParameterIndex + cm + sp + defaultValue + rp);
+                return;
+            }
         } 
         else {
             value = terminalParameter.getValue();
@@ -581,6 +583,76 @@ public class SimkitAssemblyXML2Java
         }
     }
 
+    /** Design parameters of these types are read through BasicAssembly.getDesignParameter()
+     * rather than compiled into the generated source */
+    private static final List<String> INJECTABLE_TYPES = Arrays.asList(
+            "double", "float", "long", "int", "short", "byte", "boolean", "String", "java.lang.String");
+
+    boolean isInjectable(String type)
+    {
+        return INJECTABLE_TYPES.contains(type);
+    }
+
+    /**
+     * An assembly whose design parameters, and every parameter linked to one,
+     * are all of a primitive or String type gets their values injected at run
+     * time via BasicAssembly.setDesignParameterValues(), so its generated source,
+     * and compiled class, is the same for every design point.
+     * @return true if the generated source doesn't depend on design parameter values
+     */
+    public boolean canInjectDesignParameters()
+    {
+        if (this.simkitAssemblyRoot.getExtend().equals(ViskitStatics.JAVA_LANG_OBJECT)) {
+            return false;
+        }
+        for (TerminalParameter designParameter : this.simkitAssemblyRoot.getDesignParameters()) {
+            if (!isInjectable(designParameter.getType())) {
+                return false;
+            }
+        }
+        for (SimEntity simEntity : this.simkitAssemblyRoot.getSimEntity()) {
+            if (!canInjectLinkedParameters(simEntity.getParameters())) {
+                return false;
+            }
+        }
+        for (PropertyChangeListener pcl : this.simkitAssemblyRoot.getPropertyChangeListener()) {
+            if (!canInjectLinkedParameters(pcl.getParameters())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** doTerminalParameter() compiles in the value of a design parameter linked
+     * to a parameter of any other type, so such a link needs a class per design point
+     * @param parameterList parameters to check, including those nested in factory and multi parameters
+     * @return true if every parameter linked to a design parameter is injectable
+     */
+    boolean canInjectLinkedParameters(List<Object> parameterList)
+    {
+        for (Object parameter : parameterList) {
+            if (parameter instanceof MultiParameter) {
+                if (!canInjectLinkedParameters(((MultiParameter) parameter).getParameters())) {
+                    return false;
+                }
+            }
+            else if (parameter instanceof FactoryParameter) {
+                if (!canInjectLinkedParameters(((FactoryParameter) parameter).getParameters())) {
+                    return false;
+                }
+            }
+            else if (parameter instanceof TerminalParameter) {
+                TerminalParameter terminalParameter = (TerminalParameter) parameter;
+                if (terminalParameter.getLinkRef() != null &&
+                        this.simkitAssemblyRoot.getDesignParameters().contains(terminalParameter.getLinkRef()) &&
+                        !isInjectable(terminalParameter.getType())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
     void doSimpleStringParameter(TerminalParameter terminalParameter, PrintWriter pw) 
     {
         String type  = terminalParameter.getType();
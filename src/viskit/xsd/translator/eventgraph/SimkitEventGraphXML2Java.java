@@ -5,7 +5,6 @@ import java.io.*;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.util.*;
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Unmarshaller;
 import org.apache.logging.log4j.LogManager;
@@ -15,6 +14,7 @@ import org.apache.logging.log4j.Logger;
 import viskit.control.AssemblyControllerImpl;
 import viskit.ViskitGlobals;
 import viskit.ViskitStatics;
+import viskit.util.JAXBContextRegistry;
 import viskit.xsd.bindings.eventgraph.*;
 
 /** A generator of source code from Event Graph XML
@@ -69,12 +69,11 @@ public class SimkitEventGraphXML2Java
     public final static String PROTECTED = "protected";
     public final static String PRIVATE = "private";
     public final static String SIM_ENTITY_BASE = "SimEntityBase";
-    public final static String EVENT_GRAPH_BINDINGS = "viskit.xsd.bindings.eventgraph";
+    public final static String EVENT_GRAPH_BINDINGS = JAXBContextRegistry.EVENT_GRAPH;
 
     private SimEntity root;
     InputStream fileInputStream;
     private String fileBaseName;
-    private static JAXBContext jaxbContext;
     private Unmarshaller unMarshaller;
     private Object unMarshalledObject;
 
@@ -93,8 +92,7 @@ public class SimkitEventGraphXML2Java
     private SimkitEventGraphXML2Java()
     {
         try {
-            if (jaxbContext == null) // avoid JAXBException (perhaps due to concurrency)
-                jaxbContext = JAXBContext.newInstance(EVENT_GRAPH_BINDINGS);
+            JAXBContextRegistry.getContext(EVENT_GRAPH_BINDINGS);
         } 
         catch (JAXBException ex) {
             LOG.error(ex);
@@ -132,8 +130,11 @@ public class SimkitEventGraphXML2Java
 
     public void unmarshal() {
         try {
-            setUnMarshaller(jaxbContext.createUnmarshaller());
-            setUnMarshalledObject(getUnMarshaller().unmarshal(fileInputStream));
+            if (getUnMarshaller() != null)
+                setUnMarshalledObject(getUnMarshaller().unmarshal(fileInputStream));
+            else
+                setUnMarshalledObject(JAXBContextRegistry.withUnmarshaller(EVENT_GRAPH_BINDINGS,
+                        unmarshaller -> unmarshaller.unmarshal(fileInputStream)));
             root = (SimEntity) getUnMarshalledObject();
         } 
         catch (JAXBException ex)
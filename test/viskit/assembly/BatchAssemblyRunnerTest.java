@@ -0,0 +1,115 @@
+/*
+Copyright (c) 1995-2025 held by the author(s).  All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions
+are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer
+      in the documentation and/or other materials provided with the
+      distribution.
+    * Neither the names of the Naval Postgraduate School (NPS)
+      Modeling Virtual Environments and Simulation (MOVES) Institute
+      (https://www.nps.edu and https://my.nps.edu/web/moves)
+      nor the names of its contributors may be used to endorse or
+      promote products derived from this software without specific
+      prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+"AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+POSSIBILITY OF SUCH DAMAGE.
+*/
+package viskit.assembly;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import junit.framework.Assert;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+import junit.textui.TestRunner;
+
+/** Runs a sample assembly headless, as from the command line, and checks
+ * its exit status and the statistics lines it streams.
+ */
+public class BatchAssemblyRunnerTest extends TestCase {
+
+    static final String ASSEMBLY = "MyViskitProjects/DefaultProject/Assemblies/examples/ServerAssembly3.xml";
+    static final int REPLICATIONS = 3;
+    static final int STATISTICS = 2; // numberAvailableServers, numberInQueue
+
+    File outputFile;
+
+    public BatchAssemblyRunnerTest(String testName) {
+        super(testName);
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        outputFile = File.createTempFile("BatchAssemblyRunnerTest", ".csv");
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        super.tearDown();
+        outputFile.delete();
+    }
+
+    public void testServerAssembly3() throws Exception {
+        BatchAssemblyRunner batchAssemblyRunner = new BatchAssemblyRunner();
+        batchAssemblyRunner.parseArguments(new String[] {
+            "-assembly", ASSEMBLY,
+            "-replications", Integer.toString(REPLICATIONS),
+            "-stopTime", "100",
+            "-seed", "42",
+            "-output", outputFile.getPath()
+        });
+        Assert.assertEquals("exit status", 0, batchAssemblyRunner.run());
+
+        List<String> lines = Files.readAllLines(outputFile.toPath(), StandardCharsets.UTF_8);
+        Assert.assertEquals("header plus a line per statistic and replication", 1 + REPLICATIONS * STATISTICS, lines.size());
+        Assert.assertTrue(lines.get(0).startsWith("replication,statistic,"));
+        Assert.assertTrue(lines.get(lines.size() - 1).startsWith(REPLICATIONS + ","));
+    }
+
+    public void testMissingAssembly() {
+        BatchAssemblyRunner batchAssemblyRunner = new BatchAssemblyRunner();
+        try {
+            batchAssemblyRunner.parseArguments(new String[] {"-assembly", "no/such/Assembly.xml"});
+            Assert.fail("a missing assembly must be rejected");
+        } 
+        catch (IllegalArgumentException expected) {
+        }
+    }
+
+    /**
+     * Fetch the suite of tests for this test class to perform.
+     *
+     * @return A collection of all the tests to be run
+     */
+    public static Test suite() {
+        TestSuite suite = new TestSuite();
+        suite.addTest(new BatchAssemblyRunnerTest("testServerAssembly3"));
+        suite.addTest(new BatchAssemblyRunnerTest("testMissingAssembly"));
+        return suite;
+    }
+
+    public static void main(String[] args) {
+        System.exit(TestRunner.run(suite()).wasSuccessful() ? 0 : 1);
+    }
+}
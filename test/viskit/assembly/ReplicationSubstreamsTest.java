@@ -0,0 +1,146 @@
+/*
+Copyright (c) 1995-2025 held by the author(s).  All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions
+are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer
+      in the documentation and/or other materials provided with the
+      distribution.
+    * Neither the names of the Naval Postgraduate School (NPS)
+      Modeling Virtual Environments and Simulation (MOVES) Institute
+      (https://www.nps.edu and https://my.nps.edu/web/moves)
+      nor the names of its contributors may be used to endorse or
+      promote products derived from this software without specific
+      prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+"AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+POSSIBILITY OF SUCH DAMAGE.
+*/
+package viskit.assembly;
+
+import java.util.Arrays;
+import junit.framework.Assert;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+import junit.textui.TestRunner;
+import simkit.random.MersenneTwister;
+import simkit.random.RandomNumber;
+import simkit.random.RngStream;
+import viskit.gridlet.PartitionedRandomNumber;
+
+/** Checks that each replication's random number stream depends only on the
+ * base seeds and the replication number, not on what was selected before it.
+ */
+public class ReplicationSubstreamsTest extends TestCase {
+
+    static final int REPLICATIONS = 5;
+    static final int DRAWS = 8;
+
+    public ReplicationSubstreamsTest(String testName) {
+        super(testName);
+    }
+
+    public void testRngStreamReplay() {
+        long[] baseSeeds = ReplicationSubstreams.getBaseSeeds(new RngStream());
+        checkReplay(new RngStream(), new RngStream(), baseSeeds);
+    }
+
+    public void testMersenneTwisterReplay() {
+        checkReplay(new MersenneTwister(), new MersenneTwister(), new long[] {42L});
+    }
+
+    public void testPartitionedRandomNumberReplay() {
+        PartitionedRandomNumber serial = new PartitionedRandomNumber(new RngStream(), 4);
+        PartitionedRandomNumber replay = new PartitionedRandomNumber(new RngStream(), 4);
+        serial.setCurrentPartition(2);
+        replay.setCurrentPartition(2);
+        double[][] draws = checkReplay(serial, replay, ReplicationSubstreams.getBaseSeeds(new RngStream()));
+        for (double[] replicationDraws : draws) {
+            for (double draw : replicationDraws) {
+                Assert.assertTrue("draw " + draw + " outside partition 2 of 4", draw >= 0.5 && draw < 0.75);
+            }
+        }
+    }
+
+    public void testCapturedBaseSeeds() {
+        RngStream randomNumber = new RngStream();
+        randomNumber.draw();
+        long[] expected = randomNumber.getSeeds();
+        ReplicationSubstreams replicationSubstreams = new ReplicationSubstreams(randomNumber);
+        Assert.assertTrue("base seeds are the state at capture", Arrays.equals(expected, replicationSubstreams.getBaseSeeds()));
+        replicationSubstreams.selectReplication(3);
+        Assert.assertTrue("selecting a replication leaves the base seeds alone", Arrays.equals(expected, replicationSubstreams.getBaseSeeds()));
+    }
+
+    /**
+     * Selects every replication in turn on one generator, then each one alone,
+     * in reverse order, on another, and compares their draws
+     * @return the draws of each replication, in replication order
+     */
+    private double[][] checkReplay(RandomNumber serialRandomNumber, RandomNumber replayRandomNumber, long[] baseSeeds) {
+        ReplicationSubstreams serial = new ReplicationSubstreams(serialRandomNumber, baseSeeds);
+        double[][] draws = new double[REPLICATIONS][];
+        for (int replicationNumber = 1; replicationNumber <= REPLICATIONS; replicationNumber++) {
+            serial.selectReplication(replicationNumber);
+            draws[replicationNumber - 1] = draw(serialRandomNumber);
+        }
+        for (int replicationNumber = 2; replicationNumber <= REPLICATIONS; replicationNumber++) {
+            Assert.assertFalse("replications " + (replicationNumber - 1) + " and " + replicationNumber + " share a stream",
+                    Arrays.equals(draws[replicationNumber - 2], draws[replicationNumber - 1]));
+        }
+
+        ReplicationSubstreams replay = new ReplicationSubstreams(replayRandomNumber, baseSeeds);
+        for (int replicationNumber = REPLICATIONS; replicationNumber >= 1; replicationNumber--) {
+            replay.selectReplication(replicationNumber);
+            Assert.assertTrue("replication " + replicationNumber + " replayed alone",
+                    Arrays.equals(draws[replicationNumber - 1], draw(replayRandomNumber)));
+        }
+
+        // selecting a replication again, after others ran, restarts its stream
+        serial.selectReplication(2);
+        Assert.assertTrue("replication 2 reselected", Arrays.equals(draws[1], draw(serialRandomNumber)));
+        return draws;
+    }
+
+    private static double[] draw(RandomNumber randomNumber) {
+        double[] draws = new double[DRAWS];
+        for (int i = 0; i < DRAWS; i++) {
+            draws[i] = randomNumber.draw();
+        }
+        return draws;
+    }
+
+    /**
+     * Fetch the suite of tests for this test class to perform.
+     *
+     * @return A collection of all the tests to be run
+     */
+    public static Test suite() {
+        TestSuite suite = new TestSuite();
+        suite.addTest(new ReplicationSubstreamsTest("testRngStreamReplay"));
+        suite.addTest(new ReplicationSubstreamsTest("testMersenneTwisterReplay"));
+        suite.addTest(new ReplicationSubstreamsTest("testPartitionedRandomNumberReplay"));
+        suite.addTest(new ReplicationSubstreamsTest("testCapturedBaseSeeds"));
+        return suite;
+    }
+
+    public static void main(String[] args) {
+        System.exit(TestRunner.run(suite()).wasSuccessful() ? 0 : 1);
+    }
+}
@@ -0,0 +1,171 @@
+/*
+Copyright (c) 1995-2025 held by the author(s).  All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions
+are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer
+      in the documentation and/or other materials provided with the
+      distribution.
+    * Neither the names of the Naval Postgraduate School (NPS)
+      Modeling Virtual Environments and Simulation (MOVES) Institute
+      (https://www.nps.edu and https://my.nps.edu/web/moves)
+      nor the names of its contributors may be used to endorse or
+      promote products derived from this software without specific
+      prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+"AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+POSSIBILITY OF SUCH DAMAGE.
+*/
+package viskit.control;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import junit.extensions.TestSetup;
+import junit.framework.Assert;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+import junit.textui.TestRunner;
+import viskit.ViskitUserConfiguration;
+
+/** Caches an Event Graph with a stand-in class file in a scratch project,
+ * then checks which edits invalidate the cache entry by its content hash,
+ * including edits to the cached Event Graph it extends.
+ */
+public class FileBasedClassManagerTest extends TestCase {
+
+    static final String EVENT_GRAPH = "MyViskitProjects/DefaultProject/EventGraphs/examples/ArrivalProcess.xml";
+
+    // shared, the project configuration is loaded only once
+    static File projectDirectory;
+    static File projectFile;
+
+    File xmlFile;
+    File classFile;
+    FileBasedClassManager fileBasedClassManager;
+
+    public FileBasedClassManagerTest(String testName) {
+        super(testName);
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        // a graph of its own per test
+        xmlFile = new File(projectDirectory, getName() + ".xml");
+        classFile = new File(projectDirectory, getName() + ".class");
+        Files.copy(new File(EVENT_GRAPH).toPath(), xmlFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        Files.write(classFile.toPath(), new byte[] {(byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE});
+
+        fileBasedClassManager = FileBasedClassManager.instance();
+        fileBasedClassManager.addCache(xmlFile, classFile);
+        Assert.assertTrue("cached", fileBasedClassManager.isCached(xmlFile));
+        Assert.assertEquals("cached class", classFile.getCanonicalFile(), fileBasedClassManager.getCachedClass(xmlFile).getCanonicalFile());
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        super.tearDown();
+        fileBasedClassManager.deleteCache(xmlFile);
+        xmlFile.delete();
+        classFile.delete();
+    }
+
+    public void testEditedSource() throws Exception {
+        Files.write(xmlFile.toPath(), "<!-- edited -->\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        Assert.assertTrue("an edited source is stale", fileBasedClassManager.isStale(xmlFile));
+        Assert.assertFalse("an edited source is no longer cached", fileBasedClassManager.isCached(xmlFile));
+        Assert.assertNull("its entry is gone", fileBasedClassManager.getCachedClass(xmlFile));
+        Assert.assertFalse("its stale class file is deleted", classFile.exists());
+    }
+
+    public void testEditedClassFile() throws Exception {
+        Files.write(classFile.toPath(), new byte[] {0}, StandardOpenOption.APPEND);
+        Assert.assertTrue("an edited class file is stale", fileBasedClassManager.isStale(xmlFile));
+        Assert.assertFalse("an edited class file is no longer cached", fileBasedClassManager.isCached(xmlFile));
+    }
+
+    public void testTouchedSource() throws Exception {
+        // same contents, new time stamp: the content hash still matches
+        Assert.assertTrue(xmlFile.setLastModified(xmlFile.lastModified() - 60_000L));
+        Assert.assertFalse("a touched source is not stale", fileBasedClassManager.isStale(xmlFile));
+        Assert.assertTrue("a touched source stays cached", fileBasedClassManager.isCached(xmlFile));
+    }
+
+    public void testEditedSuperclass() throws Exception {
+        // a subclass of the cached graph, built against it
+        File subclassXmlFile = new File(projectDirectory, getName() + "Subclass.xml");
+        File subclassClassFile = new File(projectDirectory, getName() + "Subclass.class");
+        String subclass = new String(Files.readAllBytes(xmlFile.toPath()), StandardCharsets.UTF_8)
+                .replace("name=\"ArrivalProcess\"", "name=\"ArrivalProcessSubclass\"")
+                .replace("extend=\"SimEntityBase\"", "extend=\"examples.ArrivalProcess\"");
+        Files.write(subclassXmlFile.toPath(), subclass.getBytes(StandardCharsets.UTF_8));
+        Files.write(subclassClassFile.toPath(), new byte[] {(byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE, 1});
+        try {
+            fileBasedClassManager.addCache(subclassXmlFile, subclassClassFile);
+            Assert.assertTrue("subclass cached", fileBasedClassManager.isCached(subclassXmlFile));
+            Assert.assertFalse("an unchanged superclass leaves the subclass fresh", fileBasedClassManager.isStale(subclassXmlFile));
+
+            Files.write(xmlFile.toPath(), "<!-- edited -->\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+            Assert.assertTrue("an edited superclass makes the subclass stale", fileBasedClassManager.isStale(subclassXmlFile));
+            Assert.assertFalse("the subclass is no longer cached", fileBasedClassManager.isCached(subclassXmlFile));
+            Assert.assertNull("its entry is gone", fileBasedClassManager.getCachedClass(subclassXmlFile));
+        } 
+        finally {
+            fileBasedClassManager.deleteCache(subclassXmlFile);
+            subclassXmlFile.delete();
+            subclassClassFile.delete();
+        }
+    }
+
+    /**
+     * Fetch the suite of tests for this test class to perform.
+     *
+     * @return A collection of all the tests to be run
+     */
+    public static Test suite() {
+        TestSuite suite = new TestSuite();
+        suite.addTest(new FileBasedClassManagerTest("testEditedSource"));
+        suite.addTest(new FileBasedClassManagerTest("testEditedClassFile"));
+        suite.addTest(new FileBasedClassManagerTest("testTouchedSource"));
+        suite.addTest(new FileBasedClassManagerTest("testEditedSuperclass"));
+        return new TestSetup(suite) {
+
+            @Override
+            protected void setUp() throws Exception {
+                projectDirectory = Files.createTempDirectory("FileBasedClassManagerTest").toFile();
+                projectFile = new File(projectDirectory, "viskitProject.xml");
+                Files.write(projectFile.toPath(), "<?xml version=\"1.0\" encoding=\"UTF-8\"?><ViskitProject/>\n".getBytes(StandardCharsets.UTF_8));
+                ViskitUserConfiguration.instance().setProjectXMLConfiguration(projectFile.getPath());
+            }
+
+            @Override
+            protected void tearDown() throws Exception {
+                projectFile.delete();
+                projectDirectory.delete();
+            }
+        };
+    }
+
+    public static void main(String[] args) {
+        System.exit(TestRunner.run(suite()).wasSuccessful() ? 0 : 1);
+    }
+}
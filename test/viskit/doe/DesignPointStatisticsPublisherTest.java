@@ -0,0 +1,260 @@
+/*
+Copyright (c) 1995-2025 held by the author(s).  All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions
+are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer
+      in the documentation and/or other materials provided with the
+      distribution.
+    * Neither the names of the Naval Postgraduate School (NPS)
+      Modeling Virtual Environments and Simulation (MOVES) Institute
+      (https://www.nps.edu and https://my.nps.edu/web/moves)
+      nor the names of its contributors may be used to endorse or
+      promote products derived from this software without specific
+      prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+"AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+POSSIBILITY OF SUCH DAMAGE.
+*/
+package viskit.doe;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import junit.framework.Assert;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+import junit.textui.TestRunner;
+
+/** Checks that a subscriber gets each design point while the experiment is
+ * still running, as in local mode, where run() returns only once every task
+ * has ended.
+ */
+public class DesignPointStatisticsPublisherTest extends TestCase {
+
+    static final int TASKS = 3;
+    static final long TIMEOUT_MS = 5000;
+
+    public DesignPointStatisticsPublisherTest(String testName) {
+        super(testName);
+    }
+
+    public void testOnNextBeforeRunReturns() throws Exception {
+        BlockingLocalRun doe = new BlockingLocalRun();
+        List<Integer> received = new ArrayList<>();
+        CountDownLatch completed = new CountDownLatch(1);
+        Flow.Subscriber<CompletedDesignPoint> subscriber = new Flow.Subscriber<CompletedDesignPoint>() {
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(CompletedDesignPoint designPoint) {
+                synchronized (received) {
+                    received.add(designPoint.taskID);
+                }
+                doe.delivered.release();
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                completed.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+                completed.countDown();
+            }
+        };
+
+        DesignPointStatisticsPublisher.subscribeAndRun(doe, subscriber);
+        Assert.assertTrue("every design point was delivered while run() was running", doe.deliveredWhileRunning);
+        Assert.assertTrue("onComplete after the last design point", completed.await(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        synchronized (received) {
+            Assert.assertEquals("in completion order", List.of(1, 2, 3), received);
+        }
+    }
+
+    /** Completes its tasks one at a time within run(), each only once the
+     * previous one reached the subscriber, and takes none back until asked.
+     */
+    static class BlockingLocalRun implements DoeRunDriver {
+
+        final BlockingQueue<Integer> completedTasks = new LinkedBlockingQueue<>();
+        final Semaphore delivered = new Semaphore(0);
+        int tasksTaken;
+        volatile boolean deliveredWhileRunning;
+
+        @Override
+        public void run() throws DoeException {
+            try {
+                for (int taskID = 1; taskID <= TASKS; taskID++) {
+                    completedTasks.add(taskID);
+                    if (!delivered.tryAcquire(TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                        return;
+                    }
+                }
+                deliveredWhileRunning = true;
+            } catch (InterruptedException e) {
+                throw new DoeException(e.getMessage());
+            }
+        }
+
+        @Override
+        public List<Object> takeCompletedDesignPoints(int maxTasks) throws DoeException {
+            List<Object> completed = new ArrayList<>();
+            if (tasksTaken == TASKS) {
+                return completed;
+            }
+            try {
+                int taskID = completedTasks.take();
+                tasksTaken++;
+                Hashtable<String, Object> designPoint = new Hashtable<>();
+                designPoint.put("taskID", taskID);
+                designPoint.put("sampleIndex", 0);
+                designPoint.put("designPtIndex", taskID - 1);
+                designPoint.put("statistics", new Hashtable<String, String>());
+                completed.add(designPoint);
+            } catch (InterruptedException e) {
+                throw new DoeException(e.getMessage());
+            }
+            return completed;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super CompletedDesignPoint> subscriber) throws DoeException {
+            new DesignPointStatisticsPublisher(this).subscribe(subscriber);
+        }
+
+        @Override
+        public int getDesignPointCount() {
+            return TASKS;
+        }
+
+        @Override
+        public int getRemainingTasks() {
+            return TASKS - tasksTaken;
+        }
+
+        @Override
+        public void clear() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int flushQueue() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Map<String, String> getDesignPointStatistics(int sampleIndex, int designPtIndex) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Map<String, String> getHeapPressure() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Map<String, String> getReplicationStatistics(int sampleIndex, int designPtIndex, int replicationIndex) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String getResult(int sample, int designPt) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String getResultByTaskID(int taskID) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Object> getTaskQueue() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int takeCompletedTask() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String qstat() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String qstatXML() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void removeIndexedTask(int sampleIndex, int designPtIndex) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void removeTask(int jobID, int taskID) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void setAssembly(String assembly) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void addEventGraph(String assembly) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void addJar(File jarFile) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Fetch the suite of tests for this test class to perform.
+     *
+     * @return A collection of all the tests to be run
+     */
+    public static Test suite() {
+        TestSuite suite = new TestSuite();
+        suite.addTest(new DesignPointStatisticsPublisherTest("testOnNextBeforeRunReturns"));
+        return suite;
+    }
+
+    public static void main(String[] args) {
+        System.exit(TestRunner.run(suite()).wasSuccessful() ? 0 : 1);
+    }
+}
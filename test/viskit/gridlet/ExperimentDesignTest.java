@@ -0,0 +1,217 @@
+/*
+Copyright (c) 1995-2025 held by the author(s).  All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions
+are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer
+      in the documentation and/or other materials provided with the
+      distribution.
+    * Neither the names of the Naval Postgraduate School (NPS)
+      Modeling Virtual Environments and Simulation (MOVES) Institute
+      (https://www.nps.edu and https://my.nps.edu/web/moves)
+      nor the names of its contributors may be used to endorse or
+      promote products derived from this software without specific
+      prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+"AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+POSSIBILITY OF SUCH DAMAGE.
+*/
+package viskit.gridlet;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import junit.framework.Assert;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+import junit.textui.TestRunner;
+import viskit.xsd.bindings.assembly.DesignPoint;
+import viskit.xsd.bindings.assembly.Experiment;
+import viskit.xsd.bindings.assembly.ObjectFactory;
+import viskit.xsd.bindings.assembly.SimkitAssembly;
+
+/** Checks how many design points each Experiment type generates, that they
+ * come in design point order and the same for the same seed, and that they
+ * reach the DesignMatrix and, once complete, the results in that order.
+ */
+public class ExperimentDesignTest extends TestCase {
+
+    static final long SEED = 12345L;
+
+    ObjectFactory assemblyFactory = new ObjectFactory();
+    File tempFile;
+
+    public ExperimentDesignTest(String testName) {
+        super(testName);
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        tempFile = File.createTempFile("ExperimentDesignTest", ".tmp");
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        super.tearDown();
+        tempFile.delete();
+    }
+
+    Experiment experiment(String type, int designPoints) {
+        Experiment experiment = assemblyFactory.createExperiment();
+        experiment.setType(type);
+        experiment.setDesignPoints(Integer.toString(designPoints));
+        experiment.setSeed(Long.toString(SEED));
+        return experiment;
+    }
+
+    // the points of a sample, checking they arrive in design point order
+    static List<double[]> generate(ExperimentDesign design, int sampleIndex) throws Exception {
+        List<double[]> points = new ArrayList<>();
+        design.generate(sampleIndex, (designPtIndex, point) -> {
+            Assert.assertEquals("design point order", points.size(), designPtIndex);
+            Assert.assertEquals(design.getFactorCount(), point.length);
+            points.add(point.clone());
+        });
+        Assert.assertEquals("design point count", design.getDesignPointCount(), points.size());
+        return points;
+    }
+
+    public void testDesignPointCounts() throws Exception {
+        // as before, a latin hypercube defaults to one point per parameter
+        Assert.assertEquals(4, ExperimentDesign.forExperiment(experiment(ExperimentDesign.LATIN_HYPERCUBE, 0), 4).getDesignPointCount());
+        Assert.assertEquals(9, ExperimentDesign.forExperiment(experiment(ExperimentDesign.LATIN_HYPERCUBE, 9), 4).getDesignPointCount());
+        Assert.assertEquals(9, ExperimentDesign.forExperiment(experiment(ExperimentDesign.MAXIMIN_LATIN_HYPERCUBE, 9), 4).getDesignPointCount());
+        Assert.assertEquals(9, ExperimentDesign.forExperiment(experiment(ExperimentDesign.NEARLY_ORTHOGONAL_LATIN_HYPERCUBE, 9), 4).getDesignPointCount());
+        Assert.assertEquals(16, ExperimentDesign.forExperiment(experiment(ExperimentDesign.FULL_FACTORIAL, 0), 4).getDesignPointCount());
+        // 2^(5-2) runs hold 5 parameters
+        Assert.assertEquals(8, ExperimentDesign.forExperiment(experiment(ExperimentDesign.FRACTIONAL_FACTORIAL, 8), 5).getDesignPointCount());
+
+        for (String type : new String[] {ExperimentDesign.LATIN_HYPERCUBE, ExperimentDesign.MAXIMIN_LATIN_HYPERCUBE,
+                ExperimentDesign.NEARLY_ORTHOGONAL_LATIN_HYPERCUBE, ExperimentDesign.FRACTIONAL_FACTORIAL, ExperimentDesign.FULL_FACTORIAL}) {
+            generate(ExperimentDesign.forExperiment(experiment(type, 8), 3), 0);
+        }
+    }
+
+    public void testLatinHypercubeOrdering() throws Exception {
+        ExperimentDesign design = ExperimentDesign.forExperiment(experiment(ExperimentDesign.LATIN_HYPERCUBE, 10), 3);
+        List<double[]> points = generate(design, 0);
+
+        // every parameter has one point in each stratum
+        for (int j = 0; j < design.getFactorCount(); j++) {
+            boolean[] strata = new boolean[design.getDesignPointCount()];
+            for (double[] point : points) {
+                int stratum = (int) (point[j] * design.getDesignPointCount());
+                Assert.assertFalse("stratum " + stratum + " taken twice", strata[stratum]);
+                strata[stratum] = true;
+            }
+        }
+
+        // the same seed gives the same points in the same order, another sample others
+        List<double[]> again = generate(ExperimentDesign.forExperiment(experiment(ExperimentDesign.LATIN_HYPERCUBE, 10), 3), 0);
+        for (int i = 0; i < points.size(); i++) {
+            Assert.assertTrue("design point " + i, Arrays.equals(points.get(i), again.get(i)));
+        }
+        List<double[]> other = generate(design, 1);
+        boolean differs = false;
+        for (int i = 0; i < points.size(); i++) {
+            differs |= !Arrays.equals(points.get(i), other.get(i));
+        }
+        Assert.assertTrue("samples share their points", differs);
+    }
+
+    public void testFullFactorialOrdering() throws Exception {
+        List<double[]> points = generate(ExperimentDesign.forExperiment(experiment(ExperimentDesign.FULL_FACTORIAL, 0), 3), 0);
+        for (int i = 0; i < points.size(); i++) {
+            for (int j = 0; j < 3; j++) {
+                Assert.assertEquals("point " + i + " parameter " + j, (double) ((i >> j) & 1), points.get(i)[j], 0.0);
+            }
+        }
+    }
+
+    public void testDesignMatrix() throws Exception {
+        ExperimentDesign design = ExperimentDesign.forExperiment(experiment(ExperimentDesign.NEARLY_ORTHOGONAL_LATIN_HYPERCUBE, 12), 4);
+        DesignMatrix.write(tempFile, design, 3);
+        try (DesignMatrix designMatrix = DesignMatrix.open(tempFile)) {
+            Assert.assertEquals(3, designMatrix.getSampleCount());
+            Assert.assertEquals(12, designMatrix.getDesignPointCount());
+            Assert.assertEquals(4, designMatrix.getFactorCount());
+            for (int s = 0; s < 3; s++) {
+                List<double[]> points = generate(design, s);
+                for (int d = 0; d < points.size(); d++) {
+                    Assert.assertTrue("sample " + s + " design point " + d, Arrays.equals(points.get(d), designMatrix.getPoint(s, d)));
+                }
+            }
+        }
+    }
+
+    public void testDesignPointSpool() throws Exception {
+        int samples = 2;
+        int designPoints = 3;
+        SimkitAssembly root = assemblyFactory.createSimkitAssembly();
+        root.setName("ExperimentDesignTest");
+        root.setPackage("test");
+        root.setExperiment(experiment(ExperimentDesign.LATIN_HYPERCUBE, designPoints));
+        try (DesignPointSpool spool = new DesignPointSpool(tempFile, samples, designPoints)) {
+            // completed out of order
+            for (int task = samples * designPoints - 1; task >= 0; task--) {
+                DesignPoint designPoint = assemblyFactory.createDesignPoint();
+                designPoint.setIndex("" + (task % designPoints));
+                spool.write(task / designPoints, task % designPoints, designPoint);
+            }
+            Assert.assertEquals("1", spool.read(1, 1).getIndex());
+
+            ByteArrayOutputStream results = new ByteArrayOutputStream();
+            spool.writeResults(root, results);
+            String xml = results.toString("UTF-8");
+            int position = 0;
+            for (int s = 0; s < samples; s++) {
+                position = xml.indexOf("<Sample index=\"" + s + "\">", position);
+                Assert.assertTrue("sample " + s, position > 0);
+                for (int d = 0; d < designPoints; d++) {
+                    position = xml.indexOf("<DesignPoint index=\"" + d + "\"", position);
+                    Assert.assertTrue("sample " + s + " design point " + d, position > 0);
+                }
+            }
+            Assert.assertTrue(xml.indexOf("</Experiment>") > position);
+        }
+        Assert.assertFalse("spool deleted on close", tempFile.exists());
+    }
+
+    /**
+     * Fetch the suite of tests for this test class to perform.
+     *
+     * @return A collection of all the tests to be run
+     */
+    public static Test suite() {
+        TestSuite suite = new TestSuite();
+        suite.addTest(new ExperimentDesignTest("testDesignPointCounts"));
+        suite.addTest(new ExperimentDesignTest("testLatinHypercubeOrdering"));
+        suite.addTest(new ExperimentDesignTest("testFullFactorialOrdering"));
+        suite.addTest(new ExperimentDesignTest("testDesignMatrix"));
+        suite.addTest(new ExperimentDesignTest("testDesignPointSpool"));
+        return suite;
+    }
+
+    public static void main(String[] args) {
+        System.exit(TestRunner.run(suite()).wasSuccessful() ? 0 : 1);
+    }
+}
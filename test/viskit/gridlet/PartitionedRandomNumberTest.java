@@ -0,0 +1,110 @@
+/*
+Copyright (c) 1995-2025 held by the author(s).  All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions
+are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer
+      in the documentation and/or other materials provided with the
+      distribution.
+    * Neither the names of the Naval Postgraduate School (NPS)
+      Modeling Virtual Environments and Simulation (MOVES) Institute
+      (https://www.nps.edu and https://my.nps.edu/web/moves)
+      nor the names of its contributors may be used to endorse or
+      promote products derived from this software without specific
+      prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+"AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+POSSIBILITY OF SUCH DAMAGE.
+*/
+package viskit.gridlet;
+
+import junit.framework.Assert;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+import junit.textui.TestRunner;
+import simkit.random.MersenneTwister;
+import simkit.random.RandomNumber;
+import simkit.random.RngStream;
+
+/** Checks that draw() and drawLong() of each partition stay within that
+ * partition of the base generator's range.
+ */
+public class PartitionedRandomNumberTest extends TestCase {
+
+    static final int PARTITIONS = 4;
+    static final int DRAWS = 1000;
+
+    public PartitionedRandomNumberTest(String testName) {
+        super(testName);
+    }
+
+    public void testRngStreamDrawLong() {
+        // RngStream has no multiplier, its drawLong() is on [0, 2^32)
+        checkDrawLong(new RngStream(), PartitionedRandomNumber.DEFAULT_DRAW_LONG_RANGE);
+    }
+
+    public void testMersenneTwisterDrawLong() {
+        MersenneTwister mersenneTwister = new MersenneTwister();
+        checkDrawLong(mersenneTwister, (long) (1.0 / mersenneTwister.getMultiplier()));
+    }
+
+    public void testRngStreamDraw() {
+        PartitionedRandomNumber partitionedRandomNumber = new PartitionedRandomNumber(new RngStream(), PARTITIONS);
+        double draw;
+        for (int partition = 0; partition < PARTITIONS; partition++) {
+            partitionedRandomNumber.setCurrentPartition(partition);
+            for (int i = 0; i < DRAWS; i++) {
+                draw = partitionedRandomNumber.draw();
+                Assert.assertTrue("draw " + draw + " outside partition " + partition,
+                        draw >= (double) partition / PARTITIONS && draw < (double) (partition + 1) / PARTITIONS);
+            }
+        }
+    }
+
+    private static void checkDrawLong(RandomNumber base, long range) {
+        PartitionedRandomNumber partitionedRandomNumber = new PartitionedRandomNumber(base, PARTITIONS);
+        long width = range / PARTITIONS;
+        long draw;
+        for (int partition = 0; partition < PARTITIONS; partition++) {
+            partitionedRandomNumber.setCurrentPartition(partition);
+            for (int i = 0; i < DRAWS; i++) {
+                draw = partitionedRandomNumber.drawLong();
+                Assert.assertTrue("drawLong " + draw + " outside partition " + partition,
+                        draw >= partition * width && draw < (partition + 1) * width);
+            }
+        }
+    }
+
+    /**
+     * Fetch the suite of tests for this test class to perform.
+     *
+     * @return A collection of all the tests to be run
+     */
+    public static Test suite() {
+        TestSuite suite = new TestSuite();
+        suite.addTest(new PartitionedRandomNumberTest("testRngStreamDrawLong"));
+        suite.addTest(new PartitionedRandomNumberTest("testMersenneTwisterDrawLong"));
+        suite.addTest(new PartitionedRandomNumberTest("testRngStreamDraw"));
+        return suite;
+    }
+
+    public static void main(String[] args) {
+        System.exit(TestRunner.run(suite()).wasSuccessful() ? 0 : 1);
+    }
+}
@@ -0,0 +1,180 @@
+/*
+Copyright (c) 1995-2025 held by the author(s).  All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions
+are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer
+      in the documentation and/or other materials provided with the
+      distribution.
+    * Neither the names of the Naval Postgraduate School (NPS)
+      Modeling Virtual Environments and Simulation (MOVES) Institute
+      (https://www.nps.edu and https://my.nps.edu/web/moves)
+      nor the names of its contributors may be used to endorse or
+      promote products derived from this software without specific
+      prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+"AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+POSSIBILITY OF SUCH DAMAGE.
+*/
+package viskit.reports;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import junit.framework.Assert;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+import junit.textui.TestRunner;
+
+/** Writes more rows than fit in one block to a ReplicationStatisticsStore,
+ * flushing after every replication, and reads them back.  Reads each
+ * statistic's rows back from a replications sidecar file as well.
+ */
+public class ReplicationStatisticsStoreTest extends TestCase {
+
+    static final String[] STATISTICS = {"server_delay", "queue_length"};
+    static final int REPLICATIONS = ReplicationStatisticsStore.BLOCK_ROWS + 123;
+
+    File storeFile;
+
+    public ReplicationStatisticsStoreTest(String testName) {
+        super(testName);
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        storeFile = File.createTempFile("ReplicationStatisticsStoreTest", ".stats");
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        super.tearDown();
+        storeFile.delete();
+    }
+
+    public void testRoundTrip() throws Exception {
+        ReplicationStatisticsStore store = new ReplicationStatisticsStore(storeFile);
+        for (int replication = 0; replication < REPLICATIONS; replication++) {
+            for (int statistic = 0; statistic < STATISTICS.length; statistic++) {
+                store.add(replication % 3, replication % 2, replication, STATISTICS[statistic],
+                        replication + statistic, -replication, replication * 2.0, replication + 0.5, statistic + 0.25);
+            }
+            store.flush();
+        }
+        store.close();
+
+        // blocks are cut at BLOCK_ROWS only, not at every flush()
+        int rows = REPLICATIONS * STATISTICS.length;
+        int blocks = (rows + ReplicationStatisticsStore.BLOCK_ROWS - 1) / ReplicationStatisticsStore.BLOCK_ROWS;
+        long names = 0;
+        for (String statistic : STATISTICS) {
+            names += 1 + Integer.BYTES + 2 + statistic.length();
+        }
+        Assert.assertEquals("file size", 8 + names + blocks * 5L + rows * (4L * Integer.BYTES + 5L * Long.BYTES), storeFile.length());
+
+        try (ReplicationStatisticsTable table = ReplicationStatisticsTable.open(storeFile)) {
+            Assert.assertEquals(rows, table.getRowCount());
+            Assert.assertEquals(STATISTICS[0], table.getStatisticNames().get(0));
+            Assert.assertEquals(STATISTICS[1], table.getStatisticNames().get(1));
+            for (int statistic = 0; statistic < STATISTICS.length; statistic++) {
+                double[] replicationNumbers = table.getValues(STATISTICS[statistic], ReplicationStatisticsTable.Column.REPLICATION);
+                double[] counts = table.getValues(STATISTICS[statistic], ReplicationStatisticsTable.Column.COUNT);
+                double[] minima = table.getValues(STATISTICS[statistic], ReplicationStatisticsTable.Column.MIN_OBS);
+                double[] maxima = table.getValues(STATISTICS[statistic], ReplicationStatisticsTable.Column.MAX_OBS);
+                double[] means = table.getValues(STATISTICS[statistic], ReplicationStatisticsTable.Column.MEAN);
+                double[] variances = table.getValues(STATISTICS[statistic], ReplicationStatisticsTable.Column.VARIANCE);
+                Assert.assertEquals(REPLICATIONS, means.length);
+                for (int replication = 0; replication < REPLICATIONS; replication++) {
+                    Assert.assertEquals(replication, replicationNumbers[replication], 0.0);
+                    Assert.assertEquals(replication + statistic, counts[replication], 0.0);
+                    Assert.assertEquals(-replication, minima[replication], 0.0);
+                    Assert.assertEquals(replication * 2.0, maxima[replication], 0.0);
+                    Assert.assertEquals(replication + 0.5, means[replication], 0.0);
+                    Assert.assertEquals(statistic + 0.25, variances[replication], 0.0);
+                }
+            }
+
+            // selecting a design point and sample, rows on both sides of a block boundary
+            double[] selected = table.getValues(STATISTICS[1], ReplicationStatisticsTable.Column.REPLICATION, 1, 0);
+            int expected = 0;
+            for (int replication = 0; replication < REPLICATIONS; replication++) {
+                if (replication % 3 == 1 && replication % 2 == 0) {
+                    Assert.assertEquals(replication, selected[expected++], 0.0);
+                }
+            }
+            Assert.assertEquals(expected, selected.length);
+        }
+    }
+
+    public void testNotAStore() throws Exception {
+        Files.write(storeFile.toPath(), new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9});
+        try {
+            ReplicationStatisticsTable.open(storeFile).close();
+            Assert.fail("a file without the store's header must be rejected");
+        } 
+        catch (IOException expected) {
+        }
+    }
+
+    public void testSidecar() throws Exception {
+        StringBuilder csv = new StringBuilder(ReportStatisticsWriter.CSV_HEADER).append('\n');
+        for (int replication = 0; replication < REPLICATIONS; replication++) {
+            for (int statistic = 0; statistic < STATISTICS.length; statistic++) {
+                csv.append("\"server, 1\",").append(STATISTICS[statistic]).append(',').append(replication)
+                        .append(',').append(replication + statistic).append(",0,1,").append(replication + 0.5).append(",0.5,0.25\n");
+            }
+        }
+        Files.write(storeFile.toPath(), csv.toString().getBytes("UTF-8"));
+
+        ReplicationsSidecar sidecar = new ReplicationsSidecar(storeFile);
+        Assert.assertEquals(0, sidecar.getReplicationCount("server, 1", "no_such_statistic"));
+        for (int statistic = 0; statistic < STATISTICS.length; statistic++) {
+            Assert.assertEquals(REPLICATIONS, sidecar.getReplicationCount("server, 1", STATISTICS[statistic]));
+            List<String[]> rows = new ArrayList<>();
+            sidecar.readReplications("server, 1", STATISTICS[statistic], rows::add);
+            Assert.assertEquals(REPLICATIONS, rows.size());
+            for (int replication = 0; replication < REPLICATIONS; replication++) {
+                Assert.assertEquals(String.valueOf(replication), rows.get(replication)[0]);
+                Assert.assertEquals(String.valueOf(replication + statistic), rows.get(replication)[1]);
+                Assert.assertEquals(String.valueOf(replication + 0.5), rows.get(replication)[4]);
+                Assert.assertEquals("0.25", rows.get(replication)[6]);
+            }
+        }
+    }
+
+    /**
+     * Fetch the suite of tests for this test class to perform.
+     *
+     * @return A collection of all the tests to be run
+     */
+    public static Test suite() {
+        TestSuite suite = new TestSuite();
+        suite.addTest(new ReplicationStatisticsStoreTest("testRoundTrip"));
+        suite.addTest(new ReplicationStatisticsStoreTest("testNotAStore"));
+        suite.addTest(new ReplicationStatisticsStoreTest("testSidecar"));
+        return suite;
+    }
+
+    public static void main(String[] args) {
+        System.exit(TestRunner.run(suite()).wasSuccessful() ? 0 : 1);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * JAXBContextBenchmark.java
+ *
+ * Per-result cost of marshalling and unmarshalling a SampleStatistics
+ * fragment, as GridRunner and Gridlet do for each replication result.
+ */
+package viskit.test;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringWriter;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import viskit.util.JAXBContextRegistry;
+import viskit.xsd.bindings.assembly.ObjectFactory;
+import viskit.xsd.bindings.assembly.SampleStatistics;
+
+/**
+ * Compares a new JAXBContext per result, as the code did before, against
+ * the shared context and pooled (un)marshallers of JAXBContextRegistry.
+ * <p>
+ * Usage: java viskit.test.JAXBContextBenchmark [results] [threads]
+ * </p>
+ */
+public class JAXBContextBenchmark
+{
+    static final ObjectFactory OF = new ObjectFactory();
+
+    static JAXBElement<SampleStatistics> sample(int i) {
+        SampleStatistics s = OF.createSampleStatistics();
+        s.setName("server.delayInQueue");
+        s.setCount(Integer.toString(1000 + i));
+        s.setMinObs("0.0");
+        s.setMaxObs(Double.toString(i * 0.5));
+        s.setMean(Double.toString(i * 0.25));
+        s.setVariance("1.2345");
+        s.setStandardDeviation("1.1111");
+        s.setSamplingType("TALLY");
+        return OF.createSampleStatistics(s);
+    }
+
+    /** round trip one result with a fresh context, as before */
+    static Object before(int i) throws JAXBException {
+        JAXBContext jaxbContext = JAXBContext.newInstance(JAXBContextRegistry.ASSEMBLY);
+        Marshaller m = jaxbContext.createMarshaller();
+        m.setProperty(Marshaller.JAXB_FRAGMENT, true);
+        StringWriter sw = new StringWriter();
+        m.marshal(sample(i), sw);
+        Unmarshaller u = jaxbContext.createUnmarshaller();
+        return u.unmarshal(new ByteArrayInputStream(sw.toString().getBytes()));
+    }
+
+    /** round trip one result through the registry */
+    static Object after(int i) throws JAXBException {
+        String xml = JAXBContextRegistry.withMarshaller(JAXBContextRegistry.ASSEMBLY, m -> {
+            m.setProperty(Marshaller.JAXB_FRAGMENT, true);
+            StringWriter sw = new StringWriter();
+            m.marshal(sample(i), sw);
+            return sw.toString();
+        });
+        return JAXBContextRegistry.withUnmarshaller(JAXBContextRegistry.ASSEMBLY,
+                u -> u.unmarshal(new ByteArrayInputStream(xml.getBytes())));
+    }
+
+    interface RoundTrip {
+        Object run(int i) throws JAXBException;
+    }
+
+    static double microsPerResult(String label, RoundTrip roundTrip, int results, int threads) throws InterruptedException {
+        Thread[] workers = new Thread[threads];
+        long start = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            final int offset = t;
+            workers[t] = new Thread(() -> {
+                try {
+                    for (int i = offset; i < results; i += threads) {
+                        if (!(roundTrip.run(i) instanceof JAXBElement))
+                            throw new IllegalStateException("unexpected result " + i);
+                    }
+                } catch (JAXBException ex) {
+                    ex.printStackTrace(System.err);
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers)
+            worker.join();
+        double micros = (System.nanoTime() - start) / 1000.0 / results;
+        System.out.printf("%-8s %7d results %2d threads %12.1f us/result%n", label, results, threads, micros);
+        return micros;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int results = (args.length > 0) ? Integer.parseInt(args[0]) : 20000;
+        int threads = (args.length > 1) ? Integer.parseInt(args[1]) : 4;
+        // fewer uncached runs, each one builds a context
+        int beforeResults = Math.max(threads, results / 100);
+
+        // warm up both paths
+        microsPerResult("warmup", JAXBContextBenchmark::before, threads * 5, threads);
+        microsPerResult("warmup", JAXBContextBenchmark::after, results / 10, threads);
+
+        double b = microsPerResult("before", JAXBContextBenchmark::before, beforeResults, threads);
+        double a = microsPerResult("after", JAXBContextBenchmark::after, results, threads);
+        System.out.printf("speedup  %.1fx%n", b / a);
+    }
+}
@@ -7,7 +7,7 @@
 package viskit.test;
 
 import viskit.xsd.bindings.eventgraph.*;
-import viskit.xsd.translator.eventgraph.SimkitXML2Java;
+import viskit.xsd.translator.eventgraph.SimkitEventGraphXML2Java;
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.Unmarshaller;
 import javax.xml.bind.Marshaller;
@@ -31,7 +31,7 @@ public class TestCodeFormat extends Thread
 
     String testFile;
     JAXBContext jaxbCtx;
-    SimkitXML2Java sx2j;
+    SimkitEventGraphXML2Java sx2j;
     SimEntity root;
     InputStream inputStream;
     ByteArrayOutputStream bufferOut;
@@ -65,7 +65,7 @@ public class TestCodeFormat extends Thread
             modifyEventGraph();
             showXML(System.out);
             System.out.println("Code inserted was:");
-            System.out.println(root.getCode());
+            System.out.println(root.getSourceCodeBlock().getValue());
             showXML(bufferOut);
             byte[] buff = bufferOut.toByteArray();
             bufferIn = new ByteArrayInputStream(buff);
@@ -111,7 +111,7 @@ public class TestCodeFormat extends Thread
     }
 
     void showJava(InputStream is) throws Exception {
-        sx2j = new SimkitXML2Java(is);
+        sx2j = new SimkitEventGraphXML2Java(is);
         sx2j.unmarshal();
         System.out.println( sx2j.translate() );
     }
@@ -130,12 +130,14 @@ public class TestCodeFormat extends Thread
     //
     void modifyEventGraph() throws Exception {
 
-        root.setCode(""+
+        SourceCodeBlock sourceCodeBlock = new ObjectFactory().createSourceCodeBlock();
+        sourceCodeBlock.setValue(""+
                 "System.out.println(\"this is a test\");\n" +
                 "if ( true ) {\n" +
                 "\tSystem.out.println();\n" +
                 "}"
         );
+        root.setSourceCodeBlock(sourceCodeBlock);
 
     }
 
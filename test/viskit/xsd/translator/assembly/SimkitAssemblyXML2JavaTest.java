@@ -0,0 +1,111 @@
+/*
+Copyright (c) 1995-2025 held by the author(s).  All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions
+are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer
+      in the documentation and/or other materials provided with the
+      distribution.
+    * Neither the names of the Naval Postgraduate School (NPS)
+      Modeling Virtual Environments and Simulation (MOVES) Institute
+      (https://www.nps.edu and https://my.nps.edu/web/moves)
+      nor the names of its contributors may be used to endorse or
+      promote products derived from this software without specific
+      prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+"AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+POSSIBILITY OF SUCH DAMAGE.
+*/
+package viskit.xsd.translator.assembly;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import junit.framework.Assert;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+import junit.textui.TestRunner;
+
+/** Checks when an assembly's design parameters can be injected at run time,
+ * so that one compiled class serves every design point.
+ */
+public class SimkitAssemblyXML2JavaTest extends TestCase {
+
+    public SimkitAssemblyXML2JavaTest(String testName) {
+        super(testName);
+    }
+
+    public void testInjectableLink() {
+        Assert.assertTrue("a double linked to a double is injected",
+                canInjectDesignParameters("<TerminalParameter name=\"rate\" linkRef=\"rate\" value=\"1.5\" type=\"double\"/>"));
+    }
+
+    public void testMismatchedLink() {
+        Assert.assertFalse("a double linked to a java.lang.Double is compiled in",
+                canInjectDesignParameters("<TerminalParameter name=\"rate\" linkRef=\"rate\" value=\"1.5\" type=\"java.lang.Double\"/>"));
+    }
+
+    public void testMismatchedNestedLink() {
+        Assert.assertFalse("a double linked to a factory's Object parameter is compiled in",
+                canInjectDesignParameters(
+                "<FactoryParameter factory=\"simkit.random.RandomVariateFactory\" type=\"simkit.random.RandomVariate\">" +
+                "<TerminalParameter name=\"\" value=\"Exponential\" type=\"java.lang.String\"/>" +
+                "<TerminalParameter name=\"\" linkRef=\"rate\" value=\"1.5\" type=\"java.lang.Object\"/>" +
+                "</FactoryParameter>"));
+    }
+
+    public void testUnlinkedParameter() {
+        Assert.assertTrue("an unlinked parameter of any type does not matter",
+                canInjectDesignParameters("<TerminalParameter name=\"rate\" value=\"1.5\" type=\"java.lang.Double\"/>"));
+    }
+
+    /**
+     * @param simEntityParameters parameters of the assembly's one SimEntity
+     * @return canInjectDesignParameters() of an assembly with one double design parameter "rate"
+     */
+    private static boolean canInjectDesignParameters(String simEntityParameters) {
+        String assembly =
+                "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" +
+                "<SimkitAssembly name=\"InjectionTest\" package=\"examples\" extend=\"viskit.assembly.ViskitAssembly\">" +
+                "<TerminalParameter name=\"rate\" link=\"rate\" value=\"1.5\" type=\"double\"/>" +
+                "<SimEntity name=\"arrival\" type=\"examples.ArrivalProcess\">" + simEntityParameters + "</SimEntity>" +
+                "<Schedule stopTime=\"100\"/>" +
+                "</SimkitAssembly>";
+        SimkitAssemblyXML2Java sax2j = new SimkitAssemblyXML2Java(new ByteArrayInputStream(assembly.getBytes(StandardCharsets.UTF_8)));
+        sax2j.unmarshal();
+        return sax2j.canInjectDesignParameters();
+    }
+
+    /**
+     * Fetch the suite of tests for this test class to perform.
+     *
+     * @return A collection of all the tests to be run
+     */
+    public static Test suite() {
+        TestSuite suite = new TestSuite();
+        suite.addTest(new SimkitAssemblyXML2JavaTest("testInjectableLink"));
+        suite.addTest(new SimkitAssemblyXML2JavaTest("testMismatchedLink"));
+        suite.addTest(new SimkitAssemblyXML2JavaTest("testMismatchedNestedLink"));
+        suite.addTest(new SimkitAssemblyXML2JavaTest("testUnlinkedParameter"));
+        return suite;
+    }
+
+    public static void main(String[] args) {
+        System.exit(TestRunner.run(suite()).wasSuccessful() ? 0 : 1);
+    }
+}